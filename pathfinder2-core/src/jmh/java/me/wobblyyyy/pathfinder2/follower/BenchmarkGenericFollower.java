@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.follower;
+
+import java.util.function.Consumer;
+import me.wobblyyyy.pathfinder2.control.ProportionalController;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark a single {@link GenericFollower#tick(PointXYZ, Consumer)} call.
+ * Run this with the GC profiler ({@code ./gradlew jmh -PjmhProfilers=gc})
+ * to see how much garbage each tick creates.
+ *
+ * <p>
+ * A tick still allocates about 40 B/op, not 0: the {@link Translation}
+ * that's handed to the consumer. {@code Drive} only accepts immutable
+ * translations, so getting rid of that allocation would need an API
+ * change. Anything above 40 B/op is a regression.
+ * </p>
+ */
+@State(Scope.Thread)
+public class BenchmarkGenericFollower {
+    private GenericFollower follower;
+    private PointXYZ current;
+    private Translation lastTranslation;
+    private Consumer<Translation> consumer;
+
+    @Setup
+    public void setup() {
+        Trajectory trajectory = new LinearTrajectory(
+            new PointXYZ(100, 100, 45),
+            0.5,
+            2,
+            Angle.fromDeg(5)
+        );
+
+        follower =
+            new GenericFollower(
+                trajectory,
+                new ProportionalController(-0.05)
+            );
+        current = new PointXYZ(0, 0, 10);
+        consumer = translation -> lastTranslation = translation;
+    }
+
+    @Benchmark
+    public Translation tick() {
+        follower.tick(current, consumer);
+
+        return lastTranslation;
+    }
+}
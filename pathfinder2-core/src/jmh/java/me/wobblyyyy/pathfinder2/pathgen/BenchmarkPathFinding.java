@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import me.wobblyyyy.pathfinder2.geometry.Circle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.Rectangle;
+import me.wobblyyyy.pathfinder2.zones.Zone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link AStarSearch} and {@link JumpPointSearch} on a 144x144
+ * field (with 1x1 cells). The field is either empty ("open"), cluttered
+ * with obstacles ("cluttered"), or cluttered with a long wall down the
+ * middle that most paths have to go around ("wall").
+ */
+@State(Scope.Benchmark)
+public class BenchmarkPathFinding {
+    private static final Rectangle FIELD = new Rectangle(0, 0, 144, 144);
+
+    private static final PointXY[][] QUERIES = {
+        { new PointXY(2, 2), new PointXY(142, 142) },
+        { new PointXY(2, 142), new PointXY(142, 2) },
+        { new PointXY(72, 2), new PointXY(72, 142) },
+        { new PointXY(2, 72), new PointXY(142, 80) },
+        { new PointXY(30, 72), new PointXY(100, 72) },
+    };
+
+    @Param({ "open", "cluttered", "wall" })
+    public String layout;
+
+    @Param({ "astar", "jps" })
+    public String search;
+
+    private AStarPathFinder finder;
+    private AStarSearch gridSearch;
+    private OccupancyGrid grid;
+    private int[][] cells;
+
+    private static List<Zone> clutter() {
+        List<Zone> zones = new ArrayList<>();
+        Random random = new Random(144);
+
+        for (int i = 0; i < 40; i++) {
+            double x = 10 + (random.nextDouble() * 124);
+            double y = 10 + (random.nextDouble() * 124);
+
+            if (i % 2 == 0) {
+                zones.add(
+                    new Zone(
+                        new Rectangle(
+                            x,
+                            y,
+                            x + 2 + (random.nextDouble() * 10),
+                            y + 2 + (random.nextDouble() * 10)
+                        )
+                    )
+                );
+            } else {
+                double radius = 2 + (random.nextDouble() * 5);
+
+                zones.add(new Zone(new Circle(new PointXY(x, y), radius)));
+            }
+        }
+
+        return zones;
+    }
+
+    @Setup
+    public void setup() {
+        grid = new OccupancyGrid(FIELD, new GridScaling(1));
+        if (!layout.equals("open")) grid.addZones(clutter());
+        if (layout.equals("wall")) grid.addZone(
+            new Zone(new Rectangle(60, 10, 64, 134))
+        );
+
+        gridSearch =
+            search.equals("jps") ? new JumpPointSearch() : new AStarSearch();
+        finder = new AStarPathFinder(grid).setSearch(gridSearch);
+
+        cells = new int[QUERIES.length][];
+        for (int i = 0; i < QUERIES.length; i++) {
+            cells[i] =
+                new int[] {
+                    grid.toIndex(QUERIES[i][0]),
+                    grid.toIndex(QUERIES[i][1]),
+                };
+        }
+    }
+
+    @Benchmark
+    public void findCells(Blackhole blackhole) {
+        for (int[] query : cells) {
+            blackhole.consume(gridSearch.findPath(grid, query[0], query[1]));
+        }
+    }
+
+    @Benchmark
+    public void findPath(Blackhole blackhole) {
+        for (PointXY[] query : QUERIES) {
+            blackhole.consume(finder.getPath(query[0], query[1]));
+        }
+    }
+}
@@ -11,6 +11,9 @@
 package me.wobblyyyy.pathfinder2;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.*;
 import me.wobblyyyy.pathfinder2.control.Controller;
 import me.wobblyyyy.pathfinder2.control.ProportionalController;
@@ -31,6 +34,7 @@
 import me.wobblyyyy.pathfinder2.math.Spline;
 import me.wobblyyyy.pathfinder2.math.Velocity;
 import me.wobblyyyy.pathfinder2.movement.MovementProfiler;
+import me.wobblyyyy.pathfinder2.odometry.ThreadedOdometry;
 import me.wobblyyyy.pathfinder2.plugin.PathfinderPlugin;
 import me.wobblyyyy.pathfinder2.plugin.PathfinderPluginManager;
 import me.wobblyyyy.pathfinder2.plugin.bundled.PositionLocker;
@@ -52,13 +56,17 @@
 import me.wobblyyyy.pathfinder2.robot.simulated.SimulatedRobot;
 import me.wobblyyyy.pathfinder2.scheduler.Scheduler;
 import me.wobblyyyy.pathfinder2.scheduler.Task;
+import me.wobblyyyy.pathfinder2.time.Clock;
 import me.wobblyyyy.pathfinder2.time.ElapsedTimer;
+import me.wobblyyyy.pathfinder2.time.FixedRateRunner;
+import me.wobblyyyy.pathfinder2.time.LoopStats;
 import me.wobblyyyy.pathfinder2.time.Stopwatch;
 import me.wobblyyyy.pathfinder2.time.Time;
 import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
 import me.wobblyyyy.pathfinder2.trajectory.TaskTrajectory;
 import me.wobblyyyy.pathfinder2.trajectory.TaskTrajectoryBuilder;
 import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.TrajectoryPrecomputer;
 import me.wobblyyyy.pathfinder2.trajectory.spline.AdvancedSplineTrajectoryBuilder;
 import me.wobblyyyy.pathfinder2.trajectory.spline.MultiSplineBuilder;
 import me.wobblyyyy.pathfinder2.utils.Button;
@@ -153,20 +161,41 @@
 public class Pathfinder {
     /**
      * A static list of plugins that should be automatically loaded every
-     * time an instance of Pathfinder is created.
+     * time an instance of Pathfinder is created. This is a copy-on-write
+     * list, so instances of Pathfinder can be created from multiple
+     * threads at once.
      */
-    private static final List<PathfinderPlugin> AUTO_LOAD_PLUGINS = new ArrayList<>();
+    private static final List<PathfinderPlugin> AUTO_LOAD_PLUGINS =
+        new CopyOnWriteArrayList<>();
 
     /**
-     * Globally-accessible map of trajectories.
+     * Globally-accessible map of trajectories. This map is shared by every
+     * instance of Pathfinder, so it's concurrent: it's safe to use from
+     * multiple threads (multiple simulations running in parallel, for
+     * example).
      */
-    private static final Map<String, Trajectory> TRAJECTORY_MAP = new HashMap<>();
+    private static final Map<String, Trajectory> TRAJECTORY_MAP =
+        new ConcurrentHashMap<>();
 
     /**
      * Globally-accessible map of stack traces for where trajectories were
      * added from.
      */
-    private static final Map<String, String> STACK_TRACE_MAP = new HashMap<>();
+    private static final Map<String, String> STACK_TRACE_MAP =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Trajectories that are still being built in the background. Once a
+     * trajectory has been built, it's moved to the trajectory map.
+     */
+    private static final Map<String, CompletableFuture<Trajectory>> PREBUILD_MAP =
+        new ConcurrentHashMap<>();
+
+    /**
+     * The precomputer used to prebuild trajectories if one isn't specified.
+     */
+    private static final TrajectoryPrecomputer DEFAULT_PRECOMPUTER =
+        new TrajectoryPrecomputer();
 
     /**
      * The {@code Robot} (made up of {@code Drive} and {@code Odometry}) that
@@ -273,6 +302,35 @@ public class Pathfinder {
      */
     private boolean isMinimal = Core.pathfinderDefaultIsMinimal;
 
+    /**
+     * The most recently used fixed-rate runner. This is only used so that
+     * the runner's timing statistics can be accessed after a fixed-rate
+     * {@code tick} method has finished.
+     */
+    private FixedRateRunner lastRunner = null;
+
+    /**
+     * The clock Pathfinder (and all of its components) use to measure
+     * elapsed time.
+     */
+    private Clock clock = Clock.SYSTEM;
+
+    /**
+     * Caches the robot's position for the duration of a tick.
+     */
+    private final TickContext tickContext = new TickContext(this::getOdometry);
+
+    /**
+     * Measures how long each stage of {@link #tick()} takes.
+     */
+    private final TickProfiler tickProfiler = new TickProfiler();
+
+    /**
+     * Runs the on-tick operations. This is stored so that a new method
+     * reference doesn't have to be created every tick.
+     */
+    private final Runnable onTickOperationsRunner = this::runOnTickOperations;
+
     /**
      * Create a new {@code Pathfinder} instance. This constructor will
      * conditionally load any automatically loading plugins - if the plugin's
@@ -380,7 +438,7 @@ public Pathfinder(
         this.robot = robot;
         this.generator = generator;
         this.turnController = turnController;
-        this.executorManager = new ExecutorManager(robot);
+        this.executorManager = new ExecutorManager(robot, this::getPosition);
         this.zoneProcessor = new ZoneProcessor();
         this.scheduler = new Scheduler(this);
         this.movementRecorder =
@@ -717,7 +775,8 @@ private static void addTrajectory(
         Trajectory trajectory
     ) {
         if (
-            TRAJECTORY_MAP.containsKey(trajectoryName)
+            TRAJECTORY_MAP.containsKey(trajectoryName) ||
+            PREBUILD_MAP.containsKey(trajectoryName)
         ) throw new IllegalArgumentException(
             "Cannot add a trajectory " +
             "named <" +
@@ -728,6 +787,31 @@ private static void addTrajectory(
             STACK_TRACE_MAP.get(trajectoryName)
         );
 
+        ValidationUtils.validate(trajectory, "trajectory");
+
+        String stackTrace = captureStackTrace();
+
+        // another thread could have added a trajectory with the same name
+        // while the stack trace was being built
+        if (
+            TRAJECTORY_MAP.putIfAbsent(trajectoryName, trajectory) != null
+        ) throw new IllegalArgumentException(
+            "Cannot add a trajectory named <" +
+            trajectoryName +
+            "> because a trajectory with that name was just added " +
+            "from another thread!"
+        );
+
+        STACK_TRACE_MAP.put(trajectoryName, stackTrace);
+    }
+
+    /**
+     * Get (up to) the first 10 elements of the current stack trace, for
+     * the stack trace map.
+     *
+     * @return the current stack trace, as a string.
+     */
+    private static String captureStackTrace() {
         StackTraceElement[] stackTrace = new Throwable().getStackTrace();
 
         if (stackTrace.length > 10) {
@@ -742,8 +826,167 @@ private static void addTrajectory(
             builder.append("\n");
         }
 
-        STACK_TRACE_MAP.put(trajectoryName, builder.toString());
-        TRAJECTORY_MAP.put(trajectoryName, trajectory);
+        return builder.toString();
+    }
+
+    /**
+     * Build a trajectory in the background, and then add it to the global
+     * trajectory map. This is meant to be used while the robot is
+     * initializing: that way, the trajectory is ready to go as soon as
+     * {@link #followTrajectory(String, String)} is called, instead of being
+     * built on the robot's control thread right when it's needed.
+     *
+     * <p>
+     * If {@link #followTrajectory(String, String)} (or
+     * {@link #getTrajectory(String, String)}) is called before the
+     * trajectory has finished building, it'll wait for the trajectory to
+     * be built.
+     * </p>
+     *
+     * @param group   the trajectory's group.
+     * @param name    the name of the trajectory.
+     * @param builder the code that builds the trajectory. This is called
+     *                on a background thread.
+     * @return a future that completes once the trajectory has been built
+     * and added to the trajectory map.
+     * @see TrajectoryPrecomputer
+     */
+    public static CompletableFuture<Trajectory> prebuildTrajectory(
+        String group,
+        String name,
+        Supplier<? extends Trajectory> builder
+    ) {
+        return prebuildTrajectory(
+            formatName(group, name),
+            builder,
+            DEFAULT_PRECOMPUTER
+        );
+    }
+
+    /**
+     * Build a trajectory in the background, and then add it to the global
+     * trajectory map.
+     *
+     * @param clazz   the class that added the trajectory to the map. This
+     *                is used for organizational purposes.
+     * @param name    the name of the trajectory.
+     * @param builder the code that builds the trajectory. This is called
+     *                on a background thread.
+     * @return a future that completes once the trajectory has been built
+     * and added to the trajectory map.
+     * @see #prebuildTrajectory(String, String, Supplier)
+     */
+    public static CompletableFuture<Trajectory> prebuildTrajectory(
+        Class<?> clazz,
+        String name,
+        Supplier<? extends Trajectory> builder
+    ) {
+        return prebuildTrajectory(
+            formatName(clazz.getSimpleName(), name),
+            builder,
+            DEFAULT_PRECOMPUTER
+        );
+    }
+
+    /**
+     * Build a trajectory in the background, using a specific
+     * {@link TrajectoryPrecomputer} (for example, one that bakes spline
+     * trajectories), and then add it to the global trajectory map.
+     *
+     * @param group       the trajectory's group.
+     * @param name        the name of the trajectory.
+     * @param builder     the code that builds the trajectory.
+     * @param precomputer the precomputer used to build the trajectory.
+     * @return a future that completes once the trajectory has been built
+     * and added to the trajectory map.
+     * @see #prebuildTrajectory(String, String, Supplier)
+     */
+    public static CompletableFuture<Trajectory> prebuildTrajectory(
+        String group,
+        String name,
+        Supplier<? extends Trajectory> builder,
+        TrajectoryPrecomputer precomputer
+    ) {
+        return prebuildTrajectory(formatName(group, name), builder, precomputer);
+    }
+
+    private static CompletableFuture<Trajectory> prebuildTrajectory(
+        String trajectoryName,
+        Supplier<? extends Trajectory> builder,
+        TrajectoryPrecomputer precomputer
+    ) {
+        ValidationUtils.validate(builder, "builder");
+        ValidationUtils.validate(precomputer, "precomputer");
+
+        CompletableFuture<Trajectory> future = new CompletableFuture<>();
+
+        if (
+            TRAJECTORY_MAP.containsKey(trajectoryName) ||
+            PREBUILD_MAP.putIfAbsent(trajectoryName, future) != null
+        ) throw new IllegalArgumentException(
+            "Cannot prebuild a trajectory named <" +
+            trajectoryName +
+            "> because a trajectory with that name already exists!"
+        );
+
+        String stackTrace = captureStackTrace();
+        STACK_TRACE_MAP.put(trajectoryName, stackTrace);
+
+        precomputer
+            .precompute(builder)
+            .whenComplete(
+                (trajectory, error) -> {
+                    if (error != null) {
+                        PREBUILD_MAP.remove(trajectoryName, future);
+                        STACK_TRACE_MAP.remove(trajectoryName, stackTrace);
+                        future.completeExceptionally(error);
+                        return;
+                    }
+
+                    // the trajectory has to be in the trajectory map before
+                    // it's removed from the prebuild map, or someone looking
+                    // for it in between wouldn't find it in either. if the
+                    // name was removed (and maybe added again) while this
+                    // was being built, the newer trajectory wins: never
+                    // replace it, and don't leave this one behind
+                    Trajectory existing = TRAJECTORY_MAP.putIfAbsent(
+                        trajectoryName,
+                        trajectory
+                    );
+
+                    if (
+                        !PREBUILD_MAP.remove(trajectoryName, future) &&
+                        existing == null
+                    ) TRAJECTORY_MAP.remove(trajectoryName, trajectory);
+
+                    future.complete(trajectory);
+                }
+            );
+
+        return future;
+    }
+
+    /**
+     * Wait for every trajectory that's being prebuilt to finish building.
+     *
+     * @see #prebuildTrajectory(String, String, Supplier)
+     */
+    public static void awaitPrebuiltTrajectories() {
+        for (CompletableFuture<Trajectory> future : PREBUILD_MAP.values()) {
+            future.join();
+        }
+    }
+
+    /**
+     * If a trajectory is still being built in the background, wait for it
+     * to finish building.
+     *
+     * @param trajectoryName the name of the trajectory.
+     */
+    private static void awaitPrebuiltTrajectory(String trajectoryName) {
+        CompletableFuture<Trajectory> future = PREBUILD_MAP.get(trajectoryName);
+
+        if (future != null) future.join();
     }
 
     /**
@@ -752,6 +995,7 @@ private static void addTrajectory(
      * @param trajectoryName the name of the trajectory.
      */
     public static void removeTrajectory(String trajectoryName) {
+        PREBUILD_MAP.remove(trajectoryName);
         STACK_TRACE_MAP.remove(trajectoryName);
         TRAJECTORY_MAP.remove(trajectoryName);
     }
@@ -802,9 +1046,11 @@ public static Trajectory getTrajectory(Class<?> clazz, String name) {
      * @return the trajectory.
      */
     private static Trajectory getTrajectory(String trajectoryName) {
-        if (
-            !TRAJECTORY_MAP.containsKey(trajectoryName)
-        ) throw new TrajectoryNotMappedException(
+        awaitPrebuiltTrajectory(trajectoryName);
+
+        Trajectory trajectory = TRAJECTORY_MAP.get(trajectoryName);
+
+        if (trajectory == null) throw new TrajectoryNotMappedException(
             "Cannot get a trajectory " +
             "with name <" +
             trajectoryName +
@@ -813,13 +1059,14 @@ private static Trajectory getTrajectory(String trajectoryName) {
             "addTrajectory() method to do that."
         );
 
-        return TRAJECTORY_MAP.get(trajectoryName);
+        return trajectory;
     }
 
     /**
      * Clear Pathfinder's global trajectory map.
      */
     public static void clearTrajectoryMap() {
+        PREBUILD_MAP.clear();
         STACK_TRACE_MAP.clear();
         TRAJECTORY_MAP.clear();
     }
@@ -993,6 +1240,90 @@ public Odometry getOdometry() {
         return robot.odometry();
     }
 
+    /**
+     * Start sampling the robot's odometry on a background thread. The
+     * robot's odometry system is wrapped in a {@link ThreadedOdometry},
+     * which samples it every {@code periodMs} milliseconds and publishes
+     * the result as an immutable snapshot. Getting Pathfinder's position
+     * then just reads the most recent snapshot, instead of re-reading the
+     * robot's sensors every time.
+     *
+     * <p>
+     * If the robot's odometry is already a {@link ThreadedOdometry}, it'll
+     * be stopped and replaced by one using the new period.
+     * </p>
+     *
+     * <p>
+     * Some robots (like {@code SimulatedRobot}) are their own odometry
+     * system, so their odometry can't be replaced. This throws an
+     * {@link IllegalArgumentException} for those robots, without changing
+     * anything: wrap the odometry in a {@link ThreadedOdometry} before
+     * creating the {@link Robot} instead.
+     * </p>
+     *
+     * @param periodMs how often the odometry system should be sampled, in
+     *                 milliseconds.
+     * @return {@code this}, used for method chaining.
+     * @see ThreadedOdometry
+     */
+    public Pathfinder useThreadedOdometry(double periodMs) {
+        Odometry odometry = getOdometry();
+
+        if (odometry == robot) throw new IllegalArgumentException(
+            "Can't use threaded odometry with <" +
+            robot.getClass().getSimpleName() +
+            "> because the robot is its own odometry system, so its " +
+            "odometry can't be replaced! Wrap the odometry in a " +
+            "ThreadedOdometry before creating the Robot instead."
+        );
+
+        if (odometry instanceof ThreadedOdometry) {
+            ThreadedOdometry old = (ThreadedOdometry) odometry;
+            old.stop();
+            odometry = old.getOdometry();
+        }
+
+        ThreadedOdometry threaded = new ThreadedOdometry(odometry, periodMs);
+        robot.odometry(threaded);
+
+        // a Robot subclass might ignore attempts to change its odometry
+        // system. put the old one back so nothing has changed
+        if (robot.odometry() != threaded) {
+            robot.odometry(odometry);
+
+            throw new IllegalArgumentException(
+                "Can't use threaded odometry with <" +
+                robot.getClass().getSimpleName() +
+                "> because it doesn't support replacing its odometry " +
+                "system! Wrap the odometry in a ThreadedOdometry before " +
+                "creating the Robot instead."
+            );
+        }
+
+        threaded.start();
+
+        return this;
+    }
+
+    /**
+     * Stop sampling the robot's odometry on a background thread, if
+     * {@link #useThreadedOdometry(double)} was used. The robot's original
+     * odometry system is restored.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public Pathfinder stopThreadedOdometry() {
+        Odometry odometry = getOdometry();
+
+        if (odometry instanceof ThreadedOdometry) {
+            ThreadedOdometry threaded = (ThreadedOdometry) odometry;
+            threaded.stop();
+            robot.odometry(threaded.getOdometry());
+        }
+
+        return this;
+    }
+
     /**
      * Get the {@code Pathfinder} instance's {@link Drive} system.
      *
@@ -1011,6 +1342,17 @@ public MovementProfiler getProfiler() {
         return profiler;
     }
 
+    /**
+     * Get the {@code Pathfinder} instance's {@link TickProfiler}, which
+     * measures how long each stage of {@link #tick()} takes. The profiler
+     * is disabled by default.
+     *
+     * @return the {@link TickProfiler}.
+     */
+    public TickProfiler getTickProfiler() {
+        return tickProfiler;
+    }
+
     /**
      * Get the {@code Pathfinder} instance's {@link ListenerManager}.
      *
@@ -1557,12 +1899,17 @@ private Pathfinder runPreTick() {
             isMinimal,
             pluginManager,
             scheduler,
-            zoneProcessor
+            zoneProcessor,
+            tickProfiler
         );
     }
 
     private Pathfinder runExecutorTick() {
-        return TickProcessor.runExecutorTick(this, executorManager);
+        return TickProcessor.runExecutorTick(
+            this,
+            executorManager,
+            tickProfiler
+        );
     }
 
     private Pathfinder runOnTick() {
@@ -1575,21 +1922,25 @@ private Pathfinder runOnTick() {
             movementRecorder,
             recorder,
             listenerManager,
-            this::runOnTickOperations
+            onTickOperationsRunner,
+            tickProfiler
         );
     }
 
     private static Pathfinder runPostTick(
         Pathfinder pathfinder,
-        PathfinderPluginManager plugins
+        PathfinderPluginManager plugins,
+        TickProfiler profiler
     ) {
+        long startNs = profiler.now();
         plugins.postTick(pathfinder);
+        profiler.lap(TickStage.POST_TICK_PLUGINS, startNs);
 
         return pathfinder;
     }
 
     private Pathfinder runPostTick() {
-        return runPostTick(this, pluginManager);
+        return runPostTick(this, pluginManager, tickProfiler);
     }
 
     /**
@@ -1633,10 +1984,26 @@ private Pathfinder runPostTick() {
      * </ul>
      * </p>
      *
+     * <p>
+     * If you'd like to know how long each part of the tick takes, enable
+     * the tick profiler: {@code pathfinder.getTickProfiler().enable()}.
+     * See {@link TickProfiler}.
+     * </p>
+     *
      * @return {@code this}, used for method chaining.
      */
     public Pathfinder tick() {
-        return runPreTick().runExecutorTick().runOnTick().runPostTick();
+        long startNs = tickProfiler.beginTick();
+        tickContext.begin();
+
+        try {
+            runPreTick().runExecutorTick().runOnTick().runPostTick();
+        } finally {
+            tickContext.end();
+            tickProfiler.endTick(startNs, dataMap);
+        }
+
+        return this;
     }
 
     /**
@@ -1647,8 +2014,9 @@ public Pathfinder tick() {
      * is less than the provided time.
      *
      * <p>
-     * This method makes use of {@link ElapsedTimer} to measure the elapsed
-     * time. More specifically: {@link ElapsedTimer#runFor(Runnable, double)}
+     * This method makes use of {@link FixedRateRunner} to measure the
+     * elapsed time. More specifically:
+     * {@link FixedRateRunner#runFor(Runnable, double)}
      * </p>
      *
      * @param timeMs the amount of time, in milliseconds, that Pathfinder
@@ -1659,9 +2027,29 @@ public Pathfinder tick() {
      * @see #tickUntil(double)
      */
     public Pathfinder tickFor(double timeMs) {
+        return tickFor(timeMs, 0);
+    }
+
+    /**
+     * Tick Pathfinder at a fixed rate for a certain amount of time,
+     * specified in milliseconds. This will block the current thread until
+     * the provided amount of time has elapsed. Between ticks, the thread
+     * sleeps until the next tick is due.
+     *
+     * @param timeMs   the amount of time, in milliseconds, that Pathfinder
+     *                 should be continually ticked for.
+     * @param periodMs how long each tick should take, in milliseconds. If
+     *                 this is 0, Pathfinder will be ticked as fast as
+     *                 possible.
+     * @return {@code this}, used for method chaining.
+     * @see FixedRateRunner
+     */
+    public Pathfinder tickFor(double timeMs, double periodMs) {
         ValidationUtils.validate(timeMs, "timeMs");
+        ValidationUtils.validate(periodMs, "periodMs");
 
-        ElapsedTimer.runFor(this::tick, timeMs);
+        lastRunner = new FixedRateRunner(periodMs).setClock(clock);
+        lastRunner.runFor(this::tick, timeMs);
 
         return this;
     }
@@ -1673,49 +2061,181 @@ public Pathfinder tickFor(double timeMs) {
      * @return {@code this}, used for method chaining.
      */
     public Pathfinder tickUntil(TickConfig config) {
-        double delayMs = config.getDelayMs();
-
-        if (delayMs > 0) {
-            ElapsedTimer delayTimer = new ElapsedTimer(true);
+        ValidationUtils.validate(config, "config");
 
-            while (delayTimer.elapsedMs() <= delayMs);
-        }
-
-        double timeoutMs = config.getTimeoutMs();
-        ElapsedTimer timer = new ElapsedTimer(true);
+        FixedRateRunner.sleepFor(config.getDelayMs());
 
         List<Supplier<Boolean>> shouldContinueRunning = config.getShouldContinueRunning();
         List<Supplier<Boolean>> shouldStopRunning = config.getShouldStopRunning();
         List<Runnable> onTick = config.getOnTick();
         List<Runnable> onFinish = config.getOnFinish();
 
-        while (timer.elapsedMs() <= timeoutMs) {
-            for (Supplier<Boolean> supplier : shouldContinueRunning) {
-                if (!supplier.get()) {
-                    break;
-                }
+        Supplier<Boolean> shouldContinue = () -> {
+            for (int i = 0; i < shouldContinueRunning.size(); i++) {
+                if (!shouldContinueRunning.get(i).get()) return false;
             }
 
-            for (Supplier<Boolean> supplier : shouldStopRunning) {
-                if (supplier.get()) {
-                    break;
-                }
+            for (int i = 0; i < shouldStopRunning.size(); i++) {
+                if (shouldStopRunning.get(i).get()) return false;
             }
 
+            return true;
+        };
+
+        Runnable runnable = () -> {
             tick();
 
-            for (Runnable runnable : onTick) {
-                runnable.run();
-            }
+            for (int i = 0; i < onTick.size(); i++) onTick.get(i).run();
+        };
+
+        lastRunner =
+            new FixedRateRunner(
+                config.getPeriodMs(),
+                config.getOverrunPolicy()
+            )
+                .setClock(clock);
+        lastRunner.run(runnable, shouldContinue, config.getTimeoutMs());
+
+        for (Runnable r : onFinish) {
+            r.run();
         }
 
-        for (Runnable runnable : onFinish) {
-            runnable.run();
+        return this;
+    }
+
+    /**
+     * Tick Pathfinder at a fixed rate as long as Pathfinder is active.
+     * Unlike {@link #tickUntil()}, which ticks Pathfinder as fast as it
+     * possibly can, this method will sleep between ticks, and it'll
+     * compensate for however long each tick takes, so the rate doesn't
+     * drift.
+     *
+     * @param periodMs how long each tick should take, in milliseconds.
+     *                 For example, a period of 10ms means Pathfinder will
+     *                 be ticked 100 times per second.
+     * @return {@code this}, used for method chaining.
+     * @see FixedRateRunner
+     */
+    public Pathfinder tickAtRate(double periodMs) {
+        return tickAtRate(periodMs, Double.MAX_VALUE, () -> true);
+    }
+
+    /**
+     * Tick Pathfinder at a fixed rate as long as Pathfinder is active and
+     * the timeout hasn't elapsed.
+     *
+     * @param periodMs  how long each tick should take, in milliseconds.
+     * @param timeoutMs the maximum amount of time Pathfinder can be ticked
+     *                  for, in milliseconds.
+     * @return {@code this}, used for method chaining.
+     * @see FixedRateRunner
+     */
+    public Pathfinder tickAtRate(double periodMs, double timeoutMs) {
+        return tickAtRate(periodMs, timeoutMs, () -> true);
+    }
+
+    /**
+     * Tick Pathfinder at a fixed rate as long as Pathfinder is active, the
+     * timeout hasn't elapsed, and the provided condition is true.
+     *
+     * @param periodMs              how long each tick should take, in
+     *                              milliseconds.
+     * @param timeoutMs             the maximum amount of time Pathfinder
+     *                              can be ticked for, in milliseconds.
+     * @param shouldContinueRunning a supplier, indicating whether
+     *                              Pathfinder should continue running.
+     * @return {@code this}, used for method chaining.
+     * @see FixedRateRunner
+     */
+    public Pathfinder tickAtRate(
+        double periodMs,
+        double timeoutMs,
+        Supplier<Boolean> shouldContinueRunning
+    ) {
+        ValidationUtils.validate(periodMs, "periodMs");
+        ValidationUtils.validate(timeoutMs, "timeoutMs");
+        ValidationUtils.validate(
+            shouldContinueRunning,
+            "shouldContinueRunning"
+        );
+
+        lastRunner = new FixedRateRunner(periodMs).setClock(clock);
+        lastRunner.run(
+            this::tick,
+            () -> isActive() && shouldContinueRunning.get(),
+            timeoutMs
+        );
+
+        return this;
+    }
+
+    /**
+     * Get the clock Pathfinder uses to measure elapsed time.
+     *
+     * @return Pathfinder's clock.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Set the clock Pathfinder uses to measure elapsed time. This clock is
+     * used by Pathfinder's {@link MovementProfiler}, {@link StateRecorder},
+     * {@link MovementRecorder}, {@link MovementPlayback}, {@link Scheduler},
+     * listener cooldowns, {@link StatTracker}, and by any of the fixed-rate
+     * tick methods, such as {@link #tickAtRate(double)}. If the robot's
+     * odometry is a {@link SimulatedOdometry}, it's given the clock too.
+     * The {@link TickProfiler} isn't: it measures how long each tick
+     * actually takes to run, so it keeps using {@link Clock#SYSTEM} (a
+     * {@link me.wobblyyyy.pathfinder2.time.ManualClock} doesn't move
+     * during a tick, so every stage would take 0 nanoseconds).
+     *
+     * <p>
+     * Trajectories don't know which instance of Pathfinder is following
+     * them, so time-based trajectories have to be given the clock
+     * themselves: see
+     * {@link me.wobblyyyy.pathfinder2.trajectory.TimedTrajectory} and
+     * {@link Trajectory#withTimeLimits(double, double, Clock)}.
+     * </p>
+     *
+     * <p>
+     * By default, this is {@link Clock#SYSTEM}. If you're running a
+     * simulation, you can use a
+     * {@link me.wobblyyyy.pathfinder2.time.ManualClock} to run the
+     * simulation faster than real time: advance the clock by
+     * a fixed amount every tick, or use one of the fixed-rate tick methods,
+     * which will advance the clock automatically.
+     * </p>
+     *
+     * @param clock the clock Pathfinder should use.
+     * @return {@code this}, used for method chaining.
+     */
+    public Pathfinder setClock(Clock clock) {
+        ValidationUtils.validate(clock, "clock");
+
+        this.clock = clock;
+        profiler.setClock(clock);
+        recorder.setClock(clock);
+
+        if (getOdometry() instanceof SimulatedOdometry) {
+            ((SimulatedOdometry) getOdometry()).setClock(clock);
         }
 
         return this;
     }
 
+    /**
+     * Get the timing statistics of the most recent fixed-rate tick loop.
+     * This includes {@link #tickAtRate(double)}, {@link #tickFor(double)},
+     * {@link #tickFor(double, double)}, and {@link #tickUntil(TickConfig)}.
+     *
+     * @return the most recent fixed-rate tick loop's statistics. If no
+     * fixed-rate tick loop has been run yet, this will return null.
+     */
+    public LoopStats getLoopStats() {
+        return lastRunner == null ? null : lastRunner.getStats();
+    }
+
     /**
      * Tick Pathfinder until it finishes whatever path is currently being
      * executed.
@@ -2381,6 +2901,8 @@ public Pathfinder followTrajectory(Class<?> group, String name) {
      * @return {@code this}, used for method chaining.
      */
     public Pathfinder followTrajectory(final String trajectoryName) {
+        awaitPrebuiltTrajectory(trajectoryName);
+
         if (TRAJECTORY_MAP.size() < 1) throw new IllegalStateException(
             "Cannot follow a trajectory " +
             "by name without first adding at least 1 trajectory " +
@@ -2528,9 +3050,10 @@ public Pathfinder followTrajectories(List<Trajectory> trajectories) {
         );
 
         List<Follower> followers = new ArrayList<>();
+        PointXYZ position = getPosition();
 
         for (Trajectory trajectory : trajectories) followers.add(
-            generator.generate(robot, trajectory)
+            generator.generate(robot, trajectory, position)
         );
 
         follow(followers);
@@ -3138,14 +3661,45 @@ public Pathfinder clear() {
     }
 
     /**
-     * Use the {@link #getOdometry()} method in combination with the
-     * odometry class' {@link Odometry#getPosition()} to access the
-     * robot's current position.
+     * Get the robot's current position.
+     *
+     * <p>
+     * While Pathfinder is ticking, the robot's odometry is only read once
+     * per tick: every call to this method during the same tick returns the
+     * same position. If you change the odometry's offset in the middle of
+     * a tick, call {@link #invalidatePosition()} afterwards. Outside of a
+     * tick, this reads the odometry every time.
+     * </p>
      *
      * @return the robot's current position.
+     * @see TickContext
      */
     public PointXYZ getPosition() {
-        return getOdometry().getPosition();
+        return tickContext.getPosition();
+    }
+
+    /**
+     * Throw away the position that's cached for the current tick, so the
+     * next call to {@link #getPosition()} reads the odometry again. This
+     * only needs to be used if you change the odometry's offset (or do
+     * something else that moves the robot's position) in the middle of a
+     * tick - from a plugin or a listener, for example.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public Pathfinder invalidatePosition() {
+        tickContext.invalidate();
+
+        return this;
+    }
+
+    /**
+     * Get the {@code Pathfinder} instance's {@link TickContext}.
+     *
+     * @return the {@link TickContext}.
+     */
+    public TickContext getTickContext() {
+        return tickContext;
     }
 
     /**
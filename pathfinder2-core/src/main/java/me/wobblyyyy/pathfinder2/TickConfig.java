@@ -13,6 +13,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
+import me.wobblyyyy.pathfinder2.time.OverrunPolicy;
 
 /**
  * A configuration Pathfinder can use while using the {@code tickUntil}
@@ -28,6 +29,8 @@
 public class TickConfig {
     private double delayMs = 0;
     private double timeoutMs = Double.MAX_VALUE;
+    private double periodMs = 0;
+    private OverrunPolicy overrunPolicy = OverrunPolicy.SKIP;
     private final List<Supplier<Boolean>> shouldContinueRunning = new ArrayList<>(
         3
     );
@@ -60,6 +63,34 @@ public TickConfig setTimeoutMs(double timeoutMs) {
         return this;
     }
 
+    /**
+     * Set the configuration's tick period, in milliseconds. The default
+     * period is 0, meaning Pathfinder will be ticked as fast as possible.
+     * If the period is greater than 0, Pathfinder will be ticked at a
+     * fixed rate using a {@link me.wobblyyyy.pathfinder2.time.FixedRateRunner},
+     * which sleeps between ticks instead of spinning.
+     *
+     * @param periodMs the configuration's tick period, in milliseconds.
+     * @return {@code this}, used for method chaining.
+     */
+    public TickConfig setPeriodMs(double periodMs) {
+        this.periodMs = periodMs;
+        return this;
+    }
+
+    /**
+     * Set the configuration's overrun policy. This determines what happens
+     * if a tick takes longer than the configuration's period. The default
+     * policy is {@link OverrunPolicy#SKIP}.
+     *
+     * @param overrunPolicy the configuration's overrun policy.
+     * @return {@code this}, used for method chaining.
+     */
+    public TickConfig setOverrunPolicy(OverrunPolicy overrunPolicy) {
+        this.overrunPolicy = overrunPolicy;
+        return this;
+    }
+
     /**
      * Add a condition that must be met in order for Pathfinder for to
      * continue ticking. If this condition is not met, the {@code tickUntil}
@@ -121,6 +152,14 @@ public double getTimeoutMs() {
         return timeoutMs;
     }
 
+    public double getPeriodMs() {
+        return periodMs;
+    }
+
+    public OverrunPolicy getOverrunPolicy() {
+        return overrunPolicy;
+    }
+
     public List<Supplier<Boolean>> getShouldContinueRunning() {
         return shouldContinueRunning;
     }
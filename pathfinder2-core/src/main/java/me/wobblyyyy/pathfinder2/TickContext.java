@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2;
+
+import java.util.function.Supplier;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.robot.Odometry;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * State that only lives for the duration of a single tick. Right now,
+ * that's the robot's position.
+ *
+ * <p>
+ * A single tick of Pathfinder needs the robot's position quite a few
+ * times: the follower executor, the scheduler, the zone processor, the
+ * movement profiler, the movement recorder, and most plugins all ask for
+ * it. Without this class, each of those would call
+ * {@link Odometry#getPosition()}, which (depending on the odometry
+ * system) re-reads the robot's sensors, re-applies the odometry's
+ * modifier and offset, and creates a new {@link PointXYZ} every time.
+ * </p>
+ *
+ * <p>
+ * While a tick is running, the position is read from the odometry system
+ * the first time it's requested, and every request after that (during
+ * the same tick) returns the same position. Outside of a tick, the
+ * position is always read directly from the odometry system.
+ * </p>
+ *
+ * <p>
+ * If something changes the odometry's offset (or otherwise moves the
+ * robot's position) during a tick, it should call {@link #invalidate()}
+ * so the next request reads the odometry again.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TickContext {
+    private final Supplier<Odometry> odometry;
+    private int depth = 0;
+    private boolean isPositionValid = false;
+    private PointXYZ position;
+    private long positionReads = 0;
+
+    /**
+     * Create a new {@code TickContext}.
+     *
+     * @param odometry supplies the odometry system positions are read from.
+     *                 This is a supplier because the robot's odometry
+     *                 system can be changed.
+     */
+    public TickContext(Supplier<Odometry> odometry) {
+        ValidationUtils.validate(odometry, "odometry");
+
+        this.odometry = odometry;
+    }
+
+    /**
+     * Start a tick. Ticks can be nested (the scheduler can tick Pathfinder
+     * from inside of a tick, for example) - the position stays cached
+     * until the outermost tick ends.
+     */
+    public void begin() {
+        if (depth++ == 0) isPositionValid = false;
+    }
+
+    /**
+     * End a tick. If this is the outermost tick, the cached position is
+     * thrown away.
+     */
+    public void end() {
+        if (depth > 0 && --depth == 0) {
+            isPositionValid = false;
+            position = null;
+        }
+    }
+
+    /**
+     * Is a tick currently running?
+     *
+     * @return true if a tick is running, otherwise, false.
+     */
+    public boolean isInTick() {
+        return depth > 0;
+    }
+
+    /**
+     * Throw away the cached position, so the next request for the position
+     * reads the odometry system again. Call this if you change the
+     * odometry's offset in the middle of a tick.
+     */
+    public void invalidate() {
+        isPositionValid = false;
+    }
+
+    /**
+     * Get the robot's position. During a tick, the odometry is only read
+     * once (unless {@link #invalidate()} is called).
+     *
+     * @return the robot's position.
+     */
+    public PointXYZ getPosition() {
+        if (depth == 0) return readPosition();
+
+        if (!isPositionValid) {
+            position = readPosition();
+            isPositionValid = true;
+        }
+
+        return position;
+    }
+
+    private PointXYZ readPosition() {
+        positionReads++;
+
+        return odometry.get().getPosition();
+    }
+
+    /**
+     * Get how many times the position has been read from the odometry
+     * system. This is mostly useful for testing.
+     *
+     * @return how many times the odometry has been read.
+     */
+    public long getPositionReads() {
+        return positionReads;
+    }
+}
@@ -29,6 +29,11 @@
  * @since 1.4.2
  */
 public class TickProcessor {
+    /**
+     * A profiler that's never enabled, used by the overloads that don't
+     * take a {@link TickProfiler}.
+     */
+    private static final TickProfiler NO_PROFILER = new TickProfiler();
 
     private TickProcessor() {}
 
@@ -39,11 +44,33 @@ public static Pathfinder runPreTick(
         Scheduler scheduler,
         ZoneProcessor zoneProcessor
     ) {
+        return runPreTick(
+            pathfinder,
+            isMinimal,
+            pluginManager,
+            scheduler,
+            zoneProcessor,
+            NO_PROFILER
+        );
+    }
+
+    public static Pathfinder runPreTick(
+        Pathfinder pathfinder,
+        boolean isMinimal,
+        PathfinderPluginManager pluginManager,
+        Scheduler scheduler,
+        ZoneProcessor zoneProcessor,
+        TickProfiler profiler
+    ) {
+        long startNs = profiler.now();
         pluginManager.preTick(pathfinder);
+        startNs = profiler.lap(TickStage.PRE_TICK_PLUGINS, startNs);
 
         if (!isMinimal) {
             scheduler.tick();
+            startNs = profiler.lap(TickStage.SCHEDULER, startNs);
             zoneProcessor.update(pathfinder);
+            profiler.lap(TickStage.ZONES, startNs);
         }
 
         return pathfinder;
@@ -53,7 +80,17 @@ public static Pathfinder runExecutorTick(
         Pathfinder pathfinder,
         ExecutorManager executorManager
     ) {
+        return runExecutorTick(pathfinder, executorManager, NO_PROFILER);
+    }
+
+    public static Pathfinder runExecutorTick(
+        Pathfinder pathfinder,
+        ExecutorManager executorManager,
+        TickProfiler profiler
+    ) {
+        long startNs = profiler.now();
         executorManager.tick();
+        profiler.lap(TickStage.EXECUTOR, startNs);
 
         return pathfinder;
     }
@@ -69,17 +106,51 @@ public static Pathfinder runOnTick(
         ListenerManager listenerManager,
         Runnable runOnTickOperations
     ) {
+        return runOnTick(
+            pathfinder,
+            isMinimal,
+            pluginManager,
+            movementPlayback,
+            movementProfiler,
+            movementRecorder,
+            recorder,
+            listenerManager,
+            runOnTickOperations,
+            NO_PROFILER
+        );
+    }
+
+    public static Pathfinder runOnTick(
+        Pathfinder pathfinder,
+        boolean isMinimal,
+        PathfinderPluginManager pluginManager,
+        MovementPlayback movementPlayback,
+        MovementProfiler movementProfiler,
+        MovementRecorder movementRecorder,
+        StateRecorder recorder,
+        ListenerManager listenerManager,
+        Runnable runOnTickOperations,
+        TickProfiler profiler
+    ) {
+        long startNs = profiler.now();
         pluginManager.onTick(pathfinder);
+        startNs = profiler.lap(TickStage.ON_TICK_PLUGINS, startNs);
 
         if (!isMinimal) {
             movementPlayback.tick();
+            startNs = profiler.lap(TickStage.PLAYBACK, startNs);
             movementProfiler.capture(pathfinder.getPosition());
+            startNs = profiler.lap(TickStage.PROFILER, startNs);
             movementRecorder.tick();
+            startNs = profiler.lap(TickStage.MOVEMENT_RECORDER, startNs);
 
             recorder.update();
+            startNs = profiler.lap(TickStage.STATE_RECORDER, startNs);
 
             listenerManager.tick(pathfinder);
+            startNs = profiler.lap(TickStage.LISTENERS, startNs);
             runOnTickOperations.run();
+            profiler.lap(TickStage.ON_TICK_OPERATIONS, startNs);
         }
 
         return pathfinder;
@@ -0,0 +1,515 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import me.wobblyyyy.pathfinder2.plugin.PathfinderPlugin;
+import me.wobblyyyy.pathfinder2.time.Clock;
+import me.wobblyyyy.pathfinder2.time.LatencyHistogram;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * Measures how long each stage of {@link Pathfinder#tick()} takes. If your
+ * robot is missing its loop period, this is the first place you should
+ * look: it'll tell you exactly which part of the tick is taking too long.
+ *
+ * <p>
+ * Every {@link TickStage} gets its own {@link LatencyHistogram}. So does
+ * every plugin (for each of the pre-tick, on-tick and post-tick stages)
+ * and every listener. Each of those histograms can report the median
+ * (p50), 99th percentile (p99) and maximum duration.
+ * </p>
+ *
+ * <p>
+ * The profiler is disabled by default. While it's disabled, the only
+ * overhead is a single boolean check per stage. To enable it:
+ * <code><pre>
+ * pathfinder.getTickProfiler().enable();
+ * // tick for a while...
+ * System.out.println(pathfinder.getTickProfiler().getReport());
+ * </pre></code>
+ * </p>
+ *
+ * <p>
+ * While it's enabled, the profiler also publishes each stage's p50, p99
+ * and max durations (in milliseconds) to Pathfinder's data map, every
+ * {@link #getPublishInterval()} ticks. The keys look like this:
+ * <ul>
+ *     <li>{@code pf_tick_executor_p99_ms}</li>
+ *     <li>{@code pf_tick_plugin_StatTracker_on_tick_plugins_max_ms}</li>
+ *     <li>{@code pf_tick_listener_myListener_p50_ms}</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * If something calls {@link Pathfinder#tick()} from inside of a tick (a
+ * listener that ticks Pathfinder, for example), only the outermost tick is
+ * profiled. The nested tick's time is counted as part of whatever stage
+ * of the outer tick it ran in.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TickProfiler {
+    /**
+     * The prefix of every key this profiler puts in Pathfinder's data map.
+     */
+    public static final String KEY_PREFIX = "pf_tick_";
+
+    /**
+     * The default amount of ticks between publishing results to the data
+     * map.
+     */
+    public static final int DEFAULT_PUBLISH_INTERVAL = 50;
+
+    private static final TickStage[] STAGES = TickStage.values();
+
+    private final Entry[] stages = new Entry[STAGES.length];
+    private final Map<String, Entry[]> plugins = new LinkedHashMap<>();
+    private final Map<String, Entry> listeners = new LinkedHashMap<>();
+    private boolean isEnabled = false;
+    private int publishInterval = DEFAULT_PUBLISH_INTERVAL;
+    private long ticks = 0;
+    private int depth = 0;
+    private Clock clock = Clock.SYSTEM;
+
+    /**
+     * A histogram, along with its precomputed data map keys, so that
+     * publishing doesn't have to build any strings.
+     */
+    private static class Entry {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final String p50Key;
+        private final String p99Key;
+        private final String maxKey;
+
+        private Entry(String name) {
+            p50Key = KEY_PREFIX + name + "_p50_ms";
+            p99Key = KEY_PREFIX + name + "_p99_ms";
+            maxKey = KEY_PREFIX + name + "_max_ms";
+        }
+
+        private void publish(Map<String, Object> dataMap) {
+            dataMap.put(p50Key, histogram.getP50Ms());
+            dataMap.put(p99Key, histogram.getP99Ms());
+            dataMap.put(maxKey, histogram.getMaxMs());
+        }
+    }
+
+    /**
+     * Create a new, disabled, {@code TickProfiler}.
+     */
+    public TickProfiler() {
+        for (TickStage stage : STAGES) stages[stage.ordinal()] =
+            new Entry(stage.getKey());
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Enable or disable the profiler.
+     *
+     * @param isEnabled should the profiler record anything?
+     * @return {@code this}, used for method chaining.
+     */
+    public TickProfiler setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+
+        return this;
+    }
+
+    /**
+     * Enable the profiler.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public TickProfiler enable() {
+        return setEnabled(true);
+    }
+
+    /**
+     * Disable the profiler. Anything that's already been recorded is
+     * kept - use {@link #reset()} to clear it.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public TickProfiler disable() {
+        return setEnabled(false);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Set the clock used to measure durations. This is
+     * {@link Clock#SYSTEM} by default, and it's left alone by
+     * {@link Pathfinder#setClock(Clock)}: the profiler measures how long
+     * ticks actually take to run, and a simulation's
+     * {@link me.wobblyyyy.pathfinder2.time.ManualClock} doesn't move during
+     * a tick, so every stage would take 0 nanoseconds. This is mostly
+     * useful for testing the profiler itself.
+     *
+     * @param clock the profiler's new clock.
+     * @return {@code this}, used for method chaining.
+     */
+    public TickProfiler setClock(Clock clock) {
+        ValidationUtils.validate(clock, "clock");
+
+        this.clock = clock;
+
+        return this;
+    }
+
+    public int getPublishInterval() {
+        return publishInterval;
+    }
+
+    /**
+     * Set how many ticks there should be between each time the profiler
+     * publishes its results to Pathfinder's data map. Publishing has to
+     * box every value it puts in the map, so it's not done every tick.
+     *
+     * @param publishInterval how many ticks between publishing. If this
+     *                        is 0, results are never published.
+     * @return {@code this}, used for method chaining.
+     */
+    public TickProfiler setPublishInterval(int publishInterval) {
+        if (publishInterval < 0) throw new IllegalArgumentException(
+            "Publish interval can't be negative!"
+        );
+
+        this.publishInterval = publishInterval;
+
+        return this;
+    }
+
+    /**
+     * Is the profiler recording right now? It's not if it's disabled, or
+     * if this is a nested tick.
+     *
+     * @return true if the profiler is recording, otherwise, false.
+     */
+    private boolean isRecording() {
+        return isEnabled && depth <= 1;
+    }
+
+    /**
+     * Get the current time, if the profiler is recording.
+     *
+     * @return the current time, in nanoseconds, or 0 if the profiler
+     * is disabled.
+     */
+    public long now() {
+        return isRecording() ? clock.nanoTime() : 0;
+    }
+
+    /**
+     * Called at the start of every tick. Every call to this method has to
+     * be matched with a call to {@link #endTick(long, Map)}.
+     *
+     * @return the time the tick started at, which should be passed to
+     * {@link #endTick(long, Map)}, or 0 if the profiler isn't recording.
+     */
+    public long beginTick() {
+        depth++;
+
+        return now();
+    }
+
+    /**
+     * Record the end of a stage.
+     *
+     * @param stage   the stage that just finished.
+     * @param startNs the time the stage started at, as returned by
+     *                {@link #now()} or the previous call to this method.
+     * @return the current time, which can be used as the start time of
+     * the next stage, or 0 if the profiler is disabled.
+     */
+    public long lap(TickStage stage, long startNs) {
+        if (!isRecording()) return 0;
+
+        long nowNs = clock.nanoTime();
+        stages[stage.ordinal()].histogram.record(nowNs - startNs);
+
+        return nowNs;
+    }
+
+    /**
+     * Record how long a plugin took to run.
+     *
+     * @param plugin  the plugin that just ran.
+     * @param stage   the stage the plugin ran in.
+     * @param startNs the time the plugin started running, as returned by
+     *                {@link #now()}.
+     */
+    public void recordPlugin(
+        PathfinderPlugin plugin,
+        TickStage stage,
+        long startNs
+    ) {
+        if (!isRecording()) return;
+
+        long durationNs = clock.nanoTime() - startNs;
+        String name = plugin.getName();
+        Entry[] entries = plugins.get(name);
+
+        if (entries == null) {
+            entries = new Entry[STAGES.length];
+            plugins.put(name, entries);
+        }
+
+        Entry entry = entries[stage.ordinal()];
+
+        if (entry == null) {
+            entry = new Entry("plugin_" + name + "_" + stage.getKey());
+            entries[stage.ordinal()] = entry;
+        }
+
+        entry.histogram.record(durationNs);
+    }
+
+    /**
+     * Record how long a listener took to run.
+     *
+     * @param name    the listener's name.
+     * @param startNs the time the listener started running, as returned
+     *                by {@link #now()}.
+     */
+    public void recordListener(String name, long startNs) {
+        if (!isRecording()) return;
+
+        long durationNs = clock.nanoTime() - startNs;
+        Entry entry = listeners.get(name);
+
+        if (entry == null) {
+            entry = new Entry("listener_" + name);
+            listeners.put(name, entry);
+        }
+
+        entry.histogram.record(durationNs);
+    }
+
+    /**
+     * Stop tracking a listener. This is called whenever a listener expires
+     * or is removed, so listeners that only run for a little while (or only
+     * once) don't leave their histograms behind forever.
+     *
+     * @param name    the listener's name.
+     * @param dataMap Pathfinder's data map. If the listener's results were
+     *                published to the map, they're removed from it.
+     */
+    public void removeListener(String name, Map<String, Object> dataMap) {
+        Entry entry = listeners.remove(name);
+
+        if (entry == null) return;
+
+        dataMap.remove(entry.p50Key);
+        dataMap.remove(entry.p99Key);
+        dataMap.remove(entry.maxKey);
+    }
+
+    /**
+     * Called at the end of every tick. This records the tick's total
+     * duration, and, every {@link #getPublishInterval()} ticks, publishes
+     * the profiler's results to the data map. Nested ticks aren't
+     * recorded.
+     *
+     * @param startNs the time the tick started at, as returned by
+     *                {@link #beginTick()}.
+     * @param dataMap Pathfinder's data map.
+     */
+    public void endTick(long startNs, Map<String, Object> dataMap) {
+        boolean isRecording = isRecording();
+
+        if (depth > 0) depth--;
+
+        if (!isRecording) return;
+
+        long durationNs = clock.nanoTime() - startNs;
+        stages[TickStage.TOTAL.ordinal()].histogram.record(durationNs);
+        ticks++;
+
+        if (publishInterval > 0 && ticks % publishInterval == 0) publish(
+            dataMap
+        );
+    }
+
+    /**
+     * Publish every stage's, plugin's and listener's p50, p99 and max
+     * durations to a map.
+     *
+     * @param dataMap the map to publish to.
+     */
+    public void publish(Map<String, Object> dataMap) {
+        for (Entry entry : stages) {
+            if (entry.histogram.getCount() > 0) entry.publish(dataMap);
+        }
+
+        for (Entry[] entries : plugins.values()) {
+            for (Entry entry : entries) {
+                if (entry != null) entry.publish(dataMap);
+            }
+        }
+
+        for (Entry entry : listeners.values()) entry.publish(dataMap);
+    }
+
+    /**
+     * Clear everything the profiler has recorded.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public TickProfiler reset() {
+        for (Entry entry : stages) entry.histogram.reset();
+        plugins.clear();
+        listeners.clear();
+        ticks = 0;
+
+        return this;
+    }
+
+    /**
+     * Get how many ticks have been profiled.
+     *
+     * @return how many ticks have been profiled.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    public LatencyHistogram getHistogram(TickStage stage) {
+        return stages[stage.ordinal()].histogram;
+    }
+
+    /**
+     * Get the histogram for a plugin in a certain stage.
+     *
+     * @param name  the plugin's name ({@link PathfinderPlugin#getName()}).
+     * @param stage the stage: {@link TickStage#PRE_TICK_PLUGINS},
+     *              {@link TickStage#ON_TICK_PLUGINS}, or
+     *              {@link TickStage#POST_TICK_PLUGINS}.
+     * @return the plugin's histogram, or null if the plugin hasn't been
+     * recorded in that stage.
+     */
+    public LatencyHistogram getPluginHistogram(String name, TickStage stage) {
+        Entry[] entries = plugins.get(name);
+
+        if (entries == null) return null;
+
+        Entry entry = entries[stage.ordinal()];
+
+        return entry == null ? null : entry.histogram;
+    }
+
+    /**
+     * Get the histogram for a listener.
+     *
+     * @param name the listener's name.
+     * @return the listener's histogram, or null if the listener hasn't been
+     * recorded.
+     */
+    public LatencyHistogram getListenerHistogram(String name) {
+        Entry entry = listeners.get(name);
+
+        return entry == null ? null : entry.histogram;
+    }
+
+    public Set<String> getPluginNames() {
+        return Collections.unmodifiableSet(plugins.keySet());
+    }
+
+    public Set<String> getListenerNames() {
+        return Collections.unmodifiableSet(listeners.keySet());
+    }
+
+    public double getP50Ms(TickStage stage) {
+        return getHistogram(stage).getP50Ms();
+    }
+
+    public double getP99Ms(TickStage stage) {
+        return getHistogram(stage).getP99Ms();
+    }
+
+    public double getMaxMs(TickStage stage) {
+        return getHistogram(stage).getMaxMs();
+    }
+
+    private static void appendLine(
+        StringBuilder builder,
+        String name,
+        LatencyHistogram histogram
+    ) {
+        builder.append(
+            StringUtils.format(
+                "%s: p50 <%s ms> p99 <%s ms> max <%s ms> (count: <%s>)%n",
+                name,
+                histogram.getP50Ms(),
+                histogram.getP99Ms(),
+                histogram.getMaxMs(),
+                histogram.getCount()
+            )
+        );
+    }
+
+    /**
+     * Get a human-readable report of everything the profiler has recorded.
+     *
+     * @return a report of the profiler's results.
+     */
+    public String getReport() {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append(
+            StringUtils.format("TickProfiler (ticks: <%s>)%n", ticks)
+        );
+
+        for (TickStage stage : STAGES) appendLine(
+            builder,
+            stage.getKey(),
+            getHistogram(stage)
+        );
+
+        for (Map.Entry<String, Entry[]> plugin : plugins.entrySet()) {
+            for (TickStage stage : STAGES) {
+                Entry entry = plugin.getValue()[stage.ordinal()];
+
+                if (entry != null) appendLine(
+                    builder,
+                    "plugin " + plugin.getKey() + " " + stage.getKey(),
+                    entry.histogram
+                );
+            }
+        }
+
+        for (Map.Entry<String, Entry> listener : listeners.entrySet()) {
+            appendLine(
+                builder,
+                "listener " + listener.getKey(),
+                listener.getValue().histogram
+            );
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getReport();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2;
+
+/**
+ * The stages of {@link Pathfinder#tick()}, in the order they're executed.
+ * Used by {@link TickProfiler} to report how long each stage takes.
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public enum TickStage {
+    PRE_TICK_PLUGINS("pre_tick_plugins"),
+    SCHEDULER("scheduler"),
+    ZONES("zones"),
+    EXECUTOR("executor"),
+    ON_TICK_PLUGINS("on_tick_plugins"),
+    PLAYBACK("playback"),
+    PROFILER("profiler"),
+    MOVEMENT_RECORDER("movement_recorder"),
+    STATE_RECORDER("state_recorder"),
+    LISTENERS("listeners"),
+    ON_TICK_OPERATIONS("on_tick_operations"),
+    POST_TICK_PLUGINS("post_tick_plugins"),
+
+    /**
+     * The entire tick, from the start of the first stage to the end of
+     * the last stage.
+     */
+    TOTAL("total");
+
+    private final String key;
+
+    TickStage(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Get the name used for this stage in Pathfinder's data map.
+     *
+     * @return the stage's key.
+     */
+    public String getKey() {
+        return key;
+    }
+}
@@ -12,11 +12,13 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import me.wobblyyyy.pathfinder2.follower.Follower;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
 import me.wobblyyyy.pathfinder2.robot.Drive;
-import me.wobblyyyy.pathfinder2.robot.Odometry;
 import me.wobblyyyy.pathfinder2.robot.Robot;
 import me.wobblyyyy.pathfinder2.time.Time;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 
 /**
  * A manager, responsible for... well, managing executors. This manager
@@ -45,9 +47,9 @@
  */
 public class ExecutorManager {
     /**
-     * The manager's odometry.
+     * Supplies the robot's position to the manager's executors.
      */
-    private final Odometry odometry;
+    private final Supplier<PointXYZ> position;
     /**
      * The manager's drive.
      */
@@ -77,12 +79,28 @@ public class ExecutorManager {
      * @param robot the robot.
      */
     public ExecutorManager(Robot robot) {
+        this(robot, robot == null ? null : () -> robot.odometry().getPosition());
+    }
+
+    /**
+     * Create a new {@code ExecutorManager}. By default, new managers will
+     * not have any executors.
+     *
+     * @param robot    the robot.
+     * @param position supplies the robot's position to the manager's
+     *                 executors. {@link me.wobblyyyy.pathfinder2.Pathfinder}
+     *                 uses this to share a single position between
+     *                 everything that's ticked in a single tick.
+     */
+    public ExecutorManager(Robot robot, Supplier<PointXYZ> position) {
         if (robot == null) throw new NullPointerException(
             "Attempted to create an " +
             "ExecutorManager with a null Robot object!"
         );
 
-        this.odometry = robot.odometry();
+        ValidationUtils.validate(position, "position");
+
+        this.position = position;
         this.drive = robot.drive();
     }
 
@@ -99,7 +117,7 @@ public void addExecutor(List<Follower> followers) {
             "Attempted to use addExecutor " + "with a null List<Follower>!"
         );
 
-        executors.add(new FollowerExecutor(odometry, drive, followers));
+        executors.add(new FollowerExecutor(position, drive, followers));
     }
 
     /**
@@ -114,7 +132,7 @@ public void addExecutor(Follower follower) {
             "Attempted to use addExecutor " + "with a null Follower!"
         );
 
-        executors.add(new FollowerExecutor(odometry, drive, follower));
+        executors.add(new FollowerExecutor(position, drive, follower));
     }
 
     /**
@@ -13,8 +13,10 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import me.wobblyyyy.pathfinder2.follower.Follower;
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
 import me.wobblyyyy.pathfinder2.logging.Logger;
 import me.wobblyyyy.pathfinder2.robot.Drive;
 import me.wobblyyyy.pathfinder2.robot.Odometry;
@@ -31,9 +33,10 @@
  */
 public class FollowerExecutor {
     /**
-     * The odometry system that the executor should use to tick followers.
+     * Supplies the robot's position, which the executor uses to tick
+     * followers.
      */
-    private final Odometry odometry;
+    private final Supplier<PointXYZ> position;
 
     /**
      * The drivetrain the executor should use to move.
@@ -45,6 +48,13 @@ public class FollowerExecutor {
      */
     private final List<Follower> followers;
 
+    /**
+     * The drive's {@link Drive#setTranslation(Translation)} method. This is
+     * created once, instead of every tick, so ticking the executor doesn't
+     * create any garbage.
+     */
+    private final Consumer<Translation> setTranslation;
+
     /**
      * Create a new {@code FollowerExecutor}.
      *
@@ -57,7 +67,30 @@ public FollowerExecutor(
         Drive drive,
         List<Follower> followers
     ) {
-        ValidationUtils.validate(odometry, "odometry");
+        this(
+            (Supplier<PointXYZ>) ValidationUtils.validate(
+                odometry,
+                "odometry"
+            )::getPosition,
+            drive,
+            followers
+        );
+    }
+
+    /**
+     * Create a new {@code FollowerExecutor}.
+     *
+     * @param position  supplies the robot's position. This is called once
+     *                  every time the executor is ticked.
+     * @param drive     the drivetrain the executor should use.
+     * @param followers a list of followers the executor should execute.
+     */
+    public FollowerExecutor(
+        Supplier<PointXYZ> position,
+        Drive drive,
+        List<Follower> followers
+    ) {
+        ValidationUtils.validate(position, "position");
         ValidationUtils.validate(drive, "drive");
         ValidationUtils.validate(followers, "followers");
 
@@ -65,16 +98,17 @@ public FollowerExecutor(
 
         Logger.trace(
             FollowerExecutor.class,
-            "Created FollowerExecutor (odometry: <%s> drive: <%s> " +
+            "Created FollowerExecutor (position: <%s> drive: <%s> " +
             "followers: <%s>)",
-            odometry,
+            position,
             drive,
             followers
         );
 
-        this.odometry = odometry;
+        this.position = position;
         this.drive = drive;
         this.followers = followers;
+        this.setTranslation = drive::setTranslation;
     }
 
     /**
@@ -97,14 +131,36 @@ public FollowerExecutor(Odometry odometry, Drive drive, Follower follower) {
         );
     }
 
-    private boolean tickCurrentFollower() {
-        return Follower.tickFollower(
-            followers.get(0),
-            odometry::getPosition,
-            drive::setTranslation
+    /**
+     * Create a new {@code FollowerExecutor}.
+     *
+     * @param position supplies the robot's position.
+     * @param drive    the drivetrain the executor should use.
+     * @param follower the follower the executor should execute.
+     */
+    public FollowerExecutor(
+        Supplier<PointXYZ> position,
+        Drive drive,
+        Follower follower
+    ) {
+        this(
+            position,
+            drive,
+            new ArrayList<Follower>() {
+
+                {
+                    add(follower);
+                }
+            }
         );
     }
 
+    private boolean tickCurrentFollower() {
+        return followers
+            .get(0)
+            .tick(position.get(), setTranslation);
+    }
+
     private void internalTick() {
         if (howManyFollowers() > 0) if (tickCurrentFollower()) followers.remove(
             0
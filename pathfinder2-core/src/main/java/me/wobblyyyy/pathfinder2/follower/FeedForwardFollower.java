@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.follower;
+
+import java.util.function.Consumer;
+import me.wobblyyyy.pathfinder2.control.Controller;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.logging.Logger;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.profile.ProfiledTrajectory;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A follower that tracks a {@link ProfiledTrajectory} with feed-forward.
+ *
+ * <p>
+ * Every tick, the trajectory says where the robot should be, which way
+ * the path is going, and how fast the robot should be moving. Most of
+ * the translation comes from the feed-forward term: the feed-forward
+ * power for the profile's velocity and acceleration, pointed along the
+ * path. That alone would get the robot most of the way there, but not
+ * quite - so a proportional feedback term pushes the robot towards the
+ * reference point, correcting for any error that builds up.
+ * </p>
+ *
+ * <p>
+ * Unlike {@link GenericFollower}, which drives towards a target point at
+ * whatever speed the trajectory asks for, this follower knows how fast
+ * the robot should be going at every moment, so it can accelerate as
+ * hard as the profile allows, cruise at full speed between segments, and
+ * start braking at exactly the right time.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class FeedForwardFollower implements Follower {
+    private final ProfiledTrajectory trajectory;
+    private final Controller turnController;
+    private final double kP;
+
+    /**
+     * Create a new {@code FeedForwardFollower}.
+     *
+     * @param trajectory     the trajectory to follow.
+     * @param turnController a turn controller. Like the one used in
+     *                       {@link GenericFollower}, this controller's
+     *                       target will be set to 0, and it'll receive the
+     *                       distance from the target angle, in degrees.
+     * @param kP             the proportional gain used to correct for
+     *                       position error: for every unit of distance
+     *                       between the robot and the reference point, this
+     *                       much power is added in the reference point's
+     *                       direction. This must be greater than or equal
+     *                       to 0.
+     */
+    public FeedForwardFollower(
+        ProfiledTrajectory trajectory,
+        Controller turnController,
+        double kP
+    ) {
+        ValidationUtils.validate(trajectory, "trajectory");
+        ValidationUtils.validate(turnController, "turnController");
+        ValidationUtils.validate(kP, "kP");
+
+        if (kP < 0) throw new IllegalArgumentException(
+            "kP must be greater than or equal to 0!"
+        );
+
+        Logger.debug(
+            FeedForwardFollower.class,
+            "Created FeedForwardFollower (trajectory: <%s> turn " +
+            "controller: <%s> kP: <%s>)",
+            trajectory,
+            turnController,
+            kP
+        );
+
+        this.trajectory = trajectory;
+        this.turnController = turnController;
+        this.kP = kP;
+
+        turnController.setTarget(0);
+    }
+
+    @Override
+    public Trajectory getTrajectory() {
+        return trajectory;
+    }
+
+    @Override
+    public boolean tick(PointXYZ current, Consumer<Translation> consumer) {
+        ValidationUtils.validate(current, "current");
+        ValidationUtils.validate(consumer, "consumer");
+
+        if (trajectory.isDone(current)) {
+            if (Logger.isDebugEnabled()) Logger.debug(
+                FeedForwardFollower.class,
+                "Finished follower for trajectory <%s>",
+                trajectory
+            );
+
+            consumer.accept(Translation.ZERO);
+
+            return true;
+        }
+
+        // isDone already updated the trajectory's reference, so none of
+        // these calls do any real work
+        double feedForward = trajectory.getFeedForwardPower();
+
+        // field-relative velocity: feed-forward along the path, and
+        // feedback towards the reference point
+        double vx =
+            (trajectory.getTangentX() * feedForward) +
+            (kP * (trajectory.getReferenceX() - current.x()));
+        double vy =
+            (trajectory.getTangentY() * feedForward) +
+            (kP * (trajectory.getReferenceY() - current.y()));
+
+        double magnitude = Math.hypot(vx, vy);
+        if (magnitude > 1) {
+            vx /= magnitude;
+            vy /= magnitude;
+        }
+
+        // rotate the field-relative velocity by the negative of the
+        // robot's heading to make it relative to the robot
+        double heading = current.z().rad();
+        double cos = Math.cos(heading);
+        double sin = Math.sin(heading);
+        double relativeX = (vx * cos) + (vy * sin);
+        double relativeY = (vy * cos) - (vx * sin);
+
+        double angleDelta = Angle.minimumDelta(
+            current.z().deg(),
+            trajectory.getReferenceHeading()
+        );
+        double turn = turnController.calculate(angleDelta);
+
+        Translation translation = new Translation(relativeX, relativeY, turn);
+
+        if (Logger.isTraceEnabled()) Logger.trace(
+            FeedForwardFollower.class,
+            "time: <%s s> reference: <%s, %s> velocity: <%s> feed " +
+            "forward: <%s> angle delta: <%s deg> translation: <%s>",
+            trajectory.getElapsedSeconds(),
+            trajectory.getReferenceX(),
+            trajectory.getReferenceY(),
+            trajectory.getReferenceVelocity(),
+            feedForward,
+            angleDelta,
+            translation
+        );
+
+        consumer.accept(translation);
+
+        return false;
+    }
+
+    public double getKP() {
+        return kP;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "FeedForwardFollower for trajectory <%s>",
+            trajectory
+        );
+    }
+}
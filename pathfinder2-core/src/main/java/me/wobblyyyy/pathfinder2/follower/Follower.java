@@ -118,22 +118,34 @@ static Translation getRelativeTranslation(
         double speed,
         double turn
     ) {
-        Translation absoluteTranslation = getAbsoluteTranslation(
-            current,
-            target,
-            speed,
-            turn
-        );
+        ValidationUtils.validate(current, "current");
+        ValidationUtils.validate(target, "target");
+        ValidationUtils.validate(speed, "speed");
+        ValidationUtils.validate(turn, "turn");
 
-        Translation relativeTranslation = absoluteTranslation.toRelative(
-            current.z()
-        );
+        // this does the same thing as getAbsoluteTranslation followed by
+        // toRelative, but with primitives, so the only object that gets
+        // created is the translation that's returned. rotating the absolute
+        // translation by the negative of the robot's heading is the same
+        // thing as subtracting the heading from the translation's angle
+        double vx = 0;
+        double vy = 0;
+
+        if (!PointXY.equals(current, target)) {
+            double dx = target.x() - current.x();
+            double dy = target.y() - current.y();
+            double angle = Math.atan2(dy, dx) - current.z().rad();
+
+            vx = speed * Math.cos(angle);
+            vy = speed * Math.sin(angle);
+        }
+
+        Translation relativeTranslation = new Translation(vx, vy, turn);
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             Follower.class,
-            "absolute translation: <%s> relative translation: <%s> " +
-            "current: <%s> target: <%s> speed: <%s> turn: <%s>",
-            absoluteTranslation,
+            "relative translation: <%s> current: <%s> target: <%s> " +
+            "speed: <%s> turn: <%s>",
             relativeTranslation,
             current,
             target,
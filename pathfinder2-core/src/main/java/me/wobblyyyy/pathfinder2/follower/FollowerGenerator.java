@@ -10,6 +10,7 @@
 
 package me.wobblyyyy.pathfinder2.follower;
 
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
 import me.wobblyyyy.pathfinder2.robot.Robot;
 import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
 
@@ -63,4 +64,25 @@ public interface FollowerGenerator {
      * the execution of the inputted trajectory.
      */
     Follower generate(Robot robot, Trajectory trajectory);
+
+    /**
+     * Generate a new follower, given the robot's current position. Pathfinder
+     * calls this method with the position it's already cached for the
+     * current tick, so generators that need the robot's position (to
+     * sample a path starting at the robot, for example) don't have to read
+     * the robot's odometry again. By default, this ignores the position
+     * and calls {@link #generate(Robot, Trajectory)}.
+     *
+     * @param robot      the robot that this follower is acting upon.
+     * @param trajectory the trajectory this follower should be following.
+     * @param position   the robot's current position.
+     * @return a newly-generated {@link Follower}.
+     */
+    default Follower generate(
+        Robot robot,
+        Trajectory trajectory,
+        PointXYZ position
+    ) {
+        return generate(robot, trajectory);
+    }
 }
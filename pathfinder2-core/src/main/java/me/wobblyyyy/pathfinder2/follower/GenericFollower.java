@@ -111,17 +111,18 @@ public boolean tick(PointXYZ current, Consumer<Translation> consumer) {
         ValidationUtils.validate(current, "current");
         ValidationUtils.validate(consumer, "consumer");
 
-        Logger.trace(
+        // logging is guarded so that, unless it's actually going to be
+        // outputted, we don't allocate a varargs array and box everything
+        if (Logger.isTraceEnabled()) Logger.trace(
             GenericFollower.class,
             "Ticking follower (current pos: <%s>)",
-            current,
-            consumer
+            current
         );
 
         // if the trajectory is done, we should stop executing this method
         // right here.
         if (trajectory.isDone(current)) {
-            Logger.debug(
+            if (Logger.isDebugEnabled()) Logger.debug(
                 GenericFollower.class,
                 "Finished follower for trajectory <%s>",
                 trajectory
@@ -152,7 +153,11 @@ public boolean tick(PointXYZ current, Consumer<Translation> consumer) {
 
         // determine the delta between the two angles, so we can calculate
         // turn in just a moment.
-        double angleDelta = Angle.minimumDelta(current.z(), nextMarker.z());
+        // (this uses degree values so no angles need to be created)
+        double angleDelta = Angle.minimumDelta(
+            current.z().deg(),
+            nextMarker.z().deg()
+        );
 
         // and calculate turn. remember, the turn controller's only job is to
         // get the delta to zero, so by feeding it the delta it should output
@@ -168,7 +173,7 @@ public boolean tick(PointXYZ current, Consumer<Translation> consumer) {
             turn
         );
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             GenericFollower.class,
             "Next marker: <%s>, speed: <%s>, angle delta: <%s deg>, " +
             "turn value: <%s>, current translation: <%s>",
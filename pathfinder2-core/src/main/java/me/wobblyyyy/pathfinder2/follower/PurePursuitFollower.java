@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.follower;
+
+import java.util.function.Consumer;
+import me.wobblyyyy.pathfinder2.control.Controller;
+import me.wobblyyyy.pathfinder2.exceptions.InvalidToleranceException;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.Circle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.logging.Logger;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.PathSampler;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A pure pursuit follower. Instead of driving towards whatever point the
+ * trajectory says to drive towards, this follower works with a sampled
+ * version of the trajectory's path (a {@link TrajectoryTable}, usually made
+ * with {@link PathSampler}), and "chases" a point on the path that's a
+ * certain distance (the lookahead distance) ahead of the robot.
+ *
+ * <p>
+ * Each tick, the follower:
+ * <ol>
+ *     <li>Finds the closest point on the path to the robot. The search
+ *     starts at the segment the robot was closest to last tick and only
+ *     looks a little bit ahead, so the robot can't skip to a later part of
+ *     the path that happens to pass nearby, and the search doesn't get any
+ *     slower as the path gets longer.</li>
+ *     <li>Works out the lookahead distance based on the path's speed at
+ *     the closest point. The faster the robot is supposed to be going, the
+ *     further ahead it looks: a short lookahead follows the path closely,
+ *     and a long lookahead smooths the path out. Paths made with a
+ *     {@link me.wobblyyyy.pathfinder2.trajectory.spline.CurvatureSpeedPlanner}
+ *     slow down for tight turns, so the lookahead shrinks in turns, too.
+ *     </li>
+ *     <li>Finds the furthest point where the path leaves a circle around
+ *     the robot, with a radius of the lookahead distance, and drives
+ *     towards that point.</li>
+ * </ol>
+ * </p>
+ *
+ * <p>
+ * Everything is done with plain numbers, so a tick doesn't allocate
+ * anything other than the translation it produces, and the amount of work
+ * a tick does only depends on the lookahead distance and the spacing of
+ * the path's samples.
+ * </p>
+ *
+ * <p>
+ * This follower keeps track of the robot's progress along the path, so an
+ * instance can't be used by two robots at once. Call {@link #reset()}
+ * before following the path again.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class PurePursuitFollower implements Follower {
+    private final Trajectory trajectory;
+    private final TrajectoryTable path;
+    private final Controller turnController;
+    private final double minLookahead;
+    private final double maxLookahead;
+    private final double tolerance;
+    private final Angle angleTolerance;
+
+    private final double endX;
+    private final double endY;
+    private final double endHeading;
+
+    private transient int segment = 0;
+    private transient double progress = 0;
+    private transient double goalDistance = 0;
+    private transient double approachSpeed = -1;
+    private transient double lookahead;
+    private transient double goalX;
+    private transient double goalY;
+
+    /**
+     * Create a new {@code PurePursuitFollower}.
+     *
+     * @param trajectory     the trajectory that's being followed. This is
+     *                       only used by {@link #getTrajectory()}: the
+     *                       follower only looks at {@code path}.
+     * @param path           the path to follow.
+     * @param turnController a turn controller. Like the one used in
+     *                       {@link GenericFollower}, this controller's
+     *                       target will be set to 0, and it'll receive the
+     *                       distance from the target angle, in degrees.
+     * @param minLookahead   the lookahead distance when the path's speed
+     *                       is 0. This must be greater than 0.
+     * @param maxLookahead   the lookahead distance when the path's speed
+     *                       is 1. This must be greater than or equal to
+     *                       {@code minLookahead}.
+     * @param tolerance      how close the robot needs to be to the end of
+     *                       the path for the follower to finish.
+     * @param angleTolerance how close the robot's heading needs to be to
+     *                       the path's final heading for the follower to
+     *                       finish.
+     */
+    public PurePursuitFollower(
+        Trajectory trajectory,
+        TrajectoryTable path,
+        Controller turnController,
+        double minLookahead,
+        double maxLookahead,
+        double tolerance,
+        Angle angleTolerance
+    ) {
+        ValidationUtils.validate(trajectory, "trajectory");
+        ValidationUtils.validate(path, "path");
+        ValidationUtils.validate(turnController, "turnController");
+        ValidationUtils.validate(minLookahead, "minLookahead");
+        ValidationUtils.validate(maxLookahead, "maxLookahead");
+        ValidationUtils.validate(tolerance, "tolerance");
+        ValidationUtils.validate(angleTolerance, "angleTolerance");
+
+        if (minLookahead <= 0) throw new IllegalArgumentException(
+            "minLookahead must be greater than 0!"
+        );
+
+        if (maxLookahead < minLookahead) throw new IllegalArgumentException(
+            "maxLookahead must be greater than or equal to minLookahead!"
+        );
+
+        InvalidToleranceException.throwIfInvalid(
+            "Invalid tolerance value!",
+            tolerance
+        );
+
+        if (Logger.isDebugEnabled()) Logger.debug(
+            PurePursuitFollower.class,
+            "Created PurePursuitFollower (trajectory: <%s> path: <%s> " +
+            "turn controller: <%s> lookahead: <%s to %s>)",
+            trajectory,
+            path,
+            turnController,
+            minLookahead,
+            maxLookahead
+        );
+
+        int last = path.size() - 1;
+
+        this.trajectory = trajectory;
+        this.path = path;
+        this.turnController = turnController;
+        this.minLookahead = minLookahead;
+        this.maxLookahead = maxLookahead;
+        this.tolerance = tolerance;
+        this.angleTolerance = angleTolerance;
+        this.endX = path.x(last);
+        this.endY = path.y(last);
+        this.endHeading = path.heading(last);
+        this.lookahead = minLookahead;
+
+        turnController.setTarget(0);
+    }
+
+    /**
+     * Forget the robot's progress along the path, so the path can be
+     * followed again from the start.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public PurePursuitFollower reset() {
+        segment = 0;
+        progress = 0;
+        goalDistance = 0;
+        approachSpeed = -1;
+        lookahead = minLookahead;
+
+        return this;
+    }
+
+    @Override
+    public Trajectory getTrajectory() {
+        return trajectory;
+    }
+
+    private boolean isDone(double px, double py, double deg) {
+        // the goal has to have reached the end of the path: otherwise, a
+        // path that ends where it starts would finish right away
+        if (goalDistance < path.length()) return false;
+
+        double dx = px - endX;
+        double dy = py - endY;
+
+        if ((dx * dx) + (dy * dy) > tolerance * tolerance) return false;
+
+        double deltaDeg = Angle.minimumDelta(deg, endHeading);
+
+        return Math.abs(deltaDeg) <= angleTolerance.deg();
+    }
+
+    private void updateProgress(double px, double py) {
+        // only look a little bit past the last closest point, and never
+        // go backwards
+        double closest = path.project(px, py, segment, maxLookahead * 2);
+
+        if (closest > progress) {
+            progress = closest;
+            segment = path.segmentAt(progress, segment);
+        }
+    }
+
+    private void updateGoal(double px, double py) {
+        double length = path.length();
+        double furthest = -1;
+
+        if (length - progress <= lookahead) {
+            // the end of the path is within reach, so there's nothing
+            // further to look for
+            furthest = length;
+        } else {
+            // the path can't leave the circle any further along than the
+            // arc length of the circle's edge, plus however far the robot
+            // is from the path
+            double dx = px - path.xAt(progress, segment);
+            double dy = py - path.yAt(progress, segment);
+            double limit = progress + lookahead + Math.hypot(dx, dy);
+
+            for (
+                int i = segment, last = path.size() - 2;
+                i <= last && path.s(i) <= limit;
+                i++
+            ) {
+                double t = Circle.segmentIntersection(
+                    px,
+                    py,
+                    lookahead,
+                    path.x(i),
+                    path.y(i),
+                    path.x(i + 1),
+                    path.y(i + 1)
+                );
+
+                if (t < 0) continue;
+
+                double distance = path.s(i) + ((path.s(i + 1) - path.s(i)) * t);
+
+                if (distance > furthest) furthest = distance;
+            }
+
+            // the robot has wandered far enough from the path that the
+            // circle doesn't reach it, so aim for the point a lookahead
+            // distance ahead of the robot's progress to get back on track
+            if (furthest < progress) furthest = progress + lookahead;
+        }
+
+        goalDistance = Math.min(length, Math.max(goalDistance, furthest));
+    }
+
+    @Override
+    public boolean tick(PointXYZ current, Consumer<Translation> consumer) {
+        ValidationUtils.validate(current, "current");
+        ValidationUtils.validate(consumer, "consumer");
+
+        double px = current.x();
+        double py = current.y();
+        double deg = current.z().deg();
+
+        if (isDone(px, py, deg)) {
+            if (Logger.isDebugEnabled()) Logger.debug(
+                PurePursuitFollower.class,
+                "Finished follower for trajectory <%s>",
+                trajectory
+            );
+
+            consumer.accept(Translation.ZERO);
+
+            return true;
+        }
+
+        updateProgress(px, py);
+
+        double progressSpeed = path.speedAt(progress, segment);
+        lookahead =
+            minLookahead +
+            ((maxLookahead - minLookahead) *
+                Math.max(0, Math.min(1, progressSpeed)));
+
+        updateGoal(px, py);
+
+        int goalSegment = path.segmentAt(goalDistance, segment);
+        goalX = path.xAt(goalDistance, goalSegment);
+        goalY = path.yAt(goalDistance, goalSegment);
+        double goalHeading = path.headingAt(goalDistance, goalSegment);
+
+        // the path's first sample is where the robot started, which
+        // usually has a speed of 0, so use whichever speed is higher
+        double speed = Math.max(
+            progressSpeed,
+            path.speedAt(goalDistance, goalSegment)
+        );
+
+        double vx = goalX - px;
+        double vy = goalY - py;
+        double distance = Math.hypot(vx, vy);
+
+        if (goalDistance >= path.length()) {
+            // once the robot is aiming for the end of the path, keep the
+            // speed it had when it started aiming there: the samples right
+            // at the end of a path often have a speed of 0 (a linear
+            // trajectory, for example, stops once the robot is within
+            // tolerance), and the robot would stall just short of the end.
+            // slow down when it's close, so it doesn't overshoot
+            if (approachSpeed < 0) approachSpeed = speed;
+
+            speed = approachSpeed * Math.min(1, distance / minLookahead);
+        }
+
+        if (distance > 0) {
+            vx = (vx / distance) * speed;
+            vy = (vy / distance) * speed;
+        }
+
+        // rotate the field-relative velocity by the negative of the
+        // robot's heading to make it relative to the robot
+        double heading = current.z().rad();
+        double cos = Math.cos(heading);
+        double sin = Math.sin(heading);
+        double relativeX = (vx * cos) + (vy * sin);
+        double relativeY = (vy * cos) - (vx * sin);
+
+        double angleDelta = Angle.minimumDelta(deg, goalHeading);
+        double turn = turnController.calculate(angleDelta);
+
+        Translation translation = new Translation(relativeX, relativeY, turn);
+
+        if (Logger.isTraceEnabled()) Logger.trace(
+            PurePursuitFollower.class,
+            "progress: <%s> lookahead: <%s> goal: <%s, %s> speed: <%s> " +
+            "angle delta: <%s deg> translation: <%s>",
+            progress,
+            lookahead,
+            goalX,
+            goalY,
+            speed,
+            angleDelta,
+            translation
+        );
+
+        consumer.accept(translation);
+
+        return false;
+    }
+
+    public TrajectoryTable getPath() {
+        return path;
+    }
+
+    /**
+     * Get how far along the path the robot is, as of the last tick.
+     *
+     * @return the arc length of the closest point on the path.
+     */
+    public double getProgress() {
+        return progress;
+    }
+
+    /**
+     * Get the lookahead distance used during the last tick.
+     *
+     * @return the lookahead distance.
+     */
+    public double getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Get how far along the path the point the robot is driving towards
+     * is, as of the last tick.
+     *
+     * @return the goal point's arc length.
+     */
+    public double getGoalDistance() {
+        return goalDistance;
+    }
+
+    public double getGoalX() {
+        return goalX;
+    }
+
+    public double getGoalY() {
+        return goalY;
+    }
+
+    public double getMinLookahead() {
+        return minLookahead;
+    }
+
+    public double getMaxLookahead() {
+        return maxLookahead;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public Angle getAngleTolerance() {
+        return angleTolerance;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "PurePursuitFollower for trajectory <%s>",
+            trajectory
+        );
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.follower.generators;
+
+import me.wobblyyyy.pathfinder2.control.Controller;
+import me.wobblyyyy.pathfinder2.exceptions.NullControllerException;
+import me.wobblyyyy.pathfinder2.exceptions.NullDriveException;
+import me.wobblyyyy.pathfinder2.exceptions.NullOdometryException;
+import me.wobblyyyy.pathfinder2.exceptions.NullTrajectoryException;
+import me.wobblyyyy.pathfinder2.follower.Follower;
+import me.wobblyyyy.pathfinder2.follower.FollowerGenerator;
+import me.wobblyyyy.pathfinder2.follower.PurePursuitFollower;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.logging.Logger;
+import me.wobblyyyy.pathfinder2.robot.Robot;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.PathSampler;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A {@link FollowerGenerator} that generates {@link PurePursuitFollower}s.
+ * When a follower is generated, the trajectory's path is sampled (with
+ * {@link PathSampler}), starting at the robot's current position, so any
+ * trajectory {@link PathSampler} can sample can be followed with pure
+ * pursuit.
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class PurePursuitFollowerGenerator implements FollowerGenerator {
+    private final Controller turnController;
+    private final double minLookahead;
+    private final double maxLookahead;
+    private double spacing = 0.5;
+    private double tolerance = 1;
+    private Angle angleTolerance = Angle.fromDeg(5);
+
+    /**
+     * Create a new {@code PurePursuitFollowerGenerator}.
+     *
+     * @param turnController the turn controller every generated follower
+     *                       should use.
+     * @param minLookahead   the lookahead distance when the path's speed
+     *                       is 0.
+     * @param maxLookahead   the lookahead distance when the path's speed
+     *                       is 1.
+     */
+    public PurePursuitFollowerGenerator(
+        Controller turnController,
+        double minLookahead,
+        double maxLookahead
+    ) {
+        if (turnController == null) throw new NullControllerException(
+            "Can't create a pure pursuit follower generator with " +
+            "a null turn controller!"
+        );
+
+        ValidationUtils.validate(minLookahead, "minLookahead");
+        ValidationUtils.validate(maxLookahead, "maxLookahead");
+
+        if (minLookahead <= 0) throw new IllegalArgumentException(
+            "minLookahead must be greater than 0!"
+        );
+
+        if (maxLookahead < minLookahead) throw new IllegalArgumentException(
+            "maxLookahead must be greater than or equal to minLookahead!"
+        );
+
+        if (Logger.isTraceEnabled()) Logger.trace(
+            PurePursuitFollowerGenerator.class,
+            "Created new PurePursuitFollowerGenerator (controller: <%s> " +
+            "lookahead: <%s to %s>)",
+            turnController,
+            minLookahead,
+            maxLookahead
+        );
+
+        this.turnController = turnController;
+        this.minLookahead = minLookahead;
+        this.maxLookahead = maxLookahead;
+    }
+
+    /**
+     * Set the distance between each sample of the path.
+     *
+     * @param spacing the distance between each sample. This must be
+     *                greater than 0.
+     * @return {@code this}, used for method chaining.
+     */
+    public PurePursuitFollowerGenerator setSpacing(double spacing) {
+        ValidationUtils.validate(spacing, "spacing");
+
+        if (spacing <= 0) throw new IllegalArgumentException(
+            "spacing must be greater than 0!"
+        );
+
+        this.spacing = spacing;
+
+        return this;
+    }
+
+    /**
+     * Set the tolerance generated followers should use.
+     *
+     * @param tolerance how close the robot needs to be to the end of the
+     *                  path for the follower to finish.
+     * @return {@code this}, used for method chaining.
+     */
+    public PurePursuitFollowerGenerator setTolerance(double tolerance) {
+        this.tolerance = ValidationUtils.validate(tolerance, "tolerance");
+
+        return this;
+    }
+
+    /**
+     * Set the angle tolerance generated followers should use.
+     *
+     * @param angleTolerance how close the robot's heading needs to be to
+     *                       the path's final heading.
+     * @return {@code this}, used for method chaining.
+     */
+    public PurePursuitFollowerGenerator setAngleTolerance(
+        Angle angleTolerance
+    ) {
+        this.angleTolerance =
+            ValidationUtils.validate(angleTolerance, "angleTolerance");
+
+        return this;
+    }
+
+    /**
+     * Create a new {@link PurePursuitFollower}, given a robot and a
+     * trajectory. This reads the robot's odometry - Pathfinder uses
+     * {@link #generate(Robot, Trajectory, PointXYZ)} instead, which doesn't.
+     *
+     * @param robot      the robot the follower is acting upon. The path
+     *                   starts at the robot's current position.
+     * @param trajectory the trajectory the follower should follow.
+     * @return a new {@link PurePursuitFollower}.
+     */
+    @Override
+    public Follower generate(Robot robot, Trajectory trajectory) {
+        if (robot.odometry() == null) {
+            throw new NullOdometryException(
+                "Can't generate a follower with null Odometry!"
+            );
+        }
+
+        return generate(robot, trajectory, robot.odometry().getPosition());
+    }
+
+    /**
+     * Create a new {@link PurePursuitFollower}, given a robot, a trajectory,
+     * and the robot's current position.
+     *
+     * @param robot      the robot the follower is acting upon.
+     * @param trajectory the trajectory the follower should follow.
+     * @param position   the robot's current position. The path starts here.
+     * @return a new {@link PurePursuitFollower}.
+     */
+    @Override
+    public Follower generate(
+        Robot robot,
+        Trajectory trajectory,
+        PointXYZ position
+    ) {
+        ValidationUtils.validate(position, "position");
+
+        if (robot.drive() == null) {
+            throw new NullDriveException(
+                "Can't generate a follower with null Drive"
+            );
+        }
+
+        if (trajectory == null) {
+            throw new NullTrajectoryException(
+                "Can't generate a follower with a null Trajectory!"
+            );
+        }
+
+        TrajectoryTable path = PathSampler.sample(position, trajectory, spacing);
+
+        return new PurePursuitFollower(
+            trajectory,
+            path,
+            turnController,
+            minLookahead,
+            maxLookahead,
+            tolerance,
+            angleTolerance
+        );
+    }
+
+    public Controller getTurnController() {
+        return turnController;
+    }
+
+    public double getMinLookahead() {
+        return minLookahead;
+    }
+
+    public double getMaxLookahead() {
+        return maxLookahead;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "PurePursuitFollowerGenerator (turn controller: <%s> " +
+            "lookahead: <%s to %s>)",
+            turnController,
+            minLookahead,
+            maxLookahead
+        );
+    }
+}
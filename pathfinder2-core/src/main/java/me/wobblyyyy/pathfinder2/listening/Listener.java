@@ -16,6 +16,7 @@
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.time.Clock;
 import me.wobblyyyy.pathfinder2.time.Time;
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
 import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
@@ -91,7 +92,7 @@ public class Listener implements Tickable {
     private boolean hasBeenMet;
     private boolean hasBeenNotMet;
     private int executions;
-    private double lastExecMs = 0;
+    private double lastExecMs = Double.NEGATIVE_INFINITY;
 
     private int priority;
     private double expiration = Double.MAX_VALUE;
@@ -117,6 +118,7 @@ public class Listener implements Tickable {
      *                      being "true" is by having all of the suppliers
      *                      provided in this parameter also return true.
      */
+    @SafeVarargs
     public Listener(
         ListenerMode mode,
         Runnable whenTriggered,
@@ -147,6 +149,7 @@ public Listener(
      *                      being "true" is by having all of the suppliers
      *                      provided in this parameter also return true.
      */
+    @SafeVarargs
     public Listener(
         int priority,
         ListenerMode mode,
@@ -312,7 +315,9 @@ public Listener setCooldownMs(double cooldownMs) {
     public boolean tick(Pathfinder pathfinder) {
         if (executions++ > maximumExecutions) return false;
 
-        double currentMs = Time.ms();
+        double currentMs = pathfinder == null
+            ? Clock.SYSTEM.ms()
+            : pathfinder.getClock().ms();
         if (currentMs - lastExecMs < cooldownMs) return true;
         lastExecMs = currentMs;
 
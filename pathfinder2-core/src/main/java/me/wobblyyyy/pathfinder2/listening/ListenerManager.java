@@ -17,6 +17,7 @@
 import java.util.stream.Collectors;
 import me.wobblyyyy.pathfinder2.Core;
 import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.TickProfiler;
 import me.wobblyyyy.pathfinder2.logging.Logger;
 import me.wobblyyyy.pathfinder2.utils.RandomString;
 import me.wobblyyyy.pathfinder2.utils.Toggle;
@@ -114,6 +115,10 @@ public ListenerManager addListener(Listener listener) {
      */
     public ListenerManager removeListener(String name) {
         listeners.remove(name);
+        pathfinder.getTickProfiler().removeListener(
+            name,
+            pathfinder.getDataMap()
+        );
 
         return this;
     }
@@ -135,19 +140,27 @@ public Listener getListener(String name) {
     @Override
     public boolean tick(Pathfinder pathfinder) {
         List<String> expiredListeners = new ArrayList<String>(listeners.size());
+        TickProfiler profiler = pathfinder.getTickProfiler();
 
         for (Map.Entry<String, Listener> entry : listeners.entrySet()) {
             String name = entry.getKey();
             Listener listener = entry.getValue();
 
             // remove expired listeners, tick non-expired listeners
-            if (listener.hasExpired()) expiredListeners.add(
-                name
-            ); else listener.tick(pathfinder);
+            if (listener.hasExpired()) {
+                expiredListeners.add(name);
+            } else {
+                long startNs = profiler.now();
+                listener.tick(pathfinder);
+                profiler.recordListener(name, startNs);
+            }
         }
 
         // actually remove the listener if it's expired
-        for (String key : expiredListeners) listeners.remove(key);
+        for (String key : expiredListeners) {
+            listeners.remove(key);
+            profiler.removeListener(key, pathfinder.getDataMap());
+        }
 
         return true;
     }
@@ -15,7 +15,8 @@
 import me.wobblyyyy.pathfinder2.logging.Logger;
 import me.wobblyyyy.pathfinder2.math.Rounding;
 import me.wobblyyyy.pathfinder2.math.Velocity;
-import me.wobblyyyy.pathfinder2.time.Time;
+import me.wobblyyyy.pathfinder2.time.Clock;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 
 /**
  * Helper class for recording {@link MovementSnapshot}s for a robot.
@@ -29,7 +30,42 @@ public class MovementProfiler {
     private double yUnitsPerSec;
     private double zDegreesPerSec;
     private double timeMs;
+    private boolean hasCaptured = false;
     private MovementSnapshot lastSnapshot = new MovementSnapshot();
+    private Clock clock;
+
+    /**
+     * Create a new {@code MovementProfiler} using {@link Clock#SYSTEM}.
+     */
+    public MovementProfiler() {
+        this(Clock.SYSTEM);
+    }
+
+    /**
+     * Create a new {@code MovementProfiler}.
+     *
+     * @param clock the clock the profiler should use to measure the time
+     *              between snapshots.
+     */
+    public MovementProfiler(Clock clock) {
+        setClock(clock);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Set the clock the profiler uses to measure the time between
+     * snapshots.
+     *
+     * @param clock the profiler's new clock.
+     */
+    public void setClock(Clock clock) {
+        ValidationUtils.validate(clock, "clock");
+
+        this.clock = clock;
+    }
 
     /**
      * Get the most recently-recorded snapshot. If no snapshots have been
@@ -50,7 +86,7 @@ public MovementSnapshot getLastSnapshot() {
      * @return a new {@link MovementSnapshot}.
      */
     public MovementSnapshot capture(PointXYZ position) {
-        return capture(position, Time.ms());
+        return capture(position, clock.ms());
     }
 
     private static double fixValue(double value) {
@@ -73,9 +109,12 @@ public MovementSnapshot capture(PointXYZ position, double timeMs) {
         // this isn't good code. this isn't even decent code. this is
         // just genuinely awful, and i'm sorry for everything...
 
-        if (this.timeMs == 0) this.timeMs = timeMs;
+        if (!hasCaptured) {
+            this.timeMs = timeMs;
+            hasCaptured = true;
+        }
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             MovementProfiler.class,
             "Current position: %s, previous position: %s",
             position,
@@ -94,7 +133,7 @@ public MovementSnapshot capture(PointXYZ position, double timeMs) {
         double d = fixValue(dxy / deltaSec);
 
         double dXp = fixValue(dxPs - xUnitsPerSec);
-        double dYp = fixValue(dxPs - yUnitsPerSec);
+        double dYp = fixValue(dyPs - yUnitsPerSec);
         double dZp = fixValue(dzDegPs - zDegreesPerSec);
 
         double dXps = fixValue(dXp / deltaSec);
@@ -107,10 +146,10 @@ public MovementSnapshot capture(PointXYZ position, double timeMs) {
         this.position = position;
         this.xUnitsPerSec = dxPs;
         this.yUnitsPerSec = dyPs;
-        this.zDegreesPerSec = dyPs;
+        this.zDegreesPerSec = dzDegPs;
         this.timeMs = timeMs;
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             MovementProfiler.class,
             "delta ms: %s, delta sec: %s, dx: %s, dy: %s, dxy: %s, dzDeg: %s" +
             ", dxPs: %s, dyPs: %s, dzDegPs: %s, d: %s, dXp: %s, dYp: %s, dZp" +
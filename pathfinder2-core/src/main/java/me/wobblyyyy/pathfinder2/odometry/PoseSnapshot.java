@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.odometry;
+
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * An immutable, timestamped sample of a robot's position, as published
+ * by {@link ThreadedOdometry}. Because it's immutable, a snapshot can be
+ * safely shared between threads: whoever reads it will always see a
+ * position, timestamp and sequence number that belong together.
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public final class PoseSnapshot {
+    private final PointXYZ position;
+    private final long timestampNs;
+    private final long sequence;
+
+    /**
+     * Create a new {@code PoseSnapshot}.
+     *
+     * @param position    the robot's position.
+     * @param timestampNs the time the position was sampled at, in
+     *                    nanoseconds.
+     * @param sequence    the snapshot's sequence number. Each snapshot
+     *                    should have a higher sequence number than the
+     *                    snapshot before it.
+     */
+    public PoseSnapshot(PointXYZ position, long timestampNs, long sequence) {
+        ValidationUtils.validate(position, "position");
+
+        this.position = position;
+        this.timestampNs = timestampNs;
+        this.sequence = sequence;
+    }
+
+    public PointXYZ getPosition() {
+        return position;
+    }
+
+    public long getTimestampNs() {
+        return timestampNs;
+    }
+
+    /**
+     * Get the snapshot's sequence number. This can be used to check if
+     * a new snapshot has been published since the last time you checked.
+     *
+     * @return the snapshot's sequence number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Get how old this snapshot is.
+     *
+     * @param nowNs the current time, in nanoseconds, from the same clock
+     *              the snapshot was taken with.
+     * @return how old the snapshot is, in milliseconds.
+     */
+    public double getAgeMs(long nowNs) {
+        return (nowNs - timestampNs) / 1_000_000d;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "PoseSnapshot (position: <%s> timestamp: <%s ns> sequence: <%s>)",
+            position,
+            timestampNs,
+            sequence
+        );
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.odometry;
+
+import java.util.function.Function;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.robot.AbstractOdometry;
+import me.wobblyyyy.pathfinder2.robot.Odometry;
+import me.wobblyyyy.pathfinder2.time.Clock;
+import me.wobblyyyy.pathfinder2.time.FixedRateRunner;
+import me.wobblyyyy.pathfinder2.time.LoopStats;
+import me.wobblyyyy.pathfinder2.time.OverrunPolicy;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * An {@link Odometry} wrapper that samples another odometry system on its
+ * own background thread.
+ *
+ * <p>
+ * Normally, every call to {@link Odometry#getPosition()} re-reads the
+ * robot's sensors and recalculates its position - and a single tick of
+ * Pathfinder can call {@code getPosition()} quite a few times. This class
+ * moves all of that work to a background thread, which samples the
+ * wrapped odometry system at a fixed rate (usually faster than the control
+ * loop) and publishes each sample as an immutable {@link PoseSnapshot}.
+ * Reading the position is then just reading a volatile reference: it never
+ * touches any sensors, never blocks, and always returns a consistent
+ * position.
+ * </p>
+ *
+ * <p>
+ * Until {@link #start()} is called (or after {@link #stop()} is called),
+ * this class samples the wrapped odometry every time the position is
+ * requested, just like the wrapped odometry would on its own.
+ * </p>
+ *
+ * <p>
+ * The wrapped odometry system is only ever accessed while holding a lock,
+ * so it doesn't have to be thread-safe, but you shouldn't access it
+ * directly while this wrapper is running. Changing the offset or modifier
+ * through this class immediately takes a new sample, so the published
+ * position is never stale after an offset change.
+ * </p>
+ *
+ * <code><pre>
+ * pathfinder.useThreadedOdometry(2);
+ * // or...
+ * ThreadedOdometry odometry = new ThreadedOdometry(myOdometry, 2).start();
+ * </pre></code>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class ThreadedOdometry implements Odometry {
+    private final Odometry odometry;
+    private final Clock clock;
+    private final Object lock = new Object();
+    private final FixedRateRunner runner;
+
+    private volatile PoseSnapshot snapshot;
+    private volatile PointXYZ rawPosition;
+    private volatile boolean isRunning = false;
+    private volatile long errorCount = 0;
+    private volatile RuntimeException lastError = null;
+    private long sequence = 0;
+    private Thread thread;
+
+    /**
+     * Create a new {@code ThreadedOdometry}, using {@link Clock#SYSTEM}
+     * to timestamp samples.
+     *
+     * @param odometry the odometry system to sample.
+     * @param periodMs how often the odometry system should be sampled,
+     *                 in milliseconds.
+     */
+    public ThreadedOdometry(Odometry odometry, double periodMs) {
+        this(odometry, periodMs, Clock.SYSTEM);
+    }
+
+    /**
+     * Create a new {@code ThreadedOdometry}. This won't start the
+     * background thread - use {@link #start()} for that.
+     *
+     * @param odometry the odometry system to sample.
+     * @param periodMs how often the odometry system should be sampled,
+     *                 in milliseconds.
+     * @param clock    the clock used to timestamp samples. This is only
+     *                 used for timestamps: the background thread always
+     *                 runs in real time.
+     */
+    public ThreadedOdometry(Odometry odometry, double periodMs, Clock clock) {
+        ValidationUtils.validate(odometry, "odometry");
+        ValidationUtils.validate(clock, "clock");
+
+        if (
+            odometry instanceof ThreadedOdometry
+        ) throw new IllegalArgumentException(
+            "Can't wrap a ThreadedOdometry in another ThreadedOdometry!"
+        );
+
+        this.odometry = odometry;
+        this.clock = clock;
+        this.runner = new FixedRateRunner(periodMs, OverrunPolicy.SKIP);
+    }
+
+    /**
+     * Start sampling the odometry system on a background thread. This
+     * takes a sample before returning, so a position is available right
+     * away. If the thread is already running, this does nothing.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public synchronized ThreadedOdometry start() {
+        if (isRunning) return this;
+
+        sample();
+
+        isRunning = true;
+        thread =
+            new Thread(
+                () -> runner.run(this::sample, this::isRunning),
+                "pathfinder2-odometry"
+            );
+        thread.setDaemon(true);
+        thread.start();
+
+        return this;
+    }
+
+    /**
+     * Stop sampling the odometry system, and wait for the background
+     * thread to finish. After this, the position is sampled every time
+     * it's requested again.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public synchronized ThreadedOdometry stop() {
+        if (!isRunning) return this;
+
+        isRunning = false;
+        runner.stop();
+
+        try {
+            thread.join(1_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        thread = null;
+
+        return this;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Sample the wrapped odometry system and publish a new snapshot. If
+     * the wrapped odometry throws an exception, the exception is stored
+     * (see {@link #getLastError()}) and the previous snapshot is kept.
+     */
+    private void sample() {
+        synchronized (lock) {
+            try {
+                PointXYZ raw = odometry.getRawPosition();
+
+                // AbstractOdometry can turn the raw position into the
+                // position without reading the sensors a second time
+                PointXYZ position = odometry instanceof AbstractOdometry
+                    ? ((AbstractOdometry) odometry).toPosition(raw)
+                    : odometry.getPosition();
+
+                rawPosition = raw;
+                snapshot =
+                    new PoseSnapshot(position, clock.nanoTime(), ++sequence);
+            } catch (RuntimeException e) {
+                errorCount++;
+                lastError = e;
+
+                // if there's no snapshot yet, there's nothing to fall back
+                // on, so the exception has to be thrown
+                if (snapshot == null || !isRunning) throw e;
+            }
+        }
+    }
+
+    /**
+     * Get the most recent snapshot. If the background thread isn't
+     * running, this samples the wrapped odometry first.
+     *
+     * @return the most recent snapshot.
+     */
+    public PoseSnapshot getSnapshot() {
+        if (!isRunning) sample();
+
+        return snapshot;
+    }
+
+    @Override
+    public PointXYZ getPosition() {
+        return getSnapshot().getPosition();
+    }
+
+    /**
+     * Get the wrapped odometry system's raw position (without its offset
+     * or modifier), from the same sample as the most recent snapshot. If
+     * the background thread isn't running, this samples the wrapped
+     * odometry first.
+     *
+     * @return the raw position.
+     */
+    @Override
+    public PointXYZ getRawPosition() {
+        if (!isRunning) sample();
+
+        return rawPosition;
+    }
+
+    @Override
+    public PointXYZ getOffset() {
+        return odometry.getOffset();
+    }
+
+    @Override
+    public void setOffset(PointXYZ offset) {
+        synchronized (lock) {
+            odometry.setOffset(offset);
+            sample();
+        }
+    }
+
+    @Override
+    public void offsetSoPositionIs(PointXYZ targetPosition) {
+        synchronized (lock) {
+            odometry.offsetSoPositionIs(targetPosition);
+            sample();
+        }
+    }
+
+    @Override
+    public Function<PointXYZ, PointXYZ> getOdometryModifier() {
+        return odometry.getOdometryModifier();
+    }
+
+    @Override
+    public void setOdometryModifier(Function<PointXYZ, PointXYZ> modifier) {
+        synchronized (lock) {
+            odometry.setOdometryModifier(modifier);
+            sample();
+        }
+    }
+
+    /**
+     * Get the odometry system this wrapper is sampling.
+     *
+     * @return the wrapped odometry system.
+     */
+    public Odometry getOdometry() {
+        return odometry;
+    }
+
+    public double getPeriodMs() {
+        return runner.getPeriodMs();
+    }
+
+    /**
+     * Get the background thread's timing statistics.
+     *
+     * @return the background thread's timing statistics.
+     */
+    public LoopStats getStats() {
+        return runner.getStats();
+    }
+
+    /**
+     * Get how many times sampling the wrapped odometry system threw an
+     * exception.
+     *
+     * @return how many samples failed.
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Get the most recent exception thrown while sampling the wrapped
+     * odometry system.
+     *
+     * @return the most recent exception, or null if there hasn't been one.
+     */
+    public RuntimeException getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "ThreadedOdometry (odometry: <%s> period: <%s ms> running: <%s>)",
+            odometry,
+            getPeriodMs(),
+            isRunning
+        );
+    }
+}
@@ -10,19 +10,65 @@
 
 package me.wobblyyyy.pathfinder2.pathgen;
 
+import java.util.ArrayList;
 import java.util.List;
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.Rectangle;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 import me.wobblyyyy.pathfinder2.zones.Zone;
 
 /**
  * I'm not entirely sure why I made this class, to be honest.
  *
+ * <p>
+ * If you give the path finder the size of the field, it'll use one
+ * {@link OccupancyGrid} for every path it finds, instead of creating a new
+ * grid (and validating all of its nodes) every time. The grid can be
+ * updated whenever a zone is added, removed, or moved (see
+ * {@link #getGrid()}), so this is the way to go if you're planning on
+ * re-planning paths while the robot is moving.
+ * </p>
+ *
+ * <p>
+ * By default, paths are found with an {@link AStarSearch}. Grids where
+ * every move costs the same (like these ones) are exactly where a
+ * {@link JumpPointSearch} is fastest, so you can use one of those instead
+ * (see {@link #setSearch(AStarSearch)}). Both of them find paths that are
+ * just as short. Path finders reuse the same search for each path they
+ * find, so a path finder shouldn't be used by more than one thread at a
+ * time.
+ * </p>
+ *
+ * <p>
+ * If the path has to be found again and again while zones move around
+ * (another robot, for example), use a {@link DStarLiteSearch} (see
+ * {@link #useIncrementalSearch()}). Instead of starting from scratch, it
+ * only repairs the parts of the last search that were affected by the
+ * cells that changed since then. Moving zones through a
+ * {@link me.wobblyyyy.pathfinder2.zones.ZoneProcessor} that's been linked
+ * to the grid (with its {@code setOccupancyGrid} method) keeps the grid
+ * up to date.
+ * </p>
+ *
  * @author Colin Robertson
  * @since 0.1.0
  */
 public class AStarPathFinder {
     private final LocalizedPathGen pathGen;
+    private final OccupancyGrid grid;
+    private AStarSearch search = new AStarSearch();
+    private DStarLiteSearch incrementalSearch;
 
+    /**
+     * Create a new {@code AStarPathFinder} that creates a new grid, just
+     * big enough to contain the start and end points, every time a path
+     * is found.
+     *
+     * @param scale       the size of each of the grid's cells.
+     * @param robotWidth  the robot's width.
+     * @param robotLength the robot's length.
+     * @param zones       the zones to avoid.
+     */
     public AStarPathFinder(
         GridScaling scale,
         double robotWidth,
@@ -37,9 +83,130 @@ public AStarPathFinder(
                 robotWidth,
                 robotLength
             );
+        grid = null;
+    }
+
+    /**
+     * Create a new {@code AStarPathFinder} that uses one occupancy grid for
+     * the entire field.
+     *
+     * @param scale       the size of each of the grid's cells.
+     * @param robotWidth  the robot's width.
+     * @param robotLength the robot's length.
+     * @param zones       the zones to avoid. Each zone is inflated, so that
+     *                    no part of the robot enters the zone.
+     * @param field       the field. Paths can't leave the field.
+     */
+    public AStarPathFinder(
+        GridScaling scale,
+        double robotWidth,
+        double robotLength,
+        List<Zone> zones,
+        Rectangle field
+    ) {
+        this(
+            new OccupancyGrid(field, scale, Math.hypot(robotWidth, robotLength))
+                .addZones(zones)
+        );
+    }
+
+    /**
+     * Create a new {@code AStarPathFinder} that uses an existing occupancy
+     * grid.
+     *
+     * @param grid the grid to find paths on.
+     */
+    public AStarPathFinder(OccupancyGrid grid) {
+        this.grid = ValidationUtils.validate(grid, "grid");
+        this.pathGen = null;
+    }
+
+    /**
+     * Set the search used to find paths.
+     *
+     * @param search the search to use: either an {@link AStarSearch} (the
+     *               default) or a {@link JumpPointSearch}.
+     * @return {@code this}, used for method chaining.
+     */
+    public AStarPathFinder setSearch(AStarSearch search) {
+        this.search = ValidationUtils.validate(search, "search");
+
+        if (pathGen != null) pathGen.setSearch(search);
+
+        if (incrementalSearch != null) {
+            incrementalSearch.detach();
+            incrementalSearch = null;
+        }
+
+        return this;
+    }
+
+    /**
+     * Use a {@link JumpPointSearch} to find paths.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public AStarPathFinder useJumpPointSearch() {
+        return setSearch(new JumpPointSearch());
+    }
+
+    /**
+     * Use a {@link DStarLiteSearch} to find paths. This only works if the
+     * path finder has an occupancy grid. To go back to a regular search,
+     * use {@link #setSearch(AStarSearch)}.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public AStarPathFinder useIncrementalSearch() {
+        if (grid == null) throw new IllegalStateException(
+            "Incremental searches need an occupancy grid! Give the " +
+            "path finder the field's size."
+        );
+
+        if (incrementalSearch == null) incrementalSearch =
+            new DStarLiteSearch(grid);
+
+        return this;
     }
 
+    /**
+     * Find a path between two points.
+     *
+     * @param start the start point.
+     * @param end   the end point.
+     * @return a path between the two points, or null if there's no path.
+     * The path is smoothed (see {@link PathOptimizer}), so it only has as
+     * many points as it needs to get around obstacles.
+     */
     public List<PointXY> getPath(PointXY start, PointXY end) {
-        return pathGen.getPath(start, end);
+        if (grid == null) return pathGen.getPath(start, end);
+
+        int[] cells = incrementalSearch != null
+            ? incrementalSearch.findPath(grid.toIndex(start), grid.toIndex(end))
+            : search.findPath(grid, grid.toIndex(start), grid.toIndex(end));
+
+        if (cells.length == 0) return null;
+
+        int[] waypoints = PathOptimizer.smooth(grid, cells);
+
+        List<PointXY> points = new ArrayList<>(waypoints.length + 1);
+        points.add(start);
+        for (int i = 1; i < waypoints.length - 1; i++) {
+            points.add(grid.toPoint(waypoints[i]));
+        }
+        points.add(end);
+
+        return points;
+    }
+
+    /**
+     * Get the path finder's occupancy grid. Add, remove, or replace zones
+     * on this grid to change which paths can be found.
+     *
+     * @return the path finder's occupancy grid, or null if the path finder
+     * wasn't given the field's size.
+     */
+    public OccupancyGrid getGrid() {
+        return grid;
     }
 }
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * The A* search that {@link PathGen} uses to find paths on a {@link Grid},
+ * and that {@link AStarPathFinder} uses to find paths on an
+ * {@link OccupancyGrid}.
+ *
+ * <p>
+ * Instead of keeping track of the search with lists of {@link Node}s, every
+ * cell in the grid is given an index ({@code y * width + x}), and all of
+ * the search's state is stored in flat arrays: the cost to reach each cell,
+ * each cell's estimated total cost, and each cell's parent. The open set is
+ * a binary heap of cell indices, and the closed set is a {@link BitSet}.
+ * This means finding the next cell to expand is O(log n) instead of O(n),
+ * and checking whether a cell is open or closed is O(1) instead of O(n).
+ * </p>
+ *
+ * <p>
+ * A search can (and should) be reused. The arrays are only allocated when
+ * a grid larger than any previous grid is searched, and only the cells the
+ * previous search actually touched are reset before the next search, so
+ * searching for a short path on a big grid is cheap. Because of that, a
+ * search is NOT thread-safe: if you need to find paths on several threads
+ * at once, give each thread its own search.
+ * </p>
+ *
+ * <p>
+ * Each cell is connected to all 8 of the cells around it. Moving
+ * horizontally or vertically costs 1, and moving diagonally costs the
+ * square root of 2. Cells are passable if the grid's node at that cell is
+ * valid (see {@link Node#isValid()}), or, on an occupancy grid, if the cell
+ * isn't blocked by a zone. The start cell is always passable, even if it
+ * isn't valid or is blocked, so a robot that's slightly inside of a zone
+ * can still find its way out.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class AStarSearch {
+    static final double DIAGONAL = Math.sqrt(2);
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+    // the first 4 moves are straight, the last 4 are diagonal
+    private static final int[] MOVES_X = { -1, 1, 0, 0, -1, 1, 1, -1 };
+    private static final int[] MOVES_Y = { 0, 0, -1, 1, -1, 1, -1, 1 };
+
+    private final BitSet closed = new BitSet();
+
+    private double[] g = new double[0];
+    private double[] f = new double[0];
+    private int[] parent = new int[0];
+    private int[] heapPosition = new int[0];
+    private int[] heap = new int[0];
+    private int heapSize = 0;
+    private int[] touched = new int[0];
+    private int touchedCount = 0;
+
+    private int width;
+    private int height;
+    private IntPredicate isFree;
+    private int endX;
+    private int endY;
+
+    /**
+     * Find a path between two nodes on a grid.
+     *
+     * @param grid  the grid to search.
+     * @param start the node to start at.
+     * @param end   the node to end at.
+     * @return a path from {@code start} to {@code end}. The first node in the
+     * path is {@code start}, the last node is {@code end}, and all of the
+     * nodes in between are the grid's nodes. If there's no path between
+     * the two nodes (or either of them isn't on the grid), this returns an
+     * empty list.
+     */
+    public List<Node> findPath(Grid grid, Node start, Node end) {
+        ValidationUtils.validate(grid, "grid");
+        ValidationUtils.validate(start, "start");
+        ValidationUtils.validate(end, "end");
+
+        if (
+            !grid.isInside(start.getX(), start.getY()) ||
+            !grid.isInside(end.getX(), end.getY())
+        ) return new ArrayList<>(0);
+
+        int[] cells = search(
+            grid.getWidth(),
+            grid.getHeight(),
+            index -> {
+                Node node = grid.getNode(index);
+
+                return node != null && node.isValid();
+            },
+            grid.index(start.getX(), start.getY()),
+            grid.index(end.getX(), end.getY())
+        );
+
+        if (cells.length == 0) return new ArrayList<>(0);
+
+        Node[] nodes = new Node[Math.max(2, cells.length)];
+        for (int i = 0; i < cells.length; i++) {
+            nodes[i] = grid.getNode(cells[i]);
+        }
+        nodes[0] = start;
+        nodes[nodes.length - 1] = end;
+
+        return new ArrayList<>(Arrays.asList(nodes));
+    }
+
+    /**
+     * Find a path between two cells on an occupancy grid.
+     *
+     * @param grid  the grid to search.
+     * @param start the index of the cell to start at.
+     * @param end   the index of the cell to end at.
+     * @return the indices of each of the cells in the path, starting with
+     * {@code start} and ending with {@code end}. If both cells are the same,
+     * this only contains that cell. If there's no path, this is empty.
+     */
+    public int[] findPath(OccupancyGrid grid, int start, int end) {
+        ValidationUtils.validate(grid, "grid");
+
+        int size = grid.getWidth() * grid.getHeight();
+
+        if (
+            start < 0 || end < 0 || start >= size || end >= size
+        ) throw new IllegalArgumentException(
+            "Start and end cells have to be inside of the grid!"
+        );
+
+        return search(
+            grid.getWidth(),
+            grid.getHeight(),
+            grid::isFree,
+            start,
+            end
+        );
+    }
+
+    private int[] search(
+        int width,
+        int height,
+        IntPredicate isFree,
+        int startIndex,
+        int endIndex
+    ) {
+        reset(width * height);
+
+        if (startIndex == endIndex) return new int[] { startIndex };
+
+        this.width = width;
+        this.height = height;
+        this.isFree = isFree;
+        this.endX = endIndex % width;
+        this.endY = endIndex / width;
+
+        open(
+            startIndex,
+            -1,
+            0,
+            heuristic(getX(startIndex), getY(startIndex), endX, endY)
+        );
+
+        while (heapSize > 0) {
+            int current = poll();
+
+            if (current == endIndex) return retrace(endIndex);
+
+            closed.set(current);
+
+            expand(current, getX(current), getY(current));
+        }
+
+        return new int[0];
+    }
+
+    /**
+     * Find the cells that can be reached from a cell, and add them to the
+     * open set (see {@link #relax(int, int, int, double)}). By default, this
+     * is each of the cell's 8 neighbours. The cells that are added don't
+     * have to be next to the cell: if they aren't, they should be in a
+     * straight (horizontal, vertical, or diagonal) line from the cell,
+     * and every cell on that line should be free.
+     *
+     * @param current the index of the cell to expand.
+     * @param x       the cell's X value.
+     * @param y       the cell's Y value.
+     */
+    void expand(int current, int x, int y) {
+        for (int i = 0; i < MOVES_X.length; i++) {
+            int neighbourX = x + MOVES_X[i];
+            int neighbourY = y + MOVES_Y[i];
+
+            if (isFree(neighbourX, neighbourY)) relax(
+                current,
+                neighbourX,
+                neighbourY,
+                i < 4 ? 1 : DIAGONAL
+            );
+        }
+    }
+
+    /**
+     * Try to reach a cell from another cell. If this is the cheapest way
+     * to get to the cell that's been found so far, the cell is added to
+     * the open set (or updated, if it's already open).
+     *
+     * @param from     the index of the cell being expanded.
+     * @param x        the X value of the cell to reach.
+     * @param y        the Y value of the cell to reach.
+     * @param distance the cost of getting from {@code from} to the cell.
+     */
+    final void relax(int from, int x, int y, double distance) {
+        int index = index(x, y);
+
+        if (closed.get(index)) return;
+
+        double score = g[from] + distance;
+
+        if (score < g[index]) open(
+            index,
+            from,
+            score,
+            score + heuristic(x, y, endX, endY)
+        );
+    }
+
+    /**
+     * Is a cell inside of the grid and free?
+     *
+     * @param x the cell's X value.
+     * @param y the cell's Y value.
+     * @return true if the cell can be moved through, otherwise, false.
+     */
+    final boolean isFree(int x, int y) {
+        return (
+            x >= 0 &&
+            y >= 0 &&
+            x < width &&
+            y < height &&
+            isFree.test(index(x, y))
+        );
+    }
+
+    final boolean isEnd(int x, int y) {
+        return x == endX && y == endY;
+    }
+
+    final int getParent(int index) {
+        return parent[index];
+    }
+
+    final int index(int x, int y) {
+        return (y * width) + x;
+    }
+
+    final int getX(int index) {
+        return index % width;
+    }
+
+    final int getY(int index) {
+        return index / width;
+    }
+
+    /**
+     * Octile distance: the exact cost of moving between two cells if
+     * nothing's in the way. This never overestimates, so the paths the
+     * search finds are still the shortest possible paths.
+     */
+    static double heuristic(int x, int y, int endX, int endY) {
+        int dx = Math.abs(endX - x);
+        int dy = Math.abs(endY - y);
+
+        return (dx + dy) + ((DIAGONAL - 2) * Math.min(dx, dy));
+    }
+
+    /**
+     * Walk back from the end cell to the start cell. If any cell's parent
+     * isn't right next to it, the cells in between are filled in, so
+     * every cell in the path is next to the cells before and after it.
+     */
+    private int[] retrace(int endIndex) {
+        int length = 1;
+        for (int i = endIndex; parent[i] != -1; i = parent[i]) {
+            length += steps(parent[i], i);
+        }
+
+        int[] cells = new int[length];
+        int position = length - 1;
+        int index = endIndex;
+        cells[position] = index;
+
+        while (parent[index] != -1) {
+            int from = parent[index];
+            int fromX = getX(from);
+            int fromY = getY(from);
+            int stepX = Integer.signum(getX(index) - fromX);
+            int stepY = Integer.signum(getY(index) - fromY);
+
+            for (int i = steps(from, index) - 1; i >= 0; i--) {
+                int x = fromX + (stepX * i);
+                int y = fromY + (stepY * i);
+
+                cells[--position] = index(x, y);
+            }
+
+            index = from;
+        }
+
+        return cells;
+    }
+
+    private int steps(int from, int to) {
+        return Math.max(
+            Math.abs(getX(to) - getX(from)),
+            Math.abs(getY(to) - getY(from))
+        );
+    }
+
+    /**
+     * Add a cell to the open set, or, if it's already in the open set,
+     * update its cost.
+     */
+    private void open(int index, int from, double cost, double estimate) {
+        if (g[index] == INFINITY) touched[touchedCount++] = index;
+
+        g[index] = cost;
+        f[index] = estimate;
+        parent[index] = from;
+
+        if (heapPosition[index] < 0) {
+            heap[heapSize] = index;
+            heapPosition[index] = heapSize;
+            heapSize++;
+        }
+
+        // the cell's cost can only ever go down, so it only has to move up
+        siftUp(heapPosition[index]);
+    }
+
+    private int poll() {
+        int first = heap[0];
+        heapPosition[first] = -1;
+        heapSize--;
+
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapPosition[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return first;
+    }
+
+    /**
+     * Should cell {@code a} be expanded before cell {@code b}? Ties are
+     * broken in favor of whichever cell is further from the start, which
+     * is usually closer to the end.
+     */
+    private boolean isBefore(int a, int b) {
+        return f[a] < f[b] || (f[a] == f[b] && g[a] > g[b]);
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+
+        while (position > 0) {
+            int parentPosition = (position - 1) >>> 1;
+            int parentIndex = heap[parentPosition];
+
+            if (!isBefore(index, parentIndex)) break;
+
+            heap[position] = parentIndex;
+            heapPosition[parentIndex] = position;
+            position = parentPosition;
+        }
+
+        heap[position] = index;
+        heapPosition[index] = position;
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        int half = heapSize >>> 1;
+
+        while (position < half) {
+            int child = (position << 1) + 1;
+            int right = child + 1;
+
+            if (right < heapSize && isBefore(heap[right], heap[child])) {
+                child = right;
+            }
+
+            if (!isBefore(heap[child], index)) break;
+
+            heap[position] = heap[child];
+            heapPosition[heap[position]] = position;
+            position = child;
+        }
+
+        heap[position] = index;
+        heapPosition[index] = position;
+    }
+
+    /**
+     * Get ready for a new search. Only the cells touched by the last
+     * search are reset, unless the arrays have to be resized.
+     */
+    private void reset(int size) {
+        if (size > g.length) {
+            g = new double[size];
+            f = new double[size];
+            parent = new int[size];
+            heapPosition = new int[size];
+            heap = new int[size];
+            touched = new int[size];
+
+            Arrays.fill(g, INFINITY);
+            Arrays.fill(heapPosition, -1);
+            closed.clear();
+        } else {
+            for (int i = 0; i < touchedCount; i++) {
+                int index = touched[i];
+
+                g[index] = INFINITY;
+                heapPosition[index] = -1;
+                closed.clear(index);
+            }
+        }
+
+        heapSize = 0;
+        touchedCount = 0;
+    }
+}
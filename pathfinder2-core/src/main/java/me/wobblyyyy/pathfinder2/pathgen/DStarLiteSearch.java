@@ -0,0 +1,468 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * An incremental search (D* Lite) for finding paths on an
+ * {@link OccupancyGrid} over and over again, while the grid's zones move
+ * around and the robot moves along the path.
+ *
+ * <p>
+ * An {@link AStarSearch} starts from scratch every time it's asked to find
+ * a path. That's fine if the robot only needs a path every once in a
+ * while, but if there's something moving around on the field (like another
+ * robot), the path has to be found again every time it moves, and most of
+ * that work is exactly the same as it was last time. A D* Lite search
+ * keeps the cost of getting from every cell it's looked at to the end
+ * cell, and listens to the grid (see
+ * {@link OccupancyGrid#addListener(IntConsumer)}) for cells that switch
+ * between free and blocked. The next time a path is needed, only the cells
+ * whose costs are affected by those changes are looked at again.
+ * </p>
+ *
+ * <p>
+ * The search works backwards, from the end cell towards the start cell,
+ * so the start cell (the robot's position) can change without throwing
+ * anything away. Changing the end cell does throw everything away, and
+ * the next path is found from scratch, so this is most useful when the
+ * robot is headed to the same target for a while. Paths are exactly as
+ * short as the ones an {@link AStarSearch} finds on the same grid, and
+ * cells are connected in the same way: each cell is connected to its 8
+ * neighbours, and the start cell is always passable.
+ * </p>
+ *
+ * <p>
+ * A search is tied to one grid, and keeps listening to that grid until
+ * {@link #detach()} is called. Like the grid itself, a search isn't
+ * thread-safe: don't change the grid's zones on one thread while a path
+ * is being found on another.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class DStarLiteSearch {
+    private static final int NONE = -1;
+
+    // costs are stored as fixed-point numbers (with 30 bits after the
+    // decimal point) so adding them up is exact. with doubles, a tiny bit
+    // of rounding error in a key can make the search stop too early
+    private static final long STRAIGHT = 1L << 30;
+    private static final long DIAGONAL = Math.round(
+        AStarSearch.DIAGONAL * STRAIGHT
+    );
+    private static final long INFINITY = Long.MAX_VALUE / 4;
+
+    // the first 4 moves are straight, the last 4 are diagonal
+    private static final int[] MOVES_X = { -1, 1, 0, 0, -1, 1, 1, -1 };
+    private static final int[] MOVES_Y = { 0, 0, -1, 1, -1, 1, -1, 1 };
+
+    private final OccupancyGrid grid;
+    private final int width;
+    private final int height;
+    private final BitSet changed = new BitSet();
+    private final IntConsumer listener = changed::set;
+
+    private final long[] g;
+    private final long[] rhs;
+    private final long[] primaryKey;
+    private final long[] secondaryKey;
+    private final int[] heapPosition;
+    private final int[] heap;
+    private int heapSize = 0;
+
+    private int start = NONE;
+    private int end = NONE;
+    private int lastStart = NONE;
+    private long keyModifier = 0;
+    private int expanded = 0;
+
+    /**
+     * Create a new {@code DStarLiteSearch} and start listening for changes
+     * to a grid.
+     *
+     * @param grid the grid to find paths on.
+     */
+    public DStarLiteSearch(OccupancyGrid grid) {
+        this.grid = ValidationUtils.validate(grid, "grid");
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+
+        int size = width * height;
+        g = new long[size];
+        rhs = new long[size];
+        primaryKey = new long[size];
+        secondaryKey = new long[size];
+        heapPosition = new int[size];
+        heap = new int[size];
+
+        grid.addListener(listener);
+    }
+
+    /**
+     * Find a path between two cells. If the end cell is the same as it was
+     * last time, the last search's results are reused, and only the cells
+     * that changed since then (and the cells around them) are searched
+     * again.
+     *
+     * @param start the index of the cell to start at.
+     * @param end   the index of the cell to end at.
+     * @return the indices of each of the cells in the path, starting with
+     * {@code start} and ending with {@code end}. If both cells are the same,
+     * this only contains that cell. If there's no path, this is empty.
+     */
+    public int[] findPath(int start, int end) {
+        int size = width * height;
+
+        if (
+            start < 0 || end < 0 || start >= size || end >= size
+        ) throw new IllegalArgumentException(
+            "Start and end cells have to be inside of the grid!"
+        );
+
+        expanded = 0;
+
+        if (start == end) return new int[] { start };
+
+        if (end != this.end) {
+            initialize(start, end);
+        } else {
+            // keys that are already in the queue were calculated with the
+            // old start cell, so instead of re-calculating all of them, all
+            // of the keys calculated from now on are bumped up a bit
+            this.start = start;
+            keyModifier += heuristic(lastStart, start);
+            lastStart = start;
+
+            repairChangedCells();
+        }
+
+        computeShortestPath();
+
+        return tracePath();
+    }
+
+    /**
+     * Stop listening for changes to the grid. The search can't be used
+     * after it's been detached.
+     */
+    public void detach() {
+        grid.removeListener(listener);
+    }
+
+    /**
+     * Get the grid the search finds paths on.
+     *
+     * @return the search's grid.
+     */
+    public OccupancyGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * How many cells were expanded the last time a path was found? This is
+     * a decent way to tell how much work the last search had to do.
+     *
+     * @return how many cells were expanded.
+     */
+    int getExpanded() {
+        return expanded;
+    }
+
+    private void initialize(int start, int end) {
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        Arrays.fill(heapPosition, NONE);
+        heapSize = 0;
+        changed.clear();
+
+        this.start = start;
+        this.end = end;
+        this.lastStart = start;
+        this.keyModifier = 0;
+
+        rhs[end] = 0;
+        push(end);
+    }
+
+    /**
+     * When a cell switches between free and blocked, the cost of moving
+     * into that cell changes, so each of its neighbours might have a
+     * different cost now.
+     */
+    private void repairChangedCells() {
+        for (
+            int i = changed.nextSetBit(0);
+            i >= 0;
+            i = changed.nextSetBit(i + 1)
+        ) {
+            updateNeighbours(i);
+        }
+
+        changed.clear();
+    }
+
+    private void computeShortestPath() {
+        while (
+            heapSize > 0 &&
+            (
+                isBefore(heap[0], key(start), g(start)) ||
+                rhs[start] != g[start]
+            )
+        ) {
+            int current = heap[0];
+
+            expanded++;
+
+            if (isBefore(current, key(current), g(current))) {
+                // the key is out of date (the start cell moved)
+                push(current);
+            } else if (g[current] > rhs[current]) {
+                g[current] = rhs[current];
+                remove(current);
+
+                // cells can't be moved into if they're blocked, so nothing
+                // can get any cheaper by going through one
+                if (grid.isFree(current)) updateNeighbours(current);
+            } else {
+                g[current] = INFINITY;
+                update(current);
+                updateNeighbours(current);
+            }
+        }
+    }
+
+    private void updateNeighbours(int index) {
+        int x = index % width;
+        int y = index / width;
+
+        for (int move = 0; move < MOVES_X.length; move++) {
+            int neighbourX = x + MOVES_X[move];
+            int neighbourY = y + MOVES_Y[move];
+
+            if (isInside(neighbourX, neighbourY)) update(
+                index(neighbourX, neighbourY)
+            );
+        }
+    }
+
+    /**
+     * Re-calculate a cell's cost from its neighbours' costs, and add it to
+     * the queue (or remove it from the queue) if it needs to be.
+     */
+    private void update(int index) {
+        if (index != end) rhs[index] = cheapestNeighbourCost(index);
+
+        if (g[index] != rhs[index]) {
+            push(index);
+        } else if (heapPosition[index] != NONE) {
+            remove(index);
+        }
+    }
+
+    /**
+     * Get the cheapest way of getting from a cell to the end cell through
+     * one of its neighbours.
+     */
+    private long cheapestNeighbourCost(int index) {
+        return cost(index, cheapestNeighbour(index));
+    }
+
+    private int cheapestNeighbour(int index) {
+        int x = index % width;
+        int y = index / width;
+        int cheapest = NONE;
+        long cheapestCost = INFINITY;
+
+        for (int move = 0; move < MOVES_X.length; move++) {
+            int neighbourX = x + MOVES_X[move];
+            int neighbourY = y + MOVES_Y[move];
+
+            if (!isInside(neighbourX, neighbourY)) continue;
+
+            int neighbour = index(neighbourX, neighbourY);
+
+            if (!grid.isFree(neighbour) || g[neighbour] == INFINITY) continue;
+
+            long cost = g[neighbour] + (move < 4 ? STRAIGHT : DIAGONAL);
+
+            if (cost < cheapestCost) {
+                cheapest = neighbour;
+                cheapestCost = cost;
+            }
+        }
+
+        return cheapest;
+    }
+
+    private long cost(int from, int to) {
+        if (to == NONE) return INFINITY;
+
+        boolean diagonal = (from % width != to % width) &&
+            (from / width != to / width);
+
+        return (diagonal ? DIAGONAL : STRAIGHT) + g[to];
+    }
+
+    /**
+     * Follow the cheapest neighbours from the start cell to the end cell.
+     */
+    private int[] tracePath() {
+        if (g[start] == INFINITY) return new int[0];
+
+        int[] cells = new int[16];
+        int length = 0;
+        int current = start;
+        cells[length++] = current;
+
+        while (current != end) {
+            current = cheapestNeighbour(current);
+
+            // this shouldn't ever happen, but just in case
+            if (current == NONE || length > g.length) return new int[0];
+
+            if (length == cells.length) cells =
+                Arrays.copyOf(cells, cells.length * 2);
+
+            cells[length++] = current;
+        }
+
+        return Arrays.copyOf(cells, length);
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private int index(int x, int y) {
+        return (y * width) + x;
+    }
+
+    /**
+     * Octile distance, just like {@link AStarSearch}'s heuristic, but with
+     * fixed-point numbers.
+     */
+    private long heuristic(int from, int to) {
+        int dx = Math.abs((to % width) - (from % width));
+        int dy = Math.abs((to / width) - (from / width));
+        int diagonal = Math.min(dx, dy);
+
+        return (
+            (STRAIGHT * (Math.max(dx, dy) - diagonal)) + (DIAGONAL * diagonal)
+        );
+    }
+
+    /**
+     * The secondary part of a cell's key: the cell's cost, or, if it's
+     * been changed but not expanded yet, its new cost.
+     */
+    private long g(int index) {
+        return Math.min(g[index], rhs[index]);
+    }
+
+    /**
+     * The primary part of a cell's key: the cell's cost, plus the estimated
+     * cost of getting from the start cell to the cell.
+     */
+    private long key(int index) {
+        return g(index) + heuristic(start, index) + keyModifier;
+    }
+
+    private boolean isBefore(int index, long primary, long secondary) {
+        return (
+            primaryKey[index] < primary ||
+            (primaryKey[index] == primary && secondaryKey[index] < secondary)
+        );
+    }
+
+    private boolean isBefore(int a, int b) {
+        return isBefore(a, primaryKey[b], secondaryKey[b]);
+    }
+
+    /**
+     * Add a cell to the queue with an up-to-date key, or, if it's already
+     * in the queue, update its key.
+     */
+    private void push(int index) {
+        primaryKey[index] = key(index);
+        secondaryKey[index] = g(index);
+
+        if (heapPosition[index] == NONE) {
+            heap[heapSize] = index;
+            heapPosition[index] = heapSize;
+            heapSize++;
+        }
+
+        // the key might've gone up or down
+        siftUp(heapPosition[index]);
+        siftDown(heapPosition[index]);
+    }
+
+    private void remove(int index) {
+        int position = heapPosition[index];
+        heapPosition[index] = NONE;
+        heapSize--;
+
+        if (position == heapSize) return;
+
+        int last = heap[heapSize];
+        heap[position] = last;
+        heapPosition[last] = position;
+        siftUp(position);
+        siftDown(heapPosition[last]);
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+
+        while (position > 0) {
+            int parentPosition = (position - 1) >>> 1;
+            int parentIndex = heap[parentPosition];
+
+            if (!isBefore(index, parentIndex)) break;
+
+            heap[position] = parentIndex;
+            heapPosition[parentIndex] = position;
+            position = parentPosition;
+        }
+
+        heap[position] = index;
+        heapPosition[index] = position;
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        int half = heapSize >>> 1;
+
+        while (position < half) {
+            int child = (position << 1) + 1;
+            int right = child + 1;
+
+            if (right < heapSize && isBefore(heap[right], heap[child])) {
+                child = right;
+            }
+
+            if (!isBefore(heap[child], index)) break;
+
+            heap[position] = heap[child];
+            heapPosition[heap[position]] = position;
+            position = child;
+        }
+
+        heap[position] = index;
+        heapPosition[index] = position;
+    }
+}
@@ -25,6 +25,7 @@ public class Grid {
     private final int width;
     private final int height;
     private final Map<Coord, Node> map = new HashMap<>();
+    private final Node[] cells;
     private List<Node> nodes;
 
     private Grid(int width, int height) {
@@ -34,6 +35,7 @@ private Grid(int width, int height) {
     public Grid(int width, int height, List<Node> nodes) {
         this.width = width;
         this.height = height;
+        this.cells = new Node[Math.max(0, width * height)];
         setNodes(nodes);
         this.nodes = nodes;
     }
@@ -62,7 +64,46 @@ public Node findNode(Coord coord) {
         return findNode(coord.x(), coord.y());
     }
 
+    /**
+     * Is a coordinate inside of the grid?
+     *
+     * @param x the coordinate's X value.
+     * @param y the coordinate's Y value.
+     * @return true if the coordinate is inside of the grid, otherwise, false.
+     */
+    public boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Get a cell's index. Cells are indexed row by row, so the index of
+     * the cell at (x, y) is {@code y * width + x}.
+     *
+     * @param x the cell's X value. This should be inside of the grid.
+     * @param y the cell's Y value. This should be inside of the grid.
+     * @return the cell's index.
+     */
+    public int index(int x, int y) {
+        return (y * width) + x;
+    }
+
+    /**
+     * Get the node at a cell, using the cell's index.
+     *
+     * @param index the cell's index (see {@link #index(int, int)}).
+     * @return the node at that cell, or null if there isn't one.
+     */
+    public Node getNode(int index) {
+        return cells[index];
+    }
+
     public Node findNode(int x, int y) {
+        if (isInside(x, y)) {
+            Node node = cells[index(x, y)];
+
+            if (node != null) return node;
+        }
+
         Coord coord = new Coord(x, y);
 
         if (map.containsKey(coord)) return map.get(coord);
@@ -90,6 +131,10 @@ public void setNodes(List<Node> nodes) {
         if (nodes != null) {
             for (Node node : nodes) {
                 map.put(new Coord(node), node);
+
+                if (isInside(node.getX(), node.getY())) {
+                    cells[index(node.getX(), node.getY())] = node;
+                }
             }
         }
     }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+/**
+ * Jump point search: a faster way of finding paths on the same kind of
+ * grid {@link AStarSearch} uses. It finds paths exactly as short as the
+ * ones {@link AStarSearch} finds.
+ *
+ * <p>
+ * On a grid where every move costs the same, there are usually a ton of
+ * paths that are equally short, and A* spends a lot of time looking at all
+ * of them. Jump point search skips over most of them: instead of adding
+ * all 8 of a cell's neighbours to the open set, it keeps moving in the
+ * same direction (it "jumps") until it finds a cell where the path might
+ * have to turn, because there's an obstacle nearby, or until it finds the
+ * end. Only those cells (jump points) are added to the open set, so the
+ * open set stays tiny.
+ * </p>
+ *
+ * <p>
+ * Jumping isn't free, though: every cell that's jumped over still has to
+ * be checked. If there's a clear shot from the start to the end, an
+ * {@link AStarSearch} goes pretty much straight there, and it's usually
+ * faster. Jump point search is faster when the path has to go around
+ * something big (like a wall), because that's when A* has to look at
+ * huge numbers of cells. If you're not sure, try both (there's a
+ * benchmark for exactly that in the JMH source set).
+ * </p>
+ *
+ * <p>
+ * Paths returned by a jump point search still include every cell along
+ * the path, not just the jump points, so they can be used exactly like
+ * paths returned by an {@link AStarSearch}. Like {@link AStarSearch}, a
+ * jump point search can be reused, but isn't thread-safe.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class JumpPointSearch extends AStarSearch {
+    private static final int NONE = -1;
+
+    @Override
+    void expand(int current, int x, int y) {
+        int parent = getParent(current);
+
+        // the start cell doesn't have a direction, so try every direction
+        if (parent == NONE) {
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    if (dx != 0 || dy != 0) jumpFrom(current, x, y, dx, dy);
+                }
+            }
+
+            return;
+        }
+
+        int dx = Integer.signum(x - getX(parent));
+        int dy = Integer.signum(y - getY(parent));
+
+        if (dx != 0 && dy != 0) {
+            // moving diagonally: keep going diagonally, horizontally, or
+            // vertically, and turn around any obstacles behind us
+            jumpFrom(current, x, y, dx, dy);
+            jumpFrom(current, x, y, dx, 0);
+            jumpFrom(current, x, y, 0, dy);
+
+            if (!isFree(x - dx, y)) jumpFrom(current, x, y, -dx, dy);
+            if (!isFree(x, y - dy)) jumpFrom(current, x, y, dx, -dy);
+        } else if (dx != 0) {
+            // moving horizontally: keep going, and turn around any
+            // obstacles above or below us
+            jumpFrom(current, x, y, dx, 0);
+
+            if (!isFree(x, y + 1)) jumpFrom(current, x, y, dx, 1);
+            if (!isFree(x, y - 1)) jumpFrom(current, x, y, dx, -1);
+        } else {
+            // moving vertically: same thing, but sideways
+            jumpFrom(current, x, y, 0, dy);
+
+            if (!isFree(x + 1, y)) jumpFrom(current, x, y, 1, dy);
+            if (!isFree(x - 1, y)) jumpFrom(current, x, y, -1, dy);
+        }
+    }
+
+    private void jumpFrom(int current, int x, int y, int dx, int dy) {
+        int jumpPoint = jump(x, y, dx, dy);
+
+        if (jumpPoint == NONE) return;
+
+        int jumpX = getX(jumpPoint);
+        int jumpY = getY(jumpPoint);
+        int steps = Math.max(Math.abs(jumpX - x), Math.abs(jumpY - y));
+
+        relax(
+            current,
+            jumpX,
+            jumpY,
+            dx != 0 && dy != 0 ? steps * DIAGONAL : steps
+        );
+    }
+
+    /**
+     * Move in a direction until a jump point is found.
+     *
+     * @return the jump point's index, or {@link #NONE} if there isn't one.
+     */
+    private int jump(int x, int y, int dx, int dy) {
+        while (true) {
+            x += dx;
+            y += dy;
+
+            if (!isFree(x, y)) return NONE;
+
+            if (isEnd(x, y)) return index(x, y);
+
+            if (dx != 0 && dy != 0) {
+                // a diagonal move has a forced neighbour if there's an
+                // obstacle next to it that the path might have to go around
+                if (
+                    (isFree(x - dx, y + dy) && !isFree(x - dx, y)) ||
+                    (isFree(x + dx, y - dy) && !isFree(x, y - dy))
+                ) return index(x, y);
+
+                // and it's a jump point if moving horizontally or vertically
+                // from it would find a jump point
+                if (
+                    jump(x, y, dx, 0) != NONE || jump(x, y, 0, dy) != NONE
+                ) return index(x, y);
+            } else if (dx != 0) {
+                if (
+                    (isFree(x + dx, y + 1) && !isFree(x, y + 1)) ||
+                    (isFree(x + dx, y - 1) && !isFree(x, y - 1))
+                ) return index(x, y);
+            } else {
+                if (
+                    (isFree(x + 1, y + dy) && !isFree(x + 1, y)) ||
+                    (isFree(x - 1, y + dy) && !isFree(x - 1, y))
+                ) return index(x, y);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Line of sight checks on a grid of cells. Cells are identified by their
+ * index ({@code y * width + x}), just like in {@link AStarSearch}.
+ *
+ * <p>
+ * A line is checked by walking through every cell the line passes
+ * through (a "supercover" of the line), using only integer math. If the
+ * line passes exactly through the corner of a cell, both of the cells
+ * that share that corner have to be free, so lines can't squeeze between
+ * two diagonal obstacles.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+final class LineOfSight {
+
+    private LineOfSight() {}
+
+    /**
+     * Is there a clear line between two cells? The first cell isn't
+     * checked, so a line can always leave the cell it starts in.
+     *
+     * @param from   the index of the first cell.
+     * @param to     the index of the second cell.
+     * @param width  the grid's width.
+     * @param height the grid's height.
+     * @param isFree checks if a cell (by index) is free.
+     * @return true if every cell the line passes through is free.
+     */
+    static boolean isClear(
+        int from,
+        int to,
+        int width,
+        int height,
+        IntPredicate isFree
+    ) {
+        int x = from % width;
+        int y = from / width;
+        int endX = to % width;
+        int endY = to / width;
+
+        int dx = Math.abs(endX - x);
+        int dy = Math.abs(endY - y);
+        int stepX = Integer.signum(endX - x);
+        int stepY = Integer.signum(endY - y);
+
+        // each cell's center is on the line's integer coordinates, so the
+        // error is doubled to keep everything in whole numbers
+        int remaining = dx + dy;
+        int error = dx - dy;
+        dx *= 2;
+        dy *= 2;
+
+        while (remaining > 0) {
+            if (error > 0) {
+                x += stepX;
+                error -= dy;
+                remaining--;
+            } else if (error < 0) {
+                y += stepY;
+                error += dx;
+                remaining--;
+            } else {
+                // right through a corner
+                if (
+                    !isFree(x + stepX, y, width, height, isFree) ||
+                    !isFree(x, y + stepY, width, height, isFree)
+                ) return false;
+
+                x += stepX;
+                y += stepY;
+                error += dx - dy;
+                remaining -= 2;
+            }
+
+            if (!isFree(x, y, width, height, isFree)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove every cell from a path that isn't needed. Starting from the
+     * first cell, the path is followed for as long as there's a clear line
+     * back to the last cell that was kept. When there isn't, the cell
+     * before is kept, and the search continues from there.
+     *
+     * @param cells  the path, with each cell next to the one before it.
+     * @param width  the grid's width.
+     * @param height the grid's height.
+     * @param isFree checks if a cell (by index) is free.
+     * @return the cells that were kept. The first and last cells are always
+     * kept, and there's a clear line between each cell and the next one,
+     * unless they were already next to each other in the original path
+     * (a diagonal step around the corner of an obstacle, for example).
+     */
+    static int[] smooth(
+        int[] cells,
+        int width,
+        int height,
+        IntPredicate isFree
+    ) {
+        if (cells.length <= 2) return cells.clone();
+
+        int[] waypoints = new int[cells.length];
+        int count = 0;
+        int anchor = 0;
+
+        waypoints[count++] = cells[0];
+
+        for (int i = 2; i < cells.length; i++) {
+            if (!isClear(cells[anchor], cells[i], width, height, isFree)) {
+                anchor = i - 1;
+                waypoints[count++] = cells[anchor];
+            }
+        }
+
+        waypoints[count++] = cells[cells.length - 1];
+
+        return Arrays.copyOf(waypoints, count);
+    }
+
+    private static boolean isFree(
+        int x,
+        int y,
+        int width,
+        int height,
+        IntPredicate isFree
+    ) {
+        return (
+            x >= 0 &&
+            y >= 0 &&
+            x < width &&
+            y < height &&
+            isFree.test((y * width) + x)
+        );
+    }
+}
@@ -13,6 +13,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 import me.wobblyyyy.pathfinder2.zones.Zone;
 
 /**
@@ -22,11 +23,10 @@
  * you should use - it's designed to be as simple as possible.
  *
  * <p>
- * Please note that my experience with algorithms is... just about none, and
- * this is an absolutely horribly inefficient implementation of the A*
- * pathfinding algorithm. You should not expect performant pathfinding, and
- * you should not try to stress-test the path generator - it will break,
- * I promise you that.
+ * Paths are found with an {@link AStarSearch}, which is reused every time
+ * {@link #getPath(PointXY, PointXY)} is called, so finding a path doesn't
+ * allocate a whole new search. Because of that, a localized path generator
+ * shouldn't be used by more than one thread at a time.
  * </p>
  *
  * @author Colin Robertson
@@ -36,6 +36,7 @@ public class LocalizedPathGen {
     private final List<Zone> zones;
     private final double xScaling;
     private final double yScaling;
+    private AStarSearch search = new AStarSearch();
 
     public LocalizedPathGen(double xScaling, double yScaling) {
         this(new ArrayList<>(0), xScaling, yScaling);
@@ -78,6 +79,27 @@ public static LocalizedPathGen withInflatedZones(
         );
     }
 
+    /**
+     * Set the search used to find paths. By default, this is an
+     * {@link AStarSearch}.
+     *
+     * <p>
+     * A {@link JumpPointSearch} is faster when the path has to detour
+     * around large or cluttered obstacles, because it skips over long
+     * runs of open cells instead of expanding each of them. On an open
+     * field, or when the path is (almost) a straight line, plain A* only
+     * expands the cells along the way, and is usually faster.
+     * </p>
+     *
+     * @param search the search to use.
+     * @return {@code this}, used for method chaining.
+     */
+    public LocalizedPathGen setSearch(AStarSearch search) {
+        this.search = ValidationUtils.validate(search, "search");
+
+        return this;
+    }
+
     /**
      * Get a path from point A to point B.
      *
@@ -108,18 +130,25 @@ public List<PointXY> getPath(PointXY start, PointXY end) {
         PathGen gen = new PathGen(
             grid.getGrid(),
             grid.getNode(start),
-            grid.getNode(end)
+            grid.getNode(end),
+            search
         );
 
-        List<PointXY> points = grid.toPoints(gen.findCoordPath());
+        List<Coord> coords = gen.findCoordPath();
 
-        if (points.size() < 1) return null;
+        if (coords.size() < 1) return null;
+
+        // get rid of every point that isn't needed to get around obstacles
+        // because we're just so incredibly cool like that
+        List<PointXY> points = grid.toPoints(
+            PathOptimizer.smooth(grid.getGrid(), coords)
+        );
 
-        if (!points.get(0).equals(start)) points.add(0, start);
-        if (!points.get(points.size() - 1).equals(end)) points.add(end);
+        // the first and last points are the cells closest to the start and
+        // end points, so swap them out for the real thing
+        points.set(0, start);
+        points.set(points.size() - 1, end);
 
-        // optimize points based on collinear lines because we're
-        // just so incredibly cool like that
-        return PathOptimizer.optimize(points);
+        return points;
     }
 }
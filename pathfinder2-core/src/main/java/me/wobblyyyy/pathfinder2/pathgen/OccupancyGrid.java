@@ -0,0 +1,572 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import me.wobblyyyy.pathfinder2.geometry.Circle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.Rectangle;
+import me.wobblyyyy.pathfinder2.geometry.Shape;
+import me.wobblyyyy.pathfinder2.geometry.Triangle;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+import me.wobblyyyy.pathfinder2.zones.Zone;
+
+/**
+ * A grid that covers the entire field and keeps track of which cells are
+ * blocked by solid {@link Zone}s. Unlike a {@link LocalizedGrid}, which is
+ * created (along with a {@link Node} for every single cell) every time a
+ * path is generated, an occupancy grid is created once, and then updated
+ * whenever a zone is added, removed, or moved.
+ *
+ * <p>
+ * The grid itself is just a {@link java.util.BitSet}: one bit per cell,
+ * set if the cell is blocked. Cells are identified by their index
+ * ({@code y * width + x}), so a cell's neighbours can be found with a bit
+ * of arithmetic instead of being stored anywhere. Cell (0, 0) is at the
+ * field's minimum X and Y values, and each cell is one "scale" away from
+ * the one before it, so the grid includes both edges of the field.
+ * </p>
+ *
+ * <p>
+ * Adding a zone only checks the cells inside of that zone's bounding box.
+ * Removing a zone clears the cells in its bounding box, and then re-checks
+ * those cells against any other zones that overlap them, so zones can
+ * overlap without removing one clearing the other. Moving a zone (see
+ * {@link #replaceZone(Zone, Zone)}) is just removing the old zone and
+ * adding the new one.
+ * </p>
+ *
+ * <p>
+ * Anything that needs to know which cells changed (like a
+ * {@link DStarLiteSearch}, which repairs its last path instead of finding
+ * a new one from scratch) can listen for changes with
+ * {@link #addListener(IntConsumer)}. Listeners are only told about cells
+ * that actually switched between free and blocked: removing a zone that
+ * overlaps another zone only reports the cells that are now free.
+ * </p>
+ *
+ * <p>
+ * Occupancy grids are not thread-safe. Don't update a grid while it's being
+ * used to find a path on another thread.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class OccupancyGrid {
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+    private final double xScaling;
+    private final double yScaling;
+    private final double inflation;
+    private final int width;
+    private final int height;
+    private final BitSet blocked;
+    private final Map<Zone, ZoneCells> zones = new LinkedHashMap<>();
+    private final List<IntConsumer> listeners = new ArrayList<>();
+
+    /**
+     * Create a new {@code OccupancyGrid} without any zones. Zones won't be
+     * inflated.
+     *
+     * @param field the field the grid covers.
+     * @param scale the size of each of the grid's cells.
+     */
+    public OccupancyGrid(Rectangle field, GridScaling scale) {
+        this(field, scale, 0);
+    }
+
+    /**
+     * Create a new {@code OccupancyGrid} without any zones.
+     *
+     * @param field     the field the grid covers.
+     * @param scale     the size of each of the grid's cells.
+     * @param inflation how much each zone should be inflated by (see
+     *                  {@link Zone#inflate(Zone, double)}) when it's added
+     *                  to the grid. This is usually the robot's radius, so
+     *                  paths keep the entire robot out of each zone.
+     */
+    public OccupancyGrid(Rectangle field, GridScaling scale, double inflation) {
+        ValidationUtils.validate(field, "field");
+        ValidationUtils.validate(scale, "scale");
+        ValidationUtils.validate(inflation, "inflation");
+
+        if (
+            scale.getScaleX() <= 0 || scale.getScaleY() <= 0
+        ) throw new IllegalArgumentException(
+            "Grid scaling has to be greater than 0!"
+        );
+
+        if (inflation < 0) throw new IllegalArgumentException(
+            "Inflation can't be negative!"
+        );
+
+        this.minX = field.getMinimumX();
+        this.minY = field.getMinimumY();
+        this.maxX = field.getMaximumX();
+        this.maxY = field.getMaximumY();
+        this.xScaling = scale.getScaleX();
+        this.yScaling = scale.getScaleY();
+        this.inflation = inflation;
+
+        this.width = (int) Math.floor((maxX - minX) / xScaling) + 1;
+        this.height = (int) Math.floor((maxY - minY) / yScaling) + 1;
+        this.blocked = new BitSet(width * height);
+    }
+
+    /**
+     * Add a zone to the grid. If the zone isn't solid (see
+     * {@link Zone#isSolid()}), it won't block anything, so it isn't added.
+     *
+     * @param zone the zone to add. The same zone can't be added twice.
+     * @return {@code this}, used for method chaining.
+     */
+    public OccupancyGrid addZone(Zone zone) {
+        ValidationUtils.validate(zone, "zone");
+
+        if (zones.containsKey(zone)) throw new IllegalArgumentException(
+            "Can't add the same zone to an occupancy grid more than once!"
+        );
+
+        if (!zone.isSolid()) return this;
+
+        Shape<?> shape = inflation > 0
+            ? Zone.inflate(zone, inflation).getShape()
+            : zone.getShape();
+        ZoneCells cells = new ZoneCells(shape);
+
+        zones.put(zone, cells);
+        fill(
+            cells,
+            cells.firstX,
+            cells.firstY,
+            cells.lastX,
+            cells.lastY,
+            true
+        );
+
+        return this;
+    }
+
+    /**
+     * Add several zones to the grid.
+     *
+     * @param zones the zones to add.
+     * @return {@code this}, used for method chaining.
+     */
+    public OccupancyGrid addZones(List<Zone> zones) {
+        ValidationUtils.validate(zones, "zones");
+
+        for (Zone zone : zones) addZone(zone);
+
+        return this;
+    }
+
+    /**
+     * Remove a zone from the grid. If the zone isn't on the grid, nothing
+     * happens.
+     *
+     * @param zone the zone to remove.
+     * @return {@code this}, used for method chaining.
+     */
+    public OccupancyGrid removeZone(Zone zone) {
+        ValidationUtils.validate(zone, "zone");
+
+        ZoneCells removed = zones.remove(zone);
+
+        if (removed == null || removed.isEmpty()) return this;
+
+        int firstIndex = index(removed.firstX, removed.firstY);
+        int lastIndex = index(removed.lastX, removed.lastY);
+        BitSet previous = listeners.isEmpty()
+            ? null
+            : blocked.get(firstIndex, lastIndex + 1);
+
+        for (int y = removed.firstY; y <= removed.lastY; y++) {
+            int first = index(removed.firstX, y);
+            int last = index(removed.lastX, y);
+
+            blocked.clear(first, last + 1);
+        }
+
+        // any other zones that overlap the removed zone might still be
+        // blocking some of those cells
+        for (ZoneCells other : zones.values()) {
+            fill(
+                other,
+                Math.max(removed.firstX, other.firstX),
+                Math.max(removed.firstY, other.firstY),
+                Math.min(removed.lastX, other.lastX),
+                Math.min(removed.lastY, other.lastY),
+                false
+            );
+        }
+
+        // removing a zone can only ever free cells up
+        if (previous != null) {
+            for (
+                int i = previous.nextSetBit(0);
+                i >= 0;
+                i = previous.nextSetBit(i + 1)
+            ) {
+                if (!blocked.get(firstIndex + i)) notifyListeners(
+                    firstIndex + i
+                );
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Replace a zone with another zone. This is how you move a zone:
+     * zones can't be changed once they've been created, so create a new
+     * zone in the new position and replace the old zone with it.
+     *
+     * @param oldZone the zone to remove.
+     * @param newZone the zone to add.
+     * @return {@code this}, used for method chaining.
+     */
+    public OccupancyGrid replaceZone(Zone oldZone, Zone newZone) {
+        return removeZone(oldZone).addZone(newZone);
+    }
+
+    /**
+     * Remove all of the grid's zones.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public OccupancyGrid clearZones() {
+        BitSet previous = listeners.isEmpty() ? null : (BitSet) blocked.clone();
+
+        zones.clear();
+        blocked.clear();
+
+        if (previous != null) {
+            for (
+                int i = previous.nextSetBit(0);
+                i >= 0;
+                i = previous.nextSetBit(i + 1)
+            ) {
+                notifyListeners(i);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Is a zone on the grid?
+     *
+     * @param zone the zone to look for.
+     * @return true if the zone has been added to the grid (and hasn't been
+     * removed since then), otherwise, false.
+     */
+    public boolean containsZone(Zone zone) {
+        return zones.containsKey(zone);
+    }
+
+    /**
+     * Add a listener that's called whenever a cell switches between free
+     * and blocked. The listener is given the index of the cell, and is
+     * called after the cell has changed, so {@link #isBlocked(int)} can be
+     * used to find out which way it switched. Listeners shouldn't change
+     * the grid themselves.
+     *
+     * @param listener the listener to add.
+     * @return {@code this}, used for method chaining.
+     */
+    public OccupancyGrid addListener(IntConsumer listener) {
+        listeners.add(ValidationUtils.validate(listener, "listener"));
+
+        return this;
+    }
+
+    /**
+     * Remove a listener that was added with
+     * {@link #addListener(IntConsumer)}. If the listener was never added,
+     * nothing happens.
+     *
+     * @param listener the listener to remove.
+     * @return {@code this}, used for method chaining.
+     */
+    public OccupancyGrid removeListener(IntConsumer listener) {
+        ValidationUtils.validate(listener, "listener");
+
+        listeners.remove(listener);
+
+        return this;
+    }
+
+    private void notifyListeners(int index) {
+        for (IntConsumer listener : listeners) listener.accept(index);
+    }
+
+    /**
+     * Get all of the zones on the grid, in the order they were added.
+     *
+     * @return all of the grid's zones (before they were inflated).
+     */
+    public List<Zone> getZones() {
+        return new ArrayList<>(zones.keySet());
+    }
+
+    /**
+     * Block every cell in a range that's inside of a zone's shape.
+     */
+    private void fill(
+        ZoneCells cells,
+        int firstX,
+        int firstY,
+        int lastX,
+        int lastY,
+        boolean notify
+    ) {
+        for (int y = firstY; y <= lastY; y++) {
+            for (int x = firstX; x <= lastX; x++) {
+                int index = index(x, y);
+
+                if (blocked.get(index)) continue;
+
+                if (cells.shape.isPointInShape(toPoint(x, y))) {
+                    blocked.set(index);
+
+                    if (notify) notifyListeners(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the grid's width, in cells.
+     *
+     * @return the grid's width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get the grid's height, in cells.
+     *
+     * @return the grid's height.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Is a coordinate inside of the grid?
+     *
+     * @param x the coordinate's X value.
+     * @param y the coordinate's Y value.
+     * @return true if the coordinate is inside of the grid, otherwise, false.
+     */
+    public boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Get a cell's index.
+     *
+     * @param x the cell's X value.
+     * @param y the cell's Y value.
+     * @return the cell's index.
+     */
+    public int index(int x, int y) {
+        return (y * width) + x;
+    }
+
+    /**
+     * Is a cell blocked by a zone?
+     *
+     * @param index the cell's index.
+     * @return true if the cell is blocked, otherwise, false.
+     */
+    public boolean isBlocked(int index) {
+        return blocked.get(index);
+    }
+
+    /**
+     * Is a cell free (not blocked by any zones)?
+     *
+     * @param index the cell's index.
+     * @return true if the cell is free, otherwise, false.
+     */
+    public boolean isFree(int index) {
+        return !blocked.get(index);
+    }
+
+    /**
+     * Is there a clear, straight line between two cells? Every cell the
+     * line passes through (other than the first one) has to be free.
+     *
+     * @param from the index of the cell the line starts at.
+     * @param to   the index of the cell the line ends at.
+     * @return true if nothing's in the way, otherwise, false.
+     */
+    public boolean hasLineOfSight(int from, int to) {
+        return LineOfSight.isClear(from, to, width, height, this::isFree);
+    }
+
+    /**
+     * Is the cell closest to a point blocked by a zone?
+     *
+     * @param point the point to check.
+     * @return true if the closest cell is blocked, otherwise, false.
+     */
+    public boolean isBlocked(PointXY point) {
+        return isBlocked(toIndex(point));
+    }
+
+    /**
+     * Get the index of the cell closest to a point. If the point is outside
+     * of the field, this is the closest cell on the edge of the field.
+     *
+     * @param point the point.
+     * @return the index of the closest cell.
+     */
+    public int toIndex(PointXY point) {
+        ValidationUtils.validate(point, "point");
+
+        int x = (int) Math.round((point.x() - minX) / xScaling);
+        int y = (int) Math.round((point.y() - minY) / yScaling);
+
+        return index(clamp(x, width), clamp(y, height));
+    }
+
+    /**
+     * Get the point a cell represents.
+     *
+     * @param index the cell's index.
+     * @return the point at the cell.
+     */
+    public PointXY toPoint(int index) {
+        return toPoint(index % width, index / width);
+    }
+
+    /**
+     * Get the point a cell represents.
+     *
+     * @param x the cell's X value.
+     * @param y the cell's Y value.
+     * @return the point at the cell.
+     */
+    public PointXY toPoint(int x, int y) {
+        return new PointXY(minX + (x * xScaling), minY + (y * yScaling));
+    }
+
+    /**
+     * Get the field the grid covers.
+     *
+     * @return the grid's field.
+     */
+    public Rectangle getField() {
+        return new Rectangle(minX, minY, maxX, maxY);
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    /**
+     * Get the bounding box of a shape.
+     *
+     * @return {minX, minY, maxX, maxY}, or null if the shape's bounding box
+     * can't be determined.
+     */
+    private static double[] bounds(Shape<?> shape) {
+        if (shape instanceof Rectangle) {
+            Rectangle rectangle = (Rectangle) shape;
+
+            return new double[] {
+                rectangle.getMinimumX(),
+                rectangle.getMinimumY(),
+                rectangle.getMaximumX(),
+                rectangle.getMaximumY(),
+            };
+        } else if (shape instanceof Circle) {
+            Circle circle = (Circle) shape;
+            PointXY center = circle.getCenter();
+            double radius = circle.getRadius();
+
+            return new double[] {
+                center.x() - radius,
+                center.y() - radius,
+                center.x() + radius,
+                center.y() + radius,
+            };
+        } else if (shape instanceof Triangle) {
+            Triangle triangle = (Triangle) shape;
+            PointXY a = triangle.getA();
+            PointXY b = triangle.getB();
+            PointXY c = triangle.getC();
+
+            return new double[] {
+                PointXY.minimumX(a, b, c),
+                PointXY.minimumY(a, b, c),
+                PointXY.maximumX(a, b, c),
+                PointXY.maximumY(a, b, c),
+            };
+        }
+
+        return null;
+    }
+
+    /**
+     * A (possibly inflated) zone's shape, and the range of cells its
+     * bounding box covers. If the shape's bounding box can't be determined,
+     * the range is the whole grid.
+     */
+    private class ZoneCells {
+        private final Shape<?> shape;
+        private final int firstX;
+        private final int firstY;
+        private final int lastX;
+        private final int lastY;
+
+        private ZoneCells(Shape<?> shape) {
+            this.shape = shape;
+
+            double[] bounds = bounds(shape);
+
+            if (bounds == null) {
+                this.firstX = 0;
+                this.firstY = 0;
+                this.lastX = width - 1;
+                this.lastY = height - 1;
+            } else {
+                // widened by a cell in each direction, just in case there's
+                // any rounding error. each cell's point is checked anyways
+                double x0 = Math.floor((bounds[0] - minX) / xScaling);
+                double y0 = Math.floor((bounds[1] - minY) / yScaling);
+                double x1 = Math.ceil((bounds[2] - minX) / xScaling);
+                double y1 = Math.ceil((bounds[3] - minY) / yScaling);
+
+                this.firstX = (int) Math.max(0, x0 - 1);
+                this.firstY = (int) Math.max(0, y0 - 1);
+                this.lastX = (int) Math.min(width - 1, x1 + 1);
+                this.lastY = (int) Math.min(height - 1, y1 + 1);
+            }
+        }
+
+        private boolean isEmpty() {
+            return firstX > lastX || firstY > lastY;
+        }
+    }
+}
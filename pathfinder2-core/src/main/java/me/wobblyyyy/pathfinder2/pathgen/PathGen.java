@@ -34,8 +34,8 @@ public class PathGen {
     private final Grid grid;
     private final Node start;
     private final Node end;
-    private List<Node> path;
-    private List<Node> openList;
+    private final AStarSearch search;
+    private List<Node> path = new ArrayList<>(0);
 
     /**
      * Create a new path generator.
@@ -45,9 +45,24 @@ public class PathGen {
      * @param end   the path's end point.
      */
     public PathGen(Grid grid, Node start, Node end) {
+        this(grid, start, end, new AStarSearch());
+    }
+
+    /**
+     * Create a new path generator that uses an existing search. Reusing
+     * the same search for several paths means it doesn't have to allocate
+     * anything new unless the grid gets bigger.
+     *
+     * @param grid   the generator's grid.
+     * @param start  the path's start point.
+     * @param end    the path's end point.
+     * @param search the search to use to find the path.
+     */
+    public PathGen(Grid grid, Node start, Node end, AStarSearch search) {
         this.grid = grid;
         this.start = start;
         this.end = end;
+        this.search = search;
     }
 
     public List<Coord> findCoordPath() {
@@ -57,7 +72,7 @@ public List<Coord> findCoordPath() {
     /**
      * Find a path. Wow!
      *
-     * @return a path. Or something.
+     * @return a path. Or something. If there's no path, this is empty.
      */
     public List<Node> findPath() {
         if (start == null) throw new IllegalArgumentException(
@@ -67,101 +82,17 @@ public List<Node> findPath() {
             "End node may not be null!"
         );
 
-        start.calculateNeighbours(grid);
-        end.calculateNeighbours(grid);
-
-        this.path = new ArrayList<>();
-
-        if (start.equals(end)) return new ArrayList<Node>() {
-
-            {
-                add(start);
-                add(end);
-            }
-        };
-
-        this.openList =
-            new ArrayList<Node>() {
-
-                {
-                    add(start);
-                }
-            };
-        List<Node> closedList = new ArrayList<>();
-        while (!this.openList.isEmpty()) {
-            Node current = getLowestF();
-
-            if (current.equals(end)) {
-                retracePath(current);
-                break;
-            }
-
-            openList.remove(current);
-            closedList.add(current);
-
-            for (Node node : current.getNeighbours()) {
-                if (closedList.contains(node) || !node.isValid()) continue;
-                double score = current.getCost() + current.distanceTo(node);
-                if (openList.contains(node)) {
-                    if (score < node.getCost()) {
-                        node.setCost(score);
-                        node.setParent(current);
-                    }
-                } else {
-                    node.setCost(score);
-                    openList.add(node);
-                    node.setParent(current);
-                }
-
-                node.setHeuristic(node.heuristic(end));
-                node.setFunction(node.getCost() + node.getHeuristic());
-            }
-        }
+        this.path = search.findPath(grid, start, end);
 
         return getPath();
     }
 
-    private void retracePath(Node current) {
-        this.path.add(current);
-
-        while (current.getParent() != null) {
-            Node parent = current.getParent();
-            if (!path.contains(parent)) path.add(parent);
-            current = current.getParent();
-        }
-
-        if (!path.contains(start)) path.add(start);
-    }
-
-    private Node getLowestF() {
-        Node lowest = openList.get(0);
-
-        for (Node n : openList) {
-            if (n.getFunction() < lowest.getFunction()) {
-                lowest = n;
-            }
-        }
-
-        return lowest;
-    }
-
     public Grid getGrid() {
         return grid;
     }
 
     public List<Node> getPath() {
-        List<Node> newPath = new ArrayList<>();
-
-        for (int i = path.size() - 1; i != -1; i--) {
-            newPath.add(path.get(i));
-        }
-
-        int size = newPath.size();
-        if (size == 0) return newPath;
-
-        if (!newPath.get(size - 1).equals(end)) newPath.add(end);
-
-        return newPath;
+        return new ArrayList<>(path);
     }
 
     /**
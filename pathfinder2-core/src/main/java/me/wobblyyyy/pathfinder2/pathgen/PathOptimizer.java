@@ -14,6 +14,8 @@
 import java.util.List;
 import me.wobblyyyy.pathfinder2.geometry.Line;
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.trajectory.spline.MultiSplineBuilder;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 
 /**
  * Utilities used for optimizing paths.
@@ -59,6 +61,8 @@ public static double determineLength(List<PointXY> path) {
      * @return an optimized path.
      */
     public static List<PointXY> optimize(List<PointXY> path) {
+        if (path.size() <= 2) return new ArrayList<>(path);
+
         List<PointXY> optimized = new ArrayList<>(path.size());
 
         PointXY start = path.get(0);
@@ -110,9 +114,9 @@ public static List<PointXY> optimize(List<PointXY> path) {
         // do a second pass to further optimize the path
         List<PointXY> toRemove = new ArrayList<>(optimized.size());
         for (int i = 1; i < size - 1; i++) {
-            PointXY previous = path.get(i - 1);
-            PointXY current = path.get(i);
-            PointXY next = path.get(i + 1);
+            PointXY previous = optimized.get(i - 1);
+            PointXY current = optimized.get(i);
+            PointXY next = optimized.get(i + 1);
 
             if (PointXY.areCollinear(previous, current, next)) {
                 toRemove.add(current);
@@ -125,4 +129,133 @@ public static List<PointXY> optimize(List<PointXY> path) {
 
         return optimized;
     }
+
+    /**
+     * Smooth a path found on an {@link OccupancyGrid}, by removing every
+     * cell that the path doesn't need. If there's a clear line between two
+     * cells on the path, the robot can just drive straight from one to the
+     * other, so any cells in between them are removed. This gets rid of
+     * the "staircase" paths grids are known for, and leaves as few
+     * waypoints as possible, so the robot has to slow down less often.
+     *
+     * <p>
+     * Unlike {@link #optimize(List)}, which only removes points that are
+     * exactly in line with each other, this checks for obstacles (see
+     * {@link OccupancyGrid#hasLineOfSight(int, int)}), so it can cut
+     * corners, as long as the corners are empty.
+     * </p>
+     *
+     * @param grid  the grid the path was found on.
+     * @param cells the indices of each of the cells in the path, like the
+     *              ones returned by {@link AStarSearch}.
+     * @return the indices of the cells that are needed. The first and last
+     * cells are always included.
+     */
+    public static int[] smooth(OccupancyGrid grid, int[] cells) {
+        ValidationUtils.validate(grid, "grid");
+        ValidationUtils.validate(cells, "cells");
+
+        return LineOfSight.smooth(
+            cells,
+            grid.getWidth(),
+            grid.getHeight(),
+            grid::isFree
+        );
+    }
+
+    /**
+     * Smooth a path found on a {@link Grid}. This works exactly like
+     * {@link #smooth(OccupancyGrid, int[])}, but with coordinates and
+     * nodes: cells are free if the grid's node at that cell is valid.
+     *
+     * @param grid the grid the path was found on.
+     * @param path the path.
+     * @return the coordinates that are needed. The first and last
+     * coordinates are always included.
+     */
+    public static List<Coord> smooth(Grid grid, List<Coord> path) {
+        ValidationUtils.validate(grid, "grid");
+        ValidationUtils.validate(path, "path");
+
+        int[] cells = new int[path.size()];
+        for (int i = 0; i < cells.length; i++) {
+            Coord coord = path.get(i);
+
+            if (!grid.isInside(coord.x(), coord.y())) return new ArrayList<>(
+                path
+            );
+
+            cells[i] = grid.index(coord.x(), coord.y());
+        }
+
+        int[] smoothed = LineOfSight.smooth(
+            cells,
+            grid.getWidth(),
+            grid.getHeight(),
+            index -> {
+                Node node = grid.getNode(index);
+
+                return node != null && node.isValid();
+            }
+        );
+
+        List<Coord> coords = new ArrayList<>(smoothed.length);
+        for (int index : smoothed) {
+            coords.add(
+                new Coord(index % grid.getWidth(), index / grid.getWidth())
+            );
+        }
+
+        return coords;
+    }
+
+    /**
+     * Create a {@link MultiSplineBuilder} with a spline that goes through
+     * every point in a path, so the robot can follow the whole path
+     * without stopping at each of the path's points.
+     *
+     * <p>
+     * The spline isn't checked for obstacles: it's only guaranteed to go
+     * through each of the points, and it may curve a bit between them.
+     * Give yourself some room by inflating zones a bit more than you
+     * normally would. The builder's tolerance and angle tolerance still
+     * have to be set before it's built.
+     * </p>
+     *
+     * @param path  the path. If the path only has two points, a third
+     *              point is added halfway between them, because splines
+     *              need at least three points.
+     * @param speed the speed the robot should follow the spline at.
+     * @param step  the step used to sample the spline.
+     * @return a spline builder, with each of the path's points.
+     */
+    public static MultiSplineBuilder toSpline(
+        List<PointXY> path,
+        double speed,
+        double step
+    ) {
+        ValidationUtils.validate(path, "path");
+
+        if (path.size() < 2) throw new IllegalArgumentException(
+            "A path needs at least two points to make a spline!"
+        );
+
+        MultiSplineBuilder builder = new MultiSplineBuilder()
+            .setDefaultSpeed(speed)
+            .setDefaultStep(step);
+
+        builder.add(path.get(0), speed, step);
+
+        if (path.size() == 2) builder.add(
+            path.get(0).midpoint(path.get(1)),
+            speed,
+            step
+        );
+
+        for (int i = 1; i < path.size(); i++) {
+            builder.add(path.get(i), speed, step);
+        }
+
+        return builder;
+    }
 }
@@ -13,6 +13,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.TickProfiler;
+import me.wobblyyyy.pathfinder2.TickStage;
 import me.wobblyyyy.pathfinder2.follower.Follower;
 import me.wobblyyyy.pathfinder2.logging.Logger;
 import me.wobblyyyy.pathfinder2.zones.Zone;
@@ -73,7 +75,15 @@ public void preTick(Pathfinder pathfinder) {
             plugins.size()
         );
 
-        plugins.forEach(plugin -> plugin.preTick(pathfinder));
+        // this runs every tick, so use an indexed loop instead of forEach
+        // with a capturing lambda, which would allocate every call
+        TickProfiler profiler = pathfinder.getTickProfiler();
+        for (int i = 0; i < plugins.size(); i++) {
+            PathfinderPlugin plugin = plugins.get(i);
+            long startNs = profiler.now();
+            plugin.preTick(pathfinder);
+            profiler.recordPlugin(plugin, TickStage.PRE_TICK_PLUGINS, startNs);
+        }
     }
 
     public void onTick(Pathfinder pathfinder) {
@@ -85,7 +95,13 @@ public void onTick(Pathfinder pathfinder) {
             plugins.size()
         );
 
-        plugins.forEach(plugin -> plugin.onTick(pathfinder));
+        TickProfiler profiler = pathfinder.getTickProfiler();
+        for (int i = 0; i < plugins.size(); i++) {
+            PathfinderPlugin plugin = plugins.get(i);
+            long startNs = profiler.now();
+            plugin.onTick(pathfinder);
+            profiler.recordPlugin(plugin, TickStage.ON_TICK_PLUGINS, startNs);
+        }
     }
 
     public void postTick(Pathfinder pathfinder) {
@@ -97,7 +113,13 @@ public void postTick(Pathfinder pathfinder) {
             plugins.size()
         );
 
-        plugins.forEach(plugin -> plugin.postTick(pathfinder));
+        TickProfiler profiler = pathfinder.getTickProfiler();
+        for (int i = 0; i < plugins.size(); i++) {
+            PathfinderPlugin plugin = plugins.get(i);
+            long startNs = profiler.now();
+            plugin.postTick(pathfinder);
+            profiler.recordPlugin(plugin, TickStage.POST_TICK_PLUGINS, startNs);
+        }
     }
 
     public void preClear(Pathfinder pathfinder) {
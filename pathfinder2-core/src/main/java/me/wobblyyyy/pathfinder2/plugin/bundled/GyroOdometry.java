@@ -46,8 +46,9 @@ public void preTick(Pathfinder pathfinder) {
 
     @Override
     public void postTick(Pathfinder pathfinder) {
-        if (getGyroVelocity.get() < minCombinedVelocity) pathfinder
-            .getOdometry()
-            .offsetSoPositionIs(lastPosition);
+        if (getGyroVelocity.get() < minCombinedVelocity) {
+            pathfinder.getOdometry().offsetSoPositionIs(lastPosition);
+            pathfinder.invalidatePosition();
+        }
     }
 }
@@ -92,15 +92,22 @@ private boolean shouldEnsurePosition() {
     }
 
     private void ensurePosition() {
+        PointXYZ current = pathfinder.getPosition();
+
         pathfinder
             .getOdometry()
             .offsetSoPositionIs(
                 new PointXYZ(
-                    lockX ? position.x() : pathfinder.getPosition().x(),
-                    lockY ? position.y() : pathfinder.getPosition().y(),
-                    lockZ ? position.z() : pathfinder.getPosition().z()
+                    lockX ? position.x() : current.x(),
+                    lockY ? position.y() : current.y(),
+                    lockZ ? position.z() : current.z()
                 )
             );
+
+        // the position is cached for the rest of the tick, so the cached
+        // position has to be thrown out, or nothing else would see the lock
+        // until the next tick
+        pathfinder.invalidatePosition();
     }
 
     @Override
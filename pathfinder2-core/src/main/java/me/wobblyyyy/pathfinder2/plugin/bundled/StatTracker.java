@@ -16,7 +16,7 @@
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
 import me.wobblyyyy.pathfinder2.math.RollingAverage;
 import me.wobblyyyy.pathfinder2.plugin.PathfinderPlugin;
-import me.wobblyyyy.pathfinder2.time.Time;
+import me.wobblyyyy.pathfinder2.time.Clock;
 
 /**
  * Rudimentary plugin that tracks statistics on Pathfinder usage. This is
@@ -39,6 +39,7 @@ public class StatTracker extends PathfinderPlugin {
     private double totalDistance = 0;
     private PointXY lastPoint = null;
     private double lastMs = 0;
+    private boolean hasStarted = false;
 
     @Override
     public String getName() {
@@ -47,7 +48,12 @@ public String getName() {
 
     @Override
     public void onTick(Pathfinder pathfinder) {
-        if (lastMs == 0) lastMs = Time.ms();
+        Clock clock = pathfinder.getClock();
+
+        if (!hasStarted) {
+            lastMs = clock.ms();
+            hasStarted = true;
+        }
 
         ticks++;
 
@@ -57,7 +63,7 @@ public void onTick(Pathfinder pathfinder) {
 
         totalDistance += lastPoint.absDistance(position);
 
-        double currentMs = Time.ms();
+        double currentMs = clock.ms();
         double elapsedSeconds = (currentMs - lastMs) / SECOND_MS_DURATION;
         if (elapsedSeconds < 1 / SECOND_MS_DURATION) return;
         lastMs = currentMs;
@@ -12,6 +12,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import me.wobblyyyy.pathfinder2.Pathfinder;
 import me.wobblyyyy.pathfinder2.follower.Follower;
 import me.wobblyyyy.pathfinder2.follower.FollowerGenerator;
 import me.wobblyyyy.pathfinder2.geometry.Angle;
@@ -122,6 +123,41 @@ public List<Follower> fastPathFollowers(
         );
     }
 
+    /**
+     * Create followers for a fast path, starting at the robot's current
+     * position. Unlike {@link #fastPathFollowers(Robot, FollowerGenerator,
+     * double)}, this uses {@link Pathfinder#getPosition()}, so, during a
+     * tick, it uses the position Pathfinder's already cached instead of
+     * reading the robot's odometry again.
+     *
+     * @param pathfinder        the instance of Pathfinder the followers
+     *                          are for.
+     * @param followerGenerator the generator to create followers with.
+     * @param speed             the speed of each trajectory.
+     * @return a list of followers.
+     */
+    public List<Follower> fastPathFollowers(
+        Pathfinder pathfinder,
+        FollowerGenerator followerGenerator,
+        double speed
+    ) {
+        PointXYZ position = pathfinder.getPosition();
+        List<Trajectory> trajectories = fastPath(position, speed);
+        List<Follower> followers = new ArrayList<>(trajectories.size());
+
+        for (Trajectory trajectory : trajectories) {
+            followers.add(
+                followerGenerator.generate(
+                    pathfinder.getRobot(),
+                    trajectory,
+                    position
+                )
+            );
+        }
+
+        return followers;
+    }
+
     public void addTarget(PointXYZ target) {
         targets.add(target);
     }
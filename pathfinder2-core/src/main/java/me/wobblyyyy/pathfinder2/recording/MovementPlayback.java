@@ -11,11 +11,11 @@
 package me.wobblyyyy.pathfinder2.recording;
 
 import me.wobblyyyy.pathfinder2.Pathfinder;
-import me.wobblyyyy.pathfinder2.time.Time;
 
 /**
  * Used in conjunction with {@link MovementRecorder} to make Pathfinder
- * follow a set of pre-recorded motion snapshots.
+ * follow a set of pre-recorded motion snapshots. Time is measured with
+ * Pathfinder's clock (see {@link Pathfinder#getClock()}).
  *
  * @author Colin Robertson
  * @since 0.6.1
@@ -25,7 +25,7 @@ public class MovementPlayback {
     private MovementRecording recording;
     private boolean isPlaying = false;
     private int lastIndex = 0;
-    private double lastSwitchMs = 0;
+    private double lastSwitchMs = Double.NaN;
 
     /**
      * Create a new {@code MovementPlayback}.
@@ -44,7 +44,7 @@ public MovementPlayback(Pathfinder pathfinder) {
      */
     public void startPlayback(MovementRecording recording) {
         lastIndex = 0;
-        lastSwitchMs = 0;
+        lastSwitchMs = Double.NaN;
         isPlaying = true;
         this.recording = recording;
     }
@@ -59,8 +59,10 @@ public void stopPlayback() {
     public void tick() {
         if (!isPlaying) return;
 
-        double currentMs = Time.ms();
-        if (lastSwitchMs == 0) lastSwitchMs = currentMs;
+        // a clock's time can be 0 (a ManualClock starts at 0), so NaN
+        // means playback hasn't started yet
+        double currentMs = pathfinder.getClock().ms();
+        if (Double.isNaN(lastSwitchMs)) lastSwitchMs = currentMs;
         double elapsedMs = currentMs - lastSwitchMs;
 
         MovementRecord record = recording.getRecording().get(lastIndex);
@@ -11,10 +11,10 @@
 package me.wobblyyyy.pathfinder2.recording;
 
 import me.wobblyyyy.pathfinder2.Pathfinder;
-import me.wobblyyyy.pathfinder2.time.Time;
 
 /**
- * Used for recording Pathfinder's movement.
+ * Used for recording Pathfinder's movement. Time is measured with
+ * Pathfinder's clock (see {@link Pathfinder#getClock()}).
  *
  * @author Colin Robertson
  * @since 0.6.1
@@ -53,7 +53,7 @@ public void start() {
         if (recording != null) recording.clear(); else recording =
             new MovementRecording();
         isRecording = true;
-        lastRecordMs = Time.ms();
+        lastRecordMs = pathfinder.getClock().ms();
     }
 
     /**
@@ -77,7 +77,7 @@ public MovementRecording getRecording() {
     public void tick() {
         if (!isRecording) return;
 
-        double current = Time.ms();
+        double current = pathfinder.getClock().ms();
         double elapsed = current - lastRecordMs;
 
         if (elapsed >= minDelayMs) {
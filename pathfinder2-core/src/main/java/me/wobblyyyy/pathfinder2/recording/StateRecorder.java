@@ -17,7 +17,7 @@
 import me.wobblyyyy.pathfinder2.exceptions.IllegalStateRecordException;
 import me.wobblyyyy.pathfinder2.exceptions.StateRecorderException;
 import me.wobblyyyy.pathfinder2.logging.Logger;
-import me.wobblyyyy.pathfinder2.time.Time;
+import me.wobblyyyy.pathfinder2.time.Clock;
 import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 
 /**
@@ -67,8 +67,42 @@ public class StateRecorder {
     private StateRecording recording = null;
     private boolean isRecording = false;
     private boolean isPlayingBack = false;
+    private Clock clock;
 
-    public StateRecorder() {}
+    /**
+     * Create a new {@code StateRecorder} using {@link Clock#SYSTEM}.
+     */
+    public StateRecorder() {
+        this(Clock.SYSTEM);
+    }
+
+    /**
+     * Create a new {@code StateRecorder}.
+     *
+     * @param clock the clock the recorder should use when
+     *              {@link #update()} is called.
+     */
+    public StateRecorder(Clock clock) {
+        setClock(clock);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Set the clock the recorder uses when {@link #update()} is called.
+     *
+     * @param clock the recorder's new clock.
+     * @return {@code this}, used for method chaining.
+     */
+    public StateRecorder setClock(Clock clock) {
+        ValidationUtils.validate(clock, "clock");
+
+        this.clock = clock;
+
+        return this;
+    }
 
     /**
      * Add a node to the {@code StateRecorder}.
@@ -129,7 +163,7 @@ public Map<String, Recordable<?>> getNodes() {
     public StateRecord createNewRecord() {
         StateRecord record = new StateRecord(this);
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             StateRecorder.class,
             "Creating record <%s>",
             record.toString()
@@ -140,7 +174,7 @@ public StateRecord createNewRecord() {
             Recordable<?> recordable = entry.getValue();
             Object value = recordable.getRecordingValue();
 
-            Logger.trace(
+            if (Logger.isTraceEnabled()) Logger.trace(
                 StateRecorder.class,
                 "Creating record with value <%s> for node <%s>",
                 value,
@@ -178,7 +212,7 @@ private void ensureNodeNameIsValid(String name) {
     public StateRecorder applyRecord(StateRecord record) {
         ValidationUtils.validate(record, "record");
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             StateRecorder.class,
             "Applying record <%s>",
             record.toString()
@@ -190,7 +224,7 @@ public StateRecorder applyRecord(StateRecord record) {
 
             ensureNodeNameIsValid(name);
 
-            Logger.trace(
+            if (Logger.isTraceEnabled()) Logger.trace(
                 StateRecorder.class,
                 "Setting value of <%s> to node with name <%s>",
                 value,
@@ -437,7 +471,7 @@ public void update(double currentTimeMs) {
      * recording.
      */
     public void update() {
-        double currentTimeMs = Time.ms();
+        double currentTimeMs = clock.ms();
 
         update(currentTimeMs);
     }
@@ -48,6 +48,19 @@ public PointXYZ getPosition() {
             );
         }
 
+        return toPosition(rawPosition);
+    }
+
+    /**
+     * Turn a raw position (from {@link #getRawPosition()}) into a position,
+     * by applying the odometry system's modifier and offset to it. This is
+     * exactly what {@link #getPosition()} does, without reading the raw
+     * position again.
+     *
+     * @param rawPosition the raw position.
+     * @return the position.
+     */
+    public PointXYZ toPosition(PointXYZ rawPosition) {
         return modifier.apply(rawPosition).add(offset);
     }
 
@@ -14,13 +14,21 @@
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
 import me.wobblyyyy.pathfinder2.geometry.Translation;
 import me.wobblyyyy.pathfinder2.robot.AbstractOdometry;
-import me.wobblyyyy.pathfinder2.time.Time;
+import me.wobblyyyy.pathfinder2.time.Clock;
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
 import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 
 /**
  * A simulated odometry system, mostly useful for testing purposes.
  *
+ * <p>
+ * Elapsed time is measured with a {@link Clock}, which is
+ * {@link Clock#SYSTEM} by default. Pathfinder sets it to its own clock
+ * (see {@link me.wobblyyyy.pathfinder2.Pathfinder#setClock(Clock)}), so a
+ * simulated robot moves just as far as it should when the simulation is
+ * run faster than real time.
+ * </p>
+ *
  * @author Colin Robertson
  * @since 0.0.0
  */
@@ -40,10 +48,15 @@ public class SimulatedOdometry extends AbstractOdometry {
      */
     private double unitsPerSecond = 0.0;
 
+    /**
+     * The clock used to measure elapsed time.
+     */
+    private Clock clock = Clock.SYSTEM;
+
     /**
      * The last recorded timestamp.
      */
-    private double lastTimeMs = Time.ms();
+    private double lastTimeMs = clock.ms();
 
     private boolean shouldAutomaticallyCalculateElapsedTime = true;
 
@@ -68,7 +81,22 @@ public void updatePositionBasedOnVelocity(double elapsedTimeMs) {
                 )
             );
 
-        this.lastTimeMs = Time.ms();
+        this.lastTimeMs = clock.ms();
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Set the clock used to measure how much time has elapsed between
+     * updates.
+     *
+     * @param clock the odometry's new clock.
+     */
+    public void setClock(Clock clock) {
+        this.clock = ValidationUtils.validate(clock, "clock");
+        this.lastTimeMs = clock.ms();
     }
 
     public void setRawPosition(double x, double y, double zDegrees) {
@@ -91,7 +119,7 @@ public void setRawPosition(double x, double y, Angle z) {
     @Override
     public PointXYZ getRawPosition() {
         if (shouldAutomaticallyCalculateElapsedTime) {
-            double elapsedTimeMs = Time.ms() - lastTimeMs;
+            double elapsedTimeMs = clock.ms() - lastTimeMs;
             updatePositionBasedOnVelocity(elapsedTimeMs);
         }
 
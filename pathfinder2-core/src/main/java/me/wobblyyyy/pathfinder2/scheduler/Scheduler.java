@@ -16,7 +16,6 @@
 import java.util.function.Supplier;
 import me.wobblyyyy.pathfinder2.Pathfinder;
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
-import me.wobblyyyy.pathfinder2.time.Time;
 import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
 
 /**
@@ -118,7 +117,7 @@ public void tick() {
 
         Task currentTask = this.tasks.get(0);
 
-        double currentTimeMilliseconds = Time.ms();
+        double currentTimeMilliseconds = pathfinder.getClock().ms();
 
         if (!currentTask.hasStarted()) {
             currentTask.start(currentTimeMilliseconds);
@@ -136,8 +135,7 @@ public void tick() {
                 }
 
                 Trajectory currentTrajectory = currentTask.getTrajectory();
-                PointXYZ currentRobotPosition =
-                    this.pathfinder.getOdometry().getPosition();
+                PointXYZ currentRobotPosition = this.pathfinder.getPosition();
 
                 boolean isMaximumTimeInvalid = !currentTask.isMaximumTimeLimitValid(
                     currentTimeMilliseconds
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.logging.Logger;
+import me.wobblyyyy.pathfinder2.time.ManualClock;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * Runs a batch of {@link SimulationCase}s in parallel, each in its own
+ * isolated, simulated world.
+ *
+ * <p>
+ * Every simulation uses a {@link VirtualRobot} and a {@link ManualClock}.
+ * Each tick, the simulator ticks Pathfinder, moves the robot by however
+ * far it would have moved in {@code dt} milliseconds, and then advances
+ * the clock by {@code dt} milliseconds. Nothing ever sleeps, so a
+ * simulation runs as fast as the CPU can tick Pathfinder, and because the
+ * clock only moves when the simulator moves it, the same case always
+ * produces the same result, no matter how busy the machine is.
+ * </p>
+ *
+ * <p>
+ * Simulations are run on a {@link ForkJoinPool}, one task per case. By
+ * default, that's the common pool, which has one thread per core (minus
+ * one). Each task only touches its own objects, with the exception of
+ * Pathfinder's global trajectory map and logger, which are safe to use
+ * from multiple threads.
+ * </p>
+ *
+ * <pre><code>
+ * List&lt;SimulationCase&gt; cases = new ArrayList&lt;&gt;();
+ * for (double kP = 0.01; kP &lt;= 0.1; kP += 0.01) {
+ *     cases.add(new SimulationCase(
+ *         "kP: " + kP,
+ *         kP,
+ *         pathfinder -&gt; pathfinder.goTo(new PointXY(20, 30))
+ *     ).setReferencePath(new PointXY(0, 0), new PointXY(20, 30)));
+ * }
+ *
+ * SimulationReport report = new BatchSimulator().run(cases);
+ * SimulationResult best = report.getBest(
+ *     SimulationReport.BY_COMPLETION_TIME
+ * );
+ * </code></pre>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class BatchSimulator {
+    private final ForkJoinPool pool;
+    private double dtMs = 10;
+    private double maxTimeMs = 30_000;
+    private double maxSpeed = 50;
+    private double maxTurnSpeed = 360;
+
+    /**
+     * Create a new {@code BatchSimulator} that uses the common
+     * {@link ForkJoinPool}.
+     */
+    public BatchSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new {@code BatchSimulator}.
+     *
+     * @param pool the pool simulations should be run on.
+     */
+    public BatchSimulator(ForkJoinPool pool) {
+        ValidationUtils.validate(pool, "pool");
+
+        this.pool = pool;
+    }
+
+    /**
+     * Set how much simulated time passes between each tick.
+     *
+     * @param dtMs the simulation's time step, in milliseconds. This must be
+     *             greater than 0. The default is 10 ms.
+     * @return {@code this}, used for method chaining.
+     */
+    public BatchSimulator setDtMs(double dtMs) {
+        ValidationUtils.validate(dtMs, "dtMs");
+
+        if (dtMs <= 0) throw new IllegalArgumentException(
+            "dtMs must be greater than 0!"
+        );
+
+        this.dtMs = dtMs;
+
+        return this;
+    }
+
+    /**
+     * Set how much simulated time a simulation can run for before it's
+     * stopped. A simulation that's stopped because it ran out of time
+     * doesn't count as completed.
+     *
+     * @param maxTimeMs the time limit, in milliseconds. The default is
+     *                  30 seconds.
+     * @return {@code this}, used for method chaining.
+     */
+    public BatchSimulator setMaxTimeMs(double maxTimeMs) {
+        ValidationUtils.validate(maxTimeMs, "maxTimeMs");
+
+        if (maxTimeMs <= 0) throw new IllegalArgumentException(
+            "maxTimeMs must be greater than 0!"
+        );
+
+        this.maxTimeMs = maxTimeMs;
+
+        return this;
+    }
+
+    /**
+     * Set how fast the simulated robot moves at full speed.
+     *
+     * @param maxSpeed the robot's max speed, in units per second. The
+     *                 default is 50 units per second.
+     * @return {@code this}, used for method chaining.
+     * @see VirtualRobot
+     */
+    public BatchSimulator setMaxSpeed(double maxSpeed) {
+        ValidationUtils.validate(maxSpeed, "maxSpeed");
+
+        this.maxSpeed = maxSpeed;
+
+        return this;
+    }
+
+    /**
+     * Set how fast the simulated robot turns at full speed.
+     *
+     * @param maxTurnSpeed the robot's max turn speed, in degrees per
+     *                     second. The default is 360 degrees per second.
+     * @return {@code this}, used for method chaining.
+     * @see VirtualRobot
+     */
+    public BatchSimulator setMaxTurnSpeed(double maxTurnSpeed) {
+        ValidationUtils.validate(maxTurnSpeed, "maxTurnSpeed");
+
+        this.maxTurnSpeed = maxTurnSpeed;
+
+        return this;
+    }
+
+    /**
+     * Run a batch of simulations in parallel, and wait for all of them to
+     * finish. If a simulation throws an exception, the exception is stored
+     * in its result, and the rest of the simulations keep running.
+     *
+     * @param cases the cases to simulate.
+     * @return a report containing the result of each case, in the same
+     * order as {@code cases}.
+     */
+    public SimulationReport run(List<SimulationCase> cases) {
+        ValidationUtils.validate(cases, "cases");
+
+        for (SimulationCase simulationCase : cases) ValidationUtils.validate(
+            simulationCase,
+            "simulationCase"
+        );
+
+        long startNs = System.nanoTime();
+        List<ForkJoinTask<SimulationResult>> tasks = new ArrayList<>(
+            cases.size()
+        );
+
+        for (SimulationCase simulationCase : cases) tasks.add(
+            pool.submit(() -> simulate(simulationCase))
+        );
+
+        List<SimulationResult> results = new ArrayList<>(cases.size());
+        for (ForkJoinTask<SimulationResult> task : tasks) results.add(
+            task.join()
+        );
+
+        double wallTimeMs = (System.nanoTime() - startNs) / 1_000_000d;
+
+        if (Logger.isDebugEnabled()) Logger.debug(
+            BatchSimulator.class,
+            "Ran <%s> simulations in <%s ms>",
+            cases.size(),
+            wallTimeMs
+        );
+
+        return new SimulationReport(results, wallTimeMs);
+    }
+
+    /**
+     * Run a single simulation on the calling thread.
+     *
+     * @param simulationCase the case to simulate.
+     * @return the case's result.
+     */
+    public SimulationResult simulate(SimulationCase simulationCase) {
+        ValidationUtils.validate(simulationCase, "simulationCase");
+
+        String name = simulationCase.getName();
+        VirtualRobot robot = new VirtualRobot(maxSpeed, maxTurnSpeed);
+        ManualClock clock = new ManualClock();
+        PathErrorTracker tracker = new PathErrorTracker(
+            simulationCase.getReferencePath()
+        );
+
+        long dtNs = Math.max(1, (long) (dtMs * 1_000_000));
+        double dtSeconds = dtNs / 1_000_000_000d;
+        long maxTicks = (long) Math.ceil(maxTimeMs / dtMs);
+
+        long ticks = 0;
+        double topSpeed = 0;
+
+        try {
+            robot.setPosition(simulationCase.getStartPosition());
+
+            Pathfinder pathfinder = simulationCase.createPathfinder(
+                robot,
+                clock
+            );
+
+            while (pathfinder.isActive() && ticks < maxTicks) {
+                pathfinder.tick();
+                robot.step(dtSeconds);
+                clock.advanceNs(dtNs);
+                ticks++;
+
+                PointXYZ position = robot.getRawPosition();
+                tracker.sample(position.x(), position.y());
+                topSpeed = Math.max(topSpeed, robot.getLastSpeed());
+            }
+
+            boolean completed = !pathfinder.isActive();
+            PointXYZ finalPosition = robot.getRawPosition();
+
+            // make sure the robot doesn't keep moving if Pathfinder was
+            // stopped because the simulation ran out of time
+            pathfinder.clear();
+
+            return new SimulationResult(
+                name,
+                completed,
+                ticks,
+                clock.nanoTime() / 1_000_000d,
+                finalPosition,
+                topSpeed,
+                tracker.getMaxError(),
+                tracker.getMeanError(),
+                finalPathError(simulationCase, finalPosition),
+                null
+            );
+        } catch (RuntimeException e) {
+            if (Logger.isDebugEnabled()) Logger.debug(
+                BatchSimulator.class,
+                "Simulation <%s> failed: <%s>",
+                name,
+                e
+            );
+
+            return new SimulationResult(
+                name,
+                false,
+                ticks,
+                clock.nanoTime() / 1_000_000d,
+                robot.getRawPosition(),
+                topSpeed,
+                Double.NaN,
+                Double.NaN,
+                Double.NaN,
+                e
+            );
+        }
+    }
+
+    private static double finalPathError(
+        SimulationCase simulationCase,
+        PointXYZ finalPosition
+    ) {
+        List<PointXY> path = simulationCase.getReferencePath();
+
+        if (path.isEmpty()) return Double.NaN;
+
+        return finalPosition.absDistance(path.get(path.size() - 1));
+    }
+
+    public double getDtMs() {
+        return dtMs;
+    }
+
+    public double getMaxTimeMs() {
+        return maxTimeMs;
+    }
+
+    public double getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    public double getMaxTurnSpeed() {
+        return maxTurnSpeed;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "BatchSimulator (dt: <%s ms> max time: <%s ms> " +
+            "max speed: <%s> max turn speed: <%s>)",
+            dtMs,
+            maxTimeMs,
+            maxSpeed,
+            maxTurnSpeed
+        );
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.simulation;
+
+import java.util.List;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+
+/**
+ * Measures how far a robot is from a reference path, where the path is a
+ * set of line segments. The path's points are copied into primitive arrays
+ * once, so measuring the error doesn't create any objects.
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+class PathErrorTracker {
+    private final double[] xs;
+    private final double[] ys;
+
+    private double maxError;
+    private double totalError;
+    private long samples;
+
+    PathErrorTracker(List<PointXY> path) {
+        int size = path.size();
+
+        this.xs = new double[size];
+        this.ys = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            PointXY point = path.get(i);
+
+            xs[i] = point.x();
+            ys[i] = point.y();
+        }
+    }
+
+    boolean hasPath() {
+        return xs.length > 0;
+    }
+
+    /**
+     * Get the distance from a point to the closest point on the path.
+     *
+     * @param x the point's X value.
+     * @param y the point's Y value.
+     * @return the distance to the path.
+     */
+    double distanceToPath(double x, double y) {
+        if (xs.length == 0) return Double.NaN;
+        if (xs.length == 1) return Math.hypot(x - xs[0], y - ys[0]);
+
+        double minSquared = Double.POSITIVE_INFINITY;
+
+        for (int i = 1; i < xs.length; i++) {
+            double ax = xs[i - 1];
+            double ay = ys[i - 1];
+            double dx = xs[i] - ax;
+            double dy = ys[i] - ay;
+            double lengthSquared = (dx * dx) + (dy * dy);
+
+            // how far along the segment the closest point is, from 0 to 1
+            double t = lengthSquared == 0
+                ? 0
+                : (((x - ax) * dx) + ((y - ay) * dy)) / lengthSquared;
+            t = Math.max(0, Math.min(1, t));
+
+            double ex = ax + (t * dx) - x;
+            double ey = ay + (t * dy) - y;
+            double squared = (ex * ex) + (ey * ey);
+
+            if (squared < minSquared) minSquared = squared;
+        }
+
+        return Math.sqrt(minSquared);
+    }
+
+    void sample(double x, double y) {
+        if (xs.length == 0) return;
+
+        double error = distanceToPath(x, y);
+
+        if (error > maxError) maxError = error;
+        totalError += error;
+        samples++;
+    }
+
+    double getMaxError() {
+        return samples > 0 ? maxError : Double.NaN;
+    }
+
+    double getMeanError() {
+        return samples > 0 ? totalError / samples : Double.NaN;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.robot.Robot;
+import me.wobblyyyy.pathfinder2.time.Clock;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A single simulation that should be run by a {@link BatchSimulator}.
+ *
+ * <p>
+ * A case is made up of two functions: one that creates an instance of
+ * Pathfinder for a robot (this is where you'd set your coefficients), and
+ * one that tells that instance of Pathfinder what to do (follow a
+ * trajectory, go to a point, whatever). Both functions are called once
+ * every time the case is run, and they should create everything they use
+ * from scratch: if two cases share a trajectory, and that trajectory
+ * keeps track of some state (like which segment it's on), running those
+ * cases in parallel won't work very well.
+ * </p>
+ *
+ * <p>
+ * If a case has a reference path, the simulation will measure how far
+ * the robot strayed from that path. The reference path is usually the
+ * path you're telling Pathfinder to follow.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class SimulationCase {
+    private final String name;
+    private final Function<Robot, Pathfinder> factory;
+    private final Consumer<Pathfinder> setup;
+    private PointXYZ startPosition = PointXYZ.zero();
+    private List<PointXY> referencePath = Collections.emptyList();
+
+    /**
+     * Create a new {@code SimulationCase}.
+     *
+     * @param name    the case's name, used to identify its result.
+     * @param factory creates an instance of Pathfinder for the simulated
+     *                robot. This is called once every time the case is run.
+     * @param setup   tells the instance of Pathfinder what to do. This is
+     *                called once every time the case is run, right after
+     *                the instance of Pathfinder is created and given the
+     *                simulation's clock.
+     */
+    public SimulationCase(
+        String name,
+        Function<Robot, Pathfinder> factory,
+        Consumer<Pathfinder> setup
+    ) {
+        ValidationUtils.validate(name, "name");
+        ValidationUtils.validate(factory, "factory");
+        ValidationUtils.validate(setup, "setup");
+
+        this.name = name;
+        this.factory = factory;
+        this.setup = setup;
+    }
+
+    /**
+     * Create a new {@code SimulationCase} that uses an instance of
+     * Pathfinder with a proportional turn controller. The instance of
+     * Pathfinder has the same speed and tolerances as
+     * {@link Pathfinder#newSimulatedPathfinder(double)}.
+     *
+     * @param name        the case's name, used to identify its result.
+     * @param coefficient the turn controller's coefficient.
+     * @param setup       tells the instance of Pathfinder what to do.
+     */
+    public SimulationCase(
+        String name,
+        double coefficient,
+        Consumer<Pathfinder> setup
+    ) {
+        this(
+            name,
+            robot ->
+                new Pathfinder(robot, coefficient)
+                    .setSpeed(0.5)
+                    .setTolerance(2)
+                    .setAngleTolerance(Angle.fromDeg(5)),
+            setup
+        );
+    }
+
+    /**
+     * Set the position the robot starts at.
+     *
+     * @param startPosition the robot's starting position.
+     * @return {@code this}, used for method chaining.
+     */
+    public SimulationCase setStartPosition(PointXYZ startPosition) {
+        ValidationUtils.validate(startPosition, "startPosition");
+
+        this.startPosition = startPosition;
+
+        return this;
+    }
+
+    /**
+     * Set the path the robot's position should be compared to. The path
+     * is a set of line segments connecting each of the points.
+     *
+     * @param referencePath the reference path.
+     * @return {@code this}, used for method chaining.
+     */
+    public SimulationCase setReferencePath(
+        List<? extends PointXY> referencePath
+    ) {
+        ValidationUtils.validate(referencePath, "referencePath");
+
+        this.referencePath =
+            Collections.unmodifiableList(new ArrayList<>(referencePath));
+
+        return this;
+    }
+
+    /**
+     * Set the path the robot's position should be compared to.
+     *
+     * @param referencePath the reference path.
+     * @return {@code this}, used for method chaining.
+     */
+    public SimulationCase setReferencePath(PointXY... referencePath) {
+        ValidationUtils.validate(referencePath, "referencePath");
+
+        List<PointXY> list = new ArrayList<>(referencePath.length);
+        Collections.addAll(list, referencePath);
+
+        return setReferencePath(list);
+    }
+
+    /**
+     * Create the case's instance of Pathfinder and tell it what to do. The
+     * clock is set before the setup runs, so anything the setup creates
+     * with {@code pathfinder.getClock()} uses the simulation's clock.
+     *
+     * @param robot the simulated robot.
+     * @param clock the simulation's clock.
+     * @return a new instance of Pathfinder, ready to be ticked.
+     */
+    Pathfinder createPathfinder(Robot robot, Clock clock) {
+        Pathfinder pathfinder = ValidationUtils.validate(
+            factory.apply(robot),
+            "pathfinder",
+            "the case's factory returned null!"
+        );
+
+        pathfinder.setClock(clock);
+        setup.accept(pathfinder);
+
+        return pathfinder;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PointXYZ getStartPosition() {
+        return startPosition;
+    }
+
+    public List<PointXY> getReferencePath() {
+        return referencePath;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format("SimulationCase (name: <%s>)", name);
+    }
+}
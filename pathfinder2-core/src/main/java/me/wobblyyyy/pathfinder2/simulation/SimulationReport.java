@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * The results of running a batch of simulations. Results are stored in
+ * the same order as the cases they came from, regardless of which order
+ * the cases actually finished in.
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class SimulationReport {
+    /**
+     * Compares results by how long they took to finish. Results that
+     * didn't finish come last.
+     */
+    public static final Comparator<SimulationResult> BY_COMPLETION_TIME =
+        Comparator.comparingDouble(SimulationResult::getCompletionTimeMs);
+
+    /**
+     * Compares results by their mean path error. Results without a path
+     * error come last.
+     */
+    public static final Comparator<SimulationResult> BY_MEAN_PATH_ERROR =
+        Comparator.comparingDouble(
+            r -> Double.isNaN(r.getMeanPathError())
+                ? Double.POSITIVE_INFINITY
+                : r.getMeanPathError()
+        );
+
+    private final List<SimulationResult> results;
+    private final double wallTimeMs;
+
+    SimulationReport(List<SimulationResult> results, double wallTimeMs) {
+        this.results = Collections.unmodifiableList(results);
+        this.wallTimeMs = wallTimeMs;
+    }
+
+    /**
+     * Get all of the results, in the same order as the cases.
+     *
+     * @return all of the results.
+     */
+    public List<SimulationResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Get the result of a case.
+     *
+     * @param name the case's name.
+     * @return the case's result, or null if there isn't a case with that
+     * name.
+     */
+    public SimulationResult getResult(String name) {
+        for (SimulationResult result : results) if (
+            result.getName().equals(name)
+        ) return result;
+
+        return null;
+    }
+
+    /**
+     * Get every result that completed, sorted by a comparator.
+     *
+     * @param comparator how the results should be sorted.
+     * @return sorted results from simulations that completed.
+     */
+    public List<SimulationResult> getCompleted(
+        Comparator<SimulationResult> comparator
+    ) {
+        ValidationUtils.validate(comparator, "comparator");
+
+        List<SimulationResult> completed = new ArrayList<>(results.size());
+
+        for (SimulationResult result : results) if (
+            result.isCompleted()
+        ) completed.add(result);
+
+        completed.sort(comparator);
+
+        return completed;
+    }
+
+    /**
+     * Get the best result that completed.
+     *
+     * @param comparator how results should be compared. The "smallest"
+     *                   result is the best.
+     * @return the best result, or null if no simulations completed.
+     */
+    public SimulationResult getBest(Comparator<SimulationResult> comparator) {
+        List<SimulationResult> completed = getCompleted(comparator);
+
+        return completed.isEmpty() ? null : completed.get(0);
+    }
+
+    public int getCompletedCount() {
+        int count = 0;
+
+        for (SimulationResult result : results) if (
+            result.isCompleted()
+        ) count++;
+
+        return count;
+    }
+
+    public int getFailedCount() {
+        int count = 0;
+
+        for (SimulationResult result : results) if (
+            result.isFailed()
+        ) count++;
+
+        return count;
+    }
+
+    /**
+     * Get how much real time it took to run all of the simulations.
+     *
+     * @return how long the batch took to run, in milliseconds.
+     */
+    public double getWallTimeMs() {
+        return wallTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(128 + (results.size() * 160));
+
+        builder.append(
+            StringUtils.format(
+                "SimulationReport (cases: <%s> completed: <%s> " +
+                "failed: <%s> wall time: <%s ms>)",
+                results.size(),
+                getCompletedCount(),
+                getFailedCount(),
+                wallTimeMs
+            )
+        );
+
+        for (SimulationResult result : results) {
+            builder.append("\n    ");
+            builder.append(result);
+        }
+
+        return builder.toString();
+    }
+}
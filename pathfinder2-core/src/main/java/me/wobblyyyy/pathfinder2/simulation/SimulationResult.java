@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.simulation;
+
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+
+/**
+ * The result of running a single {@link SimulationCase}. All of the times
+ * here are simulated time, not real time.
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class SimulationResult {
+    private final String name;
+    private final boolean completed;
+    private final long ticks;
+    private final double elapsedTimeMs;
+    private final PointXYZ finalPosition;
+    private final double maxSpeed;
+    private final double maxPathError;
+    private final double meanPathError;
+    private final double finalPathError;
+    private final Throwable error;
+
+    SimulationResult(
+        String name,
+        boolean completed,
+        long ticks,
+        double elapsedTimeMs,
+        PointXYZ finalPosition,
+        double maxSpeed,
+        double maxPathError,
+        double meanPathError,
+        double finalPathError,
+        Throwable error
+    ) {
+        this.name = name;
+        this.completed = completed;
+        this.ticks = ticks;
+        this.elapsedTimeMs = elapsedTimeMs;
+        this.finalPosition = finalPosition;
+        this.maxSpeed = maxSpeed;
+        this.maxPathError = maxPathError;
+        this.meanPathError = meanPathError;
+        this.finalPathError = finalPathError;
+        this.error = error;
+    }
+
+    /**
+     * Get the name of the case that produced this result.
+     *
+     * @return the case's name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Did Pathfinder finish what it was doing before the simulation's time
+     * limit? If the simulation threw an exception, this is false.
+     *
+     * @return true if Pathfinder finished, otherwise, false.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Did the simulation throw an exception?
+     *
+     * @return true if the simulation threw an exception.
+     */
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    /**
+     * Get the exception the simulation threw, if it threw one.
+     *
+     * @return the exception the simulation threw, or null.
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Get how many times Pathfinder was ticked.
+     *
+     * @return how many ticks the simulation ran for.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Get how much simulated time passed before Pathfinder finished (or
+     * before the simulation hit its time limit).
+     *
+     * @return the simulation's elapsed time, in milliseconds.
+     */
+    public double getElapsedTimeMs() {
+        return elapsedTimeMs;
+    }
+
+    /**
+     * Get how long it took Pathfinder to finish. If Pathfinder didn't
+     * finish, this is {@link Double#POSITIVE_INFINITY}, so sorting results
+     * by completion time puts results that didn't finish last.
+     *
+     * @return how long Pathfinder took to finish, in milliseconds.
+     */
+    public double getCompletionTimeMs() {
+        return completed ? elapsedTimeMs : Double.POSITIVE_INFINITY;
+    }
+
+    public PointXYZ getFinalPosition() {
+        return finalPosition;
+    }
+
+    /**
+     * Get the fastest the robot moved during the simulation.
+     *
+     * @return the robot's max speed, in units per second.
+     */
+    public double getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Get the furthest the robot was from the case's reference path. If the
+     * case doesn't have a reference path, this is {@link Double#NaN}.
+     *
+     * @return the max path error.
+     */
+    public double getMaxPathError() {
+        return maxPathError;
+    }
+
+    /**
+     * Get the average distance between the robot and the case's reference
+     * path, measured once per tick. If the case doesn't have a reference
+     * path, this is {@link Double#NaN}.
+     *
+     * @return the mean path error.
+     */
+    public double getMeanPathError() {
+        return meanPathError;
+    }
+
+    /**
+     * Get the distance between the robot's final position and the last
+     * point on the case's reference path. If the case doesn't have a
+     * reference path, this is {@link Double#NaN}.
+     *
+     * @return the final path error.
+     */
+    public double getFinalPathError() {
+        return finalPathError;
+    }
+
+    @Override
+    public String toString() {
+        if (error != null) return StringUtils.format(
+            "SimulationResult (name: <%s> failed: <%s>)",
+            name,
+            error
+        );
+
+        return StringUtils.format(
+            "SimulationResult (name: <%s> completed: <%s> time: <%s ms> " +
+            "ticks: <%s> max speed: <%s> max error: <%s> " +
+            "mean error: <%s> final error: <%s>)",
+            name,
+            completed,
+            elapsedTimeMs,
+            ticks,
+            maxSpeed,
+            maxPathError,
+            meanPathError,
+            finalPathError
+        );
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.simulation;
+
+import java.util.function.Function;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.robot.Drive;
+import me.wobblyyyy.pathfinder2.robot.Odometry;
+import me.wobblyyyy.pathfinder2.robot.Robot;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A simulated robot that moves based on time, instead of based on how many
+ * times it's been told to move.
+ *
+ * <p>
+ * {@link me.wobblyyyy.pathfinder2.robot.simulated.SimulatedRobot} moves by
+ * the full translation every time {@link #setTranslation(Translation)} is
+ * called, so how fast it moves depends on how fast Pathfinder is ticked.
+ * This robot treats the translation as a velocity instead: a translation
+ * with a magnitude of 1 moves the robot at {@code maxSpeed} units per
+ * second, and a translation with a {@code vz} of 1 turns the robot at
+ * {@code maxTurnSpeed} degrees per second. The robot only moves when
+ * {@link #step(double)} is called, so a simulation can decide exactly how
+ * much time passes between each tick.
+ * </p>
+ *
+ * <p>
+ * Like the rest of Pathfinder, translations are relative to the robot: a
+ * translation of (0, 1) moves the robot in whatever direction it's facing.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class VirtualRobot extends Robot implements Drive, Odometry {
+    private final double maxSpeed;
+    private final double maxTurnSpeed;
+
+    private Translation translation = Translation.ZERO;
+    private Function<Translation, Translation> modifier = t -> t;
+    private PointXYZ offset = PointXYZ.zero();
+
+    private double x;
+    private double y;
+    private double z;
+    private double lastSpeed;
+
+    /**
+     * The robot's position, as a {@link PointXYZ}. This is only created
+     * when it's requested, and it's thrown away whenever the robot moves.
+     */
+    private PointXYZ position;
+
+    /**
+     * Create a new {@code VirtualRobot}.
+     *
+     * @param maxSpeed     how fast the robot moves with a translation with a
+     *                     magnitude of 1, in units per second.
+     * @param maxTurnSpeed how fast the robot turns with a translation with
+     *                     a {@code vz} value of 1, in degrees per second.
+     */
+    public VirtualRobot(double maxSpeed, double maxTurnSpeed) {
+        ValidationUtils.validate(maxSpeed, "maxSpeed");
+        ValidationUtils.validate(maxTurnSpeed, "maxTurnSpeed");
+
+        if (maxSpeed <= 0) throw new IllegalArgumentException(
+            "maxSpeed must be greater than 0!"
+        );
+
+        if (maxTurnSpeed <= 0) throw new IllegalArgumentException(
+            "maxTurnSpeed must be greater than 0!"
+        );
+
+        this.maxSpeed = maxSpeed;
+        this.maxTurnSpeed = maxTurnSpeed;
+    }
+
+    /**
+     * Move the robot based on its current translation.
+     *
+     * @param dtSeconds how much time has passed, in seconds.
+     */
+    public void step(double dtSeconds) {
+        double vx = translation.vx();
+        double vy = translation.vy();
+        double vz = translation.vz();
+
+        double heading = Math.toRadians(z);
+        double cos = Math.cos(heading);
+        double sin = Math.sin(heading);
+        double scale = maxSpeed * dtSeconds;
+
+        double dx = ((vx * cos) - (vy * sin)) * scale;
+        double dy = ((vx * sin) + (vy * cos)) * scale;
+
+        x += dx;
+        y += dy;
+        z += vz * maxTurnSpeed * dtSeconds;
+
+        lastSpeed = dtSeconds > 0 ? Math.hypot(dx, dy) / dtSeconds : 0;
+        position = null;
+    }
+
+    /**
+     * Set the robot's position. This doesn't take the odometry's offset
+     * into account.
+     *
+     * @param position the robot's new raw position.
+     */
+    public void setPosition(PointXYZ position) {
+        ValidationUtils.validate(position, "position");
+
+        this.x = position.x();
+        this.y = position.y();
+        this.z = position.z().deg();
+        this.position = position;
+    }
+
+    /**
+     * Get the speed the robot moved at during the last step.
+     *
+     * @return the robot's speed, in units per second.
+     */
+    public double getLastSpeed() {
+        return lastSpeed;
+    }
+
+    public double getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    public double getMaxTurnSpeed() {
+        return maxTurnSpeed;
+    }
+
+    @Override
+    public Translation getTranslation() {
+        return translation;
+    }
+
+    @Override
+    public void setTranslation(Translation translation) {
+        ValidationUtils.validate(translation, "translation");
+
+        this.translation = modifier.apply(translation);
+    }
+
+    @Override
+    public Function<Translation, Translation> getDriveModifier() {
+        return modifier;
+    }
+
+    @Override
+    public void setDriveModifier(Function<Translation, Translation> modifier) {
+        ValidationUtils.validate(modifier, "modifier");
+
+        this.modifier = modifier;
+    }
+
+    @Override
+    public PointXYZ getRawPosition() {
+        if (position == null) position = new PointXYZ(x, y, Angle.fromDeg(z));
+
+        return position;
+    }
+
+    @Override
+    public PointXYZ getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void setOffset(PointXYZ offset) {
+        ValidationUtils.validate(offset, "offset");
+
+        this.offset = offset;
+    }
+
+    @Override
+    public Drive drive() {
+        return this;
+    }
+
+    @Override
+    public Odometry odometry() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "VirtualRobot (position: <%s> translation: <%s>)",
+            getRawPosition(),
+            translation
+        );
+    }
+}
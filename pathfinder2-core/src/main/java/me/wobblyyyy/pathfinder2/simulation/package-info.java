@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+/**
+ * Run lots of simulated instances of Pathfinder at the same time, faster
+ * than real time. This is mostly useful for tuning: run the same autonomous
+ * routine with a couple hundred different sets of coefficients, and see
+ * which one works best.
+ *
+ * <p>
+ * Each simulation gets its own {@link me.wobblyyyy.pathfinder2.Pathfinder},
+ * its own {@link me.wobblyyyy.pathfinder2.simulation.VirtualRobot}, and its
+ * own {@link me.wobblyyyy.pathfinder2.time.ManualClock}, which is advanced
+ * by a fixed amount of time every tick. Simulations don't share anything,
+ * so they can be run in parallel - see
+ * {@link me.wobblyyyy.pathfinder2.simulation.BatchSimulator}.
+ * </p>
+ *
+ * <p>
+ * Pathfinder is given its clock before a case's setup runs, and passes it
+ * along to the tick profiler, the movement recorder and playback, and
+ * simulated odometry. Anything time-based that the setup creates itself
+ * has to be given the clock, too, or it'll run in real time (which, in a
+ * simulation that's running way faster than real time, means it'll
+ * basically never finish). Use {@code pathfinder.getClock()}:
+ * <ul>
+ *     <li>{@code trajectory.withTimeLimits(min, max, pathfinder.getClock())}
+ *     </li>
+ *     <li>{@code new TimedTrajectory(translation, ms, speed, turn,
+ *     pathfinder.getClock())}</li>
+ *     <li>{@code new TimedTrajectoryBuilder().setClock(pathfinder.getClock())}
+ *     </li>
+ * </ul>
+ * Anything else that reads the time on its own (listener expiration, for
+ * example) still uses the system clock.
+ * </p>
+ */
+package me.wobblyyyy.pathfinder2.simulation;
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.telemetry;
+
+import java.util.Map;
+import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.movement.MovementSnapshot;
+import me.wobblyyyy.pathfinder2.plugin.PathfinderPlugin;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A plugin that writes a telemetry record every time Pathfinder ticks.
+ *
+ * <p>
+ * The plugin doesn't allocate anything of its own while recording a tick:
+ * each of the schema's channels is read from Pathfinder's data map into a
+ * reused array, and everything is copied into the
+ * {@link TelemetryWriter}'s preallocated memory-mapped file. The position
+ * and translation are whatever objects Pathfinder already has for the
+ * tick, though - the position is read once per tick and shared, but
+ * the odometry usually creates a new point to return it, and drives may
+ * create a new translation whenever they're given one.
+ * </p>
+ *
+ * <p>
+ * Data map values that are {@link Number}s are recorded as-is, booleans
+ * are recorded as 1 (true) or 0 (false), and anything else (including
+ * missing values) is recorded as NaN.
+ * </p>
+ *
+ * <code><pre>
+ * TelemetryWriter writer = new TelemetryWriter(
+ *     Paths.get("match.pf2t"),
+ *     new TelemetrySchema(StatTracker.KEY_TPS)
+ * );
+ * pathfinder.loadPlugin(new TelemetryPlugin(writer));
+ * // ...
+ * writer.close();
+ * </pre></code>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TelemetryPlugin extends PathfinderPlugin {
+    private static final String NAME = "TelemetryPlugin";
+
+    private final TelemetryWriter writer;
+    private final TelemetrySchema schema;
+    private final double[] channelValues;
+    private boolean isEnabled = true;
+    private boolean hasStarted = false;
+    private long lastTimeNs = 0;
+
+    /**
+     * Create a new {@code TelemetryPlugin}.
+     *
+     * @param writer the writer records should be written to. This plugin
+     *               won't close the writer - that's up to you.
+     */
+    public TelemetryPlugin(TelemetryWriter writer) {
+        ValidationUtils.validate(writer, "writer");
+
+        this.writer = writer;
+        this.schema = writer.getSchema();
+        this.channelValues = new double[schema.getChannelCount()];
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void onTick(Pathfinder pathfinder) {
+        if (!isEnabled || writer.isClosed()) return;
+
+        long timeNs = pathfinder.getClock().nanoTime();
+        double elapsedMs = hasStarted ? (timeNs - lastTimeNs) / 1_000_000d : 0;
+        hasStarted = true;
+        lastTimeNs = timeNs;
+
+        Map<String, Object> data = pathfinder.getDataMap();
+        for (int i = 0; i < channelValues.length; i++) channelValues[i] =
+            toDouble(data.get(schema.getChannel(i)));
+
+        PointXYZ position = pathfinder.getPosition();
+        Translation translation = pathfinder.getTranslation();
+        MovementSnapshot snapshot = pathfinder.getProfiler().getLastSnapshot();
+
+        writer.write(
+            timeNs,
+            elapsedMs,
+            position.x(),
+            position.y(),
+            position.z().deg(),
+            translation.vx(),
+            translation.vy(),
+            translation.vz(),
+            snapshot.getVelocityX(),
+            snapshot.getVelocityY(),
+            snapshot.getVelocityZ().deg(),
+            channelValues
+        );
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Number) return ((Number) value).doubleValue();
+
+        if (value instanceof Boolean) return ((Boolean) value) ? 1 : 0;
+
+        return Double.NaN;
+    }
+
+    public TelemetryWriter getWriter() {
+        return writer;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Enable or disable recording.
+     *
+     * @param isEnabled should ticks be recorded?
+     * @return {@code this}, used for method chaining.
+     */
+    public TelemetryPlugin setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+
+        return this;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.telemetry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * Reads telemetry files written by a {@link TelemetryWriter}.
+ *
+ * <p>
+ * Records are streamed out of the file one at a time. The file is
+ * memory-mapped, so reading doesn't load the whole file into memory, and
+ * every record is read into the same {@link TelemetryRecord} instance:
+ * <code><pre>
+ * try (TelemetryReader reader = new TelemetryReader(path)) {
+ *     while (reader.hasNext()) {
+ *         TelemetryRecord record = reader.next();
+ *         // do something with the record
+ *     }
+ * }
+ * </pre></code>
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TelemetryReader implements AutoCloseable {
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final TelemetrySchema schema;
+    private final TelemetryRecord record;
+    private final long recordCount;
+    private long index = 0;
+
+    /**
+     * Open a telemetry file.
+     *
+     * @param path the file to read.
+     */
+    public TelemetryReader(Path path) {
+        ValidationUtils.validate(path, "path");
+
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IllegalArgumentException(
+                "Telemetry files larger than 2 GB aren't supported!"
+            );
+
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.order(TelemetrySchema.ORDER);
+        schema = TelemetrySchema.read(buffer);
+        record = new TelemetryRecord(schema);
+
+        // the file usually has unused preallocated space at the end of it,
+        // so the header's count is what matters. if the file was cut off,
+        // trust the file's length instead
+        long available =
+            (buffer.limit() - schema.getHeaderSize()) / schema.getRecordSize();
+        recordCount =
+            Math.min(
+                buffer.getLong(TelemetrySchema.OFFSET_RECORD_COUNT),
+                available
+            );
+    }
+
+    public TelemetrySchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Get how many records are in the file.
+     *
+     * @return how many records are in the file.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Are there any more records to read?
+     *
+     * @return true if there are more records, otherwise, false.
+     */
+    public boolean hasNext() {
+        return index < recordCount;
+    }
+
+    /**
+     * Read the next record. The returned record is reused by every call to
+     * this method - use {@link TelemetryRecord#copy()} if you need to keep
+     * it.
+     *
+     * @return the next record.
+     */
+    public TelemetryRecord next() {
+        return read(index++);
+    }
+
+    /**
+     * Read a specific record. The returned record is reused by every call
+     * to this method - use {@link TelemetryRecord#copy()} if you need to
+     * keep it. This doesn't change which record {@link #next()} will read.
+     *
+     * @param index the index of the record to read.
+     * @return the requested record.
+     */
+    public TelemetryRecord read(long index) {
+        if (
+            index < 0 || index >= recordCount
+        ) throw new IndexOutOfBoundsException(
+            "Record " + index + " does not exist (count: " + recordCount + ")"
+        );
+
+        int offset = (int) (
+            schema.getHeaderSize() + index * schema.getRecordSize()
+        );
+        record.read(buffer, offset, index);
+
+        return record;
+    }
+
+    /**
+     * Set which record will be read next.
+     *
+     * @param index the index of the next record to read.
+     * @return {@code this}, used for method chaining.
+     */
+    public TelemetryReader seek(long index) {
+        if (
+            index < 0 || index > recordCount
+        ) throw new IndexOutOfBoundsException(
+            "Can't seek to record " + index + " (count: " + recordCount + ")"
+        );
+
+        this.index = index;
+
+        return this;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.telemetry;
+
+import java.nio.ByteBuffer;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+
+/**
+ * A single telemetry record, as read by a {@link TelemetryReader}.
+ *
+ * <p>
+ * Unlike most of Pathfinder's data classes, this class is mutable: the
+ * reader overwrites the same record over and over again so that reading
+ * an entire telemetry file doesn't allocate anything. If you need to keep
+ * a record around, use {@link #copy()}.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TelemetryRecord {
+    private final TelemetrySchema schema;
+    private final double[] channels;
+
+    private long index;
+    private long timeNs;
+    private double elapsedMs;
+    private double x;
+    private double y;
+    private double zDeg;
+    private double vx;
+    private double vy;
+    private double vz;
+    private double velocityX;
+    private double velocityY;
+    private double velocityZDeg;
+
+    /**
+     * Create a new, empty {@code TelemetryRecord}.
+     *
+     * @param schema the schema of the telemetry file this record will be
+     *               read from.
+     */
+    public TelemetryRecord(TelemetrySchema schema) {
+        this.schema = schema;
+        this.channels = new double[schema.getChannelCount()];
+    }
+
+    /**
+     * Read this record from a buffer.
+     *
+     * @param buffer the buffer to read from.
+     * @param offset the offset of the record in the buffer.
+     * @param index  the index of the record in the file.
+     */
+    void read(ByteBuffer buffer, int offset, long index) {
+        this.index = index;
+        timeNs = buffer.getLong(offset);
+        elapsedMs = buffer.getDouble(offset + 8);
+        x = buffer.getDouble(offset + 16);
+        y = buffer.getDouble(offset + 24);
+        zDeg = buffer.getDouble(offset + 32);
+        vx = buffer.getDouble(offset + 40);
+        vy = buffer.getDouble(offset + 48);
+        vz = buffer.getDouble(offset + 56);
+        velocityX = buffer.getDouble(offset + 64);
+        velocityY = buffer.getDouble(offset + 72);
+        velocityZDeg = buffer.getDouble(offset + 80);
+
+        int channelOffset = offset + TelemetrySchema.FIXED_RECORD_SIZE;
+        for (int i = 0; i < channels.length; i++) channels[i] =
+            buffer.getDouble(channelOffset + (i * 8));
+    }
+
+    /**
+     * Create a copy of this record.
+     *
+     * @return a copy of this record.
+     */
+    public TelemetryRecord copy() {
+        TelemetryRecord copy = new TelemetryRecord(schema);
+
+        copy.index = index;
+        copy.timeNs = timeNs;
+        copy.elapsedMs = elapsedMs;
+        copy.x = x;
+        copy.y = y;
+        copy.zDeg = zDeg;
+        copy.vx = vx;
+        copy.vy = vy;
+        copy.vz = vz;
+        copy.velocityX = velocityX;
+        copy.velocityY = velocityY;
+        copy.velocityZDeg = velocityZDeg;
+        System.arraycopy(channels, 0, copy.channels, 0, channels.length);
+
+        return copy;
+    }
+
+    public TelemetrySchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Get the index of this record in the telemetry file.
+     *
+     * @return the record's index.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the time the record was taken at, in nanoseconds. This is the
+     * time reported by Pathfinder's
+     * {@link me.wobblyyyy.pathfinder2.time.Clock}, so it's only meaningful
+     * relative to other records.
+     *
+     * @return the time the record was taken at.
+     */
+    public long getTimeNs() {
+        return timeNs;
+    }
+
+    /**
+     * Get how long it had been since the previous record was taken, in
+     * milliseconds. If the file has a record for every tick, this is the
+     * tick time.
+     *
+     * @return the time since the previous record.
+     */
+    public double getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getZDeg() {
+        return zDeg;
+    }
+
+    public double getVx() {
+        return vx;
+    }
+
+    public double getVy() {
+        return vy;
+    }
+
+    public double getVz() {
+        return vz;
+    }
+
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    public double getVelocityZDeg() {
+        return velocityZDeg;
+    }
+
+    public PointXYZ getPosition() {
+        return new PointXYZ(x, y, zDeg);
+    }
+
+    public Translation getTranslation() {
+        return new Translation(vx, vy, vz);
+    }
+
+    /**
+     * Get the value of one of the schema's channels.
+     *
+     * @param index the index of the channel.
+     * @return the channel's value. If the channel wasn't in Pathfinder's
+     * data map (or its value wasn't a number), this is NaN.
+     */
+    public double getChannel(int index) {
+        return channels[index];
+    }
+
+    /**
+     * Get the value of one of the schema's channels.
+     *
+     * @param channel the name of the channel.
+     * @return the channel's value. If the channel wasn't in Pathfinder's
+     * data map (or its value wasn't a number), this is NaN.
+     */
+    public double getChannel(String channel) {
+        int index = schema.indexOf(channel);
+
+        if (index < 0) throw new IllegalArgumentException(
+            "Schema does not contain channel " + channel
+        );
+
+        return channels[index];
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "TelemetryRecord (index: <%s> time: <%s ns> elapsed: <%s ms> " +
+            "position: <%s, %s, %s deg> translation: <%s, %s, %s>)",
+            index,
+            timeNs,
+            elapsedMs,
+            x,
+            y,
+            zDeg,
+            vx,
+            vy,
+            vz
+        );
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.telemetry;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * The layout of a telemetry file. Every telemetry file starts with a header
+ * describing its schema, and is followed by fixed-width records.
+ *
+ * <p>
+ * Every record contains the same fixed fields (see
+ * {@link TelemetryRecord}): the time the record was taken at, how long the
+ * tick took, the robot's position, the robot's translation, and the robot's
+ * velocity. Each record is then followed by one {@code double} for each of
+ * the schema's channels. Channels are keys in Pathfinder's data map
+ * ({@link me.wobblyyyy.pathfinder2.Pathfinder#getDataMap()}) - any numeric
+ * or boolean values in the data map can be recorded.
+ * </p>
+ *
+ * <p>
+ * The header is laid out like this (everything is little-endian):
+ * <ul>
+ *     <li>{@code int} magic number ({@link #MAGIC})</li>
+ *     <li>{@code short} format version ({@link #VERSION})</li>
+ *     <li>{@code short} channel count</li>
+ *     <li>{@code int} record size, in bytes</li>
+ *     <li>{@code int} header size, in bytes</li>
+ *     <li>{@code long} record count</li>
+ *     <li>
+ *         each channel's name, as a {@code short} length followed by
+ *         that many bytes of UTF-8
+ *     </li>
+ *     <li>zeroes, padding the header to a multiple of 8 bytes</li>
+ * </ul>
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TelemetrySchema {
+    /**
+     * The magic number at the start of every telemetry file ("PF2T").
+     */
+    public static final int MAGIC = 0x54324650;
+
+    /**
+     * The current version of the telemetry format.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * The byte order used by telemetry files.
+     */
+    public static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * The size, in bytes, of the fields every record has, regardless of
+     * the schema's channels: a {@code long} timestamp and ten
+     * {@code double}s.
+     */
+    public static final int FIXED_RECORD_SIZE = 8 + (10 * 8);
+
+    static final int OFFSET_RECORD_COUNT = 16;
+    private static final int FIXED_HEADER_SIZE = 24;
+
+    private final String[] channels;
+    private final byte[][] encodedChannels;
+    private final int headerSize;
+
+    /**
+     * Create a new {@code TelemetrySchema}.
+     *
+     * @param channels the keys of any values in Pathfinder's data map
+     *                 that should be recorded along with each record.
+     */
+    public TelemetrySchema(String... channels) {
+        ValidationUtils.validate(channels, "channels");
+
+        if (
+            channels.length > Short.MAX_VALUE
+        ) throw new IllegalArgumentException(
+            "Too many channels! Max is " + Short.MAX_VALUE
+        );
+
+        this.channels = Arrays.copyOf(channels, channels.length);
+        this.encodedChannels = new byte[channels.length][];
+
+        int size = FIXED_HEADER_SIZE;
+        for (int i = 0; i < channels.length; i++) {
+            ValidationUtils.validate(channels[i], "channel");
+
+            byte[] encoded = channels[i].getBytes(StandardCharsets.UTF_8);
+
+            if (
+                encoded.length > Short.MAX_VALUE
+            ) throw new IllegalArgumentException(
+                "Channel name is too long: " + channels[i]
+            );
+
+            encodedChannels[i] = encoded;
+            size += 2 + encoded.length;
+        }
+
+        this.headerSize = (size + 7) & ~7;
+    }
+
+    /**
+     * Read a schema from the start of a telemetry file's header.
+     *
+     * @param buffer a buffer containing the telemetry file's header. The
+     *               header is read with absolute reads, starting at 0.
+     * @return the schema the file was written with.
+     */
+    public static TelemetrySchema read(ByteBuffer buffer) {
+        buffer.order(ORDER);
+
+        if (
+            buffer.limit() < FIXED_HEADER_SIZE
+        ) throw new IllegalArgumentException(
+            "Buffer is too small to contain a telemetry header!"
+        );
+
+        int magic = buffer.getInt(0);
+        if (magic != MAGIC) throw new IllegalArgumentException(
+            "Not a telemetry file! (bad magic number)"
+        );
+
+        short version = buffer.getShort(4);
+        if (version != VERSION) throw new IllegalArgumentException(
+            StringUtils.format(
+                "Unsupported telemetry version <%s> (expected <%s>)",
+                version,
+                VERSION
+            )
+        );
+
+        int channelCount = buffer.getShort(6);
+        String[] channels = new String[channelCount];
+
+        int position = FIXED_HEADER_SIZE;
+        for (int i = 0; i < channelCount; i++) {
+            int length = buffer.getShort(position);
+            byte[] encoded = new byte[length];
+            for (int j = 0; j < length; j++) encoded[j] =
+                buffer.get(position + 2 + j);
+            channels[i] = new String(encoded, StandardCharsets.UTF_8);
+            position += 2 + length;
+        }
+
+        TelemetrySchema schema = new TelemetrySchema(channels);
+
+        if (
+            buffer.getInt(8) != schema.getRecordSize() ||
+            buffer.getInt(12) != schema.getHeaderSize()
+        ) throw new IllegalArgumentException(
+            "Telemetry header is corrupted (sizes don't match the schema)"
+        );
+
+        return schema;
+    }
+
+    /**
+     * Write this schema's header to a buffer, with a record count of 0.
+     *
+     * @param buffer the buffer to write to. The header is written with
+     *               absolute writes, starting at 0.
+     */
+    public void write(ByteBuffer buffer) {
+        buffer.order(ORDER);
+
+        buffer.putInt(0, MAGIC);
+        buffer.putShort(4, VERSION);
+        buffer.putShort(6, (short) channels.length);
+        buffer.putInt(8, getRecordSize());
+        buffer.putInt(12, headerSize);
+        buffer.putLong(OFFSET_RECORD_COUNT, 0);
+
+        int position = FIXED_HEADER_SIZE;
+        for (byte[] encoded : encodedChannels) {
+            buffer.putShort(position, (short) encoded.length);
+            for (int j = 0; j < encoded.length; j++) buffer.put(
+                position + 2 + j,
+                encoded[j]
+            );
+            position += 2 + encoded.length;
+        }
+
+        for (; position < headerSize; position++) buffer.put(
+            position,
+            (byte) 0
+        );
+    }
+
+    public int getChannelCount() {
+        return channels.length;
+    }
+
+    public String getChannel(int index) {
+        return channels[index];
+    }
+
+    /**
+     * Get the index of a channel.
+     *
+     * @param channel the channel's name.
+     * @return the channel's index, or -1 if the schema doesn't contain the
+     * channel.
+     */
+    public int indexOf(String channel) {
+        for (int i = 0; i < channels.length; i++) if (
+            channels[i].equals(channel)
+        ) return i;
+
+        return -1;
+    }
+
+    /**
+     * Get the size of each record, in bytes.
+     *
+     * @return the size of each record.
+     */
+    public int getRecordSize() {
+        return FIXED_RECORD_SIZE + (channels.length * 8);
+    }
+
+    /**
+     * Get the size of the header, in bytes.
+     *
+     * @return the size of the header.
+     */
+    public int getHeaderSize() {
+        return headerSize;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof TelemetrySchema)) return false;
+
+        return Arrays.equals(channels, ((TelemetrySchema) obj).channels);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(channels);
+    }
+
+    @Override
+    public String toString() {
+        return "TelemetrySchema" + Arrays.toString(channels);
+    }
+}
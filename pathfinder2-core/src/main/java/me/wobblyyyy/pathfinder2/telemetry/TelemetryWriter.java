@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.telemetry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * Writes telemetry records to a file, using the format described by
+ * {@link TelemetrySchema}.
+ *
+ * <p>
+ * The file is written through memory-mapped buffers: space for records is
+ * preallocated in large chunks, and writing a record is just a couple of
+ * stores into memory - there's no I/O and no allocation on the thread
+ * that's writing. The operating system writes the mapped memory to disk
+ * in the background. While one chunk is being written to, the next chunk
+ * is mapped (and every one of its pages is touched, so the space is
+ * really allocated on the disk) on a background thread. When the current
+ * chunk fills up, the writer just switches over to the next one, and the
+ * full chunk is forced to the disk on the same background thread.
+ * </p>
+ *
+ * <p>
+ * The header's record count is updated after every record, so a file
+ * that was never closed (because the robot lost power, for example) can
+ * still be read. The file isn't shrunk when the writer is closed (on
+ * some operating systems, a file can't be truncated while parts of it
+ * are still mapped, and Java can't unmap a buffer on demand), so it will
+ * usually have up to two chunks of unused space at the end. The header's
+ * record count says how many records are actually in the file.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TelemetryWriter implements AutoCloseable {
+    /**
+     * The default amount of space that's preallocated at a time, in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Pages are (at least) this big on pretty much every system, so
+     * touching one byte every this many bytes touches every page.
+     */
+    private static final int PAGE_SIZE = 4096;
+
+    private final TelemetrySchema schema;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final int recordSize;
+    private final int recordsPerChunk;
+    private final ExecutorService mapper;
+
+    private MappedByteBuffer chunk;
+    private Future<MappedByteBuffer> nextChunk;
+    private Future<?> lastForce;
+    private long chunkIndex = 0;
+    private int positionInChunk;
+    private long recordCount = 0;
+    private boolean isClosed = false;
+
+    /**
+     * Create a new {@code TelemetryWriter} with the default chunk size. If
+     * the file already exists, it will be overwritten.
+     *
+     * @param path   the file to write to.
+     * @param schema the schema to write records with.
+     */
+    public TelemetryWriter(Path path, TelemetrySchema schema) {
+        this(path, schema, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a new {@code TelemetryWriter}. If the file already exists, it
+     * will be overwritten.
+     *
+     * @param path      the file to write to.
+     * @param schema    the schema to write records with.
+     * @param chunkSize how much space should be preallocated at a time, in
+     *                  bytes. This is rounded down to a whole number of
+     *                  records (but it's always at least one record).
+     */
+    public TelemetryWriter(Path path, TelemetrySchema schema, int chunkSize) {
+        ValidationUtils.validate(path, "path");
+        ValidationUtils.validate(schema, "schema");
+
+        if (chunkSize < 1) throw new IllegalArgumentException(
+            "Chunk size must be positive, but it was " + chunkSize
+        );
+
+        this.schema = schema;
+        this.recordSize = schema.getRecordSize();
+        this.recordsPerChunk = Math.max(1, chunkSize / recordSize);
+
+        try {
+            channel =
+                FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                );
+            header =
+                channel.map(
+                    FileChannel.MapMode.READ_WRITE,
+                    0,
+                    schema.getHeaderSize()
+                );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        schema.write(header);
+
+        mapper =
+            Executors.newSingleThreadExecutor(
+                runnable -> {
+                    Thread thread = new Thread(
+                        runnable,
+                        "pathfinder2-telemetry-writer"
+                    );
+
+                    // don't keep the program running just because this
+                    // thread is still around
+                    thread.setDaemon(true);
+
+                    return thread;
+                }
+            );
+        chunk = mapChunk(0);
+        nextChunk = mapper.submit(() -> mapChunk(1));
+    }
+
+    private MappedByteBuffer mapChunk(long index) {
+        long chunkBytes = (long) recordsPerChunk * recordSize;
+        long offset = schema.getHeaderSize() + (index * chunkBytes);
+        MappedByteBuffer buffer;
+
+        try {
+            // mapping past the end of the file grows the file
+            buffer =
+                channel.map(FileChannel.MapMode.READ_WRITE, offset, chunkBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.order(TelemetrySchema.ORDER);
+
+        // growing the file only makes it sparse - writing to every page
+        // makes the operating system actually allocate the space, and
+        // it means the page faults happen here, not on the writing thread
+        for (int i = 0; i < buffer.capacity(); i += PAGE_SIZE) buffer.put(
+            i,
+            (byte) 0
+        );
+
+        return buffer;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException(
+                "Interrupted while waiting for the telemetry writer's " +
+                "background thread!"
+            );
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void switchToNextChunk() {
+        MappedByteBuffer full = chunk;
+
+        // this should have finished a long time ago, so this shouldn't
+        // actually wait
+        chunk = await(nextChunk);
+
+        // nothing writes to the full chunk anymore, so it can be saved to
+        // the disk in the background. the background thread runs one thing
+        // at a time, in order, so this finishes before the next chunk
+        // (submitted below) is mapped
+        lastForce = mapper.submit(full::force);
+
+        chunkIndex++;
+        positionInChunk = 0;
+
+        long index = chunkIndex + 1;
+        nextChunk = mapper.submit(() -> mapChunk(index));
+    }
+
+    /**
+     * Write a single record.
+     *
+     * @param timeNs        the time the record was taken at, in
+     *                      nanoseconds.
+     * @param elapsedMs     how long it's been since the last record was
+     *                      taken, in milliseconds.
+     * @param x             the robot's X position.
+     * @param y             the robot's Y position.
+     * @param zDeg          the robot's heading, in degrees.
+     * @param vx            the X component of the robot's translation.
+     * @param vy            the Y component of the robot's translation.
+     * @param vz            the Z component of the robot's translation.
+     * @param velocityX     the robot's X velocity.
+     * @param velocityY     the robot's Y velocity.
+     * @param velocityZDeg  the robot's angular velocity, in degrees per
+     *                      second.
+     * @param channelValues the value of each of the schema's channels. This
+     *                      must have exactly as many elements as the
+     *                      schema has channels.
+     * @return {@code this}, used for method chaining.
+     */
+    public TelemetryWriter write(
+        long timeNs,
+        double elapsedMs,
+        double x,
+        double y,
+        double zDeg,
+        double vx,
+        double vy,
+        double vz,
+        double velocityX,
+        double velocityY,
+        double velocityZDeg,
+        double[] channelValues
+    ) {
+        if (isClosed) throw new IllegalStateException(
+            "Can't write to a closed TelemetryWriter!"
+        );
+
+        if (
+            channelValues.length != schema.getChannelCount()
+        ) throw new IllegalArgumentException(
+            "Expected " +
+            schema.getChannelCount() +
+            " channel values, but got " +
+            channelValues.length
+        );
+
+        if (positionInChunk == recordsPerChunk) switchToNextChunk();
+
+        int offset = positionInChunk * recordSize;
+        chunk.putLong(offset, timeNs);
+        chunk.putDouble(offset + 8, elapsedMs);
+        chunk.putDouble(offset + 16, x);
+        chunk.putDouble(offset + 24, y);
+        chunk.putDouble(offset + 32, zDeg);
+        chunk.putDouble(offset + 40, vx);
+        chunk.putDouble(offset + 48, vy);
+        chunk.putDouble(offset + 56, vz);
+        chunk.putDouble(offset + 64, velocityX);
+        chunk.putDouble(offset + 72, velocityY);
+        chunk.putDouble(offset + 80, velocityZDeg);
+
+        int channelOffset = offset + TelemetrySchema.FIXED_RECORD_SIZE;
+        for (int i = 0; i < channelValues.length; i++) chunk.putDouble(
+            channelOffset + (i * 8),
+            channelValues[i]
+        );
+
+        positionInChunk++;
+        recordCount++;
+
+        // update the count last, so a reader never sees a partial record
+        header.putLong(TelemetrySchema.OFFSET_RECORD_COUNT, recordCount);
+
+        return this;
+    }
+
+    /**
+     * Write a single record.
+     *
+     * @param timeNs        the time the record was taken at, in
+     *                      nanoseconds.
+     * @param elapsedMs     how long it's been since the last record was
+     *                      taken, in milliseconds.
+     * @param position      the robot's position.
+     * @param translation   the robot's translation.
+     * @param velocityX     the robot's X velocity.
+     * @param velocityY     the robot's Y velocity.
+     * @param velocityZDeg  the robot's angular velocity, in degrees per
+     *                      second.
+     * @param channelValues the value of each of the schema's channels.
+     * @return {@code this}, used for method chaining.
+     */
+    public TelemetryWriter write(
+        long timeNs,
+        double elapsedMs,
+        PointXYZ position,
+        Translation translation,
+        double velocityX,
+        double velocityY,
+        double velocityZDeg,
+        double[] channelValues
+    ) {
+        return write(
+            timeNs,
+            elapsedMs,
+            position.x(),
+            position.y(),
+            position.z().deg(),
+            translation.vx(),
+            translation.vy(),
+            translation.vz(),
+            velocityX,
+            velocityY,
+            velocityZDeg,
+            channelValues
+        );
+    }
+
+    /**
+     * Force every record that has been written to be saved to the disk.
+     * Full chunks are already being forced in the background, so this
+     * waits for that to finish, and then forces the header and the chunk
+     * that's being written to. This does I/O, so don't call it every tick.
+     */
+    public void flush() {
+        if (isClosed) return;
+
+        if (lastForce != null) await(lastForce);
+        header.force();
+        chunk.force();
+    }
+
+    /**
+     * Close the writer. This saves everything that's been written. Closing
+     * a writer that's already closed does nothing.
+     */
+    @Override
+    public void close() {
+        if (isClosed) return;
+
+        isClosed = true;
+        mapper.shutdown();
+
+        try {
+            // let the next chunk finish mapping before the channel is
+            // closed out from underneath it. full chunks are forced in
+            // order on the same thread, and they were all queued before
+            // the next chunk, so they're done too
+            nextChunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {}
+
+        try {
+            header.force();
+            chunk.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public TelemetrySchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Get how many records have been written.
+     *
+     * @return how many records have been written.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public boolean isClosed() {
+        return isClosed;
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+/**
+ * A compact binary format for recording telemetry every tick, and the
+ * utilities needed to write and read it.
+ */
+package me.wobblyyyy.pathfinder2.telemetry;
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A monotonic clock. Unlike {@link Time#ms()}, which uses the system's wall
+ * clock (and usually only has a resolution of 1 millisecond, and can jump
+ * around whenever the system's time changes), a {@code Clock} only ever
+ * moves forwards and has nanosecond resolution.
+ *
+ * <p>
+ * The values a {@code Clock} returns are only meaningful relative to other
+ * values returned by the same {@code Clock}. They're good for measuring
+ * elapsed time, but they're not timestamps - don't compare them to
+ * {@link Time#ms()}.
+ * </p>
+ *
+ * <p>
+ * There are two implementations included with Pathfinder:
+ * <ul>
+ *     <li>
+ *         {@link SystemClock} (available as {@link #SYSTEM}), which uses
+ *         {@link System#nanoTime()}. This is the default everywhere.
+ *     </li>
+ *     <li>
+ *         {@link ManualClock}, which only moves when you tell it to. This
+ *         is useful for tests, and for running a simulation faster (or
+ *         slower) than real time.
+ *     </li>
+ * </ul>
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public interface Clock {
+    /**
+     * The default clock, backed by {@link System#nanoTime()}.
+     */
+    Clock SYSTEM = new SystemClock();
+
+    /**
+     * Get the clock's current time, in nanoseconds.
+     *
+     * @return the clock's current time, in nanoseconds.
+     */
+    long nanoTime();
+
+    /**
+     * Get the clock's current time, in milliseconds.
+     *
+     * @return the clock's current time, in milliseconds.
+     */
+    default double ms() {
+        return nanoTime() / 1_000_000d;
+    }
+
+    /**
+     * Get the clock's current time, in seconds.
+     *
+     * @return the clock's current time, in seconds.
+     */
+    default double seconds() {
+        return nanoTime() / 1_000_000_000d;
+    }
+
+    /**
+     * Wait until the clock reaches a certain time. This method is allowed
+     * to return early (for example, if the thread is interrupted or
+     * unparked), so callers should check the time again and call this
+     * method in a loop.
+     *
+     * <p>
+     * The default implementation parks the thread until it's within
+     * {@code spinThresholdNs} of the deadline, and then returns
+     * immediately, so that the caller spins for the rest of the time.
+     * </p>
+     *
+     * @param deadlineNs      the time to wait for, in nanoseconds.
+     * @param spinThresholdNs how close to the deadline the thread should
+     *                        stop parking and start spinning.
+     */
+    default void park(long deadlineNs, long spinThresholdNs) {
+        long remainingNs = deadlineNs - nanoTime();
+
+        if (remainingNs > spinThresholdNs) LockSupport.parkNanos(
+            remainingNs - spinThresholdNs
+        );
+    }
+}
@@ -78,8 +78,7 @@ public static void waitThenRun(Runnable runnable, double timeMs) {
      * @param timeMs   how long to wait for, in milliseconds.
      */
     public static void wait(double timeMs) {
-        ElapsedTimer timer = new ElapsedTimer(true);
-        while (!timer.isElapsedLessThan(timeMs));
+        FixedRateRunner.sleepFor(timeMs);
     }
 
     /**
@@ -102,8 +101,26 @@ public static void runThenWait(Runnable runnable, double timeMs) {
      * @param timeMs   how long to run the runnable for.
      */
     public static void runFor(Runnable runnable, double timeMs) {
-        ElapsedTimer timer = new ElapsedTimer(true);
-        while (timer.isElapsedLessThan(timeMs)) runnable.run();
+        runFor(runnable, timeMs, 0);
+    }
+
+    /**
+     * Run a {@code Runnable} at a fixed rate for a certain amount of time.
+     * Between each run, the thread sleeps until the next run is due.
+     *
+     * @param runnable the runnable to run.
+     * @param timeMs   how long to run the runnable for, in milliseconds.
+     * @param periodMs how long each run should take, in milliseconds. If
+     *                 this is 0, the runnable will be run as often as
+     *                 possible.
+     * @see FixedRateRunner
+     */
+    public static void runFor(
+        Runnable runnable,
+        double timeMs,
+        double periodMs
+    ) {
+        new FixedRateRunner(periodMs).runFor(runnable, timeMs);
     }
 
     /**
@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * A loop that runs a {@code Runnable} at a fixed rate.
+ *
+ * <p>
+ * Most of Pathfinder's "tick until" methods simply call
+ * {@link me.wobblyyyy.pathfinder2.Pathfinder#tick()} as often as they
+ * possibly can. That's fine if you don't care about how much CPU you're
+ * using, but it means the amount of time between each tick depends entirely
+ * on how long the tick takes, and it pins an entire core while waiting.
+ * {@code FixedRateRunner} instead schedules each iteration against an
+ * absolute deadline (measured with a {@link Clock}) and parks the
+ * thread until that deadline. Because deadlines are absolute, the loop
+ * doesn't drift: if one iteration takes a little bit longer, the next
+ * sleep is a little bit shorter.
+ * </p>
+ *
+ * <p>
+ * {@link LockSupport#parkNanos(long)} isn't perfectly precise - depending
+ * on the operating system, it might wake up tens of microseconds late. To
+ * work around that, the runner parks until it's within a configurable spin
+ * threshold of the deadline, and then spins for the remaining time. Set
+ * the spin threshold to 0 to never spin.
+ * </p>
+ *
+ * <p>
+ * If an iteration takes longer than the period (an overrun), the
+ * runner's {@link OverrunPolicy} determines what happens next. Timing
+ * statistics (period, jitter, lateness, duration, overruns) are recorded
+ * in a {@link LoopStats} without any allocation.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class FixedRateRunner {
+    /**
+     * The default spin threshold, in nanoseconds. The runner will park
+     * until it's within this amount of time of the next deadline, and
+     * then spin until the deadline.
+     */
+    public static final long DEFAULT_SPIN_THRESHOLD_NS = 100_000;
+
+    /**
+     * The default maximum amount of ticks that {@link OverrunPolicy#CATCH_UP}
+     * will try to catch up on.
+     */
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
+    private static final double NS_PER_MS = 1_000_000d;
+
+    private final long periodNs;
+    private final LoopStats stats;
+
+    private OverrunPolicy overrunPolicy;
+    private Clock clock = Clock.SYSTEM;
+    private long spinThresholdNs = DEFAULT_SPIN_THRESHOLD_NS;
+    private int maxCatchUpTicks = DEFAULT_MAX_CATCH_UP_TICKS;
+
+    private volatile boolean isRunning = false;
+    private volatile boolean shouldStop = false;
+    private volatile Thread runnerThread;
+
+    /**
+     * Create a new {@code FixedRateRunner}, using {@link OverrunPolicy#SKIP}.
+     *
+     * @param periodMs how long each iteration should take, in milliseconds.
+     *                 If this is 0, the runner will run as fast as it
+     *                 possibly can.
+     */
+    public FixedRateRunner(double periodMs) {
+        this(periodMs, OverrunPolicy.SKIP);
+    }
+
+    /**
+     * Create a new {@code FixedRateRunner}.
+     *
+     * @param periodMs      how long each iteration should take, in
+     *                      milliseconds. If this is 0, the runner will
+     *                      run as fast as it possibly can.
+     * @param overrunPolicy what to do when an iteration takes longer than
+     *                      the period.
+     */
+    public FixedRateRunner(double periodMs, OverrunPolicy overrunPolicy) {
+        this(msToNs(periodMs), overrunPolicy, true);
+    }
+
+    // the extra parameter is only here so this constructor doesn't get
+    // confused with the millisecond constructor - see fromNanoseconds
+    private FixedRateRunner(
+        long periodNs,
+        OverrunPolicy overrunPolicy,
+        boolean isNanoseconds
+    ) {
+        if (periodNs < 0) throw new IllegalArgumentException(
+            "Period must be greater than or equal to 0!"
+        );
+
+        if (overrunPolicy == null) throw new NullPointerException(
+            "Overrun policy may not be null!"
+        );
+
+        this.periodNs = periodNs;
+        this.overrunPolicy = overrunPolicy;
+        this.stats = new LoopStats(periodNs);
+    }
+
+    /**
+     * Create a new {@code FixedRateRunner} that runs at a certain rate.
+     *
+     * @param hz how many times per second the runner should run.
+     * @return a new {@code FixedRateRunner}.
+     */
+    public static FixedRateRunner fromHz(double hz) {
+        if (hz <= 0) throw new IllegalArgumentException(
+            "Rate must be greater than 0!"
+        );
+
+        return new FixedRateRunner(1_000d / hz);
+    }
+
+    /**
+     * Create a new {@code FixedRateRunner} with a period specified in
+     * nanoseconds.
+     *
+     * @param periodNs      how long each iteration should take, in
+     *                      nanoseconds. If this is 0, the runner will
+     *                      run as fast as it possibly can.
+     * @param overrunPolicy what to do when an iteration takes longer than
+     *                      the period.
+     * @return a new {@code FixedRateRunner}.
+     */
+    public static FixedRateRunner fromNanoseconds(
+        long periodNs,
+        OverrunPolicy overrunPolicy
+    ) {
+        return new FixedRateRunner(periodNs, overrunPolicy, true);
+    }
+
+    private static long msToNs(double ms) {
+        return (long) (ms * NS_PER_MS);
+    }
+
+    /**
+     * Block until a certain {@link System#nanoTime()} deadline. The calling
+     * thread is parked until it's within {@code spinThresholdNs} of the
+     * deadline, after which it spins. If the thread is interrupted, this
+     * method returns early (and the interrupt flag stays set).
+     *
+     * @param deadlineNs      the deadline to wait for.
+     * @param spinThresholdNs how close to the deadline the thread should
+     *                        switch from parking to spinning.
+     */
+    public static void sleepUntil(long deadlineNs, long spinThresholdNs) {
+        // Thread.onSpinWait() would be nice here, but it's not
+        // available in Java 8, so we just spin
+        while (deadlineNs - Clock.SYSTEM.nanoTime() > 0) {
+            if (Thread.currentThread().isInterrupted()) return;
+
+            Clock.SYSTEM.park(deadlineNs, spinThresholdNs);
+        }
+    }
+
+    /**
+     * Block for a certain amount of time, using
+     * {@link #sleepUntil(long, long)} and the default spin threshold.
+     *
+     * @param timeMs how long to block for, in milliseconds.
+     */
+    public static void sleepFor(double timeMs) {
+        if (timeMs <= 0) return;
+
+        sleepUntil(
+            System.nanoTime() + msToNs(timeMs),
+            DEFAULT_SPIN_THRESHOLD_NS
+        );
+    }
+
+    /**
+     * Run a {@code Runnable} at this runner's rate until this runner is
+     * stopped with {@link #stop()} or the thread is interrupted.
+     *
+     * @param runnable the {@code Runnable} to run.
+     * @return {@code this}, used for method chaining.
+     */
+    public FixedRateRunner run(Runnable runnable) {
+        return run(runnable, () -> true, Double.MAX_VALUE);
+    }
+
+    /**
+     * Run a {@code Runnable} at this runner's rate for a certain amount
+     * of time.
+     *
+     * @param runnable   the {@code Runnable} to run.
+     * @param durationMs how long to run for, in milliseconds.
+     * @return {@code this}, used for method chaining.
+     */
+    public FixedRateRunner runFor(Runnable runnable, double durationMs) {
+        return run(runnable, () -> true, durationMs);
+    }
+
+    /**
+     * Run a {@code Runnable} at this runner's rate as long as the provided
+     * condition is true.
+     *
+     * @param runnable       the {@code Runnable} to run.
+     * @param shouldContinue checked before every iteration. If this returns
+     *                       false, the loop will stop.
+     * @return {@code this}, used for method chaining.
+     */
+    public FixedRateRunner run(
+        Runnable runnable,
+        Supplier<Boolean> shouldContinue
+    ) {
+        return run(runnable, shouldContinue, Double.MAX_VALUE);
+    }
+
+    /**
+     * Run a {@code Runnable} at this runner's rate as long as the provided
+     * condition is true and the timeout hasn't elapsed. This method
+     * blocks until the loop is finished.
+     *
+     * @param runnable       the {@code Runnable} to run.
+     * @param shouldContinue checked before every iteration. If this returns
+     *                       false, the loop will stop.
+     * @param timeoutMs      the maximum amount of time the loop can run
+     *                       for, in milliseconds.
+     * @return {@code this}, used for method chaining.
+     */
+    public FixedRateRunner run(
+        Runnable runnable,
+        Supplier<Boolean> shouldContinue,
+        double timeoutMs
+    ) {
+        if (runnable == null) throw new NullPointerException(
+            "Runnable may not be null!"
+        );
+
+        if (shouldContinue == null) throw new NullPointerException(
+            "Continue condition may not be null!"
+        );
+
+        if (isRunning) throw new IllegalStateException(
+            "This FixedRateRunner is already running!"
+        );
+
+        long timeoutNs = timeoutMs >= Long.MAX_VALUE / NS_PER_MS
+            ? Long.MAX_VALUE
+            : msToNs(timeoutMs);
+
+        runnerThread = Thread.currentThread();
+        shouldStop = false;
+        isRunning = true;
+
+        try {
+            loop(runnable, shouldContinue, timeoutNs);
+        } finally {
+            isRunning = false;
+            runnerThread = null;
+        }
+
+        return this;
+    }
+
+    private void loop(
+        Runnable runnable,
+        Supplier<Boolean> shouldContinue,
+        long timeoutNs
+    ) {
+        long startNs = clock.nanoTime();
+        long deadlineNs = startNs;
+
+        while (true) {
+            long tickStartNs = clock.nanoTime();
+
+            if (shouldStop) return;
+            if (Thread.currentThread().isInterrupted()) return;
+            if (tickStartNs - startNs >= timeoutNs) return;
+            if (!shouldContinue.get()) return;
+
+            runnable.run();
+
+            long tickEndNs = clock.nanoTime();
+            stats.recordTick(tickStartNs, deadlineNs, tickEndNs);
+
+            if (periodNs == 0) continue;
+
+            deadlineNs += periodNs;
+
+            if (tickEndNs > deadlineNs) {
+                long behind = (tickEndNs - deadlineNs) / periodNs + 1;
+
+                switch (overrunPolicy) {
+                    case CATCH_UP:
+                        if (behind > maxCatchUpTicks) {
+                            long skipped = behind - maxCatchUpTicks;
+                            deadlineNs += skipped * periodNs;
+                            stats.recordSkipped(skipped);
+                        }
+                        break;
+                    case SKIP:
+                        deadlineNs += behind * periodNs;
+                        stats.recordSkipped(behind);
+                        break;
+                    case RESET:
+                        deadlineNs = tickEndNs + periodNs;
+                        stats.recordSkipped(behind);
+                        break;
+                }
+            }
+
+            waitUntil(deadlineNs);
+        }
+    }
+
+    private void waitUntil(long deadlineNs) {
+        while (!shouldStop && deadlineNs - clock.nanoTime() > 0) {
+            if (Thread.currentThread().isInterrupted()) return;
+
+            clock.park(deadlineNs, spinThresholdNs);
+        }
+    }
+
+    /**
+     * Stop the runner. This can be called from any thread. If the runner is
+     * currently waiting for its next deadline, it will be woken up.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public FixedRateRunner stop() {
+        shouldStop = true;
+
+        Thread thread = runnerThread;
+        if (thread != null) LockSupport.unpark(thread);
+
+        return this;
+    }
+
+    /**
+     * Is the runner currently running?
+     *
+     * @return true if the runner is running, otherwise, false.
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Get the runner's timing statistics. These statistics are shared
+     * across every call to {@code run}; use {@link LoopStats#reset()} to
+     * clear them.
+     *
+     * @return the runner's timing statistics.
+     */
+    public LoopStats getStats() {
+        return stats;
+    }
+
+    public long getPeriodNs() {
+        return periodNs;
+    }
+
+    public double getPeriodMs() {
+        return periodNs / NS_PER_MS;
+    }
+
+    public OverrunPolicy getOverrunPolicy() {
+        return overrunPolicy;
+    }
+
+    /**
+     * Set the runner's overrun policy.
+     *
+     * @param overrunPolicy what to do when an iteration takes longer than
+     *                      the period.
+     * @return {@code this}, used for method chaining.
+     */
+    public FixedRateRunner setOverrunPolicy(OverrunPolicy overrunPolicy) {
+        if (overrunPolicy == null) throw new NullPointerException(
+            "Overrun policy may not be null!"
+        );
+
+        this.overrunPolicy = overrunPolicy;
+
+        return this;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Set the clock the runner uses to measure time. By default, this is
+     * {@link Clock#SYSTEM}. If you use a {@link ManualClock}, the runner
+     * won't actually wait between iterations - it'll just advance the
+     * clock to the next deadline. Note that a runner with a period of 0
+     * and a {@link ManualClock} will never time out unless something else
+     * advances the clock.
+     *
+     * @param clock the clock the runner should use.
+     * @return {@code this}, used for method chaining.
+     */
+    public FixedRateRunner setClock(Clock clock) {
+        if (clock == null) throw new NullPointerException(
+            "Clock may not be null!"
+        );
+
+        this.clock = clock;
+
+        return this;
+    }
+
+    public long getSpinThresholdNs() {
+        return spinThresholdNs;
+    }
+
+    /**
+     * Set how close to a deadline the runner should switch from parking
+     * the thread to spinning. A larger value means less jitter but more
+     * CPU usage.
+     *
+     * @param spinThresholdNs the spin threshold, in nanoseconds. 0 means
+     *                        the runner will never spin.
+     * @return {@code this}, used for method chaining.
+     */
+    public FixedRateRunner setSpinThresholdNs(long spinThresholdNs) {
+        if (spinThresholdNs < 0) throw new IllegalArgumentException(
+            "Spin threshold must be greater than or equal to 0!"
+        );
+
+        this.spinThresholdNs = spinThresholdNs;
+
+        return this;
+    }
+
+    public int getMaxCatchUpTicks() {
+        return maxCatchUpTicks;
+    }
+
+    /**
+     * Set the maximum amount of missed ticks {@link OverrunPolicy#CATCH_UP}
+     * will run back-to-back. If the loop falls further behind than this,
+     * the extra ticks are skipped.
+     *
+     * @param maxCatchUpTicks the maximum amount of ticks to catch up on.
+     * @return {@code this}, used for method chaining.
+     */
+    public FixedRateRunner setMaxCatchUpTicks(int maxCatchUpTicks) {
+        if (maxCatchUpTicks < 0) throw new IllegalArgumentException(
+            "Max catch up ticks must be greater than or equal to 0!"
+        );
+
+        this.maxCatchUpTicks = maxCatchUpTicks;
+
+        return this;
+    }
+}
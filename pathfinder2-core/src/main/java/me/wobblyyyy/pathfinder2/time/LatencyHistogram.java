@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+
+/**
+ * A fixed-size histogram of durations, in nanoseconds, in the style of
+ * HdrHistogram.
+ *
+ * <p>
+ * Values are stored in log-linear buckets: values smaller than 64 ns each
+ * get their own bucket, and every power of two above that is split into
+ * 32 equally-sized buckets. That means any value can be reported with a
+ * relative error of about 3%, no matter how big it is, using a fixed
+ * amount of memory (about 8 KB). Values larger than
+ * {@link #MAX_TRACKABLE_NS} (about 68 seconds) are counted in the last
+ * bucket. The exact minimum and maximum values are also tracked.
+ * </p>
+ *
+ * <p>
+ * Recording a value is just a few arithmetic operations and an array
+ * increment - it doesn't allocate anything. This class isn't thread-safe:
+ * it's meant to be written to by the thread that ticks Pathfinder. It can
+ * be read from other threads, but the results might be slightly out of
+ * date.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class LatencyHistogram {
+    /**
+     * The largest value that can be tracked precisely, in nanoseconds.
+     */
+    public static final long MAX_TRACKABLE_NS = (1L << 36) - 1;
+
+    private static final double NS_PER_MS = 1_000_000d;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NS) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> shift);
+
+        return (
+            SUB_BUCKET_COUNT +
+            ((shift - 1) * SUB_BUCKET_HALF) +
+            (subBucket - SUB_BUCKET_HALF)
+        );
+    }
+
+    private static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = (offset / SUB_BUCKET_HALF) + 1;
+        long subBucket = (offset % SUB_BUCKET_HALF) + SUB_BUCKET_HALF;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Record a single duration.
+     *
+     * @param durationNs the duration to record, in nanoseconds. Negative
+     *                   durations are recorded as 0.
+     */
+    public void record(long durationNs) {
+        long value = Math.max(0, durationNs);
+
+        counts[indexOf(Math.min(value, MAX_TRACKABLE_NS))]++;
+        count++;
+        total += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Remove every recorded value.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length; i++) counts[i] = 0;
+        count = 0;
+        total = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * Get how many values have been recorded.
+     *
+     * @return how many values have been recorded.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getMinNs() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMaxNs() {
+        return max;
+    }
+
+    public double getMeanNs() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Get the value at a certain percentile: the smallest value that's
+     * greater than or equal to {@code percentile} percent of all of the
+     * recorded values. Because values are stored in buckets, this is the
+     * upper bound of the bucket that contains the percentile.
+     *
+     * @param percentile the percentile to get, from 0 to 100.
+     * @return the value at the given percentile, in nanoseconds. If no
+     * values have been recorded, this is 0.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) return 0;
+
+        double clamped = Math.min(100, Math.max(0, percentile));
+        long target = Math.max(1, (long) Math.ceil(count * clamped / 100));
+        long seen = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+
+            if (seen >= target) {
+                // the last bucket also contains everything too big to
+                // track, so the only known upper bound is the max
+                if (i == counts.length - 1) return max;
+
+                return Math.max(min, Math.min(max, highestValueAt(i)));
+            }
+        }
+
+        return max;
+    }
+
+    public long getP50Ns() {
+        return getValueAtPercentile(50);
+    }
+
+    public long getP99Ns() {
+        return getValueAtPercentile(99);
+    }
+
+    public double getP50Ms() {
+        return getP50Ns() / NS_PER_MS;
+    }
+
+    public double getP99Ms() {
+        return getP99Ns() / NS_PER_MS;
+    }
+
+    public double getMaxMs() {
+        return max / NS_PER_MS;
+    }
+
+    public double getMeanMs() {
+        return getMeanNs() / NS_PER_MS;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "LatencyHistogram (count: <%s> p50: <%s ms> p99: <%s ms> " +
+            "max: <%s ms> mean: <%s ms>)",
+            count,
+            getP50Ms(),
+            getP99Ms(),
+            getMaxMs(),
+            getMeanMs()
+        );
+    }
+}
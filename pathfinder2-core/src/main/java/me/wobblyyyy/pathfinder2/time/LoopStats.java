@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+
+/**
+ * Timing statistics for a {@link FixedRateRunner}. All of the values are
+ * stored in nanoseconds, but there are millisecond getters for everything,
+ * because the rest of Pathfinder works in milliseconds.
+ *
+ * <p>
+ * Recording a tick doesn't allocate anything, so it's safe to leave these
+ * statistics enabled all the time.
+ * </p>
+ *
+ * <p>
+ * A couple of definitions:
+ * <ul>
+ *     <li>
+ *         <b>Period</b>: the amount of time between the start of two
+ *         consecutive ticks.
+ *     </li>
+ *     <li>
+ *         <b>Jitter</b>: the absolute difference between the measured period
+ *         and the target period.
+ *     </li>
+ *     <li>
+ *         <b>Lateness</b>: how long after its deadline a tick actually
+ *         started.
+ *     </li>
+ *     <li>
+ *         <b>Duration</b>: how long the ticked code took to run.
+ *     </li>
+ * </ul>
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class LoopStats {
+    private static final double NS_PER_MS = 1_000_000d;
+
+    private final long targetPeriodNs;
+
+    private long ticks;
+    private long overruns;
+    private long skippedTicks;
+
+    private long lastStartNs;
+    private long lastPeriodNs;
+    private long minPeriodNs = Long.MAX_VALUE;
+    private long maxPeriodNs;
+    private long totalPeriodNs;
+
+    private long lastJitterNs;
+    private long maxJitterNs;
+    private long totalJitterNs;
+
+    private long maxLatenessNs;
+    private long totalLatenessNs;
+
+    private long lastDurationNs;
+    private long maxDurationNs;
+    private long totalDurationNs;
+
+    /**
+     * Create a new {@code LoopStats}.
+     *
+     * @param targetPeriodNs the period the loop is trying to maintain, in
+     *                       nanoseconds. This is used to calculate jitter.
+     */
+    public LoopStats(long targetPeriodNs) {
+        this.targetPeriodNs = targetPeriodNs;
+    }
+
+    /**
+     * Record a single tick.
+     *
+     * @param startNs    the time the tick started at.
+     * @param deadlineNs the time the tick was supposed to start at.
+     * @param endNs      the time the tick finished at.
+     */
+    void recordTick(long startNs, long deadlineNs, long endNs) {
+        if (ticks > 0) {
+            long periodNs = startNs - lastStartNs;
+            long jitterNs = Math.abs(periodNs - targetPeriodNs);
+
+            lastPeriodNs = periodNs;
+            minPeriodNs = Math.min(minPeriodNs, periodNs);
+            maxPeriodNs = Math.max(maxPeriodNs, periodNs);
+            totalPeriodNs += periodNs;
+
+            lastJitterNs = jitterNs;
+            maxJitterNs = Math.max(maxJitterNs, jitterNs);
+            totalJitterNs += jitterNs;
+        }
+
+        long latenessNs = Math.max(0, startNs - deadlineNs);
+        maxLatenessNs = Math.max(maxLatenessNs, latenessNs);
+        totalLatenessNs += latenessNs;
+
+        long durationNs = endNs - startNs;
+        if (targetPeriodNs > 0 && durationNs > targetPeriodNs) overruns++;
+        lastDurationNs = durationNs;
+        maxDurationNs = Math.max(maxDurationNs, durationNs);
+        totalDurationNs += durationNs;
+
+        lastStartNs = startNs;
+        ticks++;
+    }
+
+    /**
+     * Record ticks that were skipped because the loop fell behind.
+     *
+     * @param skipped how many ticks were skipped.
+     */
+    void recordSkipped(long skipped) {
+        skippedTicks += skipped;
+    }
+
+    /**
+     * Reset all of the statistics.
+     */
+    public void reset() {
+        ticks = 0;
+        overruns = 0;
+        skippedTicks = 0;
+        lastStartNs = 0;
+        lastPeriodNs = 0;
+        minPeriodNs = Long.MAX_VALUE;
+        maxPeriodNs = 0;
+        totalPeriodNs = 0;
+        lastJitterNs = 0;
+        maxJitterNs = 0;
+        totalJitterNs = 0;
+        maxLatenessNs = 0;
+        totalLatenessNs = 0;
+        lastDurationNs = 0;
+        maxDurationNs = 0;
+        totalDurationNs = 0;
+    }
+
+    private static double toMs(long ns) {
+        return ns / NS_PER_MS;
+    }
+
+    private static double average(long total, long count) {
+        if (count < 1) return 0;
+
+        return (double) total / count;
+    }
+
+    public long getTargetPeriodNs() {
+        return targetPeriodNs;
+    }
+
+    public double getTargetPeriodMs() {
+        return toMs(targetPeriodNs);
+    }
+
+    /**
+     * Get how many ticks have been executed.
+     *
+     * @return how many ticks have been executed.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Get how many ticks took longer than the loop's period to execute.
+     *
+     * @return how many overruns there have been.
+     */
+    public long getOverruns() {
+        return overruns;
+    }
+
+    /**
+     * Get how many ticks were skipped entirely because the loop fell behind
+     * its schedule. With {@link OverrunPolicy#CATCH_UP}, this is only
+     * non-zero if the loop fell so far behind that it couldn't catch up.
+     *
+     * @return how many ticks were skipped.
+     */
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+
+    public long getLastPeriodNs() {
+        return lastPeriodNs;
+    }
+
+    public long getMinPeriodNs() {
+        return ticks > 1 ? minPeriodNs : 0;
+    }
+
+    public long getMaxPeriodNs() {
+        return maxPeriodNs;
+    }
+
+    public double getAveragePeriodNs() {
+        return average(totalPeriodNs, ticks - 1);
+    }
+
+    public long getLastJitterNs() {
+        return lastJitterNs;
+    }
+
+    public long getMaxJitterNs() {
+        return maxJitterNs;
+    }
+
+    public double getAverageJitterNs() {
+        return average(totalJitterNs, ticks - 1);
+    }
+
+    public long getMaxLatenessNs() {
+        return maxLatenessNs;
+    }
+
+    public double getAverageLatenessNs() {
+        return average(totalLatenessNs, ticks);
+    }
+
+    public long getLastDurationNs() {
+        return lastDurationNs;
+    }
+
+    public long getMaxDurationNs() {
+        return maxDurationNs;
+    }
+
+    public double getAverageDurationNs() {
+        return average(totalDurationNs, ticks);
+    }
+
+    public double getLastPeriodMs() {
+        return toMs(lastPeriodNs);
+    }
+
+    public double getMinPeriodMs() {
+        return toMs(getMinPeriodNs());
+    }
+
+    public double getMaxPeriodMs() {
+        return toMs(maxPeriodNs);
+    }
+
+    public double getAveragePeriodMs() {
+        return getAveragePeriodNs() / NS_PER_MS;
+    }
+
+    public double getMaxJitterMs() {
+        return toMs(maxJitterNs);
+    }
+
+    public double getAverageJitterMs() {
+        return getAverageJitterNs() / NS_PER_MS;
+    }
+
+    public double getMaxLatenessMs() {
+        return toMs(maxLatenessNs);
+    }
+
+    public double getMaxDurationMs() {
+        return toMs(maxDurationNs);
+    }
+
+    public double getAverageDurationMs() {
+        return getAverageDurationNs() / NS_PER_MS;
+    }
+
+    /**
+     * Get the average rate of the loop, in ticks per second.
+     *
+     * @return the average rate of the loop, in Hz.
+     */
+    public double getAverageRateHz() {
+        double averagePeriodNs = getAveragePeriodNs();
+
+        if (averagePeriodNs == 0) return 0;
+
+        return 1_000_000_000d / averagePeriodNs;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "LoopStats (ticks: <%s> overruns: <%s> skipped: <%s> " +
+            "target period: <%s ms> average period: <%s ms> " +
+            "average jitter: <%s ms> max jitter: <%s ms> " +
+            "average duration: <%s ms> max duration: <%s ms>)",
+            ticks,
+            overruns,
+            skippedTicks,
+            getTargetPeriodMs(),
+            getAveragePeriodMs(),
+            getAverageJitterMs(),
+            getMaxJitterMs(),
+            getAverageDurationMs(),
+            getMaxDurationMs()
+        );
+    }
+}
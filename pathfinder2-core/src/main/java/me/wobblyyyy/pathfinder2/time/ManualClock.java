@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+import java.util.concurrent.atomic.AtomicLong;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+
+/**
+ * A {@link Clock} that only moves when it's told to. Time stands still
+ * until you call one of the {@code advance} methods.
+ *
+ * <p>
+ * This is mostly useful for simulation and testing. For example, if you
+ * give Pathfinder a {@code ManualClock} and advance it by 10 milliseconds
+ * every tick, Pathfinder will think it's being ticked 100 times per second,
+ * regardless of how fast it's actually being ticked - so a simulated
+ * 30 second autonomous can finish in a fraction of a second, and the
+ * results are the same every time.
+ * </p>
+ *
+ * <p>
+ * Waiting on a {@code ManualClock} (see {@link #park(long, long)}) doesn't
+ * block - it just moves the clock forwards to the deadline. That means a
+ * {@link FixedRateRunner} using a {@code ManualClock} runs as fast as it
+ * possibly can, while still seeing a perfectly even period.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class ManualClock implements Clock {
+    private final AtomicLong nanoTime;
+
+    /**
+     * Create a new {@code ManualClock}, starting at 0.
+     */
+    public ManualClock() {
+        this(0);
+    }
+
+    /**
+     * Create a new {@code ManualClock}.
+     *
+     * @param startNs the clock's initial time, in nanoseconds.
+     */
+    public ManualClock(long startNs) {
+        this.nanoTime = new AtomicLong(startNs);
+    }
+
+    @Override
+    public long nanoTime() {
+        return nanoTime.get();
+    }
+
+    /**
+     * Moves the clock forwards to the deadline, if it isn't already
+     * past the deadline.
+     *
+     * @param deadlineNs      the time to wait for, in nanoseconds.
+     * @param spinThresholdNs ignored.
+     */
+    @Override
+    public void park(long deadlineNs, long spinThresholdNs) {
+        advanceTo(deadlineNs);
+    }
+
+    /**
+     * Set the clock's current time. Setting the time to a value less than
+     * the current time will make the clock go backwards, which will confuse
+     * anything using the clock - you probably want one of the
+     * {@code advance} methods instead.
+     *
+     * @param nanoTime the clock's new time, in nanoseconds.
+     * @return {@code this}, used for method chaining.
+     */
+    public ManualClock setNanoTime(long nanoTime) {
+        this.nanoTime.set(nanoTime);
+
+        return this;
+    }
+
+    /**
+     * Move the clock forwards.
+     *
+     * @param ns how far to move the clock, in nanoseconds. This must be
+     *           greater than or equal to 0.
+     * @return {@code this}, used for method chaining.
+     */
+    public ManualClock advanceNs(long ns) {
+        if (ns < 0) throw new IllegalArgumentException(
+            "Can't advance a clock by a negative amount of time!"
+        );
+
+        nanoTime.addAndGet(ns);
+
+        return this;
+    }
+
+    /**
+     * Move the clock forwards.
+     *
+     * @param ms how far to move the clock, in milliseconds. This must be
+     *           greater than or equal to 0.
+     * @return {@code this}, used for method chaining.
+     */
+    public ManualClock advanceMs(double ms) {
+        return advanceNs((long) (ms * 1_000_000));
+    }
+
+    /**
+     * Move the clock forwards to a certain time. If the clock is already
+     * past that time, nothing happens.
+     *
+     * @param targetNs the time to move to, in nanoseconds.
+     * @return {@code this}, used for method chaining.
+     */
+    public ManualClock advanceTo(long targetNs) {
+        nanoTime.accumulateAndGet(targetNs, Math::max);
+
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format("ManualClock (%s ns)", nanoTime.get());
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+/**
+ * What a {@link FixedRateRunner} should do when a single iteration of its
+ * loop takes longer than the loop's period (an "overrun").
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public enum OverrunPolicy {
+    /**
+     * Keep the original schedule and run any missed iterations back-to-back
+     * (without sleeping) until the loop has caught up. This preserves the
+     * average rate of the loop at the cost of a short burst of iterations
+     * after an overrun. The amount of iterations the loop will try to
+     * catch up on is limited by
+     * {@link FixedRateRunner#setMaxCatchUpTicks(int)}.
+     */
+    CATCH_UP,
+
+    /**
+     * Skip any missed iterations and wait for the next deadline that's
+     * still in the future. This keeps the loop aligned to its original
+     * schedule (every iteration starts on a multiple of the period) and
+     * never runs iterations back-to-back. This is the default policy, and
+     * it's usually what you want for a control loop.
+     */
+    SKIP,
+
+    /**
+     * Throw away the original schedule and start counting the period
+     * again from the end of the iteration that overran.
+     */
+    RESET
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+/**
+ * A {@link Clock} backed by {@link System#nanoTime()}. You probably want
+ * to use {@link Clock#SYSTEM} instead of creating a new instance.
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class SystemClock implements Clock {
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return "SystemClock";
+    }
+}
@@ -143,4 +143,29 @@ public static void runFor(double durationMs, Runnable runnable) {
 
         while (timer.elapsedMs() <= durationMs) runnable.run();
     }
+
+    /**
+     * Execute a certain piece of functionality at a fixed rate for a
+     * certain amount of time. Unlike {@link #runFor(double, Runnable)},
+     * this method sleeps between each execution instead of running the
+     * {@code Runnable} as often as possible.
+     *
+     * @param durationMs how long, in milliseconds, the provided
+     *                   {@code Runnable} should run for.
+     * @param periodMs   how long each execution should take, in
+     *                   milliseconds.
+     * @param runnable   functionality that will be executed repeatedly for
+     *                   {@code durationMs}.
+     * @return the timing statistics of the loop.
+     * @see FixedRateRunner
+     */
+    public static LoopStats runFor(
+        double durationMs,
+        double periodMs,
+        Runnable runnable
+    ) {
+        return new FixedRateRunner(periodMs)
+            .runFor(runnable, durationMs)
+            .getStats();
+    }
 }
@@ -204,7 +204,7 @@ public PointXYZ nextMarker(PointXYZ current) {
     private boolean isDoneXY(PointXYZ current) {
         boolean isNear = current.isNear(this.target, this.tolerance);
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             LinearTrajectory.class,
             "isDoneXY: <%s> (current: <%s> target: <%s> tolerance: <%s>)",
             isNear,
@@ -221,7 +221,7 @@ private boolean isDoneHeading(PointXYZ current) {
             .z()
             .isCloseDeg(target.z().fix(), angleTolerance.fix().deg());
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             LinearTrajectory.class,
             "isDoneHeading: <%s> (current: <%s> target: <%s> tolerance: <%s>)",
             isNear,
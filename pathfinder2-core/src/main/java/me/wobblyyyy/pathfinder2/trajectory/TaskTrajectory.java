@@ -28,6 +28,7 @@ public class TaskTrajectory implements Trajectory {
     private final Runnable initial;
     private final Runnable during;
     private final Runnable onFinish;
+    private final Supplier<Boolean> initialIsFinished;
     private Supplier<Boolean> isFinished;
     private final double minTimeMs;
     private final double maxTimeMs;
@@ -63,6 +64,7 @@ public TaskTrajectory(
         this.initial = initial;
         this.during = during;
         this.onFinish = onFinish;
+        this.initialIsFinished = isFinished;
         this.isFinished = isFinished;
         this.minTimeMs = minTimeMs;
         this.maxTimeMs = maxTimeMs;
@@ -128,6 +130,22 @@ public void end() {
         isFinished = () -> true;
     }
 
+    /**
+     * Reset the task, so it can be run again from the start: the initial
+     * task runs again, the timer starts again, and, if the task was ended
+     * with {@link #end()}, it isn't anymore.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    @Override
+    public TaskTrajectory reset() {
+        isFinished = initialIsFinished;
+        hasExecuted = false;
+        hasFinished = false;
+
+        return this;
+    }
+
     @Override
     public String toString() {
         return StringUtils.format(
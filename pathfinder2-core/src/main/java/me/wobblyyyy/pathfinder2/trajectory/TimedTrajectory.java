@@ -14,8 +14,9 @@
 import me.wobblyyyy.pathfinder2.geometry.Angle;
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
 import me.wobblyyyy.pathfinder2.geometry.Translation;
-import me.wobblyyyy.pathfinder2.time.Time;
+import me.wobblyyyy.pathfinder2.time.Clock;
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 
 /**
  * A trajectory that will go in a certain direction for a certain amount
@@ -25,6 +26,13 @@
  * autonomous using several timed trajectories so that your robot follows a
  * predictable pattern of motion.
  *
+ * <p>
+ * Time is measured with a {@link Clock} - {@link Clock#SYSTEM} unless you
+ * say otherwise. If you're running a simulation faster than real time,
+ * pass {@code pathfinder.getClock()} to the constructor so the trajectory
+ * runs for the right amount of simulated time.
+ * </p>
+ *
  * @author Colin Robertson
  * @since 0.2.3
  */
@@ -33,7 +41,8 @@ public class TimedTrajectory implements Trajectory {
     private final double timeoutMs;
     private final double speed;
     private final double turnMultiplier;
-    private double startTime = 0;
+    private final Clock clock;
+    private double startTime = Double.NaN;
     private double elapsedTime = 0;
 
     /**
@@ -62,17 +71,42 @@ public TimedTrajectory(
         double timeoutMs,
         double speed,
         double turnMultiplier
+    ) {
+        this(translation, timeoutMs, speed, turnMultiplier, Clock.SYSTEM);
+    }
+
+    /**
+     * Create a new {@code TimedTrajectory} that measures time with a
+     * certain clock.
+     *
+     * @param translation    the translation the robot should follow.
+     * @param timeoutMs      how long the trajectory should last, in
+     *                       milliseconds.
+     * @param speed          how fast the robot should move.
+     * @param turnMultiplier the value that all vz values will be multiplied
+     *                       by.
+     * @param clock          the clock used to measure time.
+     * @see #TimedTrajectory(Translation, double, double, double)
+     */
+    public TimedTrajectory(
+        Translation translation,
+        double timeoutMs,
+        double speed,
+        double turnMultiplier,
+        Clock clock
     ) {
         this.translation = translation;
         this.timeoutMs = timeoutMs;
         this.speed = speed;
         this.turnMultiplier = turnMultiplier;
+        this.clock = ValidationUtils.validate(clock, "clock");
     }
 
     private void updateTime() {
-        double currentTime = Time.ms();
+        double currentTime = clock.ms();
 
-        if (startTime == 0) {
+        // NaN rather than 0, because a ManualClock starts at 0
+        if (Double.isNaN(startTime)) {
             startTime = currentTime;
         }
 
@@ -87,6 +121,8 @@ public PointXYZ nextMarker(PointXYZ current) {
         // go forward for 10 seconds - matt
         // right foot right stomp - alec
 
+        updateTime();
+
         return current
             .inDirection(
                 speed,
@@ -97,6 +133,8 @@ public PointXYZ nextMarker(PointXYZ current) {
 
     @Override
     public boolean isDone(PointXYZ current) {
+        updateTime();
+
         return elapsedTime >= timeoutMs;
     }
 
@@ -105,6 +143,20 @@ public double speed(PointXYZ current) {
         return speed;
     }
 
+    /**
+     * Restart the trajectory's timer. The timer starts again the next time
+     * the trajectory is used.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    @Override
+    public TimedTrajectory reset() {
+        startTime = Double.NaN;
+        elapsedTime = 0;
+
+        return this;
+    }
+
     @Override
     public String toString() {
         return StringUtils.format(
@@ -21,7 +21,14 @@
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
 import me.wobblyyyy.pathfinder2.geometry.Translation;
-import me.wobblyyyy.pathfinder2.time.ElapsedTimer;
+import me.wobblyyyy.pathfinder2.time.Clock;
+import me.wobblyyyy.pathfinder2.trajectory.decorator.ConditionalTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.decorator.DecoratedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.decorator.ListenerTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.decorator.ModifiedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.decorator.PointTransform;
+import me.wobblyyyy.pathfinder2.trajectory.decorator.TimeLimitedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.decorator.TransformedTrajectory;
 import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
 
 /**
@@ -58,7 +65,8 @@
  * </ul>
  * These listeners are relatively ineffective, as the addition of each layer
  * requires the instantiation of a new trajectory. Although this should not
- * pose a performance problem in any cases, it's worth mentioning. These
+ * pose a performance problem in any cases, it's worth mentioning (and
+ * {@link #compile()} can combine a stack of these layers). These
  * listeners are bound to the trajectory itself and are based on the state
  * of the trajectory; therefore, you do not need to use Pathfinder's
  * {@code listening} package in order to use these listeners.
@@ -176,6 +184,50 @@ public interface Trajectory extends Serializable {
      */
     double speed(PointXYZ current);
 
+    /**
+     * Reset the trajectory, so it can be followed again from the start.
+     * Most trajectories don't keep track of anything while they're being
+     * followed, so by default, this doesn't do anything. Stateful
+     * trajectories (like {@link MultiSegmentTrajectory}, which keeps track
+     * of which segment it's on) should override this.
+     *
+     * <p>
+     * Resetting a trajectory means a single trajectory can be followed
+     * over and over again (for example, in a simulation that runs the same
+     * routine many times) without having to create it again each time.
+     * </p>
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    default Trajectory reset() {
+        return this;
+    }
+
+    /**
+     * "Compile" the trajectory. Each of the default methods that modify
+     * a trajectory (such as {@link #reflectX(double)},
+     * {@link #offset(PointXYZ)} or {@link #addEndCondition(Supplier)}) wraps
+     * the trajectory in another layer, meaning a trajectory with a lot of
+     * modifiers has to go through a lot of layers every time one of its
+     * methods is called. Compiling
+     * the trajectory combines layers that can be combined - for example,
+     * any number of reflections, rotations, offsets, and multipliers in a
+     * row become a single layer that only creates one point.
+     *
+     * <p>
+     * The compiled trajectory does the exact same thing as the original
+     * one, so you can call this method right before following a trajectory
+     * with a lot of modifiers. Trajectories that don't have any layers
+     * (which is most of them) just return {@code this}.
+     * </p>
+     *
+     * @return a compiled version of the trajectory.
+     * @see DecoratedTrajectory#compile()
+     */
+    default Trajectory compile() {
+        return this;
+    }
+
     /**
      * Convert this trajectory to a {@link MultiSegmentTrajectory}, adding
      * all of the provided additional trajectories.
@@ -216,7 +268,7 @@ default Trajectory toMultiSegmentTrajectory(
      * it'll activate whenever a certain condition is met.
      */
     default Trajectory onStart(Consumer<PointXYZ> onStart) {
-        return addListeners(onStart, point -> {});
+        return addListeners(onStart, null);
     }
 
     /**
@@ -234,7 +286,7 @@ default Trajectory onStart(Consumer<PointXYZ> onStart) {
      * it'll activate whenever a certain condition is met.
      */
     default Trajectory onFinish(Consumer<PointXYZ> onFinish) {
-        return addListeners(point -> {}, onFinish);
+        return addListeners(null, onFinish);
     }
 
     /**
@@ -263,53 +315,12 @@ default Trajectory addListeners(
         Consumer<PointXYZ> onStart,
         Consumer<PointXYZ> onFinish
     ) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
+        return new ListenerTrajectory(
+            this,
+            onStart,
+            ListenerTrajectory.doneListener(onFinish, null),
+            null
         );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        return new Trajectory() {
-            boolean hasStarted = false;
-            boolean hasFinished = false;
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                if (!hasStarted) {
-                    onStart.accept(current);
-                    hasStarted = true;
-                }
-
-                return nextMarkerFunction.apply(current);
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                boolean isDone = isDoneFunction.apply(current);
-
-                if (isDone) if (!hasFinished) {
-                    onFinish.accept(current);
-                    hasFinished = true;
-                }
-
-                return isDone;
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                return speedFunction.apply(current);
-            }
-
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
     }
 
     /**
@@ -347,59 +358,12 @@ default Trajectory addListeners(
         Consumer<Double> onSpeed,
         Consumer<PointXYZ> onFinish
     ) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
+        return new ListenerTrajectory(
+            this,
+            onStart,
+            ListenerTrajectory.doneListener(onFinish, onIsDone),
+            onSpeed == null ? null : onSpeed::accept
         );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        return new Trajectory() {
-            boolean hasStarted = false;
-            boolean hasFinished = false;
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                if (!hasStarted) {
-                    onStart.accept(current);
-                    hasStarted = true;
-                }
-
-                return nextMarkerFunction.apply(current);
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                boolean isDone = isDoneFunction.apply(current);
-
-                if (isDone) if (!hasFinished) {
-                    onFinish.accept(current);
-                    hasFinished = true;
-                }
-
-                onIsDone.accept(isDone);
-
-                return isDone;
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                double speed = speedFunction.apply(current);
-
-                onSpeed.accept(speed);
-
-                return speed;
-            }
-
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
     }
 
     /**
@@ -417,41 +381,12 @@ default Trajectory withModifiers(
         Function<Boolean, Boolean> isDoneModifier,
         Function<Double, Double> speedModifier
     ) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
+        return new ModifiedTrajectory(
+            this,
+            nextMarkerModifier,
+            isDoneModifier::apply,
+            speedModifier::apply
         );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        return new Trajectory() {
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                return nextMarkerModifier.apply(
-                    nextMarkerFunction.apply(current)
-                );
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                return isDoneModifier.apply(isDoneFunction.apply(current));
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                return speedModifier.apply(speedFunction.apply(current));
-            }
-
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
     }
 
     /**
@@ -471,48 +406,34 @@ default Trajectory withTimeLimits(
         double minimumTimeMs,
         double maximumTimeMs
     ) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        return new Trajectory() {
-            final ElapsedTimer timer = new ElapsedTimer();
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                if (!timer.hasStarted()) timer.start();
-
-                return nextMarkerFunction.apply(current);
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                double elapsedMs = timer.elapsedMs();
-
-                if (elapsedMs < minimumTimeMs) return true; else if (
-                    elapsedMs < maximumTimeMs
-                ) return isDoneFunction.apply(current); else return (
-                    elapsedMs > maximumTimeMs
-                );
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                return speedFunction.apply(current);
-            }
+        return new TimeLimitedTrajectory(this, minimumTimeMs, maximumTimeMs);
+    }
 
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
+    /**
+     * Create a wrapper trajectory around this trajectory that behaves exactly
+     * the same as {@code this} trajectory, but with time limits, measured
+     * with a certain clock. Use this (with {@code pathfinder.getClock()})
+     * if you're running a simulation faster than real time.
+     *
+     * @param minimumTimeMs the minimum amount of time the trajectory may
+     *                      execute for, in milliseconds.
+     * @param maximumTimeMs the maximum amount of time the trajectory may
+     *                      execute for, in milliseconds.
+     * @param clock         the clock used to measure time.
+     * @return a wrapper for {@code this} trajectory.
+     * @see #withTimeLimits(double, double)
+     */
+    default Trajectory withTimeLimits(
+        double minimumTimeMs,
+        double maximumTimeMs,
+        Clock clock
+    ) {
+        return new TimeLimitedTrajectory(
+            this,
+            minimumTimeMs,
+            maximumTimeMs,
+            clock
+        );
     }
 
     /**
@@ -524,45 +445,10 @@ public String toString() {
      * inputted points over a specified axis.
      */
     default Trajectory reflectX(double xReflectionAxis) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
+        return new TransformedTrajectory(
+            this,
+            PointTransform.reflectX(xReflectionAxis)
         );
-        Supplier<String> _toString = this::toString;
-
-        return new Trajectory() {
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                return nextMarkerFunction
-                    .apply(current.reflectOverX(xReflectionAxis))
-                    .reflectOverX(xReflectionAxis);
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                return isDoneFunction.apply(
-                    current.reflectOverX(xReflectionAxis)
-                );
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                return speedFunction.apply(
-                    current.reflectOverX(xReflectionAxis)
-                );
-            }
-
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
     }
 
     /**
@@ -574,45 +460,10 @@ public String toString() {
      * inputted points over a specified axis.
      */
     default Trajectory reflectY(double yReflectionAxis) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
+        return new TransformedTrajectory(
+            this,
+            PointTransform.reflectY(yReflectionAxis)
         );
-        Supplier<String> _toString = this::toString;
-
-        return new Trajectory() {
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                return nextMarkerFunction
-                    .apply(current.reflectOverY(yReflectionAxis))
-                    .reflectOverY(yReflectionAxis);
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                return isDoneFunction.apply(
-                    current.reflectOverY(yReflectionAxis)
-                );
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                return speedFunction.apply(
-                    current.reflectOverY(yReflectionAxis)
-                );
-            }
-
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
     }
 
     /**
@@ -622,24 +473,7 @@ public String toString() {
      * @return a trajectory with an applied offset.
      */
     default Trajectory offset(PointXYZ offset) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        return getTrajectory(
-            offset,
-            nextMarkerFunction,
-            isDoneFunction,
-            speedFunction,
-            _toString
-        );
+        return new TransformedTrajectory(this, PointTransform.add(offset));
     }
 
     default Trajectory getTrajectory(
@@ -683,41 +517,10 @@ public String toString() {
      * @return the rotated trajectory.
      */
     default Trajectory rotateAround(PointXY center, Angle angle) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
+        return new TransformedTrajectory(
+            this,
+            PointTransform.rotate(center, angle)
         );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        return new Trajectory() {
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                return nextMarkerFunction
-                    .apply(current.rotate(center, angle))
-                    .rotate(center, angle);
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                return isDoneFunction.apply(current.rotate(center, angle));
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                return speedFunction.apply(current.rotate(center, angle));
-            }
-
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
     }
 
     /**
@@ -728,28 +531,11 @@ public String toString() {
      * @return a shifted trajectory.
      */
     default Trajectory shift(PointXY origin, PointXY target) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
         PointXYZ difference = origin
             .subtract(target)
             .withHeading(Angle.fromDeg(0));
 
-        return getTrajectory(
-            difference,
-            nextMarkerFunction,
-            isDoneFunction,
-            speedFunction,
-            _toString
-        );
+        return new TransformedTrajectory(this, PointTransform.add(difference));
     }
 
     default Trajectory multiply(PointXYZ multiplier) {
@@ -782,47 +568,10 @@ default Trajectory multiply(
         double yMultiplier,
         double zMultiplier
     ) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        PointXYZ mult = new PointXYZ(
-            xMultiplier,
-            yMultiplier,
-            Angle.fromDeg(zMultiplier)
+        return new TransformedTrajectory(
+            this,
+            PointTransform.multiply(xMultiplier, yMultiplier, zMultiplier)
         );
-
-        return new Trajectory() {
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                return nextMarkerFunction
-                    .apply(current.multiply(mult))
-                    .multiply(mult);
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                return isDoneFunction.apply(current.multiply(mult));
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                return speedFunction.apply(current.multiply(mult));
-            }
-
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
     }
 
     @SuppressWarnings("DuplicatedCode")
@@ -831,29 +580,15 @@ default Trajectory add(
         double yMultiplier,
         double zMultiplier
     ) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        PointXYZ mult = new PointXYZ(
-            xMultiplier,
-            yMultiplier,
-            Angle.fromDeg(zMultiplier)
-        );
-
-        return getTrajectory(
-            mult,
-            nextMarkerFunction,
-            isDoneFunction,
-            speedFunction,
-            _toString
+        return new TransformedTrajectory(
+            this,
+            PointTransform.add(
+                new PointXYZ(
+                    xMultiplier,
+                    yMultiplier,
+                    Angle.fromDeg(zMultiplier)
+                )
+            )
         );
     }
 
@@ -878,91 +613,19 @@ default Trajectory addEndCondition(Supplier<Boolean> isFinished) {
     default Trajectory addEndConditions(
         Iterable<Supplier<Boolean>> conditions
     ) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        return new Trajectory() {
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                return nextMarkerFunction.apply(current);
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                for (Supplier<Boolean> condition : conditions) if (
-                    condition.get()
-                ) return true;
-
-                return isDoneFunction.apply(current);
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                return speedFunction.apply(current);
-            }
-
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
+        return new ConditionalTrajectory(this, conditions, true);
     }
 
     default Trajectory addRequirement(Supplier<Boolean> isStillActive) {
         List<Supplier<Boolean>> list = new ArrayList<>(1);
         list.add(isStillActive);
-        return addEndConditions(list);
+        return addRequirements(list);
     }
 
     default Trajectory addRequirements(
         Iterable<Supplier<Boolean>> requirements
     ) {
-        Function<PointXYZ, PointXYZ> nextMarkerFunction = InternalTrajectoryUtils.nextMarkerFunction(
-            this
-        );
-        Function<PointXYZ, Boolean> isDoneFunction = InternalTrajectoryUtils.isDoneFunction(
-            this
-        );
-        Function<PointXYZ, Double> speedFunction = InternalTrajectoryUtils.speedFunction(
-            this
-        );
-        Supplier<String> _toString = this::toString;
-
-        return new Trajectory() {
-
-            @Override
-            public PointXYZ nextMarker(PointXYZ current) {
-                return nextMarkerFunction.apply(current);
-            }
-
-            @Override
-            public boolean isDone(PointXYZ current) {
-                for (Supplier<Boolean> requirement : requirements) if (
-                    !requirement.get()
-                ) return true;
-
-                return isDoneFunction.apply(current);
-            }
-
-            @Override
-            public double speed(PointXYZ current) {
-                return speedFunction.apply(current);
-            }
-
-            @Override
-            public String toString() {
-                return _toString.get();
-            }
-        };
+        return new ConditionalTrajectory(this, requirements, false);
     }
 
     /**
@@ -990,29 +653,4 @@ public boolean abstractIsDone(PointXYZ current) {
             }
         };
     }
-
-    /**
-     * Utilities intended exclusively for internal use within Pathfinder. This
-     * class only exists because you can't make private methods in interfaces,
-     * so... I had to create a static class to avoid cluttering the main
-     * {@code Trajectory} interface with useless default methods.
-     */
-    class InternalTrajectoryUtils {
-
-        static Function<PointXYZ, PointXYZ> nextMarkerFunction(
-            Trajectory trajectory
-        ) {
-            return trajectory::nextMarker;
-        }
-
-        static Function<PointXYZ, Boolean> isDoneFunction(
-            Trajectory trajectory
-        ) {
-            return trajectory::isDone;
-        }
-
-        static Function<PointXYZ, Double> speedFunction(Trajectory trajectory) {
-            return trajectory::speed;
-        }
-    }
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.baked.BakedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
+import me.wobblyyyy.pathfinder2.trajectory.decorator.DecoratedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.spline.AdvancedSplineTrajectory;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * Builds trajectories on a background thread, so the thread that's
+ * controlling the robot doesn't have to wait for them. Building a spline
+ * trajectory (creating the splines, validating everything, and logging
+ * all of it) takes a while, and if it happens at the very start of the
+ * autonomous period, the robot just sits there until it's done.
+ *
+ * <p>
+ * Each trajectory is prepared in a few steps, all of them on the
+ * background thread:
+ * <ul>
+ *     <li>The trajectory is built.</li>
+ *     <li>The trajectory is compiled (see {@link Trajectory#compile()}),
+ *     so any modifiers are combined.</li>
+ *     <li>If a bake spacing has been set (see
+ *     {@link #setBakeSpacing(double)}), any spline trajectories are
+ *     baked (see {@link AdvancedSplineTrajectory#bake(double)}), even if
+ *     they're segments of a {@link MultiSegmentTrajectory} or they're
+ *     wrapped in decorators (see {@link DecoratedTrajectory}).</li>
+ *     <li>The code the trajectory uses while it's being followed is
+ *     warmed up: a copy of each spline or baked trajectory is followed
+ *     from start to finish a few times ({@code nextMarker},
+ *     {@code isDone}, and {@code speed} are called at each of its
+ *     samples), so the JVM has already loaded (and, hopefully, compiled)
+ *     that code before the robot needs it.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Only copies are warmed up, so the trajectory itself never changes
+ * state, and its listeners are never triggered. That means the code that
+ * only the trajectory itself runs isn't warmed up: decorators (listeners,
+ * transforms, and so on) are skipped, and only the spline or baked
+ * trajectories they wrap are warmed up. Any other kind of trajectory
+ * isn't warmed up at all.
+ * </p>
+ *
+ * <p>
+ * This is what {@code Pathfinder.prebuildTrajectory} uses to build
+ * trajectories for the global trajectory map while the robot is
+ * initializing.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TrajectoryPrecomputer {
+    /**
+     * The spacing used to sample spline trajectories while warming them up.
+     */
+    private static final double WARMUP_SPACING = 1;
+
+    private Executor executor = DefaultExecutor.EXECUTOR;
+    private double bakeSpacing = 0;
+    private int warmupIterations = 16;
+
+    /**
+     * Build a trajectory on Pathfinder's background thread. This doesn't
+     * compile, bake, or warm up the trajectory: it only builds it.
+     *
+     * <p>
+     * Builders (like {@code AdvancedSplineTrajectoryBuilder}) aren't
+     * thread-safe, so don't modify a builder until the trajectory it's
+     * building has finished building.
+     * </p>
+     *
+     * @param builder the code that builds the trajectory.
+     * @param <T>     the type of trajectory.
+     * @return a future that completes with the trajectory once it's been
+     * built, or completes exceptionally if building it threw an exception.
+     */
+    public static <T extends Trajectory> CompletableFuture<T> buildAsync(
+        Supplier<T> builder
+    ) {
+        ValidationUtils.validate(builder, "builder");
+
+        return CompletableFuture.supplyAsync(builder, DefaultExecutor.EXECUTOR);
+    }
+
+    /**
+     * Set the executor trajectories are built on. By default, this is a
+     * single daemon thread that's shared by all of Pathfinder.
+     *
+     * @param executor the executor to use.
+     * @return {@code this}, used for method chaining.
+     */
+    public TrajectoryPrecomputer setExecutor(Executor executor) {
+        this.executor = ValidationUtils.validate(executor, "executor");
+
+        return this;
+    }
+
+    /**
+     * Set the spacing used to bake spline trajectories. If this is 0 (the
+     * default), spline trajectories aren't baked. Baked trajectories
+     * follow a path slightly differently than normal spline trajectories
+     * do (see {@link BakedTrajectory}), so this is off by default.
+     *
+     * @param bakeSpacing the distance between each of the baked
+     *                    trajectory's samples, or 0 to not bake
+     *                    trajectories. This can't be negative.
+     * @return {@code this}, used for method chaining.
+     */
+    public TrajectoryPrecomputer setBakeSpacing(double bakeSpacing) {
+        ValidationUtils.validate(bakeSpacing, "bakeSpacing");
+
+        if (bakeSpacing < 0) throw new IllegalArgumentException(
+            "bakeSpacing can't be negative!"
+        );
+
+        this.bakeSpacing = bakeSpacing;
+
+        return this;
+    }
+
+    /**
+     * Set how many times each trajectory should be warmed up. Setting
+     * this to 0 disables warming up trajectories.
+     *
+     * @param warmupIterations how many times to warm up each trajectory.
+     *                         This can't be negative.
+     * @return {@code this}, used for method chaining.
+     */
+    public TrajectoryPrecomputer setWarmupIterations(int warmupIterations) {
+        if (warmupIterations < 0) throw new IllegalArgumentException(
+            "warmupIterations can't be negative!"
+        );
+
+        this.warmupIterations = warmupIterations;
+
+        return this;
+    }
+
+    /**
+     * Build, compile, bake, and warm up a trajectory, on this
+     * precomputer's executor.
+     *
+     * @param builder the code that builds the trajectory.
+     * @return a future that completes with the prepared trajectory, or
+     * completes exceptionally if building it threw an exception.
+     */
+    public CompletableFuture<Trajectory> precompute(
+        Supplier<? extends Trajectory> builder
+    ) {
+        ValidationUtils.validate(builder, "builder");
+
+        return CompletableFuture.supplyAsync(
+            () -> prepare(builder.get()),
+            executor
+        );
+    }
+
+    /**
+     * Compile, bake, and warm up a trajectory that's already been built,
+     * on the calling thread.
+     *
+     * @param trajectory the trajectory to prepare.
+     * @return the prepared trajectory. This may or may not be the same
+     * trajectory that was passed in.
+     */
+    public Trajectory prepare(Trajectory trajectory) {
+        ValidationUtils.validate(trajectory, "trajectory");
+
+        Trajectory prepared = trajectory.compile();
+
+        if (bakeSpacing > 0) prepared = bake(prepared);
+
+        for (int i = 0; i < warmupIterations; i++) warmUp(prepared);
+
+        return prepared;
+    }
+
+    private Trajectory bake(Trajectory trajectory) {
+        if (trajectory instanceof AdvancedSplineTrajectory) {
+            return ((AdvancedSplineTrajectory) trajectory).bake(bakeSpacing);
+        }
+
+        if (trajectory instanceof DecoratedTrajectory) {
+            DecoratedTrajectory decorated = (DecoratedTrajectory) trajectory;
+            Trajectory wrapped = decorated.getWrapped();
+            Trajectory baked = bake(wrapped);
+
+            return baked == wrapped ? decorated : decorated.withWrapped(baked);
+        }
+
+        if (trajectory instanceof MultiSegmentTrajectory) {
+            MultiSegmentTrajectory multi = (MultiSegmentTrajectory) trajectory;
+            Trajectory[] segments = multi
+                .getTrajectories()
+                .toArray(new Trajectory[0]);
+
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = bake(segments[i]);
+            }
+
+            return new MultiSegmentTrajectory(segments);
+        }
+
+        return trajectory;
+    }
+
+    private void warmUp(Trajectory trajectory) {
+        if (trajectory instanceof DecoratedTrajectory) {
+            warmUp(((DecoratedTrajectory) trajectory).getWrapped());
+        } else if (trajectory instanceof MultiSegmentTrajectory) {
+            MultiSegmentTrajectory multi = (MultiSegmentTrajectory) trajectory;
+
+            for (Trajectory segment : multi.getTrajectories()) warmUp(segment);
+        } else if (trajectory instanceof AdvancedSplineTrajectory) {
+            AdvancedSplineTrajectory spline =
+                (AdvancedSplineTrajectory) trajectory;
+
+            follow(
+                new AdvancedSplineTrajectory(spline),
+                spline.sample(WARMUP_SPACING)
+            );
+        } else if (trajectory instanceof BakedTrajectory) {
+            BakedTrajectory baked = (BakedTrajectory) trajectory;
+
+            follow(
+                new BakedTrajectory(
+                    baked.getTable(),
+                    baked.getLookahead(),
+                    baked.getTolerance(),
+                    baked.getAngleTolerance()
+                ),
+                baked.getTable()
+            );
+        }
+    }
+
+    /**
+     * Follow a copy of a trajectory along a table of its samples, calling
+     * the same methods a follower calls every tick.
+     */
+    private static void follow(Trajectory copy, TrajectoryTable table) {
+        for (int i = 0; i < table.size(); i++) {
+            PointXYZ current = new PointXYZ(
+                table.x(i),
+                table.y(i),
+                table.heading(i)
+            );
+
+            copy.nextMarker(current);
+            copy.speed(current);
+            copy.isDone(current);
+        }
+    }
+
+    /**
+     * Holds the default executor, so the background thread isn't created
+     * unless something actually gets built asynchronously.
+     */
+    private static class DefaultExecutor {
+        static final ExecutorService EXECUTOR;
+
+        static {
+            EXECUTOR =
+                Executors.newSingleThreadExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(
+                            runnable,
+                            "pathfinder2-trajectory-precomputer"
+                        );
+
+                        // don't keep the program running just because this
+                        // thread is still around
+                        thread.setDaemon(true);
+
+                        return thread;
+                    }
+                );
+        }
+    }
+}
@@ -69,4 +69,16 @@ public boolean isDone(PointXYZ current) {
 
         return isDone;
     }
+
+    /**
+     * Mark the trajectory as not done, so it can be followed again.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    @Override
+    public TranslationalTrajectory reset() {
+        isDone = false;
+
+        return this;
+    }
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.baked;
+
+import me.wobblyyyy.pathfinder2.exceptions.InvalidToleranceException;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A {@link Trajectory} that follows a {@link TrajectoryTable}.
+ *
+ * <p>
+ * Every tick, the trajectory finds the closest point on the path to the
+ * robot (starting from wherever the robot was last tick, and only
+ * looking a little bit ahead), and then targets the point that's
+ * {@code lookahead} units further along the path. Distance is measured
+ * along the path itself, so the target is always the same distance ahead
+ * of the robot, no matter how sharply the path is curving.
+ * </p>
+ *
+ * <p>
+ * Pathfinder calls {@link #nextMarker(PointXYZ)}, {@link #isDone(PointXYZ)}
+ * and {@link #speed(PointXYZ)} with the same position every tick, so the
+ * closest point is only calculated once per position. None of the methods
+ * create any objects, apart from the {@link PointXYZ} returned by
+ * {@link #nextMarker(PointXYZ)}.
+ * </p>
+ *
+ * <p>
+ * Because this trajectory keeps track of the robot's progress, an
+ * instance can't be followed by two robots at once. The table itself can
+ * be shared, though: create a new {@code BakedTrajectory} for each robot,
+ * or {@link #reset()} the trajectory before following it again.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class BakedTrajectory implements Trajectory {
+    private final TrajectoryTable table;
+    private final double lookahead;
+    private final double tolerance;
+    private final Angle angleTolerance;
+    private final double searchLength;
+
+    private final double endX;
+    private final double endY;
+    private final double endHeading;
+
+    private transient PointXYZ lastPosition;
+    private transient boolean hasStarted = false;
+    private transient boolean hasCompletedXY = false;
+    private transient int segment = 0;
+    private transient double progress = 0;
+
+    /**
+     * Create a new {@code BakedTrajectory}.
+     *
+     * @param table          the table to follow.
+     * @param lookahead      how far along the path (past the closest point
+     *                       to the robot) the target point should be. This
+     *                       must be greater than or equal to 0.
+     * @param tolerance      how close the robot needs to be to the end of
+     *                       the path for the trajectory to finish.
+     * @param angleTolerance how close the robot's heading needs to be to
+     *                       the path's final heading for the trajectory
+     *                       to finish.
+     */
+    public BakedTrajectory(
+        TrajectoryTable table,
+        double lookahead,
+        double tolerance,
+        Angle angleTolerance
+    ) {
+        ValidationUtils.validate(table, "table");
+        ValidationUtils.validate(lookahead, "lookahead");
+        ValidationUtils.validate(tolerance, "tolerance");
+        ValidationUtils.validate(angleTolerance, "angleTolerance");
+
+        if (lookahead < 0) throw new IllegalArgumentException(
+            "lookahead must be greater than or equal to 0!"
+        );
+
+        InvalidToleranceException.throwIfInvalid(
+            "Invalid tolerance value!",
+            tolerance
+        );
+
+        int last = table.size() - 1;
+
+        this.table = table;
+        this.lookahead = lookahead;
+        this.tolerance = tolerance;
+        this.angleTolerance = angleTolerance;
+        this.endX = table.x(last);
+        this.endY = table.y(last);
+        this.endHeading = table.heading(last);
+
+        // how far ahead of the robot's last known progress to look for the
+        // closest point. this needs to be larger than however far the robot
+        // can move in a single tick, but small enough that a path that
+        // loops back near itself doesn't get skipped ahead
+        this.searchLength = Math.max(lookahead * 2, tolerance * 4);
+    }
+
+    /**
+     * Update the robot's progress along the path, if the robot's position
+     * has changed since the last time this was called.
+     */
+    private void update(PointXYZ current) {
+        if (current == lastPosition) return;
+
+        double x = current.x();
+        double y = current.y();
+
+        if (!hasStarted) {
+            // the robot could start anywhere, so check the whole path
+            progress = table.project(x, y);
+            hasStarted = true;
+        } else {
+            double projected = table.project(x, y, segment, searchLength);
+
+            // never go backwards along the path
+            if (projected > progress) progress = projected;
+        }
+
+        segment = table.segmentAt(progress, segment);
+        lastPosition = current;
+    }
+
+    @Override
+    public PointXYZ nextMarker(PointXYZ current) {
+        ValidationUtils.validate(current, "current");
+
+        update(current);
+
+        double distance = Math.min(table.length(), progress + lookahead);
+        int targetSegment = table.segmentAt(distance, segment);
+
+        return new PointXYZ(
+            table.xAt(distance, targetSegment),
+            table.yAt(distance, targetSegment),
+            Angle.fromDeg(table.headingAt(distance, targetSegment))
+        );
+    }
+
+    @Override
+    public boolean isDone(PointXYZ current) {
+        ValidationUtils.validate(current, "current");
+
+        update(current);
+
+        if (!hasCompletedXY) {
+            double dx = current.x() - endX;
+            double dy = current.y() - endY;
+
+            hasCompletedXY = (dx * dx) + (dy * dy) <= tolerance * tolerance;
+        }
+
+        if (!hasCompletedXY) return false;
+
+        double deltaDeg = Angle.minimumDelta(current.z().deg(), endHeading);
+
+        return Math.abs(deltaDeg) <= angleTolerance.deg();
+    }
+
+    @Override
+    public double speed(PointXYZ current) {
+        ValidationUtils.validate(current, "current");
+
+        update(current);
+
+        return table.speedAt(progress, segment);
+    }
+
+    /**
+     * Forget the robot's progress, so the trajectory can be followed again
+     * from the start.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    @Override
+    public BakedTrajectory reset() {
+        lastPosition = null;
+        hasStarted = false;
+        hasCompletedXY = false;
+        segment = 0;
+        progress = 0;
+
+        return this;
+    }
+
+    /**
+     * Get how far along the path the robot is.
+     *
+     * @return the arc length of the closest point on the path to the
+     * robot, as of the last time the trajectory was used.
+     */
+    public double getProgress() {
+        return progress;
+    }
+
+    /**
+     * Get the path's curvature at the robot's current progress along the
+     * path.
+     *
+     * @return the path's curvature.
+     */
+    public double getCurvature() {
+        return table.curvatureAt(progress, segment);
+    }
+
+    public TrajectoryTable getTable() {
+        return table;
+    }
+
+    public double getLookahead() {
+        return lookahead;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public Angle getAngleTolerance() {
+        return angleTolerance;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "BakedTrajectory (table: <%s> lookahead: <%s> tolerance: <%s> " +
+            "angle tolerance: <%s>)",
+            table,
+            lookahead,
+            tolerance,
+            angleTolerance
+        );
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.baked;
+
+import java.util.Arrays;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.profile.ProfiledTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.spline.AdvancedSplineTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.spline.SplineTrajectory;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * Works out the path a trajectory describes, and samples it into a
+ * {@link TrajectoryTable}. Anything that needs to know the shape of a
+ * trajectory ahead of time (rather than just asking the trajectory where
+ * to go next, one tick at a time) can use this to get a polyline it can
+ * search through.
+ *
+ * <p>
+ * These trajectories can be sampled:
+ * <ul>
+ *     <li>{@link LinearTrajectory} (and anything that extends it): a
+ *     straight line from the end of the previous segment (or the start
+ *     point) to the trajectory's target.</li>
+ *     <li>{@link AdvancedSplineTrajectory} and {@link SplineTrajectory}:
+ *     the trajectory's spline.</li>
+ *     <li>{@link BakedTrajectory} and {@link ProfiledTrajectory}: the
+ *     trajectory's table.</li>
+ *     <li>{@link MultiSegmentTrajectory}: each of its segments, one after
+ *     another.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public final class PathSampler {
+
+    private PathSampler() {}
+
+    /**
+     * Sample the path a trajectory describes into a table. The first
+     * sample is always the start point.
+     *
+     * @param start      where the robot will be when it starts following
+     *                   the trajectory. Trajectories that don't have a
+     *                   start point of their own (like
+     *                   {@link LinearTrajectory}) start here.
+     * @param trajectory the trajectory.
+     * @param spacing    the distance between each sample of a line or a
+     *                   spline. Tables are copied as they are. This must
+     *                   be greater than 0.
+     * @return the trajectory's path.
+     */
+    public static TrajectoryTable sample(
+        PointXYZ start,
+        Trajectory trajectory,
+        double spacing
+    ) {
+        ValidationUtils.validate(start, "start");
+        ValidationUtils.validate(trajectory, "trajectory");
+        ValidationUtils.validate(spacing, "spacing");
+
+        if (spacing <= 0) throw new IllegalArgumentException(
+            "spacing must be greater than 0!"
+        );
+
+        PathBuilder builder = new PathBuilder();
+        builder.add(start.x(), start.y(), start.z().deg(), 0);
+        append(builder, trajectory, spacing);
+
+        return builder.build();
+    }
+
+    private static void append(
+        PathBuilder builder,
+        Trajectory trajectory,
+        double spacing
+    ) {
+        if (trajectory instanceof MultiSegmentTrajectory) {
+            MultiSegmentTrajectory multi = (MultiSegmentTrajectory) trajectory;
+
+            for (Trajectory segment : multi.getTrajectories()) append(
+                builder,
+                segment,
+                spacing
+            );
+        } else if (trajectory instanceof LinearTrajectory) {
+            appendLine(builder, (LinearTrajectory) trajectory, spacing);
+        } else if (trajectory instanceof AdvancedSplineTrajectory) {
+            builder.add(
+                ((AdvancedSplineTrajectory) trajectory).sample(spacing)
+            );
+        } else if (trajectory instanceof SplineTrajectory) {
+            builder.add(((SplineTrajectory) trajectory).sample(spacing));
+        } else if (trajectory instanceof BakedTrajectory) {
+            builder.add(((BakedTrajectory) trajectory).getTable());
+        } else if (trajectory instanceof ProfiledTrajectory) {
+            builder.add(((ProfiledTrajectory) trajectory).getPath());
+        } else {
+            throw new IllegalArgumentException(
+                StringUtils.format(
+                    "Can't sample trajectory <%s>! Only linear, spline, " +
+                    "baked, profiled, and multi-segment trajectories " +
+                    "describe a path that can be sampled.",
+                    trajectory
+                )
+            );
+        }
+    }
+
+    private static void appendLine(
+        PathBuilder builder,
+        LinearTrajectory line,
+        double spacing
+    ) {
+        PointXYZ target = line.getTarget();
+        double startX = builder.lastX();
+        double startY = builder.lastY();
+        double length = Math.hypot(target.x() - startX, target.y() - startY);
+        int count = Math.max(1, (int) Math.ceil(length / spacing));
+        double heading = target.z().deg();
+
+        // a linear trajectory turns towards its target heading the whole
+        // way there, so every sample has the target heading
+        for (int i = 1; i <= count; i++) {
+            double t = (double) i / count;
+            double x = startX + ((target.x() - startX) * t);
+            double y = startY + ((target.y() - startY) * t);
+
+            builder.add(
+                x,
+                y,
+                heading,
+                line.speed(new PointXYZ(x, y, target.z()))
+            );
+        }
+    }
+
+    /**
+     * Collects samples from several sources into a single table.
+     */
+    private static class PathBuilder {
+        private double[] x = new double[64];
+        private double[] y = new double[64];
+        private double[] heading = new double[64];
+        private double[] speed = new double[64];
+        private int size = 0;
+
+        void add(double px, double py, double h, double s) {
+            if (size == x.length) {
+                int capacity = size * 2;
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                heading = Arrays.copyOf(heading, capacity);
+                speed = Arrays.copyOf(speed, capacity);
+            }
+
+            x[size] = px;
+            y[size] = py;
+            heading[size] = h;
+            speed[size] = Math.max(0, Math.min(1, s));
+            size++;
+        }
+
+        void add(TrajectoryTable table) {
+            for (int i = 0; i < table.size(); i++) {
+                // skip samples that are right on top of the last sample,
+                // which is usually the first sample of a segment that
+                // starts where the last one ended
+                if (
+                    i == 0 &&
+                    Math.hypot(table.x(i) - lastX(), table.y(i) - lastY()) <
+                    1e-9
+                ) continue;
+
+                add(table.x(i), table.y(i), table.heading(i), table.speed(i));
+            }
+        }
+
+        double lastX() {
+            return x[size - 1];
+        }
+
+        double lastY() {
+            return y[size - 1];
+        }
+
+        TrajectoryTable build() {
+            // a path with no length (for example, a linear trajectory
+            // whose target is the start point) still needs two samples
+            if (size < 2) add(lastX(), lastY(), heading[size - 1], 0);
+
+            return new TrajectoryTable(
+                Arrays.copyOf(x, size),
+                Arrays.copyOf(y, size),
+                Arrays.copyOf(heading, size),
+                Arrays.copyOf(speed, size)
+            );
+        }
+    }
+}
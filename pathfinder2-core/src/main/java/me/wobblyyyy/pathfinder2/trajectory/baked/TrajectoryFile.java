@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.baked;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import me.wobblyyyy.pathfinder2.exceptions.InvalidSpeedException;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * Saves {@link BakedTrajectory}s to files, and loads them back. This is
+ * meant for generating paths ahead of time (on a laptop, for example) and
+ * loading them on the robot, without having to build any splines or
+ * sample anything on the robot.
+ *
+ * <p>
+ * Java serialization could do the same thing, but it's slow, the files
+ * are big, and any trajectory with a lambda in it (like a trajectory with
+ * a listener) can't be deserialized reliably. Trajectory files only
+ * contain numbers: each column of the trajectory's table is stored as
+ * one packed block of {@code double}s, so loading a file is just reading
+ * it into memory and copying each block straight into an array. Nothing
+ * is parsed, and nothing has to be recalculated - the columns are only
+ * checked once, to make sure a corrupt file can't produce a broken table.
+ * </p>
+ *
+ * <p>
+ * A trajectory file is laid out like this (everything is little-endian):
+ * <ul>
+ *     <li>{@code int} magic number ({@link #MAGIC})</li>
+ *     <li>{@code short} format version ({@link #VERSION})</li>
+ *     <li>{@code short} flags (currently always 0)</li>
+ *     <li>{@code int} sample count</li>
+ *     <li>{@code int} reserved (0)</li>
+ *     <li>{@code double} lookahead distance</li>
+ *     <li>{@code double} tolerance</li>
+ *     <li>{@code double} angle tolerance, in degrees</li>
+ *     <li>
+ *         six columns, each with one {@code double} per sample: arc
+ *         length, X, Y, heading, speed, and curvature
+ *     </li>
+ * </ul>
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public final class TrajectoryFile {
+    /**
+     * The magic number at the start of every trajectory file ("PF2B").
+     */
+    public static final int MAGIC = 0x42324650;
+
+    /**
+     * The current version of the trajectory file format.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * The byte order used by trajectory files.
+     */
+    public static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int HEADER_SIZE = 40;
+    private static final int COLUMNS = 6;
+
+    private TrajectoryFile() {}
+
+    /**
+     * Get the size of a trajectory file, in bytes.
+     *
+     * @param samples how many samples the trajectory's table has.
+     * @return the size of the file.
+     */
+    public static long sizeOf(int samples) {
+        return HEADER_SIZE + ((long) COLUMNS * samples * 8);
+    }
+
+    /**
+     * Save a baked trajectory to a file. If the file already exists, it's
+     * overwritten. Only the trajectory's table and settings are saved -
+     * the robot's progress along the path isn't.
+     *
+     * @param trajectory the trajectory to save.
+     * @param path       the file to save the trajectory to.
+     */
+    public static void write(BakedTrajectory trajectory, Path path) {
+        ValidationUtils.validate(trajectory, "trajectory");
+        ValidationUtils.validate(path, "path");
+
+        TrajectoryTable table = trajectory.getTable();
+        int size = table.size();
+
+        // the file isn't memory-mapped: Java can't unmap a file on
+        // demand, and a file that's still mapped can't be overwritten or
+        // deleted on Windows until the mapping is garbage collected
+        ByteBuffer buffer = ByteBuffer.allocate((int) sizeOf(size));
+        buffer.order(ORDER);
+
+        try (
+            FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            )
+        ) {
+
+            buffer.putInt(MAGIC);
+            buffer.putShort(VERSION);
+            buffer.putShort((short) 0);
+            buffer.putInt(size);
+            buffer.putInt(0);
+            buffer.putDouble(trajectory.getLookahead());
+            buffer.putDouble(trajectory.getTolerance());
+            buffer.putDouble(trajectory.getAngleTolerance().deg());
+
+            for (int i = 0; i < size; i++) buffer.putDouble(table.s(i));
+            for (int i = 0; i < size; i++) buffer.putDouble(table.x(i));
+            for (int i = 0; i < size; i++) buffer.putDouble(table.y(i));
+            for (int i = 0; i < size; i++) buffer.putDouble(table.heading(i));
+            for (int i = 0; i < size; i++) buffer.putDouble(table.speed(i));
+            for (int i = 0; i < size; i++) buffer.putDouble(
+                table.curvature(i)
+            );
+
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Load a baked trajectory from a file written by
+     * {@link #write(BakedTrajectory, Path)}.
+     *
+     * @param path the file to load.
+     * @return the loaded trajectory. The trajectory starts from the
+     * beginning of its path, no matter where the saved trajectory was.
+     */
+    public static BakedTrajectory read(Path path) {
+        ValidationUtils.validate(path, "path");
+
+        ByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(path)) {
+            long fileSize = channel.size();
+
+            if (fileSize < HEADER_SIZE) throw new IllegalArgumentException(
+                StringUtils.format(
+                    "<%s> isn't a trajectory file: it's too small!",
+                    path
+                )
+            );
+
+            if (
+                fileSize > Integer.MAX_VALUE
+            ) throw new IllegalArgumentException(
+                "Trajectory files larger than 2 GB aren't supported!"
+            );
+
+            // see write() for why the file isn't memory-mapped
+            buffer = ByteBuffer.allocate((int) fileSize);
+            while (buffer.hasRemaining()) if (channel.read(buffer) < 0) break;
+            buffer.flip();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.order(ORDER);
+
+        int magic = buffer.getInt();
+        short version = buffer.getShort();
+        buffer.getShort();
+        int size = buffer.getInt();
+        buffer.getInt();
+
+        if (magic != MAGIC) throw new IllegalArgumentException(
+            StringUtils.format(
+                "<%s> isn't a trajectory file: invalid magic number <%s>!",
+                path,
+                Integer.toHexString(magic)
+            )
+        );
+
+        if (version != VERSION) throw new IllegalArgumentException(
+            StringUtils.format(
+                "Unsupported trajectory file version <%s> (expected <%s>)!",
+                version,
+                VERSION
+            )
+        );
+
+        if (
+            size < 2 || buffer.limit() < sizeOf(size)
+        ) throw new IllegalArgumentException(
+            StringUtils.format(
+                "Trajectory file <%s> is corrupt: it should have <%s> " +
+                "samples, but it's <%s> bytes long!",
+                path,
+                size,
+                buffer.limit()
+            )
+        );
+
+        double lookahead = buffer.getDouble();
+        double tolerance = buffer.getDouble();
+        double angleTolerance = buffer.getDouble();
+
+        // each column is copied straight out of the file in one go
+        DoubleBuffer doubles = buffer.asDoubleBuffer();
+        double[][] columns = new double[COLUMNS][size];
+        for (double[] column : columns) doubles.get(column);
+
+        validateColumns(path, columns);
+
+        return new BakedTrajectory(
+            new TrajectoryTable(
+                columns[0],
+                columns[1],
+                columns[2],
+                columns[3],
+                columns[4],
+                columns[5]
+            ),
+            lookahead,
+            tolerance,
+            Angle.fromDeg(angleTolerance)
+        );
+    }
+
+    /**
+     * Make sure a loaded table is usable: the table skips all of its
+     * usual checks for loaded columns, and a corrupt file could otherwise
+     * produce a table that breaks the binary searches (arc length that
+     * goes backwards) or drives the robot with a nonsense speed.
+     */
+    private static void validateColumns(Path path, double[][] columns) {
+        double[] s = columns[0];
+        double[] speed = columns[4];
+
+        for (int i = 0; i < s.length; i++) {
+            for (double[] column : columns) if (
+                !Double.isFinite(column[i])
+            ) throw new IllegalArgumentException(
+                StringUtils.format(
+                    "Trajectory file <%s> is corrupt: sample <%s> has a " +
+                    "value that isn't a finite number!",
+                    path,
+                    i
+                )
+            );
+
+            // zero-length segments (like turning in place) repeat the
+            // same arc length, and the table handles those just fine
+            if (i != 0 && s[i] < s[i - 1]) throw new IllegalArgumentException(
+                StringUtils.format(
+                    "Trajectory file <%s> is corrupt: arc length can't " +
+                    "decrease, but sample <%s> has arc length <%s> " +
+                    "after <%s>!",
+                    path,
+                    i,
+                    s[i],
+                    s[i - 1]
+                )
+            );
+
+            if (speed[i] < 0 || speed[i] > 1) throw new InvalidSpeedException(
+                StringUtils.format(
+                    "Trajectory file <%s> is corrupt: invalid speed <%s> " +
+                    "at sample <%s> (speed must be between 0 and 1)!",
+                    path,
+                    speed[i],
+                    i
+                )
+            );
+        }
+    }
+}
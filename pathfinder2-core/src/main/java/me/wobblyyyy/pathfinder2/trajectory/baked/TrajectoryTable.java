@@ -0,0 +1,609 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.baked;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+import me.wobblyyyy.pathfinder2.exceptions.InvalidSpeedException;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.Line;
+import me.wobblyyyy.pathfinder2.math.Spline;
+import me.wobblyyyy.pathfinder2.trajectory.spline.AngleSpline;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A path, sampled into a table. Each sample (each row of the table) has
+ * the following values:
+ *
+ * <ul>
+ *     <li>Arc length: the distance along the path from the first sample
+ *     to this sample.</li>
+ *     <li>X and Y: the sample's position.</li>
+ *     <li>Heading: the robot's target heading at this sample, in
+ *     degrees.</li>
+ *     <li>Speed: the robot's target speed at this sample, from 0 to 1.</li>
+ *     <li>Curvature: how sharply the path is turning at this sample, in
+ *     radians per unit of distance. Positive curvature means the path is
+ *     turning counter-clockwise (left).</li>
+ * </ul>
+ *
+ * <p>
+ * Each value is stored in its own {@code double[]}, so looking values up
+ * doesn't involve any objects, and the table doesn't change once it's been
+ * created, so it can be shared between threads (and between trajectories).
+ * Everything in between two samples is linearly interpolated.
+ * </p>
+ *
+ * <p>
+ * Most of the lookup methods accept a "hint" index: the index the last
+ * lookup returned. Because a robot moves along a path a little bit at a
+ * time, the answer to the next lookup is almost always at or right after
+ * the hint, which makes the lookup O(1) in practice. If the hint is wrong,
+ * the methods fall back to a binary search.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public final class TrajectoryTable implements Serializable {
+    private final double[] s;
+    private final double[] x;
+    private final double[] y;
+    private final double[] heading;
+    private final double[] speed;
+    private final double[] curvature;
+
+    /**
+     * Create a new {@code TrajectoryTable}. Arc length and curvature are
+     * calculated from the X and Y values. The arrays are copied, so
+     * changing them afterwards won't change the table.
+     *
+     * @param x       each sample's X value.
+     * @param y       each sample's Y value.
+     * @param heading each sample's target heading, in degrees.
+     * @param speed   each sample's target speed. Each speed must be between
+     *                0 and 1, inclusive.
+     */
+    public TrajectoryTable(
+        double[] x,
+        double[] y,
+        double[] heading,
+        double[] speed
+    ) {
+        ValidationUtils.validate(x, "x");
+        ValidationUtils.validate(y, "y");
+        ValidationUtils.validate(heading, "heading");
+        ValidationUtils.validate(speed, "speed");
+
+        int size = x.length;
+
+        if (size < 2) throw new IllegalArgumentException(
+            "A trajectory table needs at least 2 samples!"
+        );
+
+        if (
+            y.length != size || heading.length != size || speed.length != size
+        ) throw new IllegalArgumentException(
+            "All of a trajectory table's arrays need to be the same length!"
+        );
+
+        for (int i = 0; i < size; i++) {
+            ValidationUtils.validate(x[i], "x");
+            ValidationUtils.validate(y[i], "y");
+            ValidationUtils.validate(heading[i], "heading");
+            ValidationUtils.validate(speed[i], "speed");
+
+            if (speed[i] < 0 || speed[i] > 1) throw new InvalidSpeedException(
+                StringUtils.format(
+                    "Invalid speed <%s> at sample <%s>: speed must be " +
+                    "between 0 and 1!",
+                    speed[i],
+                    i
+                )
+            );
+        }
+
+        this.x = Arrays.copyOf(x, size);
+        this.y = Arrays.copyOf(y, size);
+        this.heading = Arrays.copyOf(heading, size);
+        this.speed = Arrays.copyOf(speed, size);
+        this.s = new double[size];
+        this.curvature = new double[size];
+
+        for (int i = 1; i < size; i++) s[i] =
+            s[i - 1] + Math.hypot(x[i] - x[i - 1], y[i] - y[i - 1]);
+
+        for (int i = 1; i < size - 1; i++) curvature[i] =
+            curvature(
+                x[i - 1],
+                y[i - 1],
+                x[i],
+                y[i],
+                x[i + 1],
+                y[i + 1]
+            );
+
+        // the ends don't have two neighbors: copy the closest value
+        curvature[0] = size > 2 ? curvature[1] : 0;
+        curvature[size - 1] = size > 2 ? curvature[size - 2] : 0;
+    }
+
+    /**
+     * Create a table out of columns that have already been calculated
+     * (and validated) by another table, like a table that's being loaded
+     * from a {@link TrajectoryFile}. The arrays aren't copied, so they
+     * can't be used by anything else.
+     */
+    TrajectoryTable(
+        double[] s,
+        double[] x,
+        double[] y,
+        double[] heading,
+        double[] speed,
+        double[] curvature
+    ) {
+        this.s = s;
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+        this.speed = speed;
+        this.curvature = curvature;
+    }
+
+    /**
+     * Get the signed curvature of the circle that passes through three
+     * points (the reciprocal of the circle's radius). If the points are
+     * in a line (or any two of them are the same point), this is 0.
+     *
+     * @param ax the first point's X value.
+     * @param ay the first point's Y value.
+     * @param bx the second point's X value.
+     * @param by the second point's Y value.
+     * @param cx the third point's X value.
+     * @param cy the third point's Y value.
+     * @return the signed curvature. Counter-clockwise turns are positive.
+     */
+    public static double curvature(
+        double ax,
+        double ay,
+        double bx,
+        double by,
+        double cx,
+        double cy
+    ) {
+        double abx = bx - ax;
+        double aby = by - ay;
+        double bcx = cx - bx;
+        double bcy = cy - by;
+        double cross = (abx * bcy) - (aby * bcx);
+        double product =
+            Math.hypot(abx, aby) *
+            Math.hypot(bcx, bcy) *
+            Math.hypot(cx - ax, cy - ay);
+
+        if (product == 0) return 0;
+
+        return (2 * cross) / product;
+    }
+
+    /**
+     * Sample a set of splines into a table with (roughly) evenly-spaced
+     * samples. This is how an {@code AdvancedSplineTrajectory} gets baked.
+     *
+     * <p>
+     * The path spline maps X values to Y values, so it can't describe a
+     * path that doubles back on itself along the X axis - use
+     * {@link #sample(Spline, Spline, AngleSpline, Spline, double)} for
+     * that. The path is sampled so that each sample is {@code spacing}
+     * units (of distance along the path, not along the X axis) away from
+     * the last one. The heading and speed splines are evaluated at the
+     * same X values as the path.
+     * </p>
+     *
+     * @param path    the path spline.
+     * @param angles  the heading spline.
+     * @param speeds  the speed spline.
+     * @param spacing the distance between each sample. This must be greater
+     *                than 0.
+     * @return a new table.
+     */
+    public static TrajectoryTable sample(
+        Spline path,
+        AngleSpline angles,
+        Spline speeds,
+        double spacing
+    ) {
+        ValidationUtils.validate(path, "path");
+        ValidationUtils.validate(angles, "angles");
+        ValidationUtils.validate(speeds, "speeds");
+
+        return sample(
+            path.getStartPoint().x(),
+            path.getEndPoint().x(),
+            x -> x,
+            path::interpolateY,
+            angles.getSpline()::interpolateY,
+            speeds::interpolateY,
+            spacing
+        );
+    }
+
+    /**
+     * Sample a parametric path into a table with (roughly) evenly-spaced
+     * samples. Each of the splines maps the same parameter (usually the
+     * distance along the straight lines between the path's control points)
+     * to a value, so, unlike
+     * {@link #sample(Spline, AngleSpline, Spline, double)}, the path can go
+     * in any direction, including doubling back on itself along the X or
+     * Y axis.
+     *
+     * @param xs      maps the parameter to X values.
+     * @param ys      maps the parameter to Y values.
+     * @param angles  maps the parameter to headings.
+     * @param speeds  maps the parameter to speeds.
+     * @param spacing the distance between each sample. This must be greater
+     *                than 0.
+     * @return a new table.
+     */
+    public static TrajectoryTable sample(
+        Spline xs,
+        Spline ys,
+        AngleSpline angles,
+        Spline speeds,
+        double spacing
+    ) {
+        ValidationUtils.validate(xs, "xs");
+        ValidationUtils.validate(ys, "ys");
+        ValidationUtils.validate(angles, "angles");
+        ValidationUtils.validate(speeds, "speeds");
+
+        return sample(
+            xs.getStartPoint().x(),
+            xs.getEndPoint().x(),
+            xs::interpolateY,
+            ys::interpolateY,
+            angles.getSpline()::interpolateY,
+            speeds::interpolateY,
+            spacing
+        );
+    }
+
+    /**
+     * Sample a path, given as functions of some parameter, so that each
+     * sample is {@code spacing} units (of distance along the path) away
+     * from the last one. The path is first sampled very finely (with
+     * evenly-spaced parameter values) to measure its length, and then
+     * arc length is converted back into parameter values.
+     */
+    private static TrajectoryTable sample(
+        double start,
+        double end,
+        DoubleUnaryOperator xs,
+        DoubleUnaryOperator ys,
+        DoubleUnaryOperator headings,
+        DoubleUnaryOperator speeds,
+        double spacing
+    ) {
+        ValidationUtils.validate(spacing, "spacing");
+
+        if (spacing <= 0) throw new IllegalArgumentException(
+            "spacing must be greater than 0!"
+        );
+
+        double lastX = xs.applyAsDouble(start);
+        double lastY = ys.applyAsDouble(start);
+
+        // the dense pass needs to be fine enough compared to the spacing,
+        // but the parameter's range doesn't say much about the path's
+        // length - so estimate the length with a coarse pass first
+        double estimate = 0;
+        for (int i = 1; i <= 64; i++) {
+            double u = start + ((end - start) * i / 64);
+            double px = xs.applyAsDouble(u);
+            double py = ys.applyAsDouble(u);
+
+            estimate += Math.hypot(px - lastX, py - lastY);
+            lastX = px;
+            lastY = py;
+        }
+
+        int denseCount = (int) Math.min(
+            1 << 20,
+            Math.max(64, Math.ceil(estimate / spacing) * 8)
+        );
+        double[] denseU = new double[denseCount + 1];
+        double[] denseS = new double[denseCount + 1];
+        lastX = xs.applyAsDouble(start);
+        lastY = ys.applyAsDouble(start);
+        denseU[0] = start;
+
+        for (int i = 1; i <= denseCount; i++) {
+            double u = start + ((end - start) * i / denseCount);
+            double px = xs.applyAsDouble(u);
+            double py = ys.applyAsDouble(u);
+
+            denseU[i] = u;
+            denseS[i] = denseS[i - 1] + Math.hypot(px - lastX, py - lastY);
+            lastX = px;
+            lastY = py;
+        }
+
+        double length = denseS[denseCount];
+        int count = Math.max(2, (int) Math.ceil(length / spacing) + 1);
+        double[] x = new double[count];
+        double[] y = new double[count];
+        double[] heading = new double[count];
+        double[] speed = new double[count];
+
+        int k = 0;
+        for (int i = 0; i < count; i++) {
+            double target = length * i / (count - 1);
+
+            while (k < denseCount - 1 && denseS[k + 1] < target) k++;
+
+            double segment = denseS[k + 1] - denseS[k];
+            double t = segment > 0 ? (target - denseS[k]) / segment : 0;
+            double u = denseU[k] + ((denseU[k + 1] - denseU[k]) * t);
+
+            x[i] = xs.applyAsDouble(u);
+            y[i] = ys.applyAsDouble(u);
+            heading[i] = Angle.fixDeg(headings.applyAsDouble(u));
+            speed[i] = speeds.applyAsDouble(u);
+        }
+
+        return new TrajectoryTable(x, y, heading, speed);
+    }
+
+    /**
+     * Get how many samples are in the table.
+     *
+     * @return how many samples are in the table.
+     */
+    public int size() {
+        return s.length;
+    }
+
+    /**
+     * Get the total length of the path.
+     *
+     * @return the path's length.
+     */
+    public double length() {
+        return s[s.length - 1];
+    }
+
+    public double s(int index) {
+        return s[index];
+    }
+
+    public double x(int index) {
+        return x[index];
+    }
+
+    public double y(int index) {
+        return y[index];
+    }
+
+    public double heading(int index) {
+        return heading[index];
+    }
+
+    public double speed(int index) {
+        return speed[index];
+    }
+
+    public double curvature(int index) {
+        return curvature[index];
+    }
+
+    /**
+     * Find the segment that contains a certain arc length. The segment
+     * starts at the returned index and ends at the index after it.
+     *
+     * @param distance the arc length. This is clipped to the length of
+     *                 the path.
+     * @param hint     the index the search should start at (usually the
+     *                 last index that was returned).
+     * @return the index of the start of the segment, from 0 to
+     * {@code size() - 2}.
+     */
+    public int segmentAt(double distance, int hint) {
+        int last = s.length - 2;
+
+        if (hint < 0 || hint > last || distance < s[hint]) {
+            return segmentAt(distance);
+        }
+
+        // the answer is almost always the hint or one of the next few
+        // segments, so walk forwards for a bit before giving up and doing
+        // a binary search
+        for (int i = hint, end = Math.min(last, hint + 8); i <= end; i++) {
+            if (distance < s[i + 1] || i == last) return i;
+        }
+
+        return segmentAt(distance);
+    }
+
+    /**
+     * Find the segment that contains a certain arc length with a binary
+     * search.
+     *
+     * @param distance the arc length.
+     * @return the index of the start of the segment.
+     */
+    public int segmentAt(double distance) {
+        int index = Arrays.binarySearch(s, distance);
+
+        // binarySearch returns (-(insertion point) - 1) if the value isn't
+        // in the array, and the segment starts one before the insertion
+        // point
+        if (index < 0) index = -index - 2;
+
+        return Math.max(0, Math.min(s.length - 2, index));
+    }
+
+    private double fraction(int segment, double distance) {
+        double length = s[segment + 1] - s[segment];
+
+        if (length <= 0) return 0;
+
+        return Math.max(0, Math.min(1, (distance - s[segment]) / length));
+    }
+
+    private static double lerp(double[] values, int segment, double t) {
+        return values[segment] + ((values[segment + 1] - values[segment]) * t);
+    }
+
+    /**
+     * Get the X value at a certain arc length.
+     *
+     * @param distance the arc length.
+     * @param segment  the segment containing the arc length, from
+     *                 {@link #segmentAt(double, int)}.
+     * @return the interpolated X value.
+     */
+    public double xAt(double distance, int segment) {
+        return lerp(x, segment, fraction(segment, distance));
+    }
+
+    /**
+     * Get the Y value at a certain arc length.
+     *
+     * @param distance the arc length.
+     * @param segment  the segment containing the arc length, from
+     *                 {@link #segmentAt(double, int)}.
+     * @return the interpolated Y value.
+     */
+    public double yAt(double distance, int segment) {
+        return lerp(y, segment, fraction(segment, distance));
+    }
+
+    /**
+     * Get the target heading at a certain arc length. Headings are
+     * interpolated the short way around the circle, so interpolating
+     * between 350 and 10 degrees goes through 0, not 180.
+     *
+     * @param distance the arc length.
+     * @param segment  the segment containing the arc length, from
+     *                 {@link #segmentAt(double, int)}.
+     * @return the interpolated heading, in degrees, from 0 to 360.
+     */
+    public double headingAt(double distance, int segment) {
+        double t = fraction(segment, distance);
+        double delta = Angle.minimumDelta(
+            heading[segment],
+            heading[segment + 1]
+        );
+
+        return Angle.fixDeg(heading[segment] + (delta * t));
+    }
+
+    /**
+     * Get the target speed at a certain arc length.
+     *
+     * @param distance the arc length.
+     * @param segment  the segment containing the arc length, from
+     *                 {@link #segmentAt(double, int)}.
+     * @return the interpolated speed.
+     */
+    public double speedAt(double distance, int segment) {
+        return lerp(speed, segment, fraction(segment, distance));
+    }
+
+    /**
+     * Get the curvature at a certain arc length.
+     *
+     * @param distance the arc length.
+     * @param segment  the segment containing the arc length, from
+     *                 {@link #segmentAt(double, int)}.
+     * @return the interpolated curvature.
+     */
+    public double curvatureAt(double distance, int segment) {
+        return lerp(curvature, segment, fraction(segment, distance));
+    }
+
+    /**
+     * Find the closest point on the path to a certain point, only looking
+     * at a part of the path. This is how a robot's progress along the path
+     * is tracked: only looking a little bit ahead of where the robot was
+     * last time means the robot can't skip to a later part of the path
+     * that happens to pass nearby, and it keeps the search cheap.
+     *
+     * @param px           the point's X value.
+     * @param py           the point's Y value.
+     * @param fromSegment  the first segment to check.
+     * @param searchLength how far along the path (past the start of
+     *                     {@code fromSegment}) to search.
+     * @return the arc length of the closest point on the path.
+     */
+    public double project(
+        double px,
+        double py,
+        int fromSegment,
+        double searchLength
+    ) {
+        int last = s.length - 2;
+        int first = Math.max(0, Math.min(last, fromSegment));
+        double limit = s[first] + searchLength;
+
+        double bestSquared = Double.POSITIVE_INFINITY;
+        double bestDistance = s[first];
+
+        for (int i = first; i <= last; i++) {
+            double ax = x[i];
+            double ay = y[i];
+            double bx = x[i + 1];
+            double by = y[i + 1];
+            double t = Line.closestFraction(ax, ay, bx, by, px, py);
+
+            double ex = ax + ((bx - ax) * t) - px;
+            double ey = ay + ((by - ay) * t) - py;
+            double squared = (ex * ex) + (ey * ey);
+
+            if (squared < bestSquared) {
+                bestSquared = squared;
+                bestDistance = s[i] + ((s[i + 1] - s[i]) * t);
+            }
+
+            if (s[i + 1] > limit) break;
+        }
+
+        return bestDistance;
+    }
+
+    /**
+     * Find the closest point on the path to a certain point, checking the
+     * whole path.
+     *
+     * @param px the point's X value.
+     * @param py the point's Y value.
+     * @return the arc length of the closest point on the path.
+     */
+    public double project(double px, double py) {
+        return project(px, py, 0, Double.POSITIVE_INFINITY);
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "TrajectoryTable (samples: <%s> length: <%s> start: <%s, %s> " +
+            "end: <%s, %s>)",
+            s.length,
+            length(),
+            x[0],
+            y[0],
+            x[x.length - 1],
+            y[y.length - 1]
+        );
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+/**
+ * "Baked" trajectories: trajectories that are sampled once, ahead of time,
+ * into flat tables of numbers. Following a baked trajectory doesn't
+ * evaluate any splines - each tick only has to look up a couple of values
+ * in the trajectory's table, so it takes the same (very small) amount of
+ * time no matter how complicated the original trajectory was.
+ */
+package me.wobblyyyy.pathfinder2.trajectory.baked;
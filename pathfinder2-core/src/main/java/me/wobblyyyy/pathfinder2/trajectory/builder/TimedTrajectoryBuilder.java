@@ -14,8 +14,10 @@
 import java.util.List;
 import me.wobblyyyy.pathfinder2.geometry.Angle;
 import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.time.Clock;
 import me.wobblyyyy.pathfinder2.trajectory.TimedTrajectory;
 import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 
 /**
  * Builder for creating a {@link List} of {@link TimedTrajectory}s.
@@ -27,6 +29,7 @@ public class TimedTrajectoryBuilder {
     private final double defaultSpeed;
     private final double defaultTurnMultiplier;
     private final List<Trajectory> trajectories = new ArrayList<Trajectory>();
+    private Clock clock = Clock.SYSTEM;
 
     public TimedTrajectoryBuilder() {
         this(0);
@@ -44,6 +47,20 @@ public TimedTrajectoryBuilder(
         this.defaultTurnMultiplier = defaultTurnMultiplier;
     }
 
+    /**
+     * Set the clock that trajectories added after this is called will use
+     * to measure time. If you're running a simulation, you should set this
+     * to {@code pathfinder.getClock()}.
+     *
+     * @param clock the clock to use.
+     * @return {@code this}, used for method chaining.
+     */
+    public TimedTrajectoryBuilder setClock(Clock clock) {
+        this.clock = ValidationUtils.validate(clock, "clock");
+
+        return this;
+    }
+
     public TimedTrajectoryBuilder add(Translation translation, double timeMs) {
         return add(translation, timeMs, defaultSpeed, defaultTurnMultiplier);
     }
@@ -63,7 +80,13 @@ public TimedTrajectoryBuilder add(
         double turnMultiplier
     ) {
         trajectories.add(
-            new TimedTrajectory(translation, timeMs, speed, turnMultiplier)
+            new TimedTrajectory(
+                translation,
+                timeMs,
+                speed,
+                turnMultiplier,
+                clock
+            )
         );
 
         return this;
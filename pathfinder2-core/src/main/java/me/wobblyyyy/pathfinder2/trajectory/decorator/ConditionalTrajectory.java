@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.decorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A trajectory with extra conditions that can finish it early. See
+ * {@link Trajectory#addEndConditions(Iterable)} and
+ * {@link Trajectory#addRequirements(Iterable)}.
+ *
+ * <p>
+ * The conditions are checked every time {@link #isDone(PointXYZ)} is
+ * called, before the wrapped trajectory is. End conditions finish the
+ * trajectory when they're true, and requirements finish the trajectory
+ * when they're false. Several sets of the same kind of condition wrapped
+ * around each other can be compiled into a single
+ * {@code ConditionalTrajectory}, which checks each set in the same order.
+ * </p>
+ *
+ * <p>
+ * The conditions are copied into an array of {@link BooleanSupplier}s
+ * when the trajectory is created, so checking them doesn't create an
+ * iterator every time. That means conditions added to an
+ * {@code Iterable} after the trajectory was created won't be checked.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class ConditionalTrajectory extends DecoratedTrajectory {
+    private final BooleanSupplier[] conditions;
+    private final boolean finishWhen;
+
+    /**
+     * Create a new {@code ConditionalTrajectory}.
+     *
+     * @param wrapped    the trajectory to add conditions to.
+     * @param conditions the conditions. This array is copied.
+     * @param finishWhen the value a condition has to have to finish the
+     *                   trajectory: true for end conditions, and false
+     *                   for requirements.
+     */
+    public ConditionalTrajectory(
+        Trajectory wrapped,
+        BooleanSupplier[] conditions,
+        boolean finishWhen
+    ) {
+        super(wrapped);
+
+        ValidationUtils.validate(conditions, "conditions");
+
+        this.conditions = conditions.clone();
+        this.finishWhen = finishWhen;
+    }
+
+    /**
+     * Create a new {@code ConditionalTrajectory}.
+     *
+     * @param wrapped    the trajectory to add conditions to.
+     * @param conditions the conditions.
+     * @param finishWhen the value a condition has to have to finish the
+     *                   trajectory: true for end conditions, and false
+     *                   for requirements.
+     */
+    public ConditionalTrajectory(
+        Trajectory wrapped,
+        Iterable<Supplier<Boolean>> conditions,
+        boolean finishWhen
+    ) {
+        this(wrapped, toArray(conditions), finishWhen);
+    }
+
+    private static BooleanSupplier[] toArray(
+        Iterable<Supplier<Boolean>> conditions
+    ) {
+        ValidationUtils.validate(conditions, "conditions");
+
+        List<BooleanSupplier> list = new ArrayList<>();
+
+        for (Supplier<Boolean> condition : conditions) list.add(condition::get);
+
+        return list.toArray(new BooleanSupplier[0]);
+    }
+
+    @Override
+    protected DecoratedTrajectory rewrap(Trajectory wrapped) {
+        return new ConditionalTrajectory(wrapped, conditions, finishWhen);
+    }
+
+    @Override
+    protected DecoratedTrajectory fuse(DecoratedTrajectory inner) {
+        if (!(inner instanceof ConditionalTrajectory)) return null;
+
+        ConditionalTrajectory conditional = (ConditionalTrajectory) inner;
+
+        if (conditional.finishWhen != finishWhen) return null;
+
+        // this decorator's conditions are checked first
+        int length = conditions.length;
+        BooleanSupplier[] combined = new BooleanSupplier[
+            length + conditional.conditions.length
+        ];
+        System.arraycopy(conditions, 0, combined, 0, length);
+        System.arraycopy(
+            conditional.conditions,
+            0,
+            combined,
+            length,
+            conditional.conditions.length
+        );
+
+        return new ConditionalTrajectory(
+            conditional.wrapped,
+            combined,
+            finishWhen
+        );
+    }
+
+    @Override
+    public PointXYZ nextMarker(PointXYZ current) {
+        return wrapped.nextMarker(current);
+    }
+
+    @Override
+    public boolean isDone(PointXYZ current) {
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].getAsBoolean() == finishWhen) return true;
+        }
+
+        return wrapped.isDone(current);
+    }
+
+    @Override
+    public double speed(PointXYZ current) {
+        return wrapped.speed(current);
+    }
+}
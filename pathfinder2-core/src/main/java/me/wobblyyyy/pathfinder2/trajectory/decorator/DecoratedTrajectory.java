@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.decorator;
+
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A trajectory that wraps another trajectory and changes how it behaves
+ * in some way. These are created by the {@link Trajectory} interface's
+ * default methods, so wrapping a trajectory several times (for example,
+ * {@code trajectory.reflectX(0).offset(offset).onFinish(listener)}) makes
+ * a stack of decorators, each wrapping the last.
+ *
+ * <p>
+ * Each decorator calls the trajectory it wraps directly, but every layer
+ * still adds a call (and, often, a new point) to every method, every tick.
+ * {@link #compile()} folds the stack back together: it compiles the
+ * wrapped trajectory, and then, if the decorator right inside this one
+ * does the same sort of thing (two transforms, or two sets of listeners),
+ * combines them into a single decorator with {@link
+ * #fuse(DecoratedTrajectory)}.
+ * </p>
+ *
+ * <p>
+ * A decorator's {@link #toString()} is the wrapped trajectory's
+ * {@code toString()}, so decorating a trajectory doesn't change how it
+ * shows up in logs.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public abstract class DecoratedTrajectory implements Trajectory {
+    protected final Trajectory wrapped;
+
+    protected DecoratedTrajectory(Trajectory wrapped) {
+        this.wrapped = ValidationUtils.validate(wrapped, "wrapped");
+    }
+
+    /**
+     * Create a copy of this decorator, wrapping a different trajectory.
+     * The copy shouldn't share any state (like whether a listener has
+     * been triggered yet) with this decorator.
+     *
+     * @param wrapped the trajectory the copy should wrap.
+     * @return a new decorator.
+     */
+    protected abstract DecoratedTrajectory rewrap(Trajectory wrapped);
+
+    /**
+     * Combine this decorator with the decorator directly inside it.
+     *
+     * @param inner the decorator this decorator wraps, after it's been
+     *              compiled.
+     * @return a single decorator that does the same thing as both of
+     * them, wrapping whatever {@code inner} wraps. If the two decorators
+     * can't be combined, this returns null.
+     */
+    protected DecoratedTrajectory fuse(DecoratedTrajectory inner) {
+        return null;
+    }
+
+    /**
+     * Create a copy of this decorator that wraps a different trajectory.
+     * This is how a trajectory nested inside of a stack of decorators can
+     * be replaced (with a baked version of itself, for example) without
+     * losing any of the decorators.
+     *
+     * @param wrapped the trajectory the copy should wrap.
+     * @return a new decorator, wrapping {@code wrapped}.
+     */
+    public DecoratedTrajectory withWrapped(Trajectory wrapped) {
+        return rewrap(ValidationUtils.validate(wrapped, "wrapped"));
+    }
+
+    /**
+     * Get the trajectory this decorator wraps.
+     *
+     * @return the wrapped trajectory.
+     */
+    public Trajectory getWrapped() {
+        return wrapped;
+    }
+
+    @Override
+    public Trajectory compile() {
+        Trajectory inner = wrapped.compile();
+
+        if (inner instanceof DecoratedTrajectory) {
+            DecoratedTrajectory fused = fuse((DecoratedTrajectory) inner);
+
+            if (fused != null) return fused;
+        }
+
+        return rewrap(inner);
+    }
+
+    @Override
+    public Trajectory reset() {
+        wrapped.reset();
+
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return wrapped.toString();
+    }
+}
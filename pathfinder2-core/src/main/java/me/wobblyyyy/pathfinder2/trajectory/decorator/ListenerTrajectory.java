@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.decorator;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+
+/**
+ * A trajectory with listeners attached to it. See
+ * {@link Trajectory#addListeners(Consumer, Consumer, Consumer, Consumer)}.
+ *
+ * <p>
+ * Listeners that weren't provided are {@code null}, and are skipped
+ * entirely, so a trajectory with only an {@code onFinish} listener never
+ * has to box the value {@link #isDone(PointXYZ)} returns. Several sets of
+ * listeners wrapped around each other can be compiled into a single
+ * {@code ListenerTrajectory}: the listeners are called in the same order
+ * they would've been without compiling.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class ListenerTrajectory extends DecoratedTrajectory {
+    private final Consumer<PointXYZ> onStart;
+    private final DoneListener onIsDone;
+    private final DoubleConsumer onSpeed;
+
+    private boolean hasStarted = false;
+    private boolean hasFinished = false;
+
+    /**
+     * Create a new {@code ListenerTrajectory}. Any of the listeners can be
+     * {@code null}.
+     *
+     * @param wrapped  the trajectory to listen to.
+     * @param onStart  called the first time {@link #nextMarker(PointXYZ)}
+     *                 is called.
+     * @param onIsDone called every time {@link #isDone(PointXYZ)} is
+     *                 called.
+     * @param onSpeed  called every time {@link #speed(PointXYZ)} is
+     *                 called.
+     */
+    public ListenerTrajectory(
+        Trajectory wrapped,
+        Consumer<PointXYZ> onStart,
+        DoneListener onIsDone,
+        DoubleConsumer onSpeed
+    ) {
+        super(wrapped);
+
+        this.onStart = onStart;
+        this.onIsDone = onIsDone;
+        this.onSpeed = onSpeed;
+    }
+
+    /**
+     * Create a {@link DoneListener} from an {@code onFinish} listener and
+     * an {@code onIsDone} listener, either of which may be {@code null}.
+     *
+     * @param onFinish called the first time the trajectory is done.
+     * @param onIsDone called every time the trajectory is checked.
+     * @return a new {@link DoneListener}, or {@code null} if both of the
+     * listeners were {@code null}.
+     */
+    public static DoneListener doneListener(
+        Consumer<PointXYZ> onFinish,
+        Consumer<Boolean> onIsDone
+    ) {
+        if (onFinish == null && onIsDone == null) return null;
+
+        if (onIsDone == null) return (current, isDone, justFinished) -> {
+            if (justFinished) onFinish.accept(current);
+        };
+
+        if (onFinish == null) return (current, isDone, justFinished) ->
+            onIsDone.accept(isDone);
+
+        return (current, isDone, justFinished) -> {
+            if (justFinished) onFinish.accept(current);
+
+            onIsDone.accept(isDone);
+        };
+    }
+
+    private static <T> Consumer<T> chain(Consumer<T> first, Consumer<T> then) {
+        if (first == null) return then;
+        if (then == null) return first;
+
+        return first.andThen(then);
+    }
+
+    private static DoubleConsumer chainDouble(
+        DoubleConsumer first,
+        DoubleConsumer then
+    ) {
+        if (first == null) return then;
+        if (then == null) return first;
+
+        return first.andThen(then);
+    }
+
+    private static DoneListener chain(DoneListener first, DoneListener then) {
+        if (first == null) return then;
+        if (then == null) return first;
+
+        return (current, isDone, justFinished) -> {
+            first.accept(current, isDone, justFinished);
+            then.accept(current, isDone, justFinished);
+        };
+    }
+
+    @Override
+    protected DecoratedTrajectory rewrap(Trajectory wrapped) {
+        return new ListenerTrajectory(wrapped, onStart, onIsDone, onSpeed);
+    }
+
+    @Override
+    protected DecoratedTrajectory fuse(DecoratedTrajectory inner) {
+        if (!(inner instanceof ListenerTrajectory)) return null;
+
+        ListenerTrajectory listener = (ListenerTrajectory) inner;
+
+        // this decorator's start listener runs before the inner one, and
+        // the inner decorator's other listeners run before this one's.
+        // both decorators start and finish at the same time, so a single
+        // pair of flags is enough
+        return new ListenerTrajectory(
+            listener.wrapped,
+            chain(onStart, listener.onStart),
+            chain(listener.onIsDone, onIsDone),
+            chainDouble(listener.onSpeed, onSpeed)
+        );
+    }
+
+    @Override
+    public PointXYZ nextMarker(PointXYZ current) {
+        if (!hasStarted) {
+            if (onStart != null) onStart.accept(current);
+            hasStarted = true;
+        }
+
+        return wrapped.nextMarker(current);
+    }
+
+    @Override
+    public boolean isDone(PointXYZ current) {
+        boolean isDone = wrapped.isDone(current);
+        boolean justFinished = isDone && !hasFinished;
+
+        if (justFinished) hasFinished = true;
+
+        if (onIsDone != null) onIsDone.accept(current, isDone, justFinished);
+
+        return isDone;
+    }
+
+    @Override
+    public double speed(PointXYZ current) {
+        double speed = wrapped.speed(current);
+
+        if (onSpeed != null) onSpeed.accept(speed);
+
+        return speed;
+    }
+
+    @Override
+    public Trajectory reset() {
+        hasStarted = false;
+        hasFinished = false;
+
+        return super.reset();
+    }
+
+    /**
+     * A listener that's called every time a trajectory's
+     * {@link Trajectory#isDone(PointXYZ)} method is called.
+     */
+    @FunctionalInterface
+    public interface DoneListener {
+        /**
+         * Called after the trajectory has checked whether it's done.
+         *
+         * @param current      the robot's position.
+         * @param isDone       whether the trajectory is done.
+         * @param justFinished true if this is the first time the
+         *                     trajectory has been done.
+         */
+        void accept(PointXYZ current, boolean isDone, boolean justFinished);
+    }
+}
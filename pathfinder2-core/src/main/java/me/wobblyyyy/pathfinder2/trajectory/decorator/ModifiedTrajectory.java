@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.decorator;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A trajectory with modifiers applied to the values its wrapped trajectory
+ * returns. See {@link Trajectory#withModifiers(Function, Function,
+ * Function)}.
+ *
+ * <p>
+ * The is done modifier is a {@link DoneModifier} and the speed modifier is
+ * a {@link DoubleUnaryOperator}, so neither of them boxes the value it's
+ * given or the value it returns. Several
+ * modified trajectories wrapped around each other can be compiled into a
+ * single one, with each set of modifiers combined into one function.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class ModifiedTrajectory extends DecoratedTrajectory {
+    private final Function<PointXYZ, PointXYZ> nextMarkerModifier;
+    private final DoneModifier isDoneModifier;
+    private final DoubleUnaryOperator speedModifier;
+
+    /**
+     * Create a new {@code ModifiedTrajectory}.
+     *
+     * @param wrapped            the trajectory to modify.
+     * @param nextMarkerModifier the modifier for the next marker method.
+     * @param isDoneModifier     the modifier for the is done method.
+     * @param speedModifier      the modifier for the speed method.
+     */
+    public ModifiedTrajectory(
+        Trajectory wrapped,
+        Function<PointXYZ, PointXYZ> nextMarkerModifier,
+        DoneModifier isDoneModifier,
+        DoubleUnaryOperator speedModifier
+    ) {
+        super(wrapped);
+
+        this.nextMarkerModifier =
+            ValidationUtils.validate(nextMarkerModifier, "nextMarkerModifier");
+        this.isDoneModifier =
+            ValidationUtils.validate(isDoneModifier, "isDoneModifier");
+        this.speedModifier =
+            ValidationUtils.validate(speedModifier, "speedModifier");
+    }
+
+    @Override
+    protected DecoratedTrajectory rewrap(Trajectory wrapped) {
+        return new ModifiedTrajectory(
+            wrapped,
+            nextMarkerModifier,
+            isDoneModifier,
+            speedModifier
+        );
+    }
+
+    @Override
+    protected DecoratedTrajectory fuse(DecoratedTrajectory inner) {
+        if (!(inner instanceof ModifiedTrajectory)) return null;
+
+        ModifiedTrajectory modified = (ModifiedTrajectory) inner;
+        DoneModifier innerIsDone = modified.isDoneModifier;
+        DoneModifier outerIsDone = isDoneModifier;
+
+        // the inner modifiers are applied first
+        return new ModifiedTrajectory(
+            modified.wrapped,
+            modified.nextMarkerModifier.andThen(nextMarkerModifier),
+            isDone -> outerIsDone.apply(innerIsDone.apply(isDone)),
+            modified.speedModifier.andThen(speedModifier)
+        );
+    }
+
+    @Override
+    public PointXYZ nextMarker(PointXYZ current) {
+        return nextMarkerModifier.apply(wrapped.nextMarker(current));
+    }
+
+    @Override
+    public boolean isDone(PointXYZ current) {
+        return isDoneModifier.apply(wrapped.isDone(current));
+    }
+
+    @Override
+    public double speed(PointXYZ current) {
+        return speedModifier.applyAsDouble(wrapped.speed(current));
+    }
+
+    /**
+     * A modifier for a trajectory's {@link Trajectory#isDone(PointXYZ)}
+     * method. This is a {@code Function<Boolean, Boolean>} that works with
+     * primitive booleans instead.
+     */
+    @FunctionalInterface
+    public interface DoneModifier {
+        /**
+         * Modify whether the trajectory is done.
+         *
+         * @param isDone whether the wrapped trajectory is done.
+         * @return whether the modified trajectory is done.
+         */
+        boolean apply(boolean isDone);
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.decorator;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A transformation that can be applied to a {@link PointXYZ}: any mix of
+ * reflecting, rotating, shifting, and scaling. Any number of these can be
+ * combined (with {@link #then(PointTransform)}) into a single transform,
+ * which does the same thing as applying each of them one after another,
+ * but only creates a single point.
+ *
+ * <p>
+ * The X and Y values are transformed with a 2x3 matrix (an affine
+ * transformation), which is why any number of transforms can be combined
+ * into one. Headings are a bit trickier: each transform that changes the
+ * heading wraps it back into the range of 0 to 360 degrees, so the
+ * heading changes are kept as a list of steps. Consecutive steps that only
+ * add to the heading are combined into one.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public final class PointTransform implements Serializable {
+    /**
+     * A transform that doesn't do anything.
+     */
+    public static final PointTransform IDENTITY = new PointTransform(
+        1,
+        0,
+        0,
+        1,
+        0,
+        0,
+        new double[0],
+        new double[0]
+    );
+
+    /*
+     * x' = (xx * x) + (xy * y) + tx
+     * y' = (yx * x) + (yy * y) + ty
+     */
+    private final double xx;
+    private final double xy;
+    private final double yx;
+    private final double yy;
+    private final double tx;
+    private final double ty;
+
+    /*
+     * heading steps, applied in order: z' = fixDeg((z * scale) + offset)
+     */
+    private final double[] zScale;
+    private final double[] zOffset;
+
+    private PointTransform(
+        double xx,
+        double xy,
+        double yx,
+        double yy,
+        double tx,
+        double ty,
+        double[] zScale,
+        double[] zOffset
+    ) {
+        this.xx = xx;
+        this.xy = xy;
+        this.yx = yx;
+        this.yy = yy;
+        this.tx = tx;
+        this.ty = ty;
+        this.zScale = zScale;
+        this.zOffset = zOffset;
+    }
+
+    private static PointTransform xy(
+        double xx,
+        double xy,
+        double yx,
+        double yy,
+        double tx,
+        double ty
+    ) {
+        return new PointTransform(
+            xx,
+            xy,
+            yx,
+            yy,
+            tx,
+            ty,
+            new double[0],
+            new double[0]
+        );
+    }
+
+    /**
+     * Reflect points over a vertical line. This does the same thing as
+     * {@link PointXYZ#reflectOverX(double)}.
+     *
+     * @param xAxis the X value of the line to reflect over.
+     * @return a new transform.
+     */
+    public static PointTransform reflectX(double xAxis) {
+        ValidationUtils.validate(xAxis, "xAxis");
+
+        return xy(-1, 0, 0, 1, 2 * xAxis, 0);
+    }
+
+    /**
+     * Reflect points over a horizontal line. This does the same thing as
+     * {@link PointXYZ#reflectOverY(double)}.
+     *
+     * @param yAxis the Y value of the line to reflect over.
+     * @return a new transform.
+     */
+    public static PointTransform reflectY(double yAxis) {
+        ValidationUtils.validate(yAxis, "yAxis");
+
+        return xy(1, 0, 0, -1, 0, 2 * yAxis);
+    }
+
+    /**
+     * Rotate points around a center point. Like
+     * {@link PointXYZ#rotate(PointXY, Angle)}, this doesn't change the
+     * points' headings.
+     *
+     * @param center the point to rotate around.
+     * @param angle  how far to rotate (counter-clockwise).
+     * @return a new transform.
+     */
+    public static PointTransform rotate(PointXY center, Angle angle) {
+        ValidationUtils.validate(center, "center");
+        ValidationUtils.validate(angle, "angle");
+
+        double cos = angle.cos();
+        double sin = angle.sin();
+        double cx = center.x();
+        double cy = center.y();
+
+        return xy(
+            cos,
+            -sin,
+            sin,
+            cos,
+            cx - (cos * cx) + (sin * cy),
+            cy - (sin * cx) - (cos * cy)
+        );
+    }
+
+    /**
+     * Shift points by an offset. This does the same thing as
+     * {@link PointXYZ#add(PointXYZ)}, including wrapping the heading.
+     *
+     * @param offset the offset to add to each point.
+     * @return a new transform.
+     */
+    public static PointTransform add(PointXYZ offset) {
+        ValidationUtils.validate(offset, "offset");
+
+        return new PointTransform(
+            1,
+            0,
+            0,
+            1,
+            offset.x(),
+            offset.y(),
+            new double[] { 1 },
+            new double[] { offset.z().deg() }
+        );
+    }
+
+    /**
+     * Scale points. This does the same thing as
+     * {@link PointXYZ#multiply(PointXYZ)} with a multiplier of
+     * {@code (xMultiplier, yMultiplier, zMultiplier degrees)}. That means
+     * the heading is multiplied the same way {@link Angle#multiply(Angle,
+     * Angle)} multiplies two angles: in radians.
+     *
+     * @param xMultiplier the X multiplier.
+     * @param yMultiplier the Y multiplier.
+     * @param zMultiplier the Z multiplier, as an angle in degrees.
+     * @return a new transform.
+     */
+    public static PointTransform multiply(
+        double xMultiplier,
+        double yMultiplier,
+        double zMultiplier
+    ) {
+        ValidationUtils.validate(xMultiplier, "xMultiplier");
+        ValidationUtils.validate(yMultiplier, "yMultiplier");
+        ValidationUtils.validate(zMultiplier, "zMultiplier");
+
+        double zRad = Angle.fromDeg(zMultiplier).rad();
+
+        return new PointTransform(
+            xMultiplier,
+            0,
+            0,
+            yMultiplier,
+            0,
+            0,
+            new double[] { zRad },
+            new double[] { 0 }
+        );
+    }
+
+    /**
+     * Combine this transform with another one. The returned transform
+     * does the same thing as applying {@code this} transform, and then
+     * applying {@code next} to the result.
+     *
+     * @param next the transform to apply after this one.
+     * @return a new transform.
+     */
+    public PointTransform then(PointTransform next) {
+        ValidationUtils.validate(next, "next");
+
+        if (this == IDENTITY) return next;
+        if (next == IDENTITY) return this;
+
+        double[] scales;
+        double[] offsets;
+        int size = zScale.length;
+
+        if (
+            size > 0 &&
+            next.zScale.length > 0 &&
+            zScale[size - 1] == 1 &&
+            next.zScale[0] == 1
+        ) {
+            // two steps in a row that only add to the heading can be
+            // combined into a single step
+            scales = concat(zScale, next.zScale, 1);
+            offsets = concat(zOffset, next.zOffset, 1);
+            offsets[size - 1] += next.zOffset[0];
+        } else {
+            scales = concat(zScale, next.zScale, 0);
+            offsets = concat(zOffset, next.zOffset, 0);
+        }
+
+        return new PointTransform(
+            (next.xx * xx) + (next.xy * yx),
+            (next.xx * xy) + (next.xy * yy),
+            (next.yx * xx) + (next.yy * yx),
+            (next.yx * xy) + (next.yy * yy),
+            (next.xx * tx) + (next.xy * ty) + next.tx,
+            (next.yx * tx) + (next.yy * ty) + next.ty,
+            scales,
+            offsets
+        );
+    }
+
+    private static double[] concat(double[] a, double[] b, int skip) {
+        double[] result = Arrays.copyOf(a, a.length + b.length - skip);
+
+        System.arraycopy(b, skip, result, a.length, b.length - skip);
+
+        return result;
+    }
+
+    /**
+     * Transform a point's X value.
+     *
+     * @param x the point's X value.
+     * @param y the point's Y value.
+     * @return the transformed X value.
+     */
+    public double applyX(double x, double y) {
+        return (xx * x) + (xy * y) + tx;
+    }
+
+    /**
+     * Transform a point's Y value.
+     *
+     * @param x the point's X value.
+     * @param y the point's Y value.
+     * @return the transformed Y value.
+     */
+    public double applyY(double x, double y) {
+        return (yx * x) + (yy * y) + ty;
+    }
+
+    /**
+     * Transform a heading.
+     *
+     * @param zDeg the heading, in degrees.
+     * @return the transformed heading, in degrees.
+     */
+    public double applyZ(double zDeg) {
+        for (int i = 0; i < zScale.length; i++) {
+            zDeg = Angle.fixDeg((zDeg * zScale[i]) + zOffset[i]);
+        }
+
+        return zDeg;
+    }
+
+    /**
+     * Transform a point.
+     *
+     * @param point the point to transform.
+     * @return the transformed point. If this transform doesn't change
+     * headings, the new point has the same {@link Angle} as the old one.
+     */
+    public PointXYZ apply(PointXYZ point) {
+        double x = point.x();
+        double y = point.y();
+
+        if (zScale.length == 0) return new PointXYZ(
+            applyX(x, y),
+            applyY(x, y),
+            point.z()
+        );
+
+        return new PointXYZ(
+            applyX(x, y),
+            applyY(x, y),
+            Angle.fromDeg(applyZ(point.z().deg()))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "PointTransform (x: <%s, %s, %s> y: <%s, %s, %s> heading " +
+            "steps: <%s>)",
+            xx,
+            xy,
+            tx,
+            yx,
+            yy,
+            ty,
+            zScale.length
+        );
+    }
+}
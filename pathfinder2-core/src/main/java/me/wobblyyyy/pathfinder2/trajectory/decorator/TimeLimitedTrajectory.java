@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.decorator;
+
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.time.Clock;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A trajectory with time limits. See
+ * {@link Trajectory#withTimeLimits(double, double)}. Time starts counting the
+ * first time {@link #nextMarker(PointXYZ)} is called.
+ *
+ * <p>
+ * Time is measured with a {@link Clock}. If you're running a simulation
+ * with a {@link me.wobblyyyy.pathfinder2.time.ManualClock}, give the
+ * trajectory Pathfinder's clock (see
+ * {@link Trajectory#withTimeLimits(double, double, Clock)}), or else the
+ * time limits will be measured in real time.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TimeLimitedTrajectory extends DecoratedTrajectory {
+    private final double minimumTimeMs;
+    private final double maximumTimeMs;
+    private final Clock clock;
+
+    private boolean hasStarted = false;
+    private long startNs = 0;
+
+    /**
+     * Create a new {@code TimeLimitedTrajectory} that measures time with
+     * {@link Clock#SYSTEM}.
+     *
+     * @param wrapped       the trajectory to limit.
+     * @param minimumTimeMs the minimum time, in milliseconds.
+     * @param maximumTimeMs the maximum time, in milliseconds.
+     */
+    public TimeLimitedTrajectory(
+        Trajectory wrapped,
+        double minimumTimeMs,
+        double maximumTimeMs
+    ) {
+        this(wrapped, minimumTimeMs, maximumTimeMs, Clock.SYSTEM);
+    }
+
+    /**
+     * Create a new {@code TimeLimitedTrajectory}.
+     *
+     * @param wrapped       the trajectory to limit.
+     * @param minimumTimeMs the minimum time, in milliseconds.
+     * @param maximumTimeMs the maximum time, in milliseconds.
+     * @param clock         the clock used to measure time.
+     */
+    public TimeLimitedTrajectory(
+        Trajectory wrapped,
+        double minimumTimeMs,
+        double maximumTimeMs,
+        Clock clock
+    ) {
+        super(wrapped);
+
+        this.minimumTimeMs = minimumTimeMs;
+        this.maximumTimeMs = maximumTimeMs;
+        this.clock = ValidationUtils.validate(clock, "clock");
+    }
+
+    @Override
+    protected DecoratedTrajectory rewrap(Trajectory wrapped) {
+        return new TimeLimitedTrajectory(
+            wrapped,
+            minimumTimeMs,
+            maximumTimeMs,
+            clock
+        );
+    }
+
+    @Override
+    public PointXYZ nextMarker(PointXYZ current) {
+        if (!hasStarted) {
+            hasStarted = true;
+            startNs = clock.nanoTime();
+        }
+
+        return wrapped.nextMarker(current);
+    }
+
+    @Override
+    public boolean isDone(PointXYZ current) {
+        double elapsedMs = hasStarted
+            ? (clock.nanoTime() - startNs) / 1_000_000d
+            : 0;
+
+        if (elapsedMs < minimumTimeMs) return true; else if (
+            elapsedMs < maximumTimeMs
+        ) return wrapped.isDone(current); else return (
+            elapsedMs > maximumTimeMs
+        );
+    }
+
+    @Override
+    public double speed(PointXYZ current) {
+        return wrapped.speed(current);
+    }
+
+    @Override
+    public Trajectory reset() {
+        hasStarted = false;
+
+        return super.reset();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.decorator;
+
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A trajectory that transforms the robot's position before passing it to
+ * the trajectory it wraps, and transforms the marker the wrapped
+ * trajectory returns. This is how a trajectory is reflected, rotated,
+ * shifted, or scaled.
+ *
+ * <p>
+ * Any number of transformed trajectories wrapped around each other can be
+ * compiled into a single one, so a trajectory that's been reflected, then
+ * shifted, then rotated only transforms each point once.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class TransformedTrajectory extends DecoratedTrajectory {
+    private final PointTransform input;
+    private final PointTransform output;
+
+    /**
+     * Create a new {@code TransformedTrajectory}.
+     *
+     * @param wrapped the trajectory to transform.
+     * @param input   the transform applied to the robot's position before
+     *                it's passed to the wrapped trajectory.
+     * @param output  the transform applied to the markers the wrapped
+     *                trajectory returns.
+     */
+    public TransformedTrajectory(
+        Trajectory wrapped,
+        PointTransform input,
+        PointTransform output
+    ) {
+        super(wrapped);
+
+        this.input = ValidationUtils.validate(input, "input");
+        this.output = ValidationUtils.validate(output, "output");
+    }
+
+    /**
+     * Create a new {@code TransformedTrajectory} that uses the same
+     * transform for the robot's position and the wrapped trajectory's
+     * markers.
+     *
+     * @param wrapped   the trajectory to transform.
+     * @param transform the transform.
+     */
+    public TransformedTrajectory(Trajectory wrapped, PointTransform transform) {
+        this(wrapped, transform, transform);
+    }
+
+    @Override
+    protected DecoratedTrajectory rewrap(Trajectory wrapped) {
+        return new TransformedTrajectory(wrapped, input, output);
+    }
+
+    @Override
+    protected DecoratedTrajectory fuse(DecoratedTrajectory inner) {
+        if (!(inner instanceof TransformedTrajectory)) return null;
+
+        TransformedTrajectory transformed = (TransformedTrajectory) inner;
+
+        // the robot's position goes through this transform first, and
+        // markers go through it last
+        return new TransformedTrajectory(
+            transformed.wrapped,
+            input.then(transformed.input),
+            transformed.output.then(output)
+        );
+    }
+
+    @Override
+    public PointXYZ nextMarker(PointXYZ current) {
+        return output.apply(wrapped.nextMarker(input.apply(current)));
+    }
+
+    @Override
+    public boolean isDone(PointXYZ current) {
+        return wrapped.isDone(input.apply(current));
+    }
+
+    @Override
+    public double speed(PointXYZ current) {
+        return wrapped.speed(input.apply(current));
+    }
+
+    public PointTransform getInput() {
+        return input;
+    }
+
+    public PointTransform getOutput() {
+        return output;
+    }
+}
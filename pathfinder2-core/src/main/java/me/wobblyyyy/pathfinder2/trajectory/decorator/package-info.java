@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+/**
+ * The wrappers created by the {@code Trajectory} interface's default
+ * methods (like {@code reflectX}, {@code onFinish}, and
+ * {@code withTimeLimits}), and the code that folds a stack of them together
+ * when a trajectory is compiled. See {@link
+ * me.wobblyyyy.pathfinder2.trajectory.Trajectory#compile()}.
+ */
+package me.wobblyyyy.pathfinder2.trajectory.decorator;
@@ -11,47 +11,126 @@
 package me.wobblyyyy.pathfinder2.trajectory.multi.segment;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
 import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.utils.NotNull;
 
 /**
  * A {@code Trajectory} made up of multiple trajectories. Pretty simply, it's
  * a trajectory with multiple segments - that's a crazy coincidence, right?
  *
+ * <p>
+ * The segments are copied when the trajectory is created, and the
+ * trajectory keeps track of which segment it's on with an index, so the
+ * list or array it was created with is never modified. Once every segment
+ * has finished, {@link #reset()} moves the trajectory (and each of its
+ * segments) back to the start, so the same trajectory can be followed
+ * again without being created again.
+ * </p>
+ *
  * @author Colin Robertson
  * @since 0.6.1
  */
 public class MultiSegmentTrajectory implements Trajectory {
+    private final Trajectory[] trajectories;
+
     /**
-     * A pseudo-queue data structure.
+     * The index of the segment that's currently being followed. Once every
+     * segment has finished, this is the number of segments.
      */
-    private final List<Trajectory> trajectories;
+    private int index = 0;
 
     public MultiSegmentTrajectory(List<Trajectory> trajectories) {
-        this.trajectories = trajectories;
+        this(trajectories.toArray(new Trajectory[0]));
     }
 
     public MultiSegmentTrajectory(Trajectory... trajectories) {
-        this(Arrays.asList(trajectories));
+        NotNull.throwExceptionIfNull(
+            "Cannot create a multi-segment trajectory with " +
+            "any null segments!",
+            (Object[]) trajectories
+        );
+
+        this.trajectories = Arrays.copyOf(trajectories, trajectories.length);
     }
 
     /**
      * If there's still at least one trajectory in the
-     * {@code MultiSegmentTrajectory}, "skip" over it by removing it from
-     * the queue, moving on to the next trajectory.
+     * {@code MultiSegmentTrajectory}, "skip" over it, moving on to the next
+     * trajectory.
      */
     public void skip() {
-        if (trajectories.size() > 0) {
-            trajectories.remove(0);
+        if (index < trajectories.length) {
+            index++;
         }
     }
 
+    /**
+     * Go back to the first segment, and reset every segment, so the
+     * trajectory can be followed again from the start.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    @Override
+    public MultiSegmentTrajectory reset() {
+        for (Trajectory trajectory : trajectories) trajectory.reset();
+
+        index = 0;
+
+        return this;
+    }
+
+    /**
+     * Compile each of the trajectory's segments. The compiled trajectory
+     * starts at the first segment, regardless of which segment this
+     * trajectory is on.
+     *
+     * @return a new {@code MultiSegmentTrajectory}, made up of compiled
+     * versions of each of this trajectory's segments.
+     */
+    @Override
+    public MultiSegmentTrajectory compile() {
+        Trajectory[] compiled = new Trajectory[trajectories.length];
+
+        for (int i = 0; i < trajectories.length; i++) {
+            compiled[i] = trajectories[i].compile();
+        }
+
+        return new MultiSegmentTrajectory(compiled);
+    }
+
+    /**
+     * Get the segments that haven't been finished yet. The returned list
+     * can't be modified.
+     *
+     * @return the trajectory's remaining segments, in order.
+     */
+    public List<Trajectory> getTrajectories() {
+        return Collections.unmodifiableList(
+            Arrays.asList(trajectories).subList(index, trajectories.length)
+        );
+    }
+
+    /**
+     * Get the index of the segment that's currently being followed.
+     *
+     * @return the current segment's index. If every segment has finished,
+     * this is the number of segments.
+     */
+    public int getSegmentIndex() {
+        return index;
+    }
+
+    public int getSegmentCount() {
+        return trajectories.length;
+    }
+
     @Override
     public PointXYZ nextMarker(PointXYZ current) {
-        if (trajectories.size() > 0) {
-            Trajectory currentTrajectory = trajectories.get(0);
-            return currentTrajectory.nextMarker(current);
+        if (index < trajectories.length) {
+            return trajectories[index].nextMarker(current);
         }
 
         return current;
@@ -62,10 +141,10 @@ public PointXYZ nextMarker(PointXYZ current) {
      * its segments?
      *
      * <p>
-     * This method will also advance the queue if the current segment has
-     * finished. If the current segment has in fact finished, and it's the
-     * last segment, then there are no more segments, and it returns true.
-     * It's just like magic!
+     * This method will also advance to the next segment if the current
+     * segment has finished. If the current segment has in fact finished,
+     * and it's the last segment, then there are no more segments, and it
+     * returns true. It's just like magic!
      * </p>
      *
      * @param current the robot's current position.
@@ -74,20 +153,17 @@ public PointXYZ nextMarker(PointXYZ current) {
      */
     @Override
     public boolean isDone(PointXYZ current) {
-        if (trajectories.size() > 0) {
-            Trajectory currentTrajectory = trajectories.get(0);
-
-            if (currentTrajectory.isDone(current)) trajectories.remove(0);
+        if (index < trajectories.length) {
+            if (trajectories[index].isDone(current)) index++;
         }
 
-        return trajectories.size() == 0;
+        return index == trajectories.length;
     }
 
     @Override
     public double speed(PointXYZ current) {
-        if (trajectories.size() > 0) {
-            Trajectory currentTrajectory = trajectories.get(0);
-            return currentTrajectory.speed(current);
+        if (index < trajectories.length) {
+            return trajectories[index].speed(current);
         }
 
         return 0.0;
@@ -99,12 +175,14 @@ public String toString() {
 
         builder.append("MultiSegmentTrajectory (");
 
-        for (Trajectory trajectory : trajectories) {
-            builder.append(trajectory);
+        for (int i = index; i < trajectories.length; i++) {
+            builder.append(trajectories[i]);
             builder.append(',');
         }
 
-        if (trajectories.size() > 0) builder.setLength(builder.length() - 1);
+        if (index < trajectories.length) builder.setLength(
+            builder.length() - 1
+        );
 
         builder.append(')');
         return builder.toString();
@@ -42,10 +42,22 @@
  */
 public class MultiTargetTrajectory implements Trajectory {
     private final TrajectoryTarget[] targets;
+
+    /*
+     * each target's position, heading (in degrees, from 0 to 360), and
+     * tolerances, copied into arrays once so following the trajectory
+     * doesn't have to create any angles
+     */
+    private final double[] targetX;
+    private final double[] targetY;
+    private final double[] targetZ;
+    private final double[] tolerance;
+    private final double[] angleTolerance;
+
     private int index = 0;
     private double lastStartX = 0;
     private double lastStartY = 0;
-    private Angle lastStartZ = Angle.DEG_0;
+    private double lastStartZ = 0;
     private double requiredTranslationX = 0;
     private double requiredTranslationY = 0;
     private double requiredTranslationZ = 0;
@@ -65,38 +77,59 @@ public MultiTargetTrajectory(TrajectoryTarget[] targets) {
             (Object[]) targets
         );
 
+        int count = targets.length;
+
         this.targets = targets;
+        this.targetX = new double[count];
+        this.targetY = new double[count];
+        this.targetZ = new double[count];
+        this.tolerance = new double[count];
+        this.angleTolerance = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            TrajectoryTarget target = targets[i];
+            PointXYZ point = target.target();
+
+            targetX[i] = point.x();
+            targetY[i] = point.y();
+            targetZ[i] = Angle.fixDeg(point.z().deg());
+            tolerance[i] = target.tolerance();
+            angleTolerance[i] = Angle.fixDeg(target.angleTolerance().deg());
+        }
+    }
+
+    /**
+     * Start moving towards the target at {@link #index}, from wherever the
+     * robot is right now.
+     */
+    private void startSegment(double x, double y, double z) {
+        lastStartX = x;
+        lastStartY = y;
+        lastStartZ = z;
+
+        requiredTranslationX = targetX[index] - x;
+        requiredTranslationY = targetY[index] - y;
+        requiredTranslationZ = Angle.fixDeg(targetZ[index] - z);
     }
 
     @Override
     public PointXYZ nextMarker(PointXYZ current) {
+        double currentX = current.x();
+        double currentY = current.y();
+        double currentZ = current.z().deg();
+
         // if this is the first time the trajectory is running,
         // set up some values
         if (!hasRan) {
-            lastStartX = current.x();
-            lastStartY = current.y();
-            lastStartZ = current.z();
-
-            PointXYZ next = targets[index].target();
-
-            requiredTranslationX = next.x() - current.x();
-            requiredTranslationY = next.y() - current.y();
-            requiredTranslationZ = next.z().subtract(current.z()).fix().deg();
+            startSegment(currentX, currentY, currentZ);
 
             hasRan = true;
         }
 
-        TrajectoryTarget target = targets[index];
-
-        // current values
-        double currentX = current.x();
-        double currentY = current.y();
-        Angle currentAngle = current.z();
-
         // sort of "delta" values - difference between current and start
         double translationX = currentX - lastStartX;
         double translationY = currentY - lastStartY;
-        double translationZ = currentAngle.subtract(lastStartZ).fix().deg();
+        double translationZ = Angle.fixDeg(currentZ - lastStartZ);
 
         boolean hasCompletedX = Magnitude.higherMagnitude(
             translationX,
@@ -114,21 +147,20 @@ public PointXYZ nextMarker(PointXYZ current) {
         if (hasCompletedX && hasCompletedY && hasCompletedZ) {
             // precision targets need to be treated differently - we have
             // to handle tolerance values
-            if (target.precision() == TargetPrecision.PRECISE) {
-                PointXYZ targetPoint = target.target();
-                double distance = current.absDistance(targetPoint);
-                Angle angleDistance = Angle.angleDelta(
-                    current.z(),
-                    targetPoint.z()
+            if (targets[index].precision() == TargetPrecision.PRECISE) {
+                double dx = targetX[index] - currentX;
+                double dy = targetY[index] - currentY;
+                double angleDistance = Math.abs(
+                    Angle.minimumDelta(currentZ, targetZ[index])
                 );
 
-                boolean validDistance = distance < target.tolerance();
-                boolean validAngle = angleDistance.lessThanOrEqualTo(
-                    target.angleTolerance()
-                );
+                boolean validDistance =
+                    (dx * dx) + (dy * dy) <
+                    tolerance[index] * tolerance[index];
+                boolean validAngle = angleDistance <= angleTolerance[index];
 
                 if (!(validDistance && validAngle)) {
-                    return targetPoint;
+                    return targets[index].target();
                 }
             }
 
@@ -139,18 +171,9 @@ public PointXYZ nextMarker(PointXYZ current) {
                 hasFinished = true;
                 return current;
             } else {
-                lastStartX = currentX;
-                lastStartY = currentY;
-                lastStartZ = currentAngle;
-
                 index++;
 
-                PointXYZ next = targets[index].target();
-
-                requiredTranslationX = next.x() - currentX;
-                requiredTranslationY = next.y() - currentY;
-                requiredTranslationZ =
-                    next.z().subtract(currentAngle).fix().deg();
+                startSegment(currentX, currentY, currentZ);
             }
         }
 
@@ -166,4 +189,30 @@ public boolean isDone(PointXYZ current) {
     public double speed(PointXYZ current) {
         return targets[index].speed();
     }
+
+    /**
+     * Go back to the first target, so the trajectory can be followed again.
+     * The first target's starting point will be wherever the robot is the
+     * next time {@link #nextMarker(PointXYZ)} is called.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    @Override
+    public MultiTargetTrajectory reset() {
+        index = 0;
+        hasFinished = false;
+        hasRan = false;
+
+        return this;
+    }
+
+    /**
+     * Get the index of the target the trajectory is currently moving
+     * towards.
+     *
+     * @return the current target's index.
+     */
+    public int getTargetIndex() {
+        return index;
+    }
 }
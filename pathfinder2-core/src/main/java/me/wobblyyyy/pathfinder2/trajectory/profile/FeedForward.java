@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.profile;
+
+import java.io.Serializable;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A simple feed-forward model, which converts a target velocity and
+ * acceleration into a motor power (from -1 to 1):
+ *
+ * <pre><code>
+ * power = kS * sign(velocity) + kV * velocity + kA * acceleration
+ * </code></pre>
+ *
+ * <p>
+ * {@code kS} is the power needed to overcome static friction, {@code kV}
+ * is the power needed per unit of velocity, and {@code kA} is the power
+ * needed per unit of acceleration. If you don't know any of these values,
+ * {@link #fromMaxVelocity(double)} is a pretty good place to start: it
+ * assumes power and velocity are proportional, and that the robot's
+ * top speed (at a power of 1) is a certain velocity.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public final class FeedForward implements Serializable {
+    private final double kS;
+    private final double kV;
+    private final double kA;
+
+    /**
+     * Create a new {@code FeedForward} model.
+     *
+     * @param kS the static friction gain.
+     * @param kV the velocity gain.
+     * @param kA the acceleration gain.
+     */
+    public FeedForward(double kS, double kV, double kA) {
+        ValidationUtils.validate(kS, "kS");
+        ValidationUtils.validate(kV, "kV");
+        ValidationUtils.validate(kA, "kA");
+
+        this.kS = kS;
+        this.kV = kV;
+        this.kA = kA;
+    }
+
+    /**
+     * Create a feed-forward model for a robot that moves at a certain
+     * velocity when it's given a power of 1.
+     *
+     * @param maxVelocity the robot's top speed, in the same units as the
+     *                    motion profile's velocity.
+     * @return a new feed-forward model.
+     */
+    public static FeedForward fromMaxVelocity(double maxVelocity) {
+        ValidationUtils.validate(maxVelocity, "maxVelocity");
+
+        if (maxVelocity <= 0) throw new IllegalArgumentException(
+            "maxVelocity must be greater than 0!"
+        );
+
+        return new FeedForward(0, 1 / maxVelocity, 0);
+    }
+
+    /**
+     * Calculate the power needed to move at a certain velocity and
+     * acceleration. This isn't clipped to the range (-1, 1).
+     *
+     * @param velocity     the target velocity.
+     * @param acceleration the target acceleration.
+     * @return the power needed.
+     */
+    public double calculate(double velocity, double acceleration) {
+        return (
+            (kS * Math.signum(velocity)) +
+            (kV * velocity) +
+            (kA * acceleration)
+        );
+    }
+
+    public double getKS() {
+        return kS;
+    }
+
+    public double getKV() {
+        return kV;
+    }
+
+    public double getKA() {
+        return kA;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "FeedForward (kS: <%s> kV: <%s> kA: <%s>)",
+            kS,
+            kV,
+            kA
+        );
+    }
+}
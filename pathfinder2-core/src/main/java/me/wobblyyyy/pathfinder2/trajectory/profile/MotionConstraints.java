@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.profile;
+
+import java.io.Serializable;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * The limits a {@link MotionProfile} has to respect: a maximum velocity, a
+ * maximum acceleration, and (optionally) a maximum jerk. Unlike most of
+ * Pathfinder, these aren't speeds from 0 to 1 - they're real units, so
+ * if your odometry reports inches, velocity is in inches per second,
+ * acceleration is in inches per second squared, and jerk is in inches per
+ * second cubed.
+ *
+ * <p>
+ * If the maximum jerk is infinite, the profile is trapezoidal: the robot
+ * switches between accelerating, cruising, and decelerating instantly. A
+ * finite maximum jerk makes an S-curve profile, which ramps acceleration
+ * up and down smoothly. S-curves are a little bit slower, but they're a
+ * lot kinder to wheels that like to slip.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public final class MotionConstraints implements Serializable {
+    private final double maxVelocity;
+    private final double maxAcceleration;
+    private final double maxJerk;
+
+    /**
+     * Create a new set of {@code MotionConstraints}.
+     *
+     * @param maxVelocity     the maximum velocity. This must be greater
+     *                        than 0.
+     * @param maxAcceleration the maximum acceleration (and deceleration).
+     *                        This must be greater than 0.
+     * @param maxJerk         the maximum jerk. This must be greater than 0.
+     *                        Use {@link Double#POSITIVE_INFINITY} for a
+     *                        trapezoidal profile.
+     */
+    public MotionConstraints(
+        double maxVelocity,
+        double maxAcceleration,
+        double maxJerk
+    ) {
+        ValidationUtils.validate(maxVelocity, "maxVelocity");
+        ValidationUtils.validate(maxAcceleration, "maxAcceleration");
+        ValidationUtils.validateNotNaN(maxJerk, "maxJerk");
+
+        if (
+            maxVelocity <= 0 || maxAcceleration <= 0 || maxJerk <= 0
+        ) throw new IllegalArgumentException(
+            StringUtils.format(
+                "Motion constraints must all be greater than 0! " +
+                "(max velocity: <%s> max acceleration: <%s> max jerk: <%s>)",
+                maxVelocity,
+                maxAcceleration,
+                maxJerk
+            )
+        );
+
+        this.maxVelocity = maxVelocity;
+        this.maxAcceleration = maxAcceleration;
+        this.maxJerk = maxJerk;
+    }
+
+    /**
+     * Create constraints for a trapezoidal profile (no jerk limit).
+     *
+     * @param maxVelocity     the maximum velocity.
+     * @param maxAcceleration the maximum acceleration.
+     * @return new constraints.
+     */
+    public static MotionConstraints trapezoidal(
+        double maxVelocity,
+        double maxAcceleration
+    ) {
+        return new MotionConstraints(
+            maxVelocity,
+            maxAcceleration,
+            Double.POSITIVE_INFINITY
+        );
+    }
+
+    /**
+     * Create constraints for an S-curve profile.
+     *
+     * @param maxVelocity     the maximum velocity.
+     * @param maxAcceleration the maximum acceleration.
+     * @param maxJerk         the maximum jerk.
+     * @return new constraints.
+     */
+    public static MotionConstraints sCurve(
+        double maxVelocity,
+        double maxAcceleration,
+        double maxJerk
+    ) {
+        return new MotionConstraints(maxVelocity, maxAcceleration, maxJerk);
+    }
+
+    public double getMaxVelocity() {
+        return maxVelocity;
+    }
+
+    public double getMaxAcceleration() {
+        return maxAcceleration;
+    }
+
+    public double getMaxJerk() {
+        return maxJerk;
+    }
+
+    /**
+     * Is jerk limited? If it isn't, profiles made with these constraints
+     * are trapezoidal.
+     *
+     * @return true if the maximum jerk is finite.
+     */
+    public boolean isJerkLimited() {
+        return !Double.isInfinite(maxJerk);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof MotionConstraints)) return false;
+
+        MotionConstraints c = (MotionConstraints) obj;
+
+        return (
+            maxVelocity == c.maxVelocity &&
+            maxAcceleration == c.maxAcceleration &&
+            maxJerk == c.maxJerk
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Double.hashCode(maxVelocity);
+        hash = (31 * hash) + Double.hashCode(maxAcceleration);
+        hash = (31 * hash) + Double.hashCode(maxJerk);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "MotionConstraints (max velocity: <%s> max acceleration: <%s> " +
+            "max jerk: <%s>)",
+            maxVelocity,
+            maxAcceleration,
+            maxJerk
+        );
+    }
+}
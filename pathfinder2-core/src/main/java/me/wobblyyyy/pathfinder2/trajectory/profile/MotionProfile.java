@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.profile;
+
+import java.io.Serializable;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A time-optimal, rest-to-rest motion profile over a certain distance.
+ * Given a distance and a set of {@link MotionConstraints}, this works out
+ * the fastest way to cover that distance, starting and ending at a
+ * standstill, without ever going over the maximum velocity, acceleration,
+ * or jerk.
+ *
+ * <p>
+ * The profile is made up of seven phases, each of which has a constant
+ * jerk:
+ * <ol>
+ *     <li>Acceleration ramps up to its maximum.</li>
+ *     <li>Acceleration stays at its maximum.</li>
+ *     <li>Acceleration ramps back down to 0.</li>
+ *     <li>The robot cruises at its peak velocity.</li>
+ *     <li>Deceleration ramps up to its maximum.</li>
+ *     <li>Deceleration stays at its maximum.</li>
+ *     <li>Deceleration ramps back down to 0.</li>
+ * </ol>
+ * If the distance is too short to reach the maximum velocity (or the
+ * maximum acceleration), some of these phases just have a length of 0.
+ * Without a jerk limit, phases 1, 3, 5, and 7 always have a length of 0,
+ * and the profile is the classic trapezoid.
+ * </p>
+ *
+ * <p>
+ * Everything is calculated once, in the constructor. After that, the
+ * position, velocity, and acceleration at any time are found by looking
+ * at (at most) seven phases and plugging the time into a polynomial, so
+ * querying a profile doesn't create any objects. If you want a table of
+ * values instead, see {@link #sample(double)}.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public final class MotionProfile implements Serializable {
+    private static final int PHASES = 7;
+
+    private final double distance;
+    private final MotionConstraints constraints;
+    private final double peakVelocity;
+    private final double peakAcceleration;
+
+    // the time each phase starts at, with one extra element for the end
+    // of the last phase
+    private final double[] startTime = new double[PHASES + 1];
+
+    // the jerk during each phase, and the acceleration, velocity, and
+    // position at the start of each phase
+    private final double[] jerk = new double[PHASES];
+    private final double[] startAcceleration = new double[PHASES];
+    private final double[] startVelocity = new double[PHASES];
+    private final double[] startPosition = new double[PHASES];
+
+    /**
+     * Create a new {@code MotionProfile}.
+     *
+     * @param distance    the distance the profile should cover. This must
+     *                    be greater than or equal to 0.
+     * @param constraints the constraints the profile has to respect.
+     */
+    public MotionProfile(double distance, MotionConstraints constraints) {
+        ValidationUtils.validate(distance, "distance");
+        ValidationUtils.validate(constraints, "constraints");
+
+        if (distance < 0) throw new IllegalArgumentException(
+            "A motion profile's distance can't be negative!"
+        );
+
+        this.distance = distance;
+        this.constraints = constraints;
+
+        double maxVelocity = constraints.getMaxVelocity();
+        double maxAcceleration = constraints.getMaxAcceleration();
+        double maxJerk = constraints.getMaxJerk();
+        boolean isJerkLimited = constraints.isJerkLimited();
+
+        // jerkTime: how long acceleration takes to ramp up (or down)
+        // accelTime: how long the whole acceleration phase (1-3) takes
+        // cruiseTime: how long the robot cruises for (phase 4)
+        double jerkTime = isJerkLimited ? maxAcceleration / maxJerk : 0;
+        double accelTime;
+        double acceleration;
+        double velocity = maxVelocity;
+
+        if (isJerkLimited && jerkTime * maxAcceleration >= maxVelocity) {
+            // we reach the maximum velocity before we reach the maximum
+            // acceleration, so acceleration just ramps up and back down
+            jerkTime = Math.sqrt(maxVelocity / maxJerk);
+            accelTime = 2 * jerkTime;
+            acceleration = maxJerk * jerkTime;
+        } else {
+            accelTime = jerkTime + (maxVelocity / maxAcceleration);
+            acceleration = maxAcceleration;
+        }
+
+        // the velocity curve during the acceleration phase is symmetrical,
+        // so the distance it covers is the peak velocity times half of its
+        // length - accelerating and decelerating together cover exactly
+        // velocity * accelTime
+        double cruiseTime;
+
+        if (velocity * accelTime <= distance) {
+            cruiseTime = (distance - (velocity * accelTime)) / velocity;
+        } else {
+            // the distance is too short to reach the maximum velocity.
+            // first, assume we can still reach the maximum acceleration, and
+            // solve v^2 / a + v * jerkTime = distance for v
+            jerkTime = isJerkLimited ? maxAcceleration / maxJerk : 0;
+            velocity =
+                maxAcceleration *
+                (
+                    -jerkTime +
+                    Math.sqrt(
+                        (jerkTime * jerkTime) +
+                        (4 * distance / maxAcceleration)
+                    )
+                ) /
+                2;
+
+            if (!isJerkLimited || velocity >= maxAcceleration * jerkTime) {
+                accelTime = jerkTime + (velocity / maxAcceleration);
+                acceleration = maxAcceleration;
+            } else {
+                // we can't even reach the maximum acceleration:
+                // distance = 2 * jerk * jerkTime^3
+                jerkTime = Math.cbrt(distance / (2 * maxJerk));
+                velocity = maxJerk * jerkTime * jerkTime;
+                accelTime = 2 * jerkTime;
+                acceleration = maxJerk * jerkTime;
+            }
+
+            cruiseTime = 0;
+        }
+
+        if (distance == 0) {
+            jerkTime = 0;
+            accelTime = 0;
+            cruiseTime = 0;
+            velocity = 0;
+            acceleration = 0;
+        }
+
+        this.peakVelocity = velocity;
+        this.peakAcceleration = acceleration;
+
+        double constantTime = Math.max(0, accelTime - (2 * jerkTime));
+        double j = isJerkLimited ? maxJerk : 0;
+        double[] durations = {
+            jerkTime,
+            constantTime,
+            jerkTime,
+            cruiseTime,
+            jerkTime,
+            constantTime,
+            jerkTime,
+        };
+        double[] jerks = { j, 0, -j, 0, -j, 0, j };
+        double[] accelerations = {
+            0,
+            acceleration,
+            acceleration,
+            0,
+            0,
+            -acceleration,
+            -acceleration,
+        };
+
+        double v = 0;
+        double s = 0;
+        for (int i = 0; i < PHASES; i++) {
+            double d = durations[i];
+            double a = accelerations[i];
+
+            startTime[i + 1] = startTime[i] + d;
+            jerk[i] = jerks[i];
+            startAcceleration[i] = a;
+            startVelocity[i] = v;
+            startPosition[i] = s;
+
+            s += (v * d) + (a * d * d / 2) + (jerks[i] * d * d * d / 6);
+            v += (a * d) + (jerks[i] * d * d / 2);
+        }
+    }
+
+    private int phaseAt(double time) {
+        for (int i = 0; i < PHASES - 1; i++) if (
+            time < startTime[i + 1]
+        ) return i;
+
+        return PHASES - 1;
+    }
+
+    /**
+     * Get the position (the distance travelled since the start of the
+     * profile) at a certain time.
+     *
+     * @param time the time, in seconds, since the start of the profile.
+     *             Times before the start of the profile are treated as
+     *             the start of the profile, and times after the end are
+     *             treated as the end.
+     * @return the position at that time.
+     */
+    public double positionAt(double time) {
+        if (time <= 0) return 0;
+        if (time >= getDuration()) return distance;
+
+        int i = phaseAt(time);
+        double t = time - startTime[i];
+
+        return (
+            startPosition[i] +
+            (startVelocity[i] * t) +
+            (startAcceleration[i] * t * t / 2) +
+            (jerk[i] * t * t * t / 6)
+        );
+    }
+
+    /**
+     * Get the velocity at a certain time.
+     *
+     * @param time the time, in seconds, since the start of the profile.
+     * @return the velocity at that time. This is always 0 before the start
+     * and after the end of the profile.
+     */
+    public double velocityAt(double time) {
+        if (time <= 0 || time >= getDuration()) return 0;
+
+        int i = phaseAt(time);
+        double t = time - startTime[i];
+
+        return Math.max(
+            0,
+            startVelocity[i] +
+            (startAcceleration[i] * t) +
+            (jerk[i] * t * t / 2)
+        );
+    }
+
+    /**
+     * Get the acceleration at a certain time.
+     *
+     * @param time the time, in seconds, since the start of the profile.
+     * @return the acceleration at that time. This is always 0 before the
+     * start and after the end of the profile.
+     */
+    public double accelerationAt(double time) {
+        if (time <= 0 || time >= getDuration()) return 0;
+
+        int i = phaseAt(time);
+
+        return startAcceleration[i] + (jerk[i] * (time - startTime[i]));
+    }
+
+    /**
+     * Sample the profile at a fixed interval, creating a time-indexed
+     * table of positions, velocities, and accelerations.
+     *
+     * @param dt the time between each sample, in seconds. This must be
+     *           greater than 0.
+     * @return a new {@link ProfileTable}.
+     */
+    public ProfileTable sample(double dt) {
+        ValidationUtils.validate(dt, "dt");
+
+        if (dt <= 0) throw new IllegalArgumentException(
+            "dt must be greater than 0!"
+        );
+
+        double duration = getDuration();
+        int count = Math.max(2, (int) Math.ceil(duration / dt) + 1);
+        double[] position = new double[count];
+        double[] velocity = new double[count];
+        double[] acceleration = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            double time = Math.min(duration, i * dt);
+
+            position[i] = positionAt(time);
+            velocity[i] = velocityAt(time);
+            acceleration[i] = accelerationAt(time);
+        }
+
+        return new ProfileTable(dt, duration, position, velocity, acceleration);
+    }
+
+    /**
+     * Get the distance the profile covers.
+     *
+     * @return the distance the profile covers.
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * Get how long the profile takes, in seconds.
+     *
+     * @return how long the profile takes, in seconds.
+     */
+    public double getDuration() {
+        return startTime[PHASES];
+    }
+
+    /**
+     * Get the highest velocity the profile reaches. This is only less
+     * than the maximum velocity if the distance is too short to reach it.
+     *
+     * @return the profile's peak velocity.
+     */
+    public double getPeakVelocity() {
+        return peakVelocity;
+    }
+
+    /**
+     * Get the highest acceleration the profile reaches.
+     *
+     * @return the profile's peak acceleration.
+     */
+    public double getPeakAcceleration() {
+        return peakAcceleration;
+    }
+
+    public MotionConstraints getConstraints() {
+        return constraints;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "MotionProfile (distance: <%s> duration: <%s s> " +
+            "peak velocity: <%s> constraints: <%s>)",
+            distance,
+            getDuration(),
+            peakVelocity,
+            constraints
+        );
+    }
+}
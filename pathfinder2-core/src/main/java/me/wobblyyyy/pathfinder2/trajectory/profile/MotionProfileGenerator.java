@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.profile;
+
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.time.Clock;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.PathSampler;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * Generates {@link ProfiledTrajectory}s from regular trajectories. The
+ * generator works out the path a trajectory describes, samples it into a
+ * {@link TrajectoryTable}, and creates a single {@link MotionProfile} that
+ * covers the whole path.
+ *
+ * <p>
+ * Any trajectory {@link PathSampler} can sample can be profiled: linear,
+ * spline, baked, profiled, and multi-segment trajectories.
+ * </p>
+ *
+ * <p>
+ * A multi-segment trajectory is profiled as a single path, so the robot
+ * doesn't slow down at the end of each segment - it only stops at the very
+ * end. That's where most of the time is saved, compared to following each
+ * segment at a constant speed.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class MotionProfileGenerator {
+    private final MotionConstraints constraints;
+    private double spacing = 0.5;
+    private FeedForward feedForward;
+    private Clock clock = Clock.SYSTEM;
+    private double tolerance = 1;
+    private Angle angleTolerance = Angle.fromDeg(5);
+
+    /**
+     * Create a new {@code MotionProfileGenerator}. By default, the
+     * generator assumes the robot's top speed is the constraints' maximum
+     * velocity (see {@link FeedForward#fromMaxVelocity(double)}).
+     *
+     * @param constraints the constraints every profile has to respect.
+     */
+    public MotionProfileGenerator(MotionConstraints constraints) {
+        ValidationUtils.validate(constraints, "constraints");
+
+        this.constraints = constraints;
+        this.feedForward =
+            FeedForward.fromMaxVelocity(constraints.getMaxVelocity());
+    }
+
+    /**
+     * Set the distance between each sample of the path.
+     *
+     * @param spacing the distance between each sample. This must be
+     *                greater than 0.
+     * @return {@code this}, used for method chaining.
+     */
+    public MotionProfileGenerator setSpacing(double spacing) {
+        ValidationUtils.validate(spacing, "spacing");
+
+        if (spacing <= 0) throw new IllegalArgumentException(
+            "spacing must be greater than 0!"
+        );
+
+        this.spacing = spacing;
+
+        return this;
+    }
+
+    /**
+     * Set the feed-forward model generated trajectories should use.
+     *
+     * @param feedForward the feed-forward model.
+     * @return {@code this}, used for method chaining.
+     */
+    public MotionProfileGenerator setFeedForward(FeedForward feedForward) {
+        this.feedForward = ValidationUtils.validate(feedForward, "feedForward");
+
+        return this;
+    }
+
+    /**
+     * Set the clock generated trajectories should use.
+     *
+     * @param clock the clock.
+     * @return {@code this}, used for method chaining.
+     */
+    public MotionProfileGenerator setClock(Clock clock) {
+        this.clock = ValidationUtils.validate(clock, "clock");
+
+        return this;
+    }
+
+    /**
+     * Set the tolerance generated trajectories should use.
+     *
+     * @param tolerance how close the robot needs to be to the end of the
+     *                  path for the trajectory to finish.
+     * @return {@code this}, used for method chaining.
+     */
+    public MotionProfileGenerator setTolerance(double tolerance) {
+        this.tolerance = ValidationUtils.validate(tolerance, "tolerance");
+
+        return this;
+    }
+
+    /**
+     * Set the angle tolerance generated trajectories should use.
+     *
+     * @param angleTolerance how close the robot's heading needs to be to
+     *                       the path's final heading.
+     * @return {@code this}, used for method chaining.
+     */
+    public MotionProfileGenerator setAngleTolerance(Angle angleTolerance) {
+        this.angleTolerance =
+            ValidationUtils.validate(angleTolerance, "angleTolerance");
+
+        return this;
+    }
+
+    /**
+     * Generate a profile for a path.
+     *
+     * @param path the path.
+     * @return a profile that covers the whole path.
+     */
+    public MotionProfile profile(TrajectoryTable path) {
+        ValidationUtils.validate(path, "path");
+
+        return new MotionProfile(path.length(), constraints);
+    }
+
+    /**
+     * Generate a {@link ProfiledTrajectory} for a path.
+     *
+     * @param path the path.
+     * @return a new {@link ProfiledTrajectory}.
+     */
+    public ProfiledTrajectory generate(TrajectoryTable path) {
+        return new ProfiledTrajectory(
+            path,
+            profile(path),
+            feedForward,
+            clock,
+            tolerance,
+            angleTolerance
+        );
+    }
+
+    /**
+     * Generate a {@link ProfiledTrajectory} for a trajectory.
+     *
+     * @param start      where the robot will be when it starts following
+     *                   the trajectory. Trajectories that don't have a
+     *                   start point of their own (like
+     *                   {@link LinearTrajectory}) start here.
+     * @param trajectory the trajectory to profile.
+     * @return a new {@link ProfiledTrajectory}.
+     */
+    public ProfiledTrajectory generate(PointXYZ start, Trajectory trajectory) {
+        return generate(toPath(start, trajectory));
+    }
+
+    /**
+     * Sample the path a trajectory describes into a table. See
+     * {@link PathSampler#sample(PointXYZ, Trajectory, double)}.
+     *
+     * @param start      where the robot will be when it starts following
+     *                   the trajectory.
+     * @param trajectory the trajectory.
+     * @return the trajectory's path.
+     */
+    public TrajectoryTable toPath(PointXYZ start, Trajectory trajectory) {
+        return PathSampler.sample(start, trajectory, spacing);
+    }
+
+    public MotionConstraints getConstraints() {
+        return constraints;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.profile;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+
+/**
+ * A {@link MotionProfile}, sampled at a fixed interval into a table of
+ * positions, velocities, and accelerations. Because the samples are evenly
+ * spaced, finding the sample for a certain time is a single division,
+ * and values in between two samples are linearly interpolated.
+ *
+ * <p>
+ * Tables are created with {@link MotionProfile#sample(double)}, and they
+ * can't be changed once they've been created.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public final class ProfileTable implements Serializable {
+    private final double dt;
+    private final double duration;
+    private final double[] position;
+    private final double[] velocity;
+    private final double[] acceleration;
+
+    ProfileTable(
+        double dt,
+        double duration,
+        double[] position,
+        double[] velocity,
+        double[] acceleration
+    ) {
+        this.dt = dt;
+        this.duration = duration;
+        this.position = position;
+        this.velocity = velocity;
+        this.acceleration = acceleration;
+    }
+
+    /**
+     * Get how many samples are in the table.
+     *
+     * @return how many samples are in the table.
+     */
+    public int size() {
+        return position.length;
+    }
+
+    /**
+     * Get the time between each sample, in seconds.
+     *
+     * @return the time between each sample.
+     */
+    public double getDt() {
+        return dt;
+    }
+
+    /**
+     * Get the duration of the sampled profile, in seconds.
+     *
+     * @return the duration of the profile.
+     */
+    public double getDuration() {
+        return duration;
+    }
+
+    public double time(int index) {
+        return Math.min(duration, index * dt);
+    }
+
+    public double position(int index) {
+        return position[index];
+    }
+
+    public double velocity(int index) {
+        return velocity[index];
+    }
+
+    public double acceleration(int index) {
+        return acceleration[index];
+    }
+
+    /**
+     * Get a copy of the table's velocity column.
+     *
+     * @return the velocity at each sample.
+     */
+    public double[] getVelocities() {
+        return Arrays.copyOf(velocity, velocity.length);
+    }
+
+    /**
+     * Get a copy of the table's acceleration column.
+     *
+     * @return the acceleration at each sample.
+     */
+    public double[] getAccelerations() {
+        return Arrays.copyOf(acceleration, acceleration.length);
+    }
+
+    private int indexAt(double time) {
+        int index = (int) (time / dt);
+
+        return Math.max(0, Math.min(position.length - 2, index));
+    }
+
+    private double lerp(double[] values, double time) {
+        if (time <= 0) return values[0];
+        if (time >= duration) return values[values.length - 1];
+
+        int i = indexAt(time);
+        double start = time(i);
+        double length = time(i + 1) - start;
+        double t = length > 0 ? Math.min(1, (time - start) / length) : 0;
+
+        return values[i] + ((values[i + 1] - values[i]) * t);
+    }
+
+    /**
+     * Get the (interpolated) position at a certain time.
+     *
+     * @param time the time, in seconds.
+     * @return the position at that time.
+     */
+    public double positionAt(double time) {
+        return lerp(position, time);
+    }
+
+    /**
+     * Get the (interpolated) velocity at a certain time.
+     *
+     * @param time the time, in seconds.
+     * @return the velocity at that time.
+     */
+    public double velocityAt(double time) {
+        return lerp(velocity, time);
+    }
+
+    /**
+     * Get the (interpolated) acceleration at a certain time.
+     *
+     * @param time the time, in seconds.
+     * @return the acceleration at that time.
+     */
+    public double accelerationAt(double time) {
+        return lerp(acceleration, time);
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "ProfileTable (samples: <%s> dt: <%s s> duration: <%s s>)",
+            position.length,
+            dt,
+            duration
+        );
+    }
+}
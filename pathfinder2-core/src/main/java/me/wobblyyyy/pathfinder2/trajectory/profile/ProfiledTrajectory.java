@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.profile;
+
+import me.wobblyyyy.pathfinder2.exceptions.InvalidToleranceException;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.time.Clock;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * A trajectory that follows a path according to a {@link MotionProfile}.
+ * Instead of looking its speed up based on the robot's position, like
+ * every other trajectory, this trajectory is indexed by time: at any
+ * given moment, the profile says how far along the path the robot should
+ * be, how fast it should be going, and how quickly it should be
+ * accelerating.
+ *
+ * <p>
+ * The clock starts the first time the trajectory is used (or when
+ * {@link #start()} is called). Each time the clock's reading changes, the
+ * trajectory updates its "reference": the point on the path the robot
+ * should be at, the direction the path is going in at that point, and the
+ * profile's velocity and acceleration. Everything else just reads the
+ * reference, so calling every method once per tick only does the work
+ * once.
+ * </p>
+ *
+ * <p>
+ * This trajectory works with any follower: {@link #nextMarker(PointXYZ)}
+ * returns the reference point, and {@link #speed(PointXYZ)} returns the
+ * feed-forward power for the reference velocity and acceleration. The
+ * follower it was made for, though, is
+ * {@link me.wobblyyyy.pathfinder2.follower.FeedForwardFollower}, which
+ * drives along the path's direction with feed-forward, and uses feedback
+ * to correct for any error between the robot and the reference point.
+ * </p>
+ *
+ * <p>
+ * Because this trajectory keeps track of time, an instance can't be
+ * followed by two robots at once. Call {@link #reset()} before following
+ * it again.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class ProfiledTrajectory implements Trajectory {
+    private final TrajectoryTable path;
+    private final MotionProfile profile;
+    private final FeedForward feedForward;
+    private final Clock clock;
+    private final double tolerance;
+    private final Angle angleTolerance;
+
+    private final double endX;
+    private final double endY;
+    private final double endHeading;
+
+    private transient boolean hasStarted = false;
+    private transient boolean hasUpdated = false;
+    private transient long startNs;
+    private transient long lastNs;
+    private transient int segment = 0;
+
+    private transient double elapsed;
+    private transient double referenceDistance;
+    private transient double referenceX;
+    private transient double referenceY;
+    private transient double referenceHeading;
+    private transient double referenceVelocity;
+    private transient double referenceAcceleration;
+    private transient double tangentX;
+    private transient double tangentY;
+
+    /**
+     * Create a new {@code ProfiledTrajectory}.
+     *
+     * @param path           the path to follow.
+     * @param profile        the motion profile to follow the path with.
+     *                       The profile's distance should be the same as
+     *                       the path's length.
+     * @param feedForward    the feed-forward model used to convert the
+     *                       profile's velocity and acceleration into a
+     *                       power.
+     * @param clock          the clock to use.
+     * @param tolerance      how close the robot needs to be to the end of
+     *                       the path for the trajectory to finish.
+     * @param angleTolerance how close the robot's heading needs to be to
+     *                       the path's final heading for the trajectory
+     *                       to finish.
+     */
+    public ProfiledTrajectory(
+        TrajectoryTable path,
+        MotionProfile profile,
+        FeedForward feedForward,
+        Clock clock,
+        double tolerance,
+        Angle angleTolerance
+    ) {
+        ValidationUtils.validate(path, "path");
+        ValidationUtils.validate(profile, "profile");
+        ValidationUtils.validate(feedForward, "feedForward");
+        ValidationUtils.validate(clock, "clock");
+        ValidationUtils.validate(tolerance, "tolerance");
+        ValidationUtils.validate(angleTolerance, "angleTolerance");
+
+        InvalidToleranceException.throwIfInvalid(
+            "Invalid tolerance value!",
+            tolerance
+        );
+
+        int last = path.size() - 1;
+
+        this.path = path;
+        this.profile = profile;
+        this.feedForward = feedForward;
+        this.clock = clock;
+        this.tolerance = tolerance;
+        this.angleTolerance = angleTolerance;
+        this.endX = path.x(last);
+        this.endY = path.y(last);
+        this.endHeading = path.heading(last);
+    }
+
+    /**
+     * Create a new {@code ProfiledTrajectory}, with a profile that covers
+     * the whole path.
+     *
+     * @param path           the path to follow.
+     * @param constraints    the constraints the profile has to respect.
+     * @param feedForward    the feed-forward model.
+     * @param clock          the clock to use.
+     * @param tolerance      how close the robot needs to be to the end of
+     *                       the path for the trajectory to finish.
+     * @param angleTolerance how close the robot's heading needs to be to
+     *                       the path's final heading.
+     */
+    public ProfiledTrajectory(
+        TrajectoryTable path,
+        MotionConstraints constraints,
+        FeedForward feedForward,
+        Clock clock,
+        double tolerance,
+        Angle angleTolerance
+    ) {
+        this(
+            path,
+            new MotionProfile(
+                ValidationUtils.validate(path, "path").length(),
+                constraints
+            ),
+            feedForward,
+            clock,
+            tolerance,
+            angleTolerance
+        );
+    }
+
+    /**
+     * Start the trajectory's clock, if it hasn't been started already.
+     * This is called automatically the first time the trajectory is used.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public ProfiledTrajectory start() {
+        if (!hasStarted) {
+            startNs = clock.nanoTime();
+            hasStarted = true;
+        }
+
+        return this;
+    }
+
+    /**
+     * Stop the trajectory's clock and forget its reference, so the
+     * trajectory can be followed again from the start.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    @Override
+    public ProfiledTrajectory reset() {
+        hasStarted = false;
+        hasUpdated = false;
+        segment = 0;
+
+        return this;
+    }
+
+    /**
+     * Update the trajectory's reference, if the clock has moved since the
+     * last time this was called. This starts the clock if it hasn't been
+     * started yet.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public ProfiledTrajectory update() {
+        start();
+
+        long nowNs = clock.nanoTime();
+
+        if (hasUpdated && nowNs == lastNs) return this;
+
+        elapsed = (nowNs - startNs) / 1_000_000_000d;
+        referenceDistance =
+            Math.min(path.length(), profile.positionAt(elapsed));
+        referenceVelocity = profile.velocityAt(elapsed);
+        referenceAcceleration = profile.accelerationAt(elapsed);
+
+        segment = path.segmentAt(referenceDistance, segment);
+        referenceX = path.xAt(referenceDistance, segment);
+        referenceY = path.yAt(referenceDistance, segment);
+        referenceHeading = path.headingAt(referenceDistance, segment);
+
+        double dx = path.x(segment + 1) - path.x(segment);
+        double dy = path.y(segment + 1) - path.y(segment);
+        double length = Math.hypot(dx, dy);
+
+        if (length > 0) {
+            tangentX = dx / length;
+            tangentY = dy / length;
+        } else {
+            tangentX = 0;
+            tangentY = 0;
+        }
+
+        lastNs = nowNs;
+        hasUpdated = true;
+
+        return this;
+    }
+
+    @Override
+    public PointXYZ nextMarker(PointXYZ current) {
+        update();
+
+        return new PointXYZ(
+            referenceX,
+            referenceY,
+            Angle.fromDeg(referenceHeading)
+        );
+    }
+
+    @Override
+    public boolean isDone(PointXYZ current) {
+        ValidationUtils.validate(current, "current");
+
+        update();
+
+        if (elapsed < profile.getDuration()) return false;
+
+        double dx = current.x() - endX;
+        double dy = current.y() - endY;
+
+        if ((dx * dx) + (dy * dy) > tolerance * tolerance) return false;
+
+        double deltaDeg = Angle.minimumDelta(current.z().deg(), endHeading);
+
+        return Math.abs(deltaDeg) <= angleTolerance.deg();
+    }
+
+    @Override
+    public double speed(PointXYZ current) {
+        update();
+
+        return Math.max(0, Math.min(1, getFeedForwardPower()));
+    }
+
+    /**
+     * Get the feed-forward power for the reference velocity and
+     * acceleration. This isn't clipped.
+     *
+     * @return the feed-forward power.
+     */
+    public double getFeedForwardPower() {
+        return feedForward.calculate(
+            referenceVelocity,
+            referenceAcceleration
+        );
+    }
+
+    /**
+     * Get how long it's been since the trajectory's clock was started, as
+     * of the last update, in seconds.
+     *
+     * @return elapsed time, in seconds.
+     */
+    public double getElapsedSeconds() {
+        return elapsed;
+    }
+
+    /**
+     * Get how far along the path the robot should be, as of the last
+     * update.
+     *
+     * @return the reference arc length.
+     */
+    public double getReferenceDistance() {
+        return referenceDistance;
+    }
+
+    public double getReferenceX() {
+        return referenceX;
+    }
+
+    public double getReferenceY() {
+        return referenceY;
+    }
+
+    /**
+     * Get the heading the robot should be facing, as of the last update.
+     *
+     * @return the reference heading, in degrees.
+     */
+    public double getReferenceHeading() {
+        return referenceHeading;
+    }
+
+    public double getReferenceVelocity() {
+        return referenceVelocity;
+    }
+
+    public double getReferenceAcceleration() {
+        return referenceAcceleration;
+    }
+
+    /**
+     * Get the X component of the unit vector pointing along the path at
+     * the reference point.
+     *
+     * @return the X component of the path's direction.
+     */
+    public double getTangentX() {
+        return tangentX;
+    }
+
+    /**
+     * Get the Y component of the unit vector pointing along the path at
+     * the reference point.
+     *
+     * @return the Y component of the path's direction.
+     */
+    public double getTangentY() {
+        return tangentY;
+    }
+
+    public TrajectoryTable getPath() {
+        return path;
+    }
+
+    public MotionProfile getProfile() {
+        return profile;
+    }
+
+    public FeedForward getFeedForward() {
+        return feedForward;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public Angle getAngleTolerance() {
+        return angleTolerance;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "ProfiledTrajectory (path: <%s> profile: <%s> feed forward: " +
+            "<%s> tolerance: <%s> angle tolerance: <%s>)",
+            path,
+            profile,
+            feedForward,
+            tolerance,
+            angleTolerance
+        );
+    }
+}
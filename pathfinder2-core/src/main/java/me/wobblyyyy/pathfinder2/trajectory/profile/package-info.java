@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+/**
+ * Time-based motion profiling. A {@link
+ * me.wobblyyyy.pathfinder2.trajectory.profile.MotionProfile} works out the
+ * fastest way to drive a certain distance without going over a maximum
+ * velocity, acceleration, and jerk, and a {@link
+ * me.wobblyyyy.pathfinder2.trajectory.profile.ProfiledTrajectory} follows a
+ * path according to one of those profiles.
+ */
+package me.wobblyyyy.pathfinder2.trajectory.profile;
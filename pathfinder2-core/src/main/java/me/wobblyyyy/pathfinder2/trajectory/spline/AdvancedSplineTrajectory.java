@@ -23,6 +23,8 @@
 import me.wobblyyyy.pathfinder2.math.MinMax;
 import me.wobblyyyy.pathfinder2.math.Spline;
 import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.BakedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
 import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 
@@ -200,6 +202,66 @@ public AdvancedSplineTrajectory(AdvancedSplineTrajectory trajectory) {
         );
     }
 
+    /**
+     * Sample this trajectory's splines into a {@link TrajectoryTable}.
+     * The splines are still functions of X, so this can't represent a
+     * path that doubles back on itself along the X axis - use
+     * {@link AdvancedSplineTrajectoryBuilder#buildBaked(double)} for that.
+     *
+     * @param spacing the distance (along the path) between each sample.
+     * @return a new table.
+     */
+    public TrajectoryTable sample(double spacing) {
+        return TrajectoryTable.sample(
+            spline,
+            angleSpline,
+            speedSpline,
+            spacing
+        );
+    }
+
+    /**
+     * "Bake" this trajectory: sample its splines once, into a
+     * {@link TrajectoryTable}, and create a {@link BakedTrajectory} that
+     * follows that table. The baked trajectory doesn't evaluate any
+     * splines while it's being followed, and it targets a point a fixed
+     * distance ahead of the robot along the path, instead of a fixed
+     * distance ahead along the X axis.
+     *
+     * <p>
+     * The baked trajectory uses the absolute value of this trajectory's
+     * step as its lookahead distance, and the same tolerances.
+     * </p>
+     *
+     * @param spacing the distance (along the path) between each sample.
+     *                Smaller values are more accurate, but use more
+     *                memory. Something around 0.5 inches works well.
+     * @return a new {@link BakedTrajectory}.
+     */
+    public BakedTrajectory bake(double spacing) {
+        return bake(spacing, Math.abs(step));
+    }
+
+    /**
+     * "Bake" this trajectory: sample its splines once, into a
+     * {@link TrajectoryTable}, and create a {@link BakedTrajectory} that
+     * follows that table.
+     *
+     * @param spacing   the distance (along the path) between each sample.
+     * @param lookahead how far ahead of the robot (along the path) the
+     *                  target point should be.
+     * @return a new {@link BakedTrajectory}.
+     * @see #bake(double)
+     */
+    public BakedTrajectory bake(double spacing, double lookahead) {
+        return new BakedTrajectory(
+            sample(spacing),
+            lookahead,
+            tolerance,
+            angleTolerance
+        );
+    }
+
     private double clipX(double x) {
         return MinMax.clip(x, minX, maxX);
     }
@@ -235,7 +297,7 @@ public boolean isDone(PointXYZ current) {
         boolean isDoneXY = isDoneXY(current);
         boolean isDoneZ = isDoneZ(current);
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             AdvancedSplineTrajectory.class,
             "isDoneXY: <%s> isDoneZ: <%s> current: <%s>",
             isDoneXY,
@@ -252,7 +314,7 @@ public double speed(PointXYZ current) {
 
         double speed = speedSpline.interpolateY(clipX(current.x()));
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             AdvancedSplineTrajectory.class,
             "speed: <%s> current: <%s>",
             speed,
@@ -269,6 +331,19 @@ public double speed(PointXYZ current) {
         return speed;
     }
 
+    /**
+     * Forget that the robot has reached the end of the path, so the
+     * trajectory can be followed again from the start.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    @Override
+    public AdvancedSplineTrajectory reset() {
+        hasCompletedTrajectory = false;
+
+        return this;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof AdvancedSplineTrajectory) {
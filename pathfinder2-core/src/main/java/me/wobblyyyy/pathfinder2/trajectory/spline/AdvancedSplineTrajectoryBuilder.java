@@ -13,6 +13,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import me.wobblyyyy.pathfinder2.Core;
@@ -28,6 +29,9 @@
 import me.wobblyyyy.pathfinder2.math.LinearSpline;
 import me.wobblyyyy.pathfinder2.math.MonotoneCubicSpline;
 import me.wobblyyyy.pathfinder2.math.Spline;
+import me.wobblyyyy.pathfinder2.trajectory.TrajectoryPrecomputer;
+import me.wobblyyyy.pathfinder2.trajectory.baked.BakedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
 
 /**
@@ -53,6 +57,7 @@ public class AdvancedSplineTrajectoryBuilder {
     private Angle angleTolerance;
     private InterpolationMode interpolationMode = DEFAULT_INTERPOLATION_MODE;
     private BiFunction<Double[], Double[], Spline> customSplineGenerator = null;
+    private CurvatureSpeedPlanner speedPlanner = null;
 
     public AdvancedSplineTrajectoryBuilder() {}
 
@@ -137,6 +142,25 @@ public AdvancedSplineTrajectoryBuilder setCustomSplineGenerator(
         return this;
     }
 
+    /**
+     * Set the builder's speed planner. If a speed planner is set, the
+     * trajectory's speed spline is planned automatically, based on the
+     * curvature of the path, instead of being made from the speeds of each
+     * of the control points - those speeds are ignored, and you don't
+     * need to set a speed with {@link #setSpeed(double)}.
+     *
+     * @param speedPlanner the planner to use, or null to go back to using
+     *                     the control points' speeds.
+     * @return {@code this}, used for method chaining.
+     */
+    public AdvancedSplineTrajectoryBuilder setSpeedPlanner(
+        CurvatureSpeedPlanner speedPlanner
+    ) {
+        this.speedPlanner = speedPlanner;
+
+        return this;
+    }
+
     public AdvancedSplineTrajectoryBuilder add(PointXYZ target) {
         return add(target, speed);
     }
@@ -206,9 +230,117 @@ public AdvancedSplineTrajectoryBuilder add(PointXYZ target, double speed) {
         return this;
     }
 
-    public AdvancedSplineTrajectory build() {
+    /**
+     * Build a {@link BakedTrajectory} directly from this builder's control
+     * points.
+     *
+     * <p>
+     * Unlike {@link #build()}, which creates a spline that maps X values
+     * to Y values, the path is parameterized by the distance along the
+     * straight lines between each of the control points, in the order
+     * they were added. X and Y are each interpolated separately, so the
+     * path can go in any direction - including doubling back on itself
+     * along the X axis, which a regular {@link AdvancedSplineTrajectory}
+     * can't do. The path is then sampled by distance along the path.
+     * </p>
+     *
+     * @param spacing the distance (along the path) between each of the
+     *                baked trajectory's samples.
+     * @return a new {@link BakedTrajectory}.
+     * @see TrajectoryTable#sample(Spline, Spline, AngleSpline, Spline, double)
+     */
+    public BakedTrajectory buildBaked(double spacing) {
+        validate();
+
+        int size = xValues.size();
+        double[] u = new double[size];
+        double[] x = new double[size];
+        double[] y = new double[size];
+        double[] speed = new double[size];
+        Angle[] z = new Angle[size];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            double px = xValues.get(i);
+            double py = yValues.get(i);
+
+            // a control point on top of the last one doesn't move the
+            // parameter forwards, so it has to be skipped
+            if (count != 0 && px == x[count - 1] && py == y[count - 1]) {
+                continue;
+            }
+
+            u[count] = count == 0
+                ? 0
+                : u[count - 1] +
+                Math.hypot(px - x[count - 1], py - y[count - 1]);
+            x[count] = px;
+            y[count] = py;
+            speed[count] = speeds.get(i);
+            z[count] = angleTargets.get(i);
+            count++;
+        }
+
+        if (count < 2) throw new IllegalArgumentException(
+            "Can't bake a path with fewer than 2 distinct control points!"
+        );
+
+        u = Arrays.copyOf(u, count);
+        x = Arrays.copyOf(x, count);
+        y = Arrays.copyOf(y, count);
+        speed = Arrays.copyOf(speed, count);
+        z = Arrays.copyOf(z, count);
+
+        Double[] uBoxed = new Double[count];
+        Double[] xBoxed = new Double[count];
+        Double[] yBoxed = new Double[count];
+        for (int i = 0; i < count; i++) {
+            uBoxed[i] = u[i];
+            xBoxed[i] = x[i];
+            yBoxed[i] = y[i];
+        }
+
+        // the planner works off the sampled table, so the speed spline is
+        // just a placeholder until then
+        Spline speedSpline = speedPlanner != null
+            ? new LinearSpline(new SlopeIntercept(0, 1))
+            : new MonotoneCubicSpline(u, speed);
+
+        TrajectoryTable table = TrajectoryTable.sample(
+            createSpline(u, x, uBoxed, xBoxed),
+            createSpline(u, y, uBoxed, yBoxed),
+            new AngleSpline(u, z),
+            speedSpline,
+            spacing
+        );
+
+        if (speedPlanner != null) table = speedPlanner.plan(table);
+
+        return new BakedTrajectory(
+            table,
+            Math.abs(step),
+            tolerance,
+            angleTolerance
+        );
+    }
+
+    /**
+     * Build the trajectory on a background thread, instead of on the
+     * thread that's calling this method. Don't modify this builder until
+     * the trajectory has been built.
+     *
+     * @return a future that completes with the trajectory once it's been
+     * built.
+     * @see TrajectoryPrecomputer#buildAsync(java.util.function.Supplier)
+     */
+    public CompletableFuture<AdvancedSplineTrajectory> buildAsync() {
+        return TrajectoryPrecomputer.buildAsync(this::build);
+    }
+
+    private void validate() {
         boolean invalidStep = step == Double.MAX_VALUE;
-        boolean invalidSpeed = speed == Double.MAX_VALUE;
+        boolean invalidSpeed =
+            speed == Double.MAX_VALUE && speedPlanner == null;
         boolean invalidTolerance = tolerance == Double.MAX_VALUE;
         boolean invalidAngleTolerance = angleTolerance == null;
 
@@ -255,6 +387,44 @@ public AdvancedSplineTrajectory build() {
             "Null angle tolerance while creating an " +
             "AdvancedSplineTrajectory."
         );
+    }
+
+    /**
+     * Create a spline with the builder's interpolation mode.
+     */
+    private Spline createSpline(
+        double[] x,
+        double[] y,
+        Double[] xBoxed,
+        Double[] yBoxed
+    ) {
+        // add support for different types of spline interpolation!
+        // this is a really bad way to implement support for multiple
+        // types of spline interpolation, but... oh well.
+        switch (interpolationMode) {
+            case DEFAULT:
+                return new MonotoneCubicSpline(x, y);
+            case CUBIC:
+                return new ApacheSpline(Interpolator.CUBIC, x, y);
+            case AKIMA:
+                return new ApacheSpline(Interpolator.AKIMA, x, y);
+            case CUSTOM:
+                if (customSplineGenerator != null) {
+                    return customSplineGenerator.apply(xBoxed, yBoxed);
+                } else throw new NullPointerException(
+                    "Tried to use custom " +
+                    "spline generator without having set it first: " +
+                    "use setCustomSplineGenerator() to do so. The " +
+                    "function you pass in should accept two arrays " +
+                    "of Double values (x and y)."
+                );
+            default:
+                throw new RuntimeException("How did you even get here?");
+        }
+    }
+
+    public AdvancedSplineTrajectory build() {
+        validate();
 
         int size = xValues.size();
         Double[] xBoxed = new Double[size];
@@ -314,36 +484,7 @@ public AdvancedSplineTrajectory build() {
             )
         );
 
-        // add support for different types of spline interpolation!
-        // this is a really bad way to implement support for multiple
-        // types of spline interpolation, but... oh well.
-        Spline spline;
-        switch (interpolationMode) {
-            case DEFAULT:
-                spline = new MonotoneCubicSpline(x, y);
-                break;
-            case CUBIC:
-                spline = new ApacheSpline(Interpolator.CUBIC, x, y);
-                break;
-            case AKIMA:
-                spline = new ApacheSpline(Interpolator.AKIMA, x, y);
-                break;
-            case CUSTOM:
-                if (customSplineGenerator != null) spline =
-                    customSplineGenerator.apply(
-                        xBoxed,
-                        yBoxed
-                    ); else throw new NullPointerException(
-                    "Tried to use custom " +
-                    "spline generator without having set it first: " +
-                    "use setCustomSplineGenerator() to do so. The " +
-                    "function you pass in should accept two arrays " +
-                    "of Double values (x and y)."
-                );
-                break;
-            default:
-                throw new RuntimeException("How did you even get here?");
-        }
+        Spline spline = createSpline(x, y, xBoxed, yBoxed);
 
         AngleSpline angleSpline = new AngleSpline(x, z);
 
@@ -355,7 +496,9 @@ public AdvancedSplineTrajectory build() {
             ); else speedSpline = new MonotoneCubicSpline(x, speed);
         */
 
-        Spline speedSpline = new MonotoneCubicSpline(x, speed);
+        Spline speedSpline = speedPlanner != null
+            ? speedPlanner.plan(spline)
+            : new MonotoneCubicSpline(x, speed);
 
         Logger.debug(
             AdvancedSplineTrajectoryBuilder.class,
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.spline;
+
+import java.util.ArrayList;
+import java.util.List;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.math.PiecewiseLinearSpline;
+import me.wobblyyyy.pathfinder2.math.Spline;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * Automatically plans a speed spline for a path spline, based on how
+ * sharply the path curves.
+ *
+ * <p>
+ * Instead of tuning speed control points by hand, the planner works out
+ * the fastest speed the robot can go at each point along the path:
+ * <ol>
+ *     <li>
+ *         The path is sampled every {@code spacing} units (along the
+ *         path), and the path's curvature is calculated at each sample.
+ *     </li>
+ *     <li>
+ *         Each sample's speed is capped so the robot's centripetal
+ *         acceleration ({@code v^2 * curvature}) stays under a maximum.
+ *         Straight sections get the maximum speed, and tight curves get
+ *         much less.
+ *     </li>
+ *     <li>
+ *         A forward pass makes sure the robot never has to speed up
+ *         faster than its maximum acceleration, and a backward pass makes
+ *         sure it never has to slow down faster than its maximum
+ *         deceleration - so the robot starts braking before a curve
+ *         instead of skidding through it.
+ *     </li>
+ * </ol>
+ * The result is a {@link Spline} that maps X values to speeds (from 0 to
+ * 1), exactly like a speed spline made with {@link SpeedSplineBuilder}.
+ * </p>
+ *
+ * <p>
+ * Speeds in Pathfinder are fractions of the robot's top speed, but the
+ * limits are physical, so the planner needs to know how fast the robot
+ * actually goes at a speed of 1. All of the values here should use the
+ * same units as your odometry (for example, inches and seconds).
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class CurvatureSpeedPlanner {
+    private final double maxVelocity;
+    private final double maxCentripetalAcceleration;
+    private final double maxAcceleration;
+    private double maxDeceleration;
+    private double maxSpeed = 1;
+    private double minSpeed = 0.1;
+    private double startSpeed = Double.NaN;
+    private double endSpeed = Double.NaN;
+    private double spacing = 0.5;
+
+    /**
+     * Create a new {@code CurvatureSpeedPlanner}.
+     *
+     * @param maxVelocity                how fast the robot moves at a speed
+     *                                   of 1, in units per second.
+     * @param maxCentripetalAcceleration the maximum centripetal
+     *                                   acceleration, in units per second
+     *                                   squared. Lower values make the
+     *                                   robot slow down more for curves.
+     * @param maxAcceleration            the maximum acceleration (and, by
+     *                                   default, deceleration) along the
+     *                                   path, in units per second squared.
+     */
+    public CurvatureSpeedPlanner(
+        double maxVelocity,
+        double maxCentripetalAcceleration,
+        double maxAcceleration
+    ) {
+        ValidationUtils.validate(maxVelocity, "maxVelocity");
+        ValidationUtils.validate(
+            maxCentripetalAcceleration,
+            "maxCentripetalAcceleration"
+        );
+        ValidationUtils.validate(maxAcceleration, "maxAcceleration");
+
+        if (
+            maxVelocity <= 0 ||
+            maxCentripetalAcceleration <= 0 ||
+            maxAcceleration <= 0
+        ) throw new IllegalArgumentException(
+            "maxVelocity, maxCentripetalAcceleration, and maxAcceleration " +
+            "must all be greater than 0!"
+        );
+
+        this.maxVelocity = maxVelocity;
+        this.maxCentripetalAcceleration = maxCentripetalAcceleration;
+        this.maxAcceleration = maxAcceleration;
+        this.maxDeceleration = maxAcceleration;
+    }
+
+    private static double validateSpeed(double speed, String name) {
+        ValidationUtils.validate(speed, name);
+
+        if (speed <= 0 || speed > 1) throw new IllegalArgumentException(
+            StringUtils.format(
+                "%s must be greater than 0 and less than or equal to 1! " +
+                "(was <%s>)",
+                name,
+                speed
+            )
+        );
+
+        return speed;
+    }
+
+    /**
+     * Set the maximum deceleration. By default, this is the same as the
+     * maximum acceleration.
+     *
+     * @param maxDeceleration the maximum deceleration, in units per
+     *                        second squared.
+     * @return {@code this}, used for method chaining.
+     */
+    public CurvatureSpeedPlanner setMaxDeceleration(double maxDeceleration) {
+        ValidationUtils.validate(maxDeceleration, "maxDeceleration");
+
+        if (maxDeceleration <= 0) throw new IllegalArgumentException(
+            "maxDeceleration must be greater than 0!"
+        );
+
+        this.maxDeceleration = maxDeceleration;
+
+        return this;
+    }
+
+    /**
+     * Set the highest speed the planner will ever use. This is 1 by
+     * default.
+     *
+     * @param maxSpeed the maximum speed, from 0 to 1.
+     * @return {@code this}, used for method chaining.
+     */
+    public CurvatureSpeedPlanner setMaxSpeed(double maxSpeed) {
+        this.maxSpeed = validateSpeed(maxSpeed, "maxSpeed");
+
+        return this;
+    }
+
+    /**
+     * Set the lowest speed the planner will ever use. Speed-based
+     * trajectories don't move at all with a speed of 0, so this has to be
+     * greater than 0. This is 0.1 by default. If the start or end speed is
+     * lower than this, the planner goes below the minimum speed near the
+     * start or end of the path, so it doesn't have to accelerate (or
+     * decelerate) faster than it's allowed to.
+     *
+     * @param minSpeed the minimum speed, from 0 to 1.
+     * @return {@code this}, used for method chaining.
+     */
+    public CurvatureSpeedPlanner setMinSpeed(double minSpeed) {
+        this.minSpeed = validateSpeed(minSpeed, "minSpeed");
+
+        return this;
+    }
+
+    /**
+     * Set the speed at the start of the path. By default, this is the
+     * minimum speed, so the robot accelerates from (almost) a standstill.
+     *
+     * @param startSpeed the speed at the start of the path, from 0 to 1.
+     * @return {@code this}, used for method chaining.
+     */
+    public CurvatureSpeedPlanner setStartSpeed(double startSpeed) {
+        this.startSpeed = validateSpeed(startSpeed, "startSpeed");
+
+        return this;
+    }
+
+    /**
+     * Set the speed at the end of the path. By default, this is the
+     * minimum speed, so the robot decelerates to (almost) a standstill.
+     *
+     * @param endSpeed the speed at the end of the path, from 0 to 1.
+     * @return {@code this}, used for method chaining.
+     */
+    public CurvatureSpeedPlanner setEndSpeed(double endSpeed) {
+        this.endSpeed = validateSpeed(endSpeed, "endSpeed");
+
+        return this;
+    }
+
+    /**
+     * Set the distance (along the path) between each sample. This is 0.5
+     * by default.
+     *
+     * @param spacing the distance between each sample.
+     * @return {@code this}, used for method chaining.
+     */
+    public CurvatureSpeedPlanner setSpacing(double spacing) {
+        ValidationUtils.validate(spacing, "spacing");
+
+        if (spacing <= 0) throw new IllegalArgumentException(
+            "spacing must be greater than 0!"
+        );
+
+        this.spacing = spacing;
+
+        return this;
+    }
+
+    /**
+     * Plan the speed at each sample of a path.
+     *
+     * @param path the path to plan speeds for.
+     * @param x    the X value of each sample. This array must have at
+     *             least 2 elements. Each sample is a fixed distance (along
+     *             the X axis) from the last sample.
+     * @return the speed at each sample.
+     */
+    private double[] planSamples(Spline path, double[] x) {
+        int count = x.length;
+        double[] y = new double[count];
+        double[] ds = new double[count];
+        double[] k = new double[count];
+
+        path.interpolateY(x, y);
+
+        for (int i = 1; i < count; i++) ds[i] =
+            Math.hypot(x[i] - x[i - 1], y[i] - y[i - 1]);
+
+        for (int i = 0; i < count && count > 2; i++) {
+            int mid = Math.max(1, Math.min(count - 2, i));
+
+            k[i] =
+                Math.abs(
+                    TrajectoryTable.curvature(
+                        x[mid - 1],
+                        y[mid - 1],
+                        x[mid],
+                        y[mid],
+                        x[mid + 1],
+                        y[mid + 1]
+                    )
+                );
+        }
+
+        return planSpeeds(ds, k);
+    }
+
+    /**
+     * Plan the speed at each sample of a path, given the distance between
+     * each sample and the last one, and the (unsigned) curvature at each
+     * sample.
+     *
+     * @param ds the distance from the previous sample to each sample. The
+     *           first element is ignored.
+     * @param k  the curvature at each sample.
+     * @return the speed at each sample.
+     */
+    private double[] planSpeeds(double[] ds, double[] k) {
+        int count = ds.length;
+        double[] speed = new double[count];
+
+        double start = Double.isNaN(startSpeed) ? minSpeed : startSpeed;
+        double end = Double.isNaN(endSpeed) ? minSpeed : endSpeed;
+
+        // 1. cap speed based on curvature: v^2 * k <= a. the minimum
+        // speed is applied here, before the acceleration passes, so those
+        // passes have the final say - flooring afterwards would undo them
+        // near a start or end speed that's below the minimum speed
+        for (int i = 0; i < count; i++) {
+            double limit = k[i] > 0
+                ? Math.sqrt(maxCentripetalAcceleration / k[i]) / maxVelocity
+                : maxSpeed;
+
+            speed[i] = Math.max(minSpeed, Math.min(maxSpeed, limit));
+        }
+
+        speed[0] = Math.min(speed[0], start);
+        speed[count - 1] = Math.min(speed[count - 1], end);
+
+        // 2. forward pass: v[i]^2 <= v[i - 1]^2 + 2 * a * ds
+        // (velocities are in real units here, speeds are fractions)
+        for (int i = 1; i < count; i++) {
+            double previous = speed[i - 1] * maxVelocity;
+            double reachable =
+                Math.sqrt(
+                    (previous * previous) + (2 * maxAcceleration * ds[i])
+                ) /
+                maxVelocity;
+
+            if (speed[i] > reachable) speed[i] = reachable;
+        }
+
+        // 3. backward pass: v[i]^2 <= v[i + 1]^2 + 2 * d * ds
+        for (int i = count - 2; i >= 0; i--) {
+            double next = speed[i + 1] * maxVelocity;
+            double reachable =
+                Math.sqrt((next * next) + (2 * maxDeceleration * ds[i + 1])) /
+                maxVelocity;
+
+            if (speed[i] > reachable) speed[i] = reachable;
+        }
+
+        // the passes only ever lower speeds, so the endpoints are still
+        // pinned at (or below, for a tight curve) the start and end speeds
+        return speed;
+    }
+
+    /**
+     * Get evenly-spaced X values between the start and end of a path.
+     * There are enough of them that each sample is roughly
+     * {@code spacing} away from the last one, along the path.
+     */
+    private double[] sampleX(Spline path) {
+        double startX = path.getStartPoint().x();
+        double endX = path.getEndPoint().x();
+
+        // estimate the path's length with a coarse pass, so the number of
+        // samples depends on the path's length instead of its X range
+        int coarseCount = 64;
+        double length = 0;
+        double lastY = path.interpolateY(startX);
+        for (int i = 1; i <= coarseCount; i++) {
+            double px = startX + ((endX - startX) * i / coarseCount);
+            double py = path.interpolateY(px);
+
+            length +=
+                Math.hypot((endX - startX) / coarseCount, py - lastY);
+            lastY = py;
+        }
+
+        int count = (int) Math.min(
+            1 << 16,
+            Math.max(3, Math.ceil(length / spacing) + 1)
+        );
+        double[] x = new double[count];
+
+        for (int i = 0; i < count; i++) x[i] =
+            startX + ((endX - startX) * i / (count - 1));
+
+        return x;
+    }
+
+    private static void validatePath(Spline path) {
+        ValidationUtils.validate(path, "path");
+
+        if (
+            path.getStartPoint().x() == path.getEndPoint().x()
+        ) throw new IllegalArgumentException(
+            "Can't plan speeds for a path that starts and ends at the " +
+            "same X value!"
+        );
+    }
+
+    /**
+     * Plan a speed spline for a path.
+     *
+     * @param path the path spline. Its start and end X values can't be the
+     *             same.
+     * @return a speed spline, which maps the path's X values to speeds
+     * from 0 to 1.
+     */
+    public Spline plan(Spline path) {
+        validatePath(path);
+
+        double[] x = sampleX(path);
+
+        return new PiecewiseLinearSpline(x, planSamples(path, x));
+    }
+
+    /**
+     * Plan speeds for a path, and return them as a list of control points
+     * (X value, speed), instead of a spline.
+     *
+     * @param path the path spline. Its start and end X values can't be the
+     *             same.
+     * @return the planned control points, in order.
+     * @see SpeedSplineBuilder#addPlanned(Spline, CurvatureSpeedPlanner)
+     */
+    public List<PointXY> planPoints(Spline path) {
+        validatePath(path);
+
+        double[] x = sampleX(path);
+        double[] speed = planSamples(path, x);
+        List<PointXY> points = new ArrayList<>(x.length);
+
+        for (int i = 0; i < x.length; i++) points.add(
+            new PointXY(x[i], speed[i])
+        );
+
+        return points;
+    }
+
+    /**
+     * Plan speeds for a path that's already been sampled, and return a copy
+     * of the table with the planned speeds. The table's own spacing is
+     * used instead of this planner's spacing, and, because tables are
+     * sampled by distance along the path, this works for paths that
+     * double back on themselves.
+     *
+     * @param table the sampled path. Its speeds are ignored.
+     * @return a new table, with the same samples and planned speeds.
+     */
+    public TrajectoryTable plan(TrajectoryTable table) {
+        ValidationUtils.validate(table, "table");
+
+        int count = table.size();
+        double[] x = new double[count];
+        double[] y = new double[count];
+        double[] heading = new double[count];
+        double[] ds = new double[count];
+        double[] k = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            x[i] = table.x(i);
+            y[i] = table.y(i);
+            heading[i] = table.heading(i);
+            k[i] = Math.abs(table.curvature(i));
+
+            if (i != 0) ds[i] = table.s(i) - table.s(i - 1);
+        }
+
+        return new TrajectoryTable(x, y, heading, planSpeeds(ds, k));
+    }
+
+    public double getMaxVelocity() {
+        return maxVelocity;
+    }
+
+    public double getMaxCentripetalAcceleration() {
+        return maxCentripetalAcceleration;
+    }
+
+    public double getMaxAcceleration() {
+        return maxAcceleration;
+    }
+
+    public double getMaxDeceleration() {
+        return maxDeceleration;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "CurvatureSpeedPlanner (max velocity: <%s> max centripetal " +
+            "acceleration: <%s> max acceleration: <%s> max deceleration: " +
+            "<%s> speed range: <%s, %s>)",
+            maxVelocity,
+            maxCentripetalAcceleration,
+            maxAcceleration,
+            maxDeceleration,
+            minSpeed,
+            maxSpeed
+        );
+    }
+}
@@ -12,11 +12,13 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import me.wobblyyyy.pathfinder2.geometry.Angle;
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
 import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.TrajectoryPrecomputer;
 import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
 import me.wobblyyyy.pathfinder2.utils.Trio;
@@ -204,6 +206,19 @@ public MultiSplineBuilder add(PointXY point, double speed, double step) {
         return this;
     }
 
+    /**
+     * Build the trajectory on a background thread, instead of on the
+     * thread that's calling this method. Don't modify this builder until
+     * the trajectory has been built.
+     *
+     * @return a future that completes with the trajectory once it's been
+     * built.
+     * @see TrajectoryPrecomputer#buildAsync(java.util.function.Supplier)
+     */
+    public CompletableFuture<Trajectory> buildAsync() {
+        return TrajectoryPrecomputer.buildAsync(this::build);
+    }
+
     public Trajectory build() {
         List<NodeTrio> trios = getTrios(nodes);
 
@@ -14,7 +14,9 @@
 import java.util.List;
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
 import me.wobblyyyy.pathfinder2.math.MonotoneCubicSpline;
+import me.wobblyyyy.pathfinder2.math.PiecewiseLinearSpline;
 import me.wobblyyyy.pathfinder2.math.Spline;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
 
 /**
  * A builder used for creating a specially-tuned {@link Spline}, meant
@@ -26,6 +28,7 @@
 public class SpeedSplineBuilder {
     private final double length;
     private final List<PointXY> points = new ArrayList<>();
+    private boolean hasPlannedPoints = false;
 
     /**
      * Create a new {@code SpeedSplineBuilder}.
@@ -68,12 +71,49 @@ public SpeedSplineBuilder addPercent(double xPercent, double speed) {
         return addExact(x, speed);
     }
 
+    /**
+     * Add control points planned by a {@link CurvatureSpeedPlanner}, which
+     * works out how fast the robot can go at each point along a path based
+     * on how sharply the path curves. Planned speeds usually aren't
+     * monotonic (the robot speeds up on straight sections and slows down
+     * for curves), so if any planned points are added, the built spline
+     * is a {@link PiecewiseLinearSpline} instead of a monotone cubic
+     * spline.
+     *
+     * @param path    the path the speeds are for.
+     * @param planner the planner to use.
+     * @return {@code this}, used for method chaining.
+     */
+    public SpeedSplineBuilder addPlanned(
+        Spline path,
+        CurvatureSpeedPlanner planner
+    ) {
+        ValidationUtils.validate(planner, "planner");
+
+        points.addAll(planner.planPoints(path));
+        hasPlannedPoints = true;
+
+        return this;
+    }
+
     /**
      * Convert the {@code SpeedSplineBuilder} into a {@link Spline}.
      *
      * @return a new {@code Spline}.
      */
     public Spline build() {
+        if (hasPlannedPoints) {
+            double[] x = new double[points.size()];
+            double[] y = new double[points.size()];
+
+            for (int i = 0; i < x.length; i++) {
+                x[i] = points.get(i).x();
+                y[i] = points.get(i).y();
+            }
+
+            return new PiecewiseLinearSpline(x, y);
+        }
+
         return MonotoneCubicSpline.create(points);
     }
 }
@@ -16,7 +16,9 @@
 import me.wobblyyyy.pathfinder2.math.Min;
 import me.wobblyyyy.pathfinder2.math.MinMax;
 import me.wobblyyyy.pathfinder2.math.Spline;
+import me.wobblyyyy.pathfinder2.math.ZeroSlopeSpline;
 import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
 
 /**
@@ -100,6 +102,28 @@ public SplineTrajectory(
         ) this.step *= -1;
     }
 
+    /**
+     * Sample this trajectory's spline into a {@link TrajectoryTable}. Every
+     * sample has this trajectory's target heading and speed.
+     *
+     * @param spacing the distance (along the path) between each sample.
+     * @return a new table.
+     */
+    public TrajectoryTable sample(double spacing) {
+        return TrajectoryTable.sample(
+            spline,
+            new AngleSpline(
+                new double[] {
+                    spline.getStartPoint().x(),
+                    spline.getEndPoint().x(),
+                },
+                new Angle[] { targetHeading, targetHeading }
+            ),
+            new ZeroSlopeSpline(speed),
+            spacing
+        );
+    }
+
     @Override
     public PointXYZ nextMarker(PointXYZ current) {
         double x = current.x() + step;
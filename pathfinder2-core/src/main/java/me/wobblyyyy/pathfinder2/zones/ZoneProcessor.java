@@ -16,6 +16,7 @@
 import java.util.Map;
 import me.wobblyyyy.pathfinder2.Pathfinder;
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.pathgen.OccupancyGrid;
 import me.wobblyyyy.pathfinder2.plugin.PathfinderPluginManager;
 
 /**
@@ -37,12 +38,20 @@
  * as a parameter. With that, it'll do magical stuff... basically.
  * </p>
  *
+ * <p>
+ * A {@code ZoneProcessor} can also keep an {@link OccupancyGrid} up to date
+ * (see {@link #setOccupancyGrid(OccupancyGrid)}): whenever a zone is added,
+ * removed, or moved (see {@link #replaceZone(String, Zone)}), the grid is
+ * updated too, so any path finders using the grid avoid the zone.
+ * </p>
+ *
  * @author Colin Robertson
  * @since 0.1.0
  */
 public class ZoneProcessor {
     private final Map<String, Zone> zones = new HashMap<>();
     private List<Zone> currentZones = new ArrayList<>();
+    private OccupancyGrid grid;
 
     /**
      * Create a new {@code ZoneProcessor}.
@@ -100,10 +109,61 @@ public void addZone(String name, Zone zone) {
         }
 
         zones.put(name, zone);
+
+        if (grid != null && !grid.containsZone(zone)) grid.addZone(zone);
     }
 
     /**
-     * Remove a zone based on the zone's name.
+     * Remove a zone from the occupancy grid, unless it's still registered
+     * under another name - the grid only knows about zone instances, not
+     * names, so it can't tell the two registrations apart.
+     */
+    private void removeFromGrid(Zone zone) {
+        if (grid != null && !zones.containsValue(zone)) grid.removeZone(zone);
+    }
+
+    /**
+     * Replace a zone with another zone, keeping the same name. This is how
+     * zones are moved: create a new zone in the new position, and replace
+     * the old zone with it. The next time the processor is updated, the
+     * old zone is exited (if the robot was inside of it) and the new zone
+     * is entered (if the robot is inside of it), just like any other zone
+     * that's removed or added - so every zone that's exited was entered
+     * first.
+     *
+     * <p>
+     * If the processor has an occupancy grid, only the cells around the
+     * old zone and the new zone are updated, which is a whole lot cheaper
+     * than re-creating the grid.
+     * </p>
+     *
+     * @param name the name of the zone to replace.
+     * @param zone the new zone.
+     */
+    public void replaceZone(String name, Zone zone) {
+        if (name == null) throw new IllegalArgumentException(
+            "Zones must have a non-null name!"
+        );
+        if (zone == null) throw new IllegalArgumentException(
+            "Zones cannot be null!"
+        );
+
+        Zone oldZone = zones.get(name);
+
+        if (oldZone == null) throw new IllegalArgumentException(
+            "Can't replace zone <" + name + "> because it doesn't exist!"
+        );
+
+        zones.put(name, zone);
+
+        removeFromGrid(oldZone);
+
+        if (grid != null && !grid.containsZone(zone)) grid.addZone(zone);
+    }
+
+    /**
+     * Remove a zone based on the zone's name. If the robot was inside of
+     * the zone, the zone is exited the next time the processor is updated.
      *
      * @param name the name of the zone to remove.
      */
@@ -112,7 +172,38 @@ public void removeZone(String name) {
             "Zones must have a non-null name!"
         );
 
-        zones.remove(name);
+        Zone zone = zones.remove(name);
+
+        if (zone != null) removeFromGrid(zone);
+    }
+
+    /**
+     * Keep an occupancy grid up to date with the processor's zones. Every
+     * zone the processor already has is added to the grid, and from now
+     * on, adding, removing, or replacing a zone does the same to the grid.
+     *
+     * @param grid the grid to update. If this is null, the processor
+     *             stops updating its old grid (the old grid's zones are
+     *             left alone).
+     */
+    public void setOccupancyGrid(OccupancyGrid grid) {
+        this.grid = grid;
+
+        if (grid == null) return;
+
+        for (Zone zone : zones.values()) {
+            if (!grid.containsZone(zone)) grid.addZone(zone);
+        }
+    }
+
+    /**
+     * Get the occupancy grid the processor is keeping up to date.
+     *
+     * @return the processor's occupancy grid, or null if it doesn't have
+     * one.
+     */
+    public OccupancyGrid getOccupancyGrid() {
+        return grid;
     }
 
     /**
@@ -177,7 +268,9 @@ public List<Zone> getNonContainingZones(PointXY point) {
      * @param pathfinder the instance of Pathfinder.
      */
     public void update(Pathfinder pathfinder) {
-        if (zones.size() == 0) return;
+        // even without any zones, zones that were removed might still
+        // need to be exited
+        if (zones.size() == 0 && currentZones.isEmpty()) return;
 
         PathfinderPluginManager manager = pathfinder.getPluginManager();
 
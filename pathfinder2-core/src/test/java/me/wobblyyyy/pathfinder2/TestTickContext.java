@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import me.wobblyyyy.pathfinder2.control.ProportionalController;
+import me.wobblyyyy.pathfinder2.follower.generators.PurePursuitFollowerGenerator;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.plugin.PathfinderPlugin;
+import me.wobblyyyy.pathfinder2.plugin.bundled.PositionLocker;
+import me.wobblyyyy.pathfinder2.robot.AbstractOdometry;
+import me.wobblyyyy.pathfinder2.robot.Odometry;
+import me.wobblyyyy.pathfinder2.robot.Robot;
+import me.wobblyyyy.pathfinder2.robot.simulated.SimulatedDrive;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTickContext {
+
+    private static class CountingOdometry extends AbstractOdometry {
+        private final AtomicInteger reads = new AtomicInteger(0);
+
+        @Override
+        public PointXYZ getRawPosition() {
+            reads.incrementAndGet();
+            return new PointXYZ(1, 2, 3);
+        }
+    }
+
+    @Test
+    public void testReadsOdometryDirectlyOutsideOfTick() {
+        CountingOdometry odometry = new CountingOdometry();
+        TickContext context = new TickContext(() -> odometry);
+
+        context.getPosition();
+        context.getPosition();
+
+        Assertions.assertFalse(context.isInTick());
+        Assertions.assertEquals(2, odometry.reads.get());
+    }
+
+    @Test
+    public void testReadsOdometryOncePerTick() {
+        CountingOdometry odometry = new CountingOdometry();
+        TickContext context = new TickContext(() -> odometry);
+
+        context.begin();
+        PointXYZ a = context.getPosition();
+        PointXYZ b = context.getPosition();
+        Assertions.assertSame(a, b);
+        Assertions.assertEquals(1, odometry.reads.get());
+
+        // nested ticks share the outer tick's position
+        context.begin();
+        context.getPosition();
+        context.end();
+        context.getPosition();
+        Assertions.assertEquals(1, odometry.reads.get());
+        context.end();
+
+        context.begin();
+        context.getPosition();
+        context.end();
+        Assertions.assertEquals(2, odometry.reads.get());
+        Assertions.assertEquals(2, context.getPositionReads());
+    }
+
+    @Test
+    public void testInvalidateForcesReread() {
+        CountingOdometry odometry = new CountingOdometry();
+        TickContext context = new TickContext(() -> odometry);
+
+        context.begin();
+        Assertions.assertEquals(new PointXYZ(1, 2, 3), context.getPosition());
+        odometry.offsetSoPositionIs(new PointXYZ(0, 0, 0));
+        Assertions.assertEquals(new PointXYZ(1, 2, 3), context.getPosition());
+        context.invalidate();
+        Assertions.assertEquals(new PointXYZ(0, 0, 0), context.getPosition());
+        context.end();
+
+        Assertions.assertEquals(2, context.getPositionReads());
+    }
+
+    @Test
+    public void testPathfinderReadsOdometryOncePerTick() {
+        CountingOdometry odometry = new CountingOdometry();
+        Pathfinder pathfinder = new Pathfinder(
+            new Robot(new SimulatedDrive(), odometry),
+            0.5
+        );
+
+        pathfinder
+            .setSpeed(0.5)
+            .setTolerance(2)
+            .setAngleTolerance(Angle.fromDeg(5))
+            .goTo(new PointXY(10, 10));
+        odometry.reads.set(0);
+
+        for (int i = 0; i < 10; i++) pathfinder.tick();
+
+        Assertions.assertTrue(odometry.reads.get() <= 10);
+    }
+
+    @Test
+    public void testGeneratorUsesCachedPosition() {
+        CountingOdometry odometry = new CountingOdometry();
+        ProportionalController turnController = new ProportionalController(
+            -0.05
+        );
+        Pathfinder pathfinder = new Pathfinder(
+            new Robot(new SimulatedDrive(), odometry),
+            new PurePursuitFollowerGenerator(turnController, 2, 6),
+            turnController
+        );
+
+        // during a tick, the position's already been read
+        pathfinder.getTickContext().begin();
+        pathfinder.getPosition();
+        odometry.reads.set(0);
+
+        pathfinder.followTrajectory(
+            new LinearTrajectory(
+                new PointXYZ(10, 10, 0),
+                0.5,
+                2,
+                Angle.fromDeg(5)
+            )
+        );
+        pathfinder.getTickContext().end();
+
+        Assertions.assertEquals(0, odometry.reads.get());
+    }
+
+    @Test
+    public void testPositionLockerAppliesInSameTick() {
+        CountingOdometry odometry = new CountingOdometry();
+        Pathfinder pathfinder = new Pathfinder(
+            new Robot(new SimulatedDrive(), odometry),
+            0.5
+        );
+        AtomicReference<PointXYZ> seen = new AtomicReference<>();
+
+        pathfinder
+            .loadPlugin(new PositionLocker().setPosition(PointXYZ.ZERO))
+            .loadPlugin(
+                new PathfinderPlugin() {
+                    @Override
+                    public String getName() {
+                        return "position spy";
+                    }
+
+                    @Override
+                    public void onTick(Pathfinder pathfinder) {
+                        seen.set(pathfinder.getPosition());
+                    }
+                }
+            );
+        pathfinder.getDataMap().put(PositionLocker.KEY_IS_LOCKED, true);
+        pathfinder.tick();
+
+        Assertions.assertEquals(PointXYZ.ZERO, seen.get());
+    }
+
+    @Test
+    public void testFollowsReplacedOdometry() {
+        Odometry first = new CountingOdometry();
+        Pathfinder pathfinder = new Pathfinder(
+            new Robot(new SimulatedDrive(), first),
+            0.5
+        );
+
+        pathfinder.getRobot().odometry(() -> new PointXYZ(4, 5, 6));
+
+        Assertions.assertEquals(new PointXYZ(4, 5, 6), pathfinder.getPosition());
+    }
+}
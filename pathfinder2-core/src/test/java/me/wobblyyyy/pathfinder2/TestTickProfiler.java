@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2;
+
+import me.wobblyyyy.pathfinder2.listening.Listener;
+import me.wobblyyyy.pathfinder2.listening.ListenerMode;
+import me.wobblyyyy.pathfinder2.plugin.PathfinderPlugin;
+import me.wobblyyyy.pathfinder2.time.LatencyHistogram;
+import me.wobblyyyy.pathfinder2.time.Clock;
+import me.wobblyyyy.pathfinder2.time.ManualClock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTickProfiler {
+
+    @Test
+    public void testDisabledByDefault() {
+        Pathfinder pathfinder = Pathfinder.newSimulatedPathfinder(0.5);
+
+        for (int i = 0; i < 10; i++) pathfinder.tick();
+
+        TickProfiler profiler = pathfinder.getTickProfiler();
+        Assertions.assertFalse(profiler.isEnabled());
+        Assertions.assertEquals(0, profiler.getTicks());
+        Assertions.assertEquals(
+            0,
+            profiler.getHistogram(TickStage.TOTAL).getCount()
+        );
+    }
+
+    @Test
+    public void testKeepsSystemClockInSimulation() {
+        Pathfinder pathfinder = Pathfinder
+            .newSimulatedPathfinder(0.5)
+            .setClock(new ManualClock());
+
+        Assertions.assertSame(
+            Clock.SYSTEM,
+            pathfinder.getTickProfiler().getClock()
+        );
+    }
+
+    @Test
+    public void testRecordsStagesPluginsAndListeners() {
+        Pathfinder pathfinder = Pathfinder.newSimulatedPathfinder(0.5);
+        ManualClock clock = new ManualClock();
+        TickProfiler profiler = pathfinder
+            .getTickProfiler()
+            .setClock(clock)
+            .setPublishInterval(5)
+            .enable();
+
+        pathfinder.loadPlugin(
+            new PathfinderPlugin() {
+                @Override
+                public String getName() {
+                    return "SlowPlugin";
+                }
+
+                @Override
+                public void onTick(Pathfinder pathfinder) {
+                    clock.advanceMs(3);
+                }
+            }
+        );
+        pathfinder.addListener(
+            "slowListener",
+            new Listener(
+                ListenerMode.CONDITION_IS_MET,
+                () -> clock.advanceMs(2),
+                () -> true
+            )
+        );
+
+        for (int i = 0; i < 10; i++) pathfinder.tick();
+
+        Assertions.assertEquals(10, profiler.getTicks());
+        Assertions.assertEquals(
+            10,
+            profiler.getHistogram(TickStage.EXECUTOR).getCount()
+        );
+        Assertions.assertEquals(
+            3,
+            profiler.getMaxMs(TickStage.ON_TICK_PLUGINS)
+        );
+        Assertions.assertEquals(2, profiler.getP50Ms(TickStage.LISTENERS));
+        Assertions.assertEquals(5, profiler.getP99Ms(TickStage.TOTAL));
+
+        LatencyHistogram plugin = profiler.getPluginHistogram(
+            "SlowPlugin",
+            TickStage.ON_TICK_PLUGINS
+        );
+        Assertions.assertEquals(10, plugin.getCount());
+        Assertions.assertEquals(3, plugin.getMaxMs());
+        Assertions.assertNull(
+            profiler.getPluginHistogram("SlowPlugin", TickStage.EXECUTOR)
+        );
+
+        LatencyHistogram listener = profiler.getListenerHistogram(
+            "slowListener"
+        );
+        Assertions.assertEquals(2, listener.getMaxMs());
+
+        Assertions.assertEquals(
+            5.0,
+            pathfinder.getData(TickProfiler.KEY_PREFIX + "total_max_ms")
+        );
+        Assertions.assertEquals(
+            3.0,
+            pathfinder.getData(
+                TickProfiler.KEY_PREFIX +
+                "plugin_SlowPlugin_on_tick_plugins_p50_ms"
+            )
+        );
+        Assertions.assertEquals(
+            2.0,
+            pathfinder.getData(
+                TickProfiler.KEY_PREFIX + "listener_slowListener_p99_ms"
+            )
+        );
+    }
+
+    @Test
+    public void testExpiredListenersAreForgotten() {
+        Pathfinder pathfinder = Pathfinder.newSimulatedPathfinder(0.5);
+        TickProfiler profiler = pathfinder
+            .getTickProfiler()
+            .setPublishInterval(1)
+            .enable();
+
+        pathfinder.addListener(
+            "once",
+            new Listener(ListenerMode.CONDITION_IS_MET, () -> {}, () -> true)
+                .setMaximumExecutions(1)
+        );
+
+        pathfinder.tick();
+        Assertions.assertNotNull(profiler.getListenerHistogram("once"));
+        Assertions.assertNotNull(
+            pathfinder.getData(TickProfiler.KEY_PREFIX + "listener_once_p50_ms")
+        );
+
+        for (int i = 0; i < 3; i++) pathfinder.tick();
+        Assertions.assertNull(profiler.getListenerHistogram("once"));
+        Assertions.assertTrue(profiler.getListenerNames().isEmpty());
+        Assertions.assertNull(
+            pathfinder.getData(TickProfiler.KEY_PREFIX + "listener_once_p50_ms")
+        );
+    }
+
+    @Test
+    public void testNestedTicksAreNotCountedTwice() {
+        Pathfinder pathfinder = Pathfinder.newSimulatedPathfinder(0.5);
+        ManualClock clock = new ManualClock();
+        TickProfiler profiler = pathfinder
+            .getTickProfiler()
+            .setClock(clock)
+            .enable();
+        boolean[] isTicking = { false };
+
+        pathfinder.addListener(
+            "ticker",
+            new Listener(
+                ListenerMode.CONDITION_IS_MET,
+                () -> {
+                    if (isTicking[0]) return;
+
+                    isTicking[0] = true;
+                    clock.advanceMs(1);
+                    pathfinder.tick();
+                    isTicking[0] = false;
+                },
+                () -> true
+            )
+        );
+
+        for (int i = 0; i < 10; i++) pathfinder.tick();
+
+        Assertions.assertEquals(10, profiler.getTicks());
+        Assertions.assertEquals(
+            10,
+            profiler.getHistogram(TickStage.TOTAL).getCount()
+        );
+        Assertions.assertEquals(
+            10,
+            profiler.getHistogram(TickStage.EXECUTOR).getCount()
+        );
+        Assertions.assertEquals(1, profiler.getMaxMs(TickStage.TOTAL));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.follower;
+
+import me.wobblyyyy.pathfinder2.control.GenericTurnController;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.simulation.VirtualRobot;
+import me.wobblyyyy.pathfinder2.time.ManualClock;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.profile.MotionConstraints;
+import me.wobblyyyy.pathfinder2.trajectory.profile.MotionProfileGenerator;
+import me.wobblyyyy.pathfinder2.trajectory.profile.ProfiledTrajectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestFeedForwardFollower {
+
+    private static LinearTrajectory line(double x, double y) {
+        return new LinearTrajectory(
+            new PointXYZ(x, y, 0),
+            0.5,
+            1,
+            Angle.fromDeg(5)
+        );
+    }
+
+    @Test
+    public void testFollowsProfileOnTime() {
+        ManualClock clock = new ManualClock();
+        VirtualRobot robot = new VirtualRobot(40, 360);
+        ProfiledTrajectory trajectory = new MotionProfileGenerator(
+            MotionConstraints.sCurve(30, 60, 300)
+        )
+            .setClock(clock)
+            .setTolerance(1)
+            .generate(
+                PointXYZ.ZERO,
+                new MultiSegmentTrajectory(
+                    line(40, 0),
+                    line(40, 40),
+                    line(0, 40)
+                )
+            );
+        Follower follower = new FeedForwardFollower(
+            trajectory,
+            new GenericTurnController(0.01),
+            2
+        );
+
+        double duration = trajectory.getProfile().getDuration();
+        double maxError = 0;
+        int ticks = 0;
+
+        while (!follower.tick(robot.getPosition(), robot::setTranslation)) {
+            clock.advanceMs(10);
+            robot.step(0.01);
+            ticks++;
+
+            maxError =
+                Math.max(
+                    maxError,
+                    Math.hypot(
+                        trajectory.getReferenceX() - robot.getPosition().x(),
+                        trajectory.getReferenceY() - robot.getPosition().y()
+                    )
+                );
+
+            Assertions.assertTrue(ticks < 2_000, "follower never finished");
+        }
+
+        // the robot should finish right around when the profile does,
+        // without straying far from the reference point on the way
+        Assertions.assertTrue(ticks * 0.01 < duration + 0.5);
+        Assertions.assertTrue(maxError < 2, "max error: " + maxError);
+        Assertions.assertEquals(0, robot.getPosition().x(), 1);
+        Assertions.assertEquals(40, robot.getPosition().y(), 1);
+    }
+
+    @Test
+    public void testFollowerIsFasterThanConstantSpeed() {
+        // the whole route, as one profile, takes less time than driving
+        // every segment at 40% of top speed (a typical "safe" speed)
+        ProfiledTrajectory trajectory = new MotionProfileGenerator(
+            MotionConstraints.trapezoidal(40, 60)
+        )
+            .generate(PointXYZ.ZERO, line(120, 0));
+
+        Assertions.assertTrue(
+            trajectory.getProfile().getDuration() < 120 / (40 * 0.4)
+        );
+    }
+
+    @Test
+    public void testInvalidGain() {
+        ProfiledTrajectory trajectory = new MotionProfileGenerator(
+            MotionConstraints.trapezoidal(40, 60)
+        )
+            .generate(PointXYZ.ZERO, line(10, 0));
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                new FeedForwardFollower(
+                    trajectory,
+                    new GenericTurnController(0.01),
+                    -1
+                )
+        );
+    }
+}
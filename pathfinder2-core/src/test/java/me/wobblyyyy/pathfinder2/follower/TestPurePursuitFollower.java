@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.follower;
+
+import me.wobblyyyy.pathfinder2.control.GenericTurnController;
+import me.wobblyyyy.pathfinder2.follower.generators.PurePursuitFollowerGenerator;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.simulation.VirtualRobot;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.PathSampler;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
+import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPurePursuitFollower {
+
+    private static LinearTrajectory line(double x, double y, double speed) {
+        return new LinearTrajectory(
+            new PointXYZ(x, y, 0),
+            speed,
+            1,
+            Angle.fromDeg(5)
+        );
+    }
+
+    private static double follow(
+        VirtualRobot robot,
+        PurePursuitFollower follower
+    ) {
+        TrajectoryTable path = follower.getPath();
+        double maxError = 0;
+        int ticks = 0;
+        int segment = 0;
+
+        while (!follower.tick(robot.getPosition(), robot::setTranslation)) {
+            robot.step(0.01);
+            ticks++;
+
+            PointXYZ position = robot.getPosition();
+            double closest = path.project(position.x(), position.y());
+            segment = path.segmentAt(closest);
+
+            maxError =
+                Math.max(
+                    maxError,
+                    Math.hypot(
+                        path.xAt(closest, segment) - position.x(),
+                        path.yAt(closest, segment) - position.y()
+                    )
+                );
+
+            Assertions.assertTrue(ticks < 5_000, "follower never finished");
+        }
+
+        return maxError;
+    }
+
+    @Test
+    public void testFollowsSquare() {
+        VirtualRobot robot = new VirtualRobot(40, 360);
+        Trajectory trajectory = new MultiSegmentTrajectory(
+            line(40, 0, 0.5),
+            line(40, 40, 0.5),
+            line(0, 40, 0.5)
+        );
+        FollowerGenerator generator = new PurePursuitFollowerGenerator(
+            new GenericTurnController(0.01),
+            2,
+            6
+        );
+        PurePursuitFollower follower = (PurePursuitFollower) generator.generate(
+            robot,
+            trajectory
+        );
+
+        double maxError = follow(robot, follower);
+
+        // pure pursuit cuts corners by up to about the lookahead distance,
+        // but it should never stray much further than that
+        Assertions.assertTrue(maxError < 4, "max error: " + maxError);
+        Assertions.assertEquals(0, robot.getPosition().x(), 1);
+        Assertions.assertEquals(40, robot.getPosition().y(), 1);
+        Assertions.assertEquals(trajectory, follower.getTrajectory());
+    }
+
+    @Test
+    public void testLoopDoesNotFinishEarly() {
+        VirtualRobot robot = new VirtualRobot(40, 360);
+        Trajectory trajectory = new MultiSegmentTrajectory(
+            line(20, 0, 0.5),
+            line(20, 20, 0.5),
+            line(0, 0, 0.5)
+        );
+        TrajectoryTable path = PathSampler.sample(
+            PointXYZ.ZERO,
+            trajectory,
+            0.5
+        );
+        PurePursuitFollower follower = new PurePursuitFollower(
+            trajectory,
+            path,
+            new GenericTurnController(0.01),
+            1,
+            3,
+            1,
+            Angle.fromDeg(5)
+        );
+
+        Assertions.assertFalse(
+            follower.tick(robot.getPosition(), robot::setTranslation)
+        );
+
+        follow(robot, follower);
+
+        Assertions.assertEquals(path.length(), follower.getGoalDistance());
+        Assertions.assertTrue(follower.getProgress() > path.length() - 3);
+    }
+
+    @Test
+    public void testLookaheadScalesWithSpeed() {
+        PurePursuitFollower slow = new PurePursuitFollower(
+            line(50, 0, 0.2),
+            PathSampler.sample(PointXYZ.ZERO, line(50, 0, 0.2), 0.5),
+            new GenericTurnController(0.01),
+            2,
+            10,
+            1,
+            Angle.fromDeg(5)
+        );
+        PurePursuitFollower fast = new PurePursuitFollower(
+            line(50, 0, 0.8),
+            PathSampler.sample(PointXYZ.ZERO, line(50, 0, 0.8), 0.5),
+            new GenericTurnController(0.01),
+            2,
+            10,
+            1,
+            Angle.fromDeg(5)
+        );
+        PointXYZ position = new PointXYZ(10, 0, 0);
+
+        slow.tick(position, translation -> {});
+        fast.tick(position, translation -> {});
+
+        Assertions.assertEquals(3.6, slow.getLookahead(), 1e-6);
+        Assertions.assertEquals(8.4, fast.getLookahead(), 1e-6);
+        Assertions.assertEquals(13.6, slow.getGoalX(), 1e-6);
+        Assertions.assertEquals(18.4, fast.getGoalX(), 1e-6);
+    }
+
+    @Test
+    public void testProgressDoesNotGoBackwards() {
+        TrajectoryTable path = PathSampler.sample(
+            PointXYZ.ZERO,
+            line(50, 0, 0.5),
+            0.5
+        );
+        PurePursuitFollower follower = new PurePursuitFollower(
+            line(50, 0, 0.5),
+            path,
+            new GenericTurnController(0.01),
+            2,
+            6,
+            1,
+            Angle.fromDeg(5)
+        );
+
+        follower.tick(new PointXYZ(20, 1, 0), translation -> {});
+        double progress = follower.getProgress();
+        follower.tick(new PointXYZ(5, 1, 0), translation -> {});
+
+        Assertions.assertEquals(progress, follower.getProgress());
+
+        follower.reset();
+        follower.tick(new PointXYZ(5, 1, 0), translation -> {});
+
+        Assertions.assertEquals(5, follower.getProgress(), 1e-6);
+    }
+
+    @Test
+    public void testInvalidLookahead() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                new PurePursuitFollowerGenerator(
+                    new GenericTurnController(0.01),
+                    5,
+                    2
+                )
+        );
+    }
+}
@@ -12,6 +12,8 @@
 
 import me.wobblyyyy.pathfinder2.TestableRobot;
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.time.ManualClock;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /*
@@ -78,4 +80,18 @@ public void testVelocity() {
         Logger.setOutput(null);
         */
     }
+
+    @Test
+    public void testVelocityWithManualClock() {
+        ManualClock clock = new ManualClock();
+        MovementProfiler profiler = new MovementProfiler(clock);
+
+        profiler.capture(new PointXYZ(0, 0, 0));
+        clock.advanceMs(2);
+        MovementSnapshot snapshot = profiler.capture(new PointXYZ(1, 2, 0));
+
+        // 1 unit in 2ms = 500 units per second
+        Assertions.assertEquals(500, snapshot.getVelocityX(), 0.001);
+        Assertions.assertEquals(1_000, snapshot.getVelocityY(), 0.001);
+    }
 }
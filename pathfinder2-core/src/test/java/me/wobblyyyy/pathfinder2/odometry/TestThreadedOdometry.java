@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.odometry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.robot.AbstractOdometry;
+import me.wobblyyyy.pathfinder2.robot.Odometry;
+import me.wobblyyyy.pathfinder2.robot.Robot;
+import me.wobblyyyy.pathfinder2.robot.simulated.SimulatedDrive;
+import me.wobblyyyy.pathfinder2.robot.simulated.SimulatedOdometry;
+import me.wobblyyyy.pathfinder2.time.FixedRateRunner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestThreadedOdometry {
+
+    private static void waitForSample(ThreadedOdometry odometry) {
+        long sequence = odometry.getSnapshot().getSequence();
+        boolean wasSampled = false;
+
+        for (int i = 0; i < 1_000 && !wasSampled; i++) {
+            FixedRateRunner.sleepFor(1);
+            wasSampled = odometry.getSnapshot().getSequence() > sequence + 1;
+        }
+
+        Assertions.assertTrue(wasSampled);
+    }
+
+    @Test
+    public void testSamplesSynchronouslyWhenNotRunning() {
+        AtomicInteger reads = new AtomicInteger(0);
+        ThreadedOdometry odometry = new ThreadedOdometry(
+            new AbstractOdometry() {
+                @Override
+                public PointXYZ getRawPosition() {
+                    reads.incrementAndGet();
+                    return new PointXYZ(1, 2, 3);
+                }
+            },
+            5
+        );
+
+        Assertions.assertFalse(odometry.isRunning());
+        Assertions.assertEquals(new PointXYZ(1, 2, 3), odometry.getPosition());
+        Assertions.assertEquals(new PointXYZ(1, 2, 3), odometry.getPosition());
+        Assertions.assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void testReadsDoNotTouchSensorsWhileRunning() {
+        AtomicInteger reads = new AtomicInteger(0);
+        ThreadedOdometry odometry = new ThreadedOdometry(
+            new AbstractOdometry() {
+                @Override
+                public PointXYZ getRawPosition() {
+                    return new PointXYZ(reads.incrementAndGet(), 0, 0);
+                }
+            },
+            // a long period, so the background thread only samples once
+            // during this test
+            10_000
+        )
+            .start();
+
+        for (int i = 0; i < 100; i++) odometry.getPosition();
+
+        odometry.stop();
+
+        Assertions.assertTrue(reads.get() <= 2);
+    }
+
+    @Test
+    public void testPublishesNewPositions() {
+        SimulatedOdometry simulated = new SimulatedOdometry();
+        ThreadedOdometry odometry = new ThreadedOdometry(simulated, 1).start();
+
+        simulated.setRawPosition(new PointXYZ(5, 5, 0));
+        waitForSample(odometry);
+
+        Assertions.assertEquals(new PointXYZ(5, 5, 0), odometry.getPosition());
+
+        odometry.stop();
+        Assertions.assertFalse(odometry.isRunning());
+    }
+
+    @Test
+    public void testOffsetIsAppliedImmediately() {
+        SimulatedOdometry simulated = new SimulatedOdometry();
+        simulated.setRawPosition(new PointXYZ(5, 5, 0));
+        ThreadedOdometry odometry = new ThreadedOdometry(simulated, 10_000)
+            .start();
+
+        odometry.offsetSoPositionIs(new PointXYZ(1, 1, 0));
+
+        Assertions.assertEquals(new PointXYZ(1, 1, 0), odometry.getPosition());
+        Assertions.assertEquals(
+            new PointXYZ(5, 5, 0),
+            odometry.getRawPosition()
+        );
+
+        odometry.stop();
+    }
+
+    @Test
+    public void testRawPositionIgnoresModifier() {
+        SimulatedOdometry simulated = new SimulatedOdometry();
+        simulated.setRawPosition(new PointXYZ(5, 5, 0));
+        ThreadedOdometry odometry = new ThreadedOdometry(simulated, 10_000)
+            .start();
+
+        odometry.setOdometryModifier(p -> p.multiply(2));
+        odometry.setOffset(new PointXYZ(1, 1, 0));
+
+        Assertions.assertEquals(
+            new PointXYZ(11, 11, 0),
+            odometry.getPosition()
+        );
+        Assertions.assertEquals(
+            new PointXYZ(5, 5, 0),
+            odometry.getRawPosition()
+        );
+
+        odometry.stop();
+    }
+
+    @Test
+    public void testCannotReplaceSimulatedRobotOdometry() {
+        Pathfinder pathfinder = Pathfinder.newSimulatedPathfinder(0.5);
+        Odometry odometry = pathfinder.getOdometry();
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> pathfinder.useThreadedOdometry(1)
+        );
+        Assertions.assertSame(odometry, pathfinder.getOdometry());
+    }
+
+    @Test
+    public void testPathfinderThreadedOdometry() {
+        SimulatedOdometry simulated = new SimulatedOdometry();
+        Pathfinder pathfinder = new Pathfinder(
+            new Robot(new SimulatedDrive(), simulated),
+            0.5
+        );
+
+        pathfinder.useThreadedOdometry(1);
+        Assertions.assertTrue(
+            pathfinder.getOdometry() instanceof ThreadedOdometry
+        );
+
+        simulated.setRawPosition(new PointXYZ(3, 4, 0));
+        waitForSample((ThreadedOdometry) pathfinder.getOdometry());
+        pathfinder.tick();
+
+        Assertions.assertEquals(
+            new PointXYZ(3, 4, 0),
+            pathfinder.getPosition()
+        );
+
+        pathfinder.stopThreadedOdometry();
+        Assertions.assertSame(simulated, pathfinder.getOdometry());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAStarSearch {
+    private final AStarSearch search = new AStarSearch();
+
+    private static double length(List<Node> path) {
+        double length = 0;
+
+        for (int i = 1; i < path.size(); i++) {
+            length += path.get(i - 1).distanceTo(path.get(i));
+        }
+
+        return length;
+    }
+
+    private static void assertConnected(List<Node> path) {
+        for (int i = 1; i < path.size(); i++) {
+            Node a = path.get(i - 1);
+            Node b = path.get(i);
+
+            Assertions.assertTrue(Math.abs(a.getX() - b.getX()) <= 1);
+            Assertions.assertTrue(Math.abs(a.getY() - b.getY()) <= 1);
+            Assertions.assertNotEquals(a, b);
+        }
+    }
+
+    @Test
+    public void testUnobstructedPathIsDiagonal() {
+        Grid grid = Grid.generateGrid(10, 10);
+        List<Node> path = search.findPath(grid, new Node(0, 0), new Node(9, 9));
+
+        Assertions.assertEquals(10, path.size());
+        Assertions.assertEquals(new Node(0, 0), path.get(0));
+        Assertions.assertEquals(new Node(9, 9), path.get(9));
+        Assertions.assertEquals(9 * Math.sqrt(2), length(path), 1e-9);
+        assertConnected(path);
+    }
+
+    @Test
+    public void testPathAroundWall() {
+        Grid grid = Grid.generateGrid(10, 10);
+        for (int i = 0; i < 9; i++) grid.findNode(i, 2).setValid(false);
+
+        List<Node> path = search.findPath(grid, new Node(0, 0), new Node(0, 9));
+
+        assertConnected(path);
+        Assertions.assertTrue(path.contains(new Node(9, 2)));
+        for (Node node : path) Assertions.assertTrue(node.isValid());
+
+        // (0, 0) to the gap at (9, 2), and then from the gap to (0, 9)
+        Assertions.assertEquals(9 + (9 * Math.sqrt(2)), length(path), 1e-9);
+    }
+
+    @Test
+    public void testNoPath() {
+        Grid grid = Grid.generateGrid(10, 10);
+        for (int i = 0; i < 10; i++) grid.findNode(i, 2).setValid(false);
+
+        List<Node> path = search.findPath(grid, new Node(0, 0), new Node(9, 9));
+
+        Assertions.assertTrue(path.isEmpty());
+    }
+
+    @Test
+    public void testInvalidStartCanStillLeave() {
+        Grid grid = Grid.generateGrid(5, 5);
+        grid.findNode(0, 0).setValid(false);
+
+        List<Node> path = search.findPath(grid, new Node(0, 0), new Node(4, 0));
+
+        Assertions.assertEquals(5, path.size());
+    }
+
+    @Test
+    public void testSameStartAndEnd() {
+        Grid grid = Grid.generateGrid(5, 5);
+
+        List<Node> path = search.findPath(grid, new Node(2, 2), new Node(2, 2));
+
+        Assertions.assertEquals(2, path.size());
+    }
+
+    @Test
+    public void testOffGrid() {
+        Grid grid = Grid.generateGrid(5, 5);
+
+        List<Node> path = search.findPath(grid, new Node(0, 0), new Node(7, 2));
+
+        Assertions.assertTrue(path.isEmpty());
+    }
+
+    @Test
+    public void testReusedSearchMatchesNewSearch() {
+        Grid big = Grid.generateGrid(40, 30);
+        for (int i = 5; i < 30; i++) big.findNode(20, i).setValid(false);
+        Grid small = Grid.generateGrid(8, 12);
+        for (int i = 0; i < 7; i++) small.findNode(i, 6).setValid(false);
+
+        Node bigStart = new Node(0, 29);
+        Node bigEnd = new Node(39, 29);
+        Node smallStart = new Node(0, 0);
+        Node smallEnd = new Node(0, 11);
+
+        double bigLength = length(
+            new AStarSearch().findPath(big, bigStart, bigEnd)
+        );
+        double smallLength = length(
+            new AStarSearch().findPath(small, smallStart, smallEnd)
+        );
+
+        // alternate between the two grids so each search has to clean up
+        // after a search on a differently-sized grid
+        for (int i = 0; i < 3; i++) {
+            List<Node> first = search.findPath(big, bigStart, bigEnd);
+            List<Node> second = search.findPath(small, smallStart, smallEnd);
+
+            Assertions.assertEquals(bigLength, length(first), 1e-9);
+            Assertions.assertEquals(smallLength, length(second), 1e-9);
+            assertConnected(first);
+            assertConnected(second);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import me.wobblyyyy.pathfinder2.geometry.Circle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.Rectangle;
+import me.wobblyyyy.pathfinder2.zones.Zone;
+import me.wobblyyyy.pathfinder2.zones.ZoneProcessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestDStarLiteSearch {
+    private static final Rectangle FIELD = new Rectangle(0, 0, 30, 20);
+
+    private static double length(OccupancyGrid grid, int[] cells) {
+        double length = 0;
+
+        for (int i = 1; i < cells.length; i++) {
+            int a = cells[i - 1];
+            int b = cells[i];
+            int dx = Math.abs((a % grid.getWidth()) - (b % grid.getWidth()));
+            int dy = Math.abs((a / grid.getWidth()) - (b / grid.getWidth()));
+
+            Assertions.assertTrue(dx <= 1 && dy <= 1 && dx + dy > 0);
+            Assertions.assertTrue(grid.isFree(b));
+
+            length += Math.hypot(dx, dy);
+        }
+
+        return length;
+    }
+
+    private static Zone randomZone(Random random) {
+        double x = random.nextDouble() * 30;
+        double y = random.nextDouble() * 20;
+
+        if (random.nextBoolean()) {
+            return new Zone(
+                new Rectangle(
+                    x,
+                    y,
+                    x + 1 + (random.nextDouble() * 5),
+                    y + 1 + (random.nextDouble() * 5)
+                )
+            );
+        }
+
+        return new Zone(
+            new Circle(new PointXY(x, y), 1 + (random.nextDouble() * 2))
+        );
+    }
+
+    private static void assertMatchesAStar(
+        OccupancyGrid grid,
+        int[] actual,
+        int start,
+        int end
+    ) {
+        int[] expected = new AStarSearch().findPath(grid, start, end);
+
+        Assertions.assertEquals(expected.length == 0, actual.length == 0);
+
+        if (actual.length == 0) return;
+
+        Assertions.assertEquals(start, actual[0]);
+        Assertions.assertEquals(end, actual[actual.length - 1]);
+        Assertions.assertEquals(
+            length(grid, expected),
+            length(grid, actual),
+            1e-9
+        );
+    }
+
+    @Test
+    public void testMatchesAStarWhileZonesMove() {
+        Random random = new Random(2022);
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+        DStarLiteSearch search = new DStarLiteSearch(grid);
+
+        List<Zone> zones = new ArrayList<>();
+        for (int i = 0; i < 12; i++) zones.add(randomZone(random));
+        grid.addZones(zones);
+
+        int size = grid.getWidth() * grid.getHeight();
+        int start = random.nextInt(size);
+        int end = random.nextInt(size);
+
+        for (int i = 0; i < 200; i++) {
+            int zone = random.nextInt(zones.size());
+            Zone moved = randomZone(random);
+            grid.replaceZone(zones.get(zone), moved);
+            zones.set(zone, moved);
+
+            // the robot drives around, and every once in a while, gets a
+            // new target
+            if (random.nextInt(4) == 0) start = random.nextInt(size);
+            if (random.nextInt(20) == 0) end = random.nextInt(size);
+
+            assertMatchesAStar(grid, search.findPath(start, end), start, end);
+        }
+    }
+
+    @Test
+    public void testRepairIsCheaperThanSearchingAgain() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5))
+            .addZone(new Zone(new Rectangle(10, 0, 12, 16)));
+        DStarLiteSearch search = new DStarLiteSearch(grid);
+
+        int start = grid.toIndex(new PointXY(2, 2));
+        int end = grid.toIndex(new PointXY(28, 2));
+
+        search.findPath(start, end);
+        int initial = search.getExpanded();
+
+        // nothing changed, so there's nothing to do
+        assertMatchesAStar(grid, search.findPath(start, end), start, end);
+        Assertions.assertEquals(0, search.getExpanded());
+
+        // a small obstacle appears far away from the path
+        grid.addZone(new Zone(new Circle(new PointXY(25, 15), 1)));
+        assertMatchesAStar(grid, search.findPath(start, end), start, end);
+        Assertions.assertTrue(search.getExpanded() < initial);
+
+        // and the robot moves a bit closer to the end
+        int moved = grid.toIndex(new PointXY(4, 3));
+        assertMatchesAStar(grid, search.findPath(moved, end), moved, end);
+        Assertions.assertTrue(search.getExpanded() < initial);
+    }
+
+    @Test
+    public void testPathIsBlockedAndUnblocked() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5))
+            .addZone(new Zone(new Rectangle(10, 0, 12, 16)));
+        DStarLiteSearch search = new DStarLiteSearch(grid);
+
+        int start = grid.toIndex(new PointXY(2, 2));
+        int end = grid.toIndex(new PointXY(28, 2));
+        Zone gate = new Zone(new Rectangle(10, 15, 12, 21));
+
+        Assertions.assertNotEquals(0, search.findPath(start, end).length);
+
+        grid.addZone(gate);
+        Assertions.assertEquals(0, search.findPath(start, end).length);
+
+        grid.removeZone(gate);
+        assertMatchesAStar(grid, search.findPath(start, end), start, end);
+
+        grid.addZone(gate).clearZones();
+        int[] path = search.findPath(start, end);
+        assertMatchesAStar(grid, path, start, end);
+        Assertions.assertEquals(2, PathOptimizer.smooth(grid, path).length);
+    }
+
+    @Test
+    public void testGridListeners() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+        List<Integer> changed = new ArrayList<>();
+        Zone a = new Zone(new Rectangle(2, 2, 6, 6));
+        Zone b = new Zone(new Rectangle(4, 4, 8, 8));
+
+        grid.addZone(a).addListener(changed::add);
+
+        // only the part of b that isn't inside of a is new
+        grid.addZone(b);
+        for (int index : changed) {
+            Assertions.assertTrue(grid.isBlocked(index));
+            Assertions.assertFalse(a.isPointInShape(grid.toPoint(index)));
+        }
+
+        // and removing a only frees up the part that isn't inside of b
+        changed.clear();
+        grid.removeZone(a);
+        Assertions.assertFalse(changed.isEmpty());
+        for (int index : changed) {
+            Assertions.assertTrue(grid.isFree(index));
+            Assertions.assertFalse(b.isPointInShape(grid.toPoint(index)));
+        }
+    }
+
+    @Test
+    public void testZoneProcessorUpdatesGrid() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+        ZoneProcessor processor = new ZoneProcessor();
+        Zone robot = new Zone(new Circle(new PointXY(15, 10), 2));
+
+        processor.addZone("robot", robot);
+        processor.setOccupancyGrid(grid);
+        Assertions.assertTrue(grid.isBlocked(new PointXY(15, 10)));
+
+        AStarPathFinder finder = new AStarPathFinder(grid)
+            .useIncrementalSearch();
+        PointXY start = new PointXY(2, 10);
+        PointXY end = new PointXY(28, 10);
+        Assertions.assertTrue(finder.getPath(start, end).size() > 2);
+
+        // the other robot drives out of the way
+        Zone moved = new Zone(new Circle(new PointXY(15, 18), 1));
+        processor.replaceZone("robot", moved);
+        Assertions.assertFalse(grid.isBlocked(new PointXY(15, 10)));
+        Assertions.assertTrue(grid.isBlocked(new PointXY(15, 18)));
+        Assertions.assertEquals(2, finder.getPath(start, end).size());
+
+        processor.removeZone("robot");
+        Assertions.assertTrue(grid.getZones().isEmpty());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import me.wobblyyyy.pathfinder2.geometry.Circle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.Rectangle;
+import me.wobblyyyy.pathfinder2.zones.Zone;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestJumpPointSearch {
+    private static final Rectangle FIELD = new Rectangle(0, 0, 30, 20);
+
+    private static double length(OccupancyGrid grid, int[] cells) {
+        double length = 0;
+
+        for (int i = 1; i < cells.length; i++) {
+            int a = cells[i - 1];
+            int b = cells[i];
+            int dx = Math.abs((a % grid.getWidth()) - (b % grid.getWidth()));
+            int dy = Math.abs((a / grid.getWidth()) - (b / grid.getWidth()));
+
+            Assertions.assertTrue(dx <= 1 && dy <= 1 && dx + dy > 0);
+            Assertions.assertTrue(grid.isFree(b));
+
+            length += Math.hypot(dx, dy);
+        }
+
+        return length;
+    }
+
+    private static OccupancyGrid randomGrid(Random random) {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+
+        for (int i = 0; i < 12; i++) {
+            double x = random.nextDouble() * 30;
+            double y = random.nextDouble() * 20;
+
+            if (random.nextBoolean()) {
+                grid.addZone(
+                    new Zone(
+                        new Rectangle(
+                            x,
+                            y,
+                            x + 1 + (random.nextDouble() * 5),
+                            y + 1 + (random.nextDouble() * 5)
+                        )
+                    )
+                );
+            } else {
+                double radius = 1 + (random.nextDouble() * 2);
+
+                grid.addZone(new Zone(new Circle(new PointXY(x, y), radius)));
+            }
+        }
+
+        return grid;
+    }
+
+    @Test
+    public void testMatchesAStarOnRandomFields() {
+        Random random = new Random(2022);
+        AStarSearch aStar = new AStarSearch();
+        JumpPointSearch jumpPoint = new JumpPointSearch();
+
+        for (int i = 0; i < 50; i++) {
+            OccupancyGrid grid = randomGrid(random);
+            int size = grid.getWidth() * grid.getHeight();
+            int start = random.nextInt(size);
+            int end = random.nextInt(size);
+
+            int[] expected = aStar.findPath(grid, start, end);
+            int[] actual = jumpPoint.findPath(grid, start, end);
+
+            Assertions.assertEquals(expected.length == 0, actual.length == 0);
+
+            if (actual.length == 0) continue;
+
+            Assertions.assertEquals(start, actual[0]);
+            Assertions.assertEquals(end, actual[actual.length - 1]);
+            Assertions.assertEquals(
+                length(grid, expected),
+                length(grid, actual),
+                1e-9
+            );
+        }
+    }
+
+    @Test
+    public void testNodeGrid() {
+        Grid grid = Grid.generateGrid(10, 10);
+        for (int i = 0; i < 9; i++) grid.findNode(i, 2).setValid(false);
+
+        List<Node> path = new JumpPointSearch()
+            .findPath(grid, new Node(0, 0), new Node(0, 9));
+
+        Assertions.assertEquals(
+            new AStarSearch()
+                .findPath(grid, new Node(0, 0), new Node(0, 9))
+                .size(),
+            path.size()
+        );
+        for (Node node : path) Assertions.assertTrue(node.isValid());
+    }
+
+    @Test
+    public void testNoPath() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5))
+            .addZone(new Zone(new Rectangle(10, -1, 12, 21)));
+
+        int[] path = new JumpPointSearch()
+            .findPath(
+                grid,
+                grid.toIndex(new PointXY(2, 2)),
+                grid.toIndex(new PointXY(20, 2))
+            );
+
+        Assertions.assertEquals(0, path.length);
+    }
+
+    @Test
+    public void testPathFinder() {
+        List<Zone> zones = new ArrayList<>();
+        zones.add(new Zone(new Rectangle(5, 0, 7, 15)));
+        zones.add(new Zone(new Rectangle(15, 5, 17, 20)));
+
+        AStarPathFinder finder = new AStarPathFinder(
+            new GridScaling(0.5),
+            0,
+            0,
+            zones,
+            FIELD
+        );
+        finder.useJumpPointSearch();
+
+        PointXY start = new PointXY(1, 1);
+        PointXY end = new PointXY(28, 18);
+        List<PointXY> path = finder.getPath(start, end);
+
+        Assertions.assertNotNull(path);
+        Assertions.assertEquals(start, path.get(0));
+        Assertions.assertEquals(end, path.get(path.size() - 1));
+        for (PointXY point : path) {
+            for (Zone zone : zones) {
+                Assertions.assertFalse(zone.isPointInShape(point));
+            }
+        }
+    }
+}
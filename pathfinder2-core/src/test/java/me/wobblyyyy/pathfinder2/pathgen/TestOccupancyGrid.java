@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.pathgen;
+
+import java.util.ArrayList;
+import java.util.List;
+import me.wobblyyyy.pathfinder2.geometry.Circle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.Rectangle;
+import me.wobblyyyy.pathfinder2.zones.Zone;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestOccupancyGrid {
+    private static final Rectangle FIELD = new Rectangle(0, 0, 20, 20);
+
+    private static int countBlocked(OccupancyGrid grid) {
+        int count = 0;
+
+        for (int i = 0; i < grid.getWidth() * grid.getHeight(); i++) {
+            if (grid.isBlocked(i)) count++;
+        }
+
+        return count;
+    }
+
+    private static void assertMatchesZones(
+        OccupancyGrid grid,
+        List<Zone> zones
+    ) {
+        for (int i = 0; i < grid.getWidth() * grid.getHeight(); i++) {
+            PointXY point = grid.toPoint(i);
+            boolean blocked = false;
+
+            for (Zone zone : zones) {
+                if (zone.isPointInShape(point)) blocked = true;
+            }
+
+            Assertions.assertEquals(blocked, grid.isBlocked(i));
+        }
+    }
+
+    @Test
+    public void testGridSize() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+
+        Assertions.assertEquals(41, grid.getWidth());
+        Assertions.assertEquals(41, grid.getHeight());
+        Assertions.assertEquals(0, countBlocked(grid));
+        Assertions.assertEquals(
+            new PointXY(20, 20),
+            grid.toPoint(grid.toIndex(new PointXY(25, 25)))
+        );
+    }
+
+    @Test
+    public void testAddAndRemoveZones() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+        Zone rectangle = new Zone(new Rectangle(2, 2, 6, 8));
+        Zone circle = new Zone(new Circle(new PointXY(12, 12), 3));
+
+        grid.addZone(rectangle).addZone(circle);
+        assertMatchesZones(grid, grid.getZones());
+        Assertions.assertTrue(grid.isBlocked(new PointXY(4, 4)));
+        Assertions.assertTrue(grid.isBlocked(new PointXY(12, 12)));
+
+        grid.removeZone(rectangle);
+        assertMatchesZones(grid, grid.getZones());
+        Assertions.assertFalse(grid.isBlocked(new PointXY(4, 4)));
+        Assertions.assertTrue(grid.isBlocked(new PointXY(12, 12)));
+
+        grid.clearZones();
+        Assertions.assertEquals(0, countBlocked(grid));
+    }
+
+    @Test
+    public void testRemovingOverlappingZone() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+        Zone a = new Zone(new Rectangle(2, 2, 10, 10));
+        Zone b = new Zone(new Rectangle(6, 6, 14, 14));
+
+        grid.addZone(a).addZone(b).removeZone(b);
+
+        assertMatchesZones(grid, grid.getZones());
+        Assertions.assertTrue(grid.isBlocked(new PointXY(8, 8)));
+        Assertions.assertFalse(grid.isBlocked(new PointXY(12, 12)));
+    }
+
+    @Test
+    public void testMovingZone() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+        Zone zone = new Zone(new Rectangle(2, 2, 6, 6));
+        Zone moved = new Zone(new Rectangle(12, 12, 16, 16));
+
+        grid.addZone(zone).replaceZone(zone, moved);
+
+        assertMatchesZones(grid, grid.getZones());
+        Assertions.assertFalse(grid.isBlocked(new PointXY(4, 4)));
+        Assertions.assertTrue(grid.isBlocked(new PointXY(14, 14)));
+    }
+
+    @Test
+    public void testZonesOutsideOfField() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+        Zone outside = new Zone(new Rectangle(30, 30, 40, 40));
+        Zone partial = new Zone(new Rectangle(-5, -5, 2, 2));
+
+        grid.addZone(outside).addZone(partial);
+        assertMatchesZones(grid, grid.getZones());
+
+        grid.removeZone(outside).removeZone(partial);
+        Assertions.assertEquals(0, countBlocked(grid));
+    }
+
+    @Test
+    public void testNonSolidZonesAreIgnored() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+
+        grid.addZone(
+            new Zone(new Rectangle(2, 2, 6, 6)) {
+
+                @Override
+                public boolean isSolid() {
+                    return false;
+                }
+            }
+        );
+
+        Assertions.assertEquals(0, countBlocked(grid));
+    }
+
+    @Test
+    public void testDuplicateZone() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(0.5));
+        Zone zone = new Zone(new Rectangle(2, 2, 6, 6));
+
+        grid.addZone(zone);
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> grid.addZone(zone)
+        );
+    }
+
+    @Test
+    public void testPathFinderAvoidsZones() {
+        List<Zone> zones = new ArrayList<>();
+        zones.add(new Zone(new Rectangle(0, 8, 16, 10)));
+
+        AStarPathFinder finder = new AStarPathFinder(
+            new GridScaling(0.5),
+            0,
+            0,
+            zones,
+            FIELD
+        );
+
+        PointXY start = new PointXY(2, 2);
+        PointXY end = new PointXY(2, 18);
+        List<PointXY> path = finder.getPath(start, end);
+
+        Assertions.assertNotNull(path);
+        Assertions.assertEquals(start, path.get(0));
+        Assertions.assertEquals(end, path.get(path.size() - 1));
+        for (PointXY point : path) {
+            Assertions.assertFalse(zones.get(0).isPointInShape(point));
+        }
+
+        // closing the gap means there's no way to get to the end
+        Zone wall = new Zone(new Rectangle(16, 8, 20, 10));
+        finder.getGrid().addZone(wall);
+        Assertions.assertNull(finder.getPath(start, end));
+
+        // and opening it back up means there is
+        finder.getGrid().removeZone(wall);
+        Assertions.assertNotNull(finder.getPath(start, end));
+    }
+
+    @Test
+    public void testUnobstructedPath() {
+        AStarPathFinder finder = new AStarPathFinder(
+            new OccupancyGrid(FIELD, new GridScaling(0.5))
+        );
+
+        List<PointXY> path = finder.getPath(
+            new PointXY(1, 1),
+            new PointXY(15, 15)
+        );
+
+        Assertions.assertEquals(2, path.size());
+    }
+
+    @Test
+    public void testLineOfSight() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(1));
+        grid.addZone(new Zone(new Rectangle(9.5, 0, 10.5, 15)));
+
+        int a = grid.toIndex(new PointXY(2, 5));
+        int b = grid.toIndex(new PointXY(18, 5));
+        int c = grid.toIndex(new PointXY(2, 18));
+        int d = grid.toIndex(new PointXY(18, 19));
+
+        Assertions.assertFalse(grid.hasLineOfSight(a, b));
+        Assertions.assertFalse(grid.hasLineOfSight(b, a));
+        Assertions.assertTrue(grid.hasLineOfSight(c, d));
+        Assertions.assertTrue(grid.hasLineOfSight(a, c));
+        Assertions.assertTrue(grid.hasLineOfSight(a, a));
+    }
+
+    @Test
+    public void testLineOfSightThroughCorner() {
+        OccupancyGrid grid = new OccupancyGrid(FIELD, new GridScaling(1));
+        grid.addZone(new Zone(new Circle(new PointXY(5, 4), 0.1)));
+        grid.addZone(new Zone(new Circle(new PointXY(4, 5), 0.1)));
+
+        // the line from (4, 4) to (5, 5) squeezes between two obstacles
+        Assertions.assertFalse(
+            grid.hasLineOfSight(
+                grid.toIndex(new PointXY(4, 4)),
+                grid.toIndex(new PointXY(5, 5))
+            )
+        );
+        Assertions.assertTrue(
+            grid.hasLineOfSight(
+                grid.toIndex(new PointXY(4, 4)),
+                grid.toIndex(new PointXY(3, 3))
+            )
+        );
+    }
+}
@@ -12,8 +12,10 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
 import me.wobblyyyy.pathfinder2.geometry.Rectangle;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
 import me.wobblyyyy.pathfinder2.zones.Zone;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -76,4 +78,106 @@ public void testNonlinearOptimization() {
         //        Assertions.assertTrue(Equals.soft(16.778, unoptimizedLength, 0.01));
         //        Assertions.assertEquals(optimizedLength, overOptimizedLength);
     }
+
+    @Test
+    public void testSecondPassUsesOptimizedPoints() {
+        List<PointXY> path = new ArrayList<>();
+        path.add(new PointXY(0, 0));
+        path.add(new PointXY(1, 0));
+        path.add(new PointXY(2, 1));
+        path.add(new PointXY(3, 1));
+        path.add(new PointXY(4, 2));
+        path.add(new PointXY(5, 2));
+
+        List<PointXY> optimized = PathOptimizer.optimize(path);
+
+        Assertions.assertEquals(new PointXY(0, 0), optimized.get(0));
+        Assertions.assertEquals(
+            new PointXY(5, 2),
+            optimized.get(optimized.size() - 1)
+        );
+        for (int i = 1; i < optimized.size() - 1; i++) {
+            Assertions.assertFalse(
+                PointXY.areCollinear(
+                    optimized.get(i - 1),
+                    optimized.get(i),
+                    optimized.get(i + 1)
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testOptimizeTwoPoints() {
+        List<PointXY> path = new ArrayList<>();
+        path.add(new PointXY(0, 0));
+        path.add(new PointXY(10, 10));
+
+        Assertions.assertEquals(path, PathOptimizer.optimize(path));
+    }
+
+    @Test
+    public void testSmoothOccupancyGridPath() {
+        OccupancyGrid grid = new OccupancyGrid(
+            new Rectangle(0, 0, 20, 20),
+            new GridScaling(0.5)
+        )
+        .addZone(new Zone(new Rectangle(8, 0, 10, 14)));
+
+        int start = grid.toIndex(new PointXY(2, 3));
+        int end = grid.toIndex(new PointXY(18, 3));
+        int[] cells = new AStarSearch().findPath(grid, start, end);
+        int[] waypoints = PathOptimizer.smooth(grid, cells);
+
+        Assertions.assertTrue(waypoints.length < cells.length);
+        Assertions.assertTrue(waypoints.length <= 6);
+        Assertions.assertEquals(start, waypoints[0]);
+        Assertions.assertEquals(end, waypoints[waypoints.length - 1]);
+
+        for (int i = 1; i < waypoints.length; i++) {
+            PointXY a = grid.toPoint(waypoints[i - 1]);
+            PointXY b = grid.toPoint(waypoints[i]);
+
+            // diagonal steps around the zone's corners are left alone
+            Assertions.assertTrue(
+                grid.hasLineOfSight(waypoints[i - 1], waypoints[i]) ||
+                a.distance(b) < 1
+            );
+        }
+
+        // going straight from the start to the end goes through the zone
+        Assertions.assertFalse(grid.hasLineOfSight(start, end));
+    }
+
+    @Test
+    public void testSmoothedLocalizedPathAvoidsZone() {
+        Rectangle blocker = new Rectangle(5, 1, 6, 10);
+        List<Zone> zones = new ArrayList<>();
+        zones.add(new Zone(blocker));
+
+        PointXY start = new PointXY(0, 0);
+        PointXY end = new PointXY(10, 10);
+        List<PointXY> path = new LocalizedPathGen(zones, 0.5, 0.5)
+            .getPath(start, end);
+
+        Assertions.assertNotNull(path);
+        Assertions.assertEquals(start, path.get(0));
+        Assertions.assertEquals(end, path.get(path.size() - 1));
+        Assertions.assertTrue(path.size() <= 4);
+    }
+
+    @Test
+    public void testToSpline() {
+        List<PointXY> path = new ArrayList<>();
+        path.add(new PointXY(0, 0));
+        path.add(new PointXY(10, 10));
+
+        Trajectory trajectory = PathOptimizer
+            .toSpline(path, 0.5, 0.1)
+            .setDefaultTolerance(2)
+            .setDefaultAngleTolerance(Angle.fromDeg(5))
+            .build();
+
+        Assertions.assertNotNull(trajectory);
+    }
 }
@@ -768,4 +768,31 @@ public void testGlobalTrajectoryMap() {
 
         assertPositionIs(new PointXYZ(10, 10, 0));
     }
+
+    @Test
+    public void testPrebuiltTrajectory() {
+        Class<?> clazz = TestSimulatedChassis.class;
+
+        Pathfinder.prebuildTrajectory(
+            clazz,
+            "prebuilt",
+            () ->
+                factory
+                    .builder()
+                    .add(new PointXYZ(0, 0, 0))
+                    .add(
+                        new PointXYZ(0, 0, 0).inDirection(10, Angle.fromDeg(45))
+                    )
+                    .add(new PointXYZ(10, 10, 0))
+                    .build()
+        );
+
+        // this waits for the trajectory to finish building, if it hasn't
+        // finished yet
+        pathfinder.followTrajectory(clazz, "prebuilt");
+        pathfinder.tickUntil(500);
+        Pathfinder.removeTrajectory(clazz, "prebuilt");
+
+        assertPositionIs(new PointXYZ(10, 10, 0));
+    }
 }
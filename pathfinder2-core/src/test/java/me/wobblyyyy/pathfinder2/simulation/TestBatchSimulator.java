@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.trajectory.TimedTrajectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestBatchSimulator {
+
+    private static SimulationCase goTo(String name, double coefficient) {
+        return new SimulationCase(
+            name,
+            coefficient,
+            pathfinder -> pathfinder.goTo(new PointXY(20, 30))
+        )
+            .setReferencePath(new PointXY(0, 0), new PointXY(20, 30));
+    }
+
+    @Test
+    public void testVirtualRobotMovesBasedOnTime() {
+        VirtualRobot robot = new VirtualRobot(10, 90);
+
+        robot.setTranslation(new Translation(0, 1, 0));
+        robot.step(0.5);
+        Assertions.assertEquals(0, robot.getRawPosition().x(), 0.001);
+        Assertions.assertEquals(5, robot.getRawPosition().y(), 0.001);
+        Assertions.assertEquals(10, robot.getLastSpeed(), 0.001);
+
+        robot.setTranslation(new Translation(0, 0, 1));
+        robot.step(1);
+        Assertions.assertEquals(90, robot.getRawPosition().z().deg(), 0.001);
+
+        // translations are relative to the robot's heading
+        robot.setTranslation(new Translation(1, 0, 0));
+        robot.step(1);
+        Assertions.assertEquals(0, robot.getRawPosition().x(), 0.001);
+        Assertions.assertEquals(15, robot.getRawPosition().y(), 0.001);
+    }
+
+    @Test
+    public void testRunsCasesInParallel() {
+        List<SimulationCase> cases = new ArrayList<>();
+        for (int i = 1; i <= 16; i++) cases.add(goTo("case " + i, 0.01 * i));
+
+        SimulationReport report = new BatchSimulator(new ForkJoinPool(4))
+            .setDtMs(10)
+            .run(cases);
+
+        Assertions.assertEquals(16, report.getResults().size());
+        Assertions.assertEquals(16, report.getCompletedCount());
+        Assertions.assertEquals(0, report.getFailedCount());
+
+        for (int i = 0; i < 16; i++) {
+            SimulationResult result = report.getResults().get(i);
+
+            Assertions.assertEquals("case " + (i + 1), result.getName());
+            Assertions.assertTrue(result.getElapsedTimeMs() > 0);
+            Assertions.assertTrue(result.getMaxSpeed() > 0);
+            Assertions.assertTrue(result.getMaxSpeed() <= 50.001);
+            Assertions.assertTrue(result.getMaxPathError() < 2);
+            Assertions.assertTrue(result.getFinalPathError() <= 2);
+        }
+
+        Assertions.assertNotNull(
+            report.getBest(SimulationReport.BY_COMPLETION_TIME)
+        );
+    }
+
+    @Test
+    public void testSimulationsAreDeterministic() {
+        BatchSimulator simulator = new BatchSimulator();
+
+        SimulationResult a = simulator.simulate(goTo("a", 0.05));
+        SimulationResult b = simulator.simulate(goTo("b", 0.05));
+
+        Assertions.assertEquals(a.getTicks(), b.getTicks());
+        Assertions.assertEquals(a.getFinalPosition(), b.getFinalPosition());
+        Assertions.assertEquals(a.getMeanPathError(), b.getMeanPathError());
+    }
+
+    @Test
+    public void testTimeLimit() {
+        SimulationResult result = new BatchSimulator()
+            .setMaxTimeMs(100)
+            .simulate(goTo("slow", 0.05));
+
+        Assertions.assertFalse(result.isCompleted());
+        Assertions.assertEquals(10, result.getTicks());
+        Assertions.assertEquals(
+            Double.POSITIVE_INFINITY,
+            result.getCompletionTimeMs()
+        );
+    }
+
+    @Test
+    public void testFailedCaseDoesNotStopBatch() {
+        List<SimulationCase> cases = new ArrayList<>();
+        cases.add(goTo("good", 0.05));
+        cases.add(
+            new SimulationCase(
+                "bad",
+                0.05,
+                pathfinder -> {
+                    throw new IllegalStateException("oops");
+                }
+            )
+        );
+
+        SimulationReport report = new BatchSimulator().run(cases);
+
+        Assertions.assertTrue(report.getResult("good").isCompleted());
+        Assertions.assertTrue(report.getResult("bad").isFailed());
+        Assertions.assertTrue(
+            report.getResult("bad").getError() instanceof IllegalStateException
+        );
+    }
+
+    @Test
+    public void testTimedTrajectoryUsesSimulatedTime() {
+        SimulationResult result = new BatchSimulator()
+            .setDtMs(10)
+            .simulate(
+                new SimulationCase(
+                    "timed",
+                    0.05,
+                    pathfinder ->
+                        pathfinder.followTrajectory(
+                            new TimedTrajectory(
+                                new Translation(0, 1, 0),
+                                500,
+                                0.5,
+                                0,
+                                pathfinder.getClock()
+                            )
+                        )
+                )
+            );
+
+        Assertions.assertTrue(result.isCompleted());
+        Assertions.assertEquals(500, result.getCompletionTimeMs(), 20);
+    }
+
+    @Test
+    public void testStartPosition() {
+        SimulationResult result = new BatchSimulator()
+            .simulate(
+                goTo("offset", 0.05)
+                    .setStartPosition(new PointXYZ(20, 10, 0))
+            );
+
+        Assertions.assertTrue(result.isCompleted());
+        Assertions.assertEquals(20, result.getFinalPosition().x(), 2);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.telemetry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.time.ManualClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestTelemetry {
+    private Path path;
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        path = Files.createTempFile("pathfinder2", ".pf2t");
+    }
+
+    @AfterEach
+    public void afterEach() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void testSchemaHeaderRoundTrip() {
+        TelemetrySchema schema = new TelemetrySchema("a", "bb", "ccc");
+
+        Assertions.assertEquals(0, schema.getHeaderSize() % 8);
+        Assertions.assertEquals(
+            TelemetrySchema.FIXED_RECORD_SIZE + 24,
+            schema.getRecordSize()
+        );
+
+        ByteBuffer buffer = ByteBuffer.allocate(
+            schema.getHeaderSize()
+        );
+        schema.write(buffer);
+
+        Assertions.assertEquals(schema, TelemetrySchema.read(buffer));
+    }
+
+    @Test
+    public void testWriteAndReadRecords() {
+        TelemetrySchema schema = new TelemetrySchema("a", "b");
+
+        // a tiny chunk size, so the writer has to map several chunks
+        try (TelemetryWriter writer = new TelemetryWriter(path, schema, 500)) {
+            for (int i = 0; i < 1000; i++) writer.write(
+                i * 5_000_000L,
+                5,
+                i,
+                -i,
+                i % 360,
+                0.1,
+                0.2,
+                0.3,
+                1,
+                2,
+                3,
+                new double[] { i * 2, Double.NaN }
+            );
+
+            // waits for the full chunks to be forced in the background
+            writer.flush();
+        }
+
+        // unused preallocated space is left at the end of the file
+        Assertions.assertTrue(
+            path.toFile().length() >=
+            schema.getHeaderSize() + 1000L * schema.getRecordSize()
+        );
+
+        try (TelemetryReader reader = new TelemetryReader(path)) {
+            Assertions.assertEquals(schema, reader.getSchema());
+            Assertions.assertEquals(1000, reader.getRecordCount());
+
+            int i = 0;
+            while (reader.hasNext()) {
+                TelemetryRecord record = reader.next();
+
+                Assertions.assertEquals(i, record.getIndex());
+                Assertions.assertEquals(i * 5_000_000L, record.getTimeNs());
+                Assertions.assertEquals(i, record.getX());
+                Assertions.assertEquals(-i, record.getY());
+                Assertions.assertEquals(i % 360, record.getZDeg());
+                Assertions.assertEquals(0.2, record.getVy());
+                Assertions.assertEquals(3, record.getVelocityZDeg());
+                Assertions.assertEquals(i * 2, record.getChannel("a"));
+                Assertions.assertTrue(Double.isNaN(record.getChannel(1)));
+
+                i++;
+            }
+
+            Assertions.assertEquals(1000, i);
+            Assertions.assertEquals(500, reader.read(500).getX());
+        }
+    }
+
+    @Test
+    public void testUnclosedFileCanBeRead() {
+        TelemetrySchema schema = new TelemetrySchema();
+        TelemetryWriter writer = new TelemetryWriter(path, schema);
+
+        for (int i = 0; i < 10; i++) writer.write(
+            i,
+            0,
+            PointXYZ.ZERO,
+            Translation.ZERO,
+            0,
+            0,
+            0,
+            new double[0]
+        );
+        writer.flush();
+
+        // the file still has all of its preallocated space
+        try (TelemetryReader reader = new TelemetryReader(path)) {
+            Assertions.assertEquals(10, reader.getRecordCount());
+        }
+
+        writer.close();
+    }
+
+    @Test
+    public void testPluginRecordsEveryTick() {
+        ManualClock clock = new ManualClock();
+        Pathfinder pathfinder = Pathfinder.newSimulatedPathfinder(0.5);
+        pathfinder.setClock(clock);
+        pathfinder.putData("number", 5);
+        pathfinder.putData("boolean", true);
+        pathfinder.putData("string", "not a number");
+
+        TelemetryWriter writer = new TelemetryWriter(
+            path,
+            new TelemetrySchema("number", "boolean", "string", "missing")
+        );
+        pathfinder.loadPlugin(new TelemetryPlugin(writer));
+
+        for (int i = 0; i < 20; i++) {
+            pathfinder.tick();
+            clock.advanceMs(5);
+        }
+
+        writer.close();
+
+        try (TelemetryReader reader = new TelemetryReader(path)) {
+            Assertions.assertEquals(20, reader.getRecordCount());
+
+            TelemetryRecord record = reader.read(10);
+            Assertions.assertEquals(5, record.getElapsedMs(), 1e-9);
+            Assertions.assertEquals(5, record.getChannel("number"));
+            Assertions.assertEquals(1, record.getChannel("boolean"));
+            Assertions.assertTrue(Double.isNaN(record.getChannel("string")));
+            Assertions.assertTrue(Double.isNaN(record.getChannel("missing")));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestFixedRateRunner {
+
+    @Test
+    public void testCannotCreateInvalidRunner() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new FixedRateRunner(-1)
+        );
+        Assertions.assertThrows(
+            NullPointerException.class,
+            () -> new FixedRateRunner(10, null)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> FixedRateRunner.fromHz(0)
+        );
+    }
+
+    @Test
+    public void testRunsAtFixedRate() {
+        AtomicInteger count = new AtomicInteger(0);
+        FixedRateRunner runner = new FixedRateRunner(5);
+
+        runner.runFor(count::incrementAndGet, 100);
+
+        // 100ms at 5ms per tick should be roughly 20 ticks - the tolerance
+        // is pretty big so this doesn't fail on a slow machine
+        Assertions.assertTrue(count.get() >= 10);
+        Assertions.assertTrue(count.get() <= 21);
+        Assertions.assertEquals(count.get(), runner.getStats().getTicks());
+    }
+
+    @Test
+    public void testDoesNotDrift() {
+        FixedRateRunner runner = new FixedRateRunner(2);
+
+        runner.runFor(() -> {}, 100);
+
+        LoopStats stats = runner.getStats();
+        Assertions.assertTrue(stats.getAveragePeriodMs() >= 1.9);
+        Assertions.assertTrue(stats.getAveragePeriodMs() <= 5);
+    }
+
+    @Test
+    public void testStopsWhenConditionIsFalse() {
+        AtomicInteger count = new AtomicInteger(0);
+        FixedRateRunner runner = new FixedRateRunner(1);
+
+        runner.run(count::incrementAndGet, () -> count.get() < 5, 10_000);
+
+        Assertions.assertEquals(5, count.get());
+        Assertions.assertFalse(runner.isRunning());
+    }
+
+    @Test
+    public void testStopMethod() {
+        AtomicInteger count = new AtomicInteger(0);
+        FixedRateRunner runner = new FixedRateRunner(1);
+
+        runner.run(
+            () -> {
+                if (count.incrementAndGet() == 3) runner.stop();
+            }
+        );
+
+        Assertions.assertEquals(3, count.get());
+    }
+
+    @Test
+    public void testSkipOverrunPolicy() {
+        FixedRateRunner runner = new FixedRateRunner(2, OverrunPolicy.SKIP);
+
+        runner.runFor(() -> FixedRateRunner.sleepFor(5), 30);
+
+        LoopStats stats = runner.getStats();
+        Assertions.assertTrue(stats.getOverruns() > 0);
+        Assertions.assertTrue(stats.getSkippedTicks() > 0);
+        Assertions.assertEquals(stats.getTicks(), stats.getOverruns());
+    }
+
+    @Test
+    public void testCatchUpOverrunPolicy() {
+        AtomicInteger count = new AtomicInteger(0);
+        FixedRateRunner runner = new FixedRateRunner(
+            5,
+            OverrunPolicy.CATCH_UP
+        )
+            .setMaxCatchUpTicks(100);
+
+        runner.runFor(
+            () -> {
+                // only the first tick is slow, the rest should catch up
+                if (count.incrementAndGet() == 1) FixedRateRunner.sleepFor(
+                    20
+                );
+            },
+            50
+        );
+
+        Assertions.assertEquals(1, runner.getStats().getOverruns());
+        Assertions.assertEquals(0, runner.getStats().getSkippedTicks());
+        Assertions.assertTrue(count.get() >= 8);
+    }
+
+    @Test
+    public void testSleepFor() {
+        long start = System.nanoTime();
+        FixedRateRunner.sleepFor(10);
+        long elapsed = System.nanoTime() - start;
+
+        Assertions.assertTrue(elapsed >= 10_000_000);
+    }
+}
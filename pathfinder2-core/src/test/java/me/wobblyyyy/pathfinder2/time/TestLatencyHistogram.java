@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestLatencyHistogram {
+
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getP50Ns());
+        Assertions.assertEquals(0, histogram.getMaxNs());
+        Assertions.assertEquals(0, histogram.getMinNs());
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 1; i <= 50; i++) histogram.record(i);
+
+        Assertions.assertEquals(25, histogram.getP50Ns());
+        Assertions.assertEquals(50, histogram.getValueAtPercentile(100));
+        Assertions.assertEquals(1, histogram.getMinNs());
+        Assertions.assertEquals(25.5, histogram.getMeanNs());
+    }
+
+    @Test
+    public void testPercentilesAreWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // 1 ms to 100 ms, in 1 ms increments
+        for (int i = 1; i <= 100; i++) histogram.record(i * 1_000_000L);
+
+        Assertions.assertEquals(50, histogram.getP50Ms(), 50 * 0.04);
+        Assertions.assertEquals(99, histogram.getP99Ms(), 99 * 0.04);
+        Assertions.assertEquals(100, histogram.getMaxMs());
+    }
+
+    @Test
+    public void testLargeAndNegativeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE / 2);
+
+        Assertions.assertEquals(0, histogram.getMinNs());
+        Assertions.assertEquals(Long.MAX_VALUE / 2, histogram.getMaxNs());
+        Assertions.assertEquals(
+            Long.MAX_VALUE / 2,
+            histogram.getValueAtPercentile(100)
+        );
+
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.getCount());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.time;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestManualClock {
+
+    @Test
+    public void testAdvance() {
+        ManualClock clock = new ManualClock();
+
+        Assertions.assertEquals(0, clock.nanoTime());
+
+        clock.advanceMs(10);
+        Assertions.assertEquals(10_000_000, clock.nanoTime());
+        Assertions.assertEquals(10, clock.ms());
+
+        clock.advanceNs(500);
+        Assertions.assertEquals(10_000_500, clock.nanoTime());
+
+        clock.advanceTo(5);
+        Assertions.assertEquals(10_000_500, clock.nanoTime());
+
+        clock.advanceTo(20_000_000);
+        Assertions.assertEquals(0.02, clock.seconds());
+    }
+
+    @Test
+    public void testCannotGoBackwards() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ManualClock().advanceNs(-1)
+        );
+    }
+
+    @Test
+    public void testFixedRateRunnerWithManualClock() {
+        ManualClock clock = new ManualClock();
+        AtomicInteger count = new AtomicInteger(0);
+        FixedRateRunner runner = new FixedRateRunner(10).setClock(clock);
+
+        // 10 simulated seconds at 100hz, without actually waiting
+        runner.runFor(count::incrementAndGet, 10_000);
+
+        Assertions.assertEquals(1_000, count.get());
+        Assertions.assertEquals(10_000, clock.ms());
+        Assertions.assertEquals(10, runner.getStats().getAveragePeriodMs());
+        Assertions.assertEquals(0, runner.getStats().getMaxJitterNs());
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.baked.BakedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.decorator.DecoratedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.spline.AdvancedSplineTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.spline.AdvancedSplineTrajectoryBuilder;
+import me.wobblyyyy.pathfinder2.trajectory.spline.SplineBuilderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTrajectoryPrecomputer {
+    private final SplineBuilderFactory factory = new SplineBuilderFactory()
+        .setSpeed(0.5)
+        .setStep(0.1)
+        .setTolerance(2)
+        .setAngleTolerance(Angle.fromDeg(5));
+
+    private AdvancedSplineTrajectoryBuilder spline() {
+        return factory
+            .builder()
+            .add(new PointXYZ(0, 0, 0))
+            .add(new PointXYZ(5, 7, 0))
+            .add(new PointXYZ(10, 10, 0));
+    }
+
+    @Test
+    public void testBuildAsync() {
+        AdvancedSplineTrajectoryBuilder builder = spline();
+        AdvancedSplineTrajectory trajectory = builder.buildAsync().join();
+
+        Assertions.assertNotNull(trajectory);
+        Assertions.assertEquals(
+            builder.build().nextMarker(PointXYZ.ZERO),
+            trajectory.nextMarker(PointXYZ.ZERO)
+        );
+    }
+
+    @Test
+    public void testBuildAsyncFailure() {
+        CompletableFuture<Trajectory> future = TrajectoryPrecomputer.buildAsync(
+            () -> {
+                throw new IllegalStateException("can't build!");
+            }
+        );
+
+        CompletionException exception = Assertions.assertThrows(
+            CompletionException.class,
+            future::join
+        );
+
+        Assertions.assertTrue(
+            exception.getCause() instanceof IllegalStateException
+        );
+    }
+
+    @Test
+    public void testPrecomputeBakesSplines() {
+        TrajectoryPrecomputer precomputer = new TrajectoryPrecomputer()
+            .setBakeSpacing(0.5);
+
+        Trajectory baked = precomputer
+            .precompute(() -> spline().build())
+            .join();
+        Assertions.assertTrue(baked instanceof BakedTrajectory);
+
+        Trajectory multi = precomputer
+            .precompute(
+                () ->
+                    new MultiSegmentTrajectory(
+                        spline().build(),
+                        new LinearTrajectory(
+                            new PointXYZ(20, 10, 0),
+                            0.5,
+                            2,
+                            Angle.fromDeg(5)
+                        )
+                    )
+            )
+            .join();
+        MultiSegmentTrajectory segments = (MultiSegmentTrajectory) multi;
+
+        Assertions.assertTrue(
+            segments.getTrajectories().get(0) instanceof BakedTrajectory
+        );
+        Assertions.assertTrue(
+            segments.getTrajectories().get(1) instanceof LinearTrajectory
+        );
+    }
+
+    @Test
+    public void testPrepareDoesNotBakeByDefault() {
+        AdvancedSplineTrajectory trajectory = spline().build();
+
+        Assertions.assertSame(
+            trajectory,
+            new TrajectoryPrecomputer().prepare(trajectory)
+        );
+    }
+
+    @Test
+    public void testPrepareDoesNotTriggerListeners() {
+        AtomicInteger events = new AtomicInteger(0);
+        Trajectory trajectory = spline()
+            .build()
+            .addListeners(
+                point -> events.incrementAndGet(),
+                point -> events.incrementAndGet()
+            );
+
+        new TrajectoryPrecomputer().setBakeSpacing(0.5).prepare(trajectory);
+
+        Assertions.assertEquals(0, events.get());
+    }
+
+    @Test
+    public void testPrepareBakesAndWarmsUpDecoratedSplines() {
+        AtomicInteger events = new AtomicInteger(0);
+        Trajectory trajectory = spline()
+            .build()
+            .onFinish(point -> events.incrementAndGet());
+
+        Trajectory prepared = new TrajectoryPrecomputer()
+            .setBakeSpacing(0.5)
+            .prepare(trajectory);
+
+        Assertions.assertTrue(prepared instanceof DecoratedTrajectory);
+        Assertions.assertTrue(
+            ((DecoratedTrajectory) prepared).getWrapped() instanceof
+            BakedTrajectory
+        );
+
+        // warming up followed a copy to the end, not the trajectory itself
+        Assertions.assertFalse(prepared.isDone(PointXYZ.ZERO));
+        Assertions.assertEquals(0, events.get());
+    }
+
+    @Test
+    public void testNewerTrajectoryWinsOverPrebuild() {
+        List<Runnable> queued = new ArrayList<>();
+        TrajectoryPrecomputer precomputer = new TrajectoryPrecomputer()
+            .setExecutor(queued::add);
+        Trajectory newer = new LinearTrajectory(
+            new PointXYZ(20, 10, 0),
+            0.5,
+            2,
+            Angle.fromDeg(5)
+        );
+
+        CompletableFuture<Trajectory> future = Pathfinder.prebuildTrajectory(
+            "precomputer",
+            "replaced",
+            () -> spline().build(),
+            precomputer
+        );
+
+        // remove and re-add the name before the prebuild finishes
+        Pathfinder.removeTrajectory("precomputer", "replaced");
+        Pathfinder.addTrajectory("precomputer", "replaced", newer);
+        queued.forEach(Runnable::run);
+
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertSame(
+            newer,
+            Pathfinder.getTrajectory("precomputer", "replaced")
+        );
+
+        Pathfinder.removeTrajectory("precomputer", "replaced");
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        TrajectoryPrecomputer precomputer = new TrajectoryPrecomputer();
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> precomputer.setBakeSpacing(-1)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> precomputer.setWarmupIterations(-1)
+        );
+    }
+}
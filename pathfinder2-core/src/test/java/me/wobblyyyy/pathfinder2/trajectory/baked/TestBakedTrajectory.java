@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.baked;
+
+import me.wobblyyyy.pathfinder2.TestableRobot;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.spline.AdvancedSplineTrajectoryBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestBakedTrajectory extends TestableRobot {
+
+    private static TrajectoryTable line(int samples, double length) {
+        double[] x = new double[samples];
+        double[] y = new double[samples];
+        double[] heading = new double[samples];
+        double[] speed = new double[samples];
+
+        for (int i = 0; i < samples; i++) {
+            x[i] = length * i / (samples - 1);
+            heading[i] = i == samples - 1 ? 10 : 350;
+            speed[i] = 0.5;
+        }
+
+        return new TrajectoryTable(x, y, heading, speed);
+    }
+
+    private void testBakedSplineTo(PointXYZ... points) {
+        AdvancedSplineTrajectoryBuilder builder = new AdvancedSplineTrajectoryBuilder()
+            .setStep(1)
+            .setTolerance(tolerance)
+            .setSpeed(speed)
+            .setAngleTolerance(angleTolerance);
+
+        for (PointXYZ point : points) builder.add(point);
+
+        testTrajectory(builder.buildBaked(0.25), points[points.length - 1]);
+    }
+
+    @Test
+    public void testTableArcLength() {
+        TrajectoryTable table = line(11, 10);
+
+        Assertions.assertEquals(11, table.size());
+        Assertions.assertEquals(10, table.length(), 1e-9);
+        Assertions.assertEquals(4, table.s(4), 1e-9);
+        Assertions.assertEquals(0, table.curvature(5), 1e-9);
+    }
+
+    @Test
+    public void testSegmentLookup() {
+        TrajectoryTable table = line(11, 10);
+
+        Assertions.assertEquals(0, table.segmentAt(-1));
+        Assertions.assertEquals(3, table.segmentAt(3.5));
+        Assertions.assertEquals(3, table.segmentAt(3));
+        Assertions.assertEquals(9, table.segmentAt(10));
+        Assertions.assertEquals(9, table.segmentAt(50));
+
+        // a good hint, a hint that's too far ahead, and a hint that's
+        // too far behind to walk forwards from
+        Assertions.assertEquals(3, table.segmentAt(3.5, 2));
+        Assertions.assertEquals(3, table.segmentAt(3.5, 7));
+        Assertions.assertEquals(9, table.segmentAt(9.9, 0));
+    }
+
+    @Test
+    public void testInterpolation() {
+        TrajectoryTable table = line(11, 10);
+        int segment = table.segmentAt(9.5);
+
+        Assertions.assertEquals(9.5, table.xAt(9.5, segment), 1e-9);
+        Assertions.assertEquals(0.5, table.speedAt(9.5, segment), 1e-9);
+        // 350 -> 10 degrees goes through 0, not 180
+        Assertions.assertEquals(0, table.headingAt(9.5, segment), 1e-9);
+    }
+
+    @Test
+    public void testCurvature() {
+        int samples = 91;
+        double radius = 10;
+        double[] x = new double[samples];
+        double[] y = new double[samples];
+        double[] zeros = new double[samples];
+
+        for (int i = 0; i < samples; i++) {
+            double angle = Math.toRadians(i);
+            x[i] = radius * Math.cos(angle);
+            y[i] = radius * Math.sin(angle);
+        }
+
+        TrajectoryTable table = new TrajectoryTable(x, y, zeros, zeros);
+
+        // counter-clockwise, so positive curvature
+        Assertions.assertEquals(1 / radius, table.curvature(45), 1e-4);
+        Assertions.assertEquals(Math.PI * radius / 2, table.length(), 1e-2);
+    }
+
+    @Test
+    public void testProject() {
+        TrajectoryTable table = line(11, 10);
+
+        Assertions.assertEquals(4.5, table.project(4.5, 3), 1e-9);
+        Assertions.assertEquals(10, table.project(15, 0), 1e-9);
+        // only search 2 units past segment 0, even though the closest
+        // point is further than that
+        Assertions.assertEquals(3, table.project(8, 0, 0, 2), 1e-9);
+    }
+
+    @Test
+    public void testInvalidTables() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                new TrajectoryTable(
+                    new double[] { 0 },
+                    new double[] { 0 },
+                    new double[] { 0 },
+                    new double[] { 0 }
+                )
+        );
+        Assertions.assertThrows(
+            RuntimeException.class,
+            () ->
+                new TrajectoryTable(
+                    new double[] { 0, 1 },
+                    new double[] { 0, 1 },
+                    new double[] { 0, 0 },
+                    new double[] { 0, 2 }
+                )
+        );
+    }
+
+    @Test
+    public void testMarkerIsLookaheadAlongPath() {
+        BakedTrajectory trajectory = new BakedTrajectory(
+            line(11, 10),
+            2,
+            0.5,
+            Angle.fromDeg(5)
+        );
+
+        PointXYZ marker = trajectory.nextMarker(new PointXYZ(3, 1, 0));
+        Assertions.assertEquals(5, marker.x(), 1e-9);
+        Assertions.assertEquals(0, marker.y(), 1e-9);
+        Assertions.assertEquals(3, trajectory.getProgress(), 1e-9);
+
+        // progress never goes backwards
+        trajectory.nextMarker(new PointXYZ(1, 0, 0));
+        Assertions.assertEquals(3, trajectory.getProgress(), 1e-9);
+
+        Assertions.assertEquals(
+            10,
+            trajectory.nextMarker(new PointXYZ(9.5, 0, 0)).x(),
+            1e-9
+        );
+        Assertions.assertTrue(trajectory.isDone(new PointXYZ(10, 0, 10)));
+
+        trajectory.reset();
+        Assertions.assertEquals(0, trajectory.getProgress());
+    }
+
+    @Test
+    public void testBakedLinearSpline() {
+        testBakedSplineTo(
+            new PointXYZ(0, 0),
+            new PointXYZ(10, 10),
+            new PointXYZ(20, 20)
+        );
+    }
+
+    @Test
+    public void testBakedBackwardsSpline() {
+        testBakedSplineTo(
+            new PointXYZ(0, 0),
+            new PointXYZ(-10, -10),
+            new PointXYZ(-20, -20)
+        );
+    }
+
+    @Test
+    public void testBakedTurningNonLinearSpline() {
+        testBakedSplineTo(
+            new PointXYZ(0, 0, 45),
+            new PointXYZ(5, 5, 65),
+            new PointXYZ(10, 15, 90),
+            new PointXYZ(15, 30, 180)
+        );
+    }
+
+    @Test
+    public void testBakedPathThatDoublesBack() {
+        PointXYZ end = new PointXYZ(0, 10);
+        BakedTrajectory trajectory = new AdvancedSplineTrajectoryBuilder()
+            .setStep(1)
+            .setTolerance(tolerance)
+            .setSpeed(speed)
+            .setAngleTolerance(angleTolerance)
+            .add(new PointXYZ(0, 0))
+            .add(new PointXYZ(10, 5))
+            .add(end)
+            .buildBaked(0.25);
+        TrajectoryTable table = trajectory.getTable();
+        int last = table.size() - 1;
+        int middle = table.segmentAt(table.length() / 2);
+
+        // x goes out to 10 and then comes back to 0
+        Assertions.assertEquals(0, table.x(0), 1e-9);
+        Assertions.assertEquals(10, table.x(middle), 0.5);
+        Assertions.assertEquals(0, table.x(last), 1e-9);
+        Assertions.assertEquals(10, table.y(last), 1e-9);
+
+        testTrajectory(trajectory, end);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.baked;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import me.wobblyyyy.pathfinder2.TestableRobot;
+import me.wobblyyyy.pathfinder2.exceptions.InvalidSpeedException;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.spline.AdvancedSplineTrajectoryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestTrajectoryFile extends TestableRobot {
+    private Path path;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        path = Files.createTempFile("pathfinder2", ".pf2b");
+    }
+
+    @AfterEach
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    private BakedTrajectory bake() {
+        return new AdvancedSplineTrajectoryBuilder()
+            .setStep(1)
+            .setTolerance(tolerance)
+            .setSpeed(speed)
+            .setAngleTolerance(angleTolerance)
+            .add(new PointXYZ(0, 0, 0))
+            .add(new PointXYZ(5, 8, 30))
+            .add(new PointXYZ(10, 10, 90))
+            .buildBaked(0.25);
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        BakedTrajectory original = bake();
+        TrajectoryTable table = original.getTable();
+
+        TrajectoryFile.write(original, path);
+
+        Assertions.assertEquals(
+            TrajectoryFile.sizeOf(table.size()),
+            Files.size(path)
+        );
+
+        BakedTrajectory loaded = TrajectoryFile.read(path);
+        TrajectoryTable loadedTable = loaded.getTable();
+
+        Assertions.assertEquals(table.size(), loadedTable.size());
+        Assertions.assertEquals(original.getLookahead(), loaded.getLookahead());
+        Assertions.assertEquals(original.getTolerance(), loaded.getTolerance());
+        Assertions.assertEquals(
+            original.getAngleTolerance(),
+            loaded.getAngleTolerance()
+        );
+
+        for (int i = 0; i < table.size(); i++) {
+            Assertions.assertEquals(table.s(i), loadedTable.s(i));
+            Assertions.assertEquals(table.x(i), loadedTable.x(i));
+            Assertions.assertEquals(table.y(i), loadedTable.y(i));
+            Assertions.assertEquals(table.heading(i), loadedTable.heading(i));
+            Assertions.assertEquals(table.speed(i), loadedTable.speed(i));
+            Assertions.assertEquals(
+                table.curvature(i),
+                loadedTable.curvature(i)
+            );
+        }
+
+        PointXYZ position = new PointXYZ(4, 6, 20);
+        Assertions.assertEquals(
+            original.nextMarker(position),
+            loaded.nextMarker(position)
+        );
+        Assertions.assertEquals(
+            original.speed(position),
+            loaded.speed(position)
+        );
+    }
+
+    @Test
+    public void testFollowLoadedTrajectory() {
+        TrajectoryFile.write(bake(), path);
+
+        testTrajectory(TrajectoryFile.read(path), new PointXYZ(10, 10, 90));
+    }
+
+    @Test
+    public void testTurnInPlaceRoundTrip() {
+        // the turn in place is a segment with no length, so two samples
+        // in a row have the same arc length
+        TrajectoryTable table = PathSampler.sample(
+            PointXYZ.ZERO,
+            new MultiSegmentTrajectory(
+                new LinearTrajectory(
+                    new PointXYZ(10, 0, 0),
+                    speed,
+                    tolerance,
+                    angleTolerance
+                ),
+                new LinearTrajectory(
+                    new PointXYZ(10, 0, 90),
+                    speed,
+                    tolerance,
+                    angleTolerance
+                ),
+                new LinearTrajectory(
+                    new PointXYZ(10, 10, 90),
+                    speed,
+                    tolerance,
+                    angleTolerance
+                )
+            ),
+            1
+        );
+        Assertions.assertEquals(22, table.size());
+        Assertions.assertEquals(table.s(10), table.s(11));
+
+        TrajectoryFile.write(
+            new BakedTrajectory(table, 1, tolerance, angleTolerance),
+            path
+        );
+        TrajectoryTable loaded = TrajectoryFile.read(path).getTable();
+
+        Assertions.assertEquals(table.size(), loaded.size());
+        for (int i = 0; i < table.size(); i++) {
+            Assertions.assertEquals(table.s(i), loaded.s(i));
+            Assertions.assertEquals(table.heading(i), loaded.heading(i));
+        }
+    }
+
+    @Test
+    public void testInvalidMagicNumber() throws IOException {
+        Files.write(path, ByteBuffer.allocate(64).putInt(1234).array());
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> TrajectoryFile.read(path)
+        );
+    }
+
+    @Test
+    public void testTruncatedFile() throws IOException {
+        TrajectoryFile.write(bake(), path);
+
+        byte[] bytes = Files.readAllBytes(path);
+        byte[] truncated = new byte[bytes.length - 8];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Files.write(path, truncated);
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> TrajectoryFile.read(path)
+        );
+    }
+
+    @Test
+    public void testTooSmall() throws IOException {
+        Files.write(path, new byte[4]);
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> TrajectoryFile.read(path)
+        );
+    }
+
+    /**
+     * Write a valid file, and then overwrite one of its values.
+     */
+    private void corrupt(int column, int sample, double value)
+        throws IOException {
+        TrajectoryFile.write(bake(), path);
+
+        ByteBuffer buffer = ByteBuffer
+            .wrap(Files.readAllBytes(path))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        int size = buffer.getInt(8);
+        buffer.putDouble(40 + (((column * size) + sample) * 8), value);
+        Files.write(path, buffer.array());
+    }
+
+    @Test
+    public void testCorruptColumns() throws IOException {
+        corrupt(1, 3, Double.NaN);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> TrajectoryFile.read(path)
+        );
+
+        corrupt(5, 0, Double.POSITIVE_INFINITY);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> TrajectoryFile.read(path)
+        );
+
+        // arc length goes backwards
+        corrupt(0, 3, 0);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> TrajectoryFile.read(path)
+        );
+
+        corrupt(4, 2, 1.5);
+        Assertions.assertThrows(
+            InvalidSpeedException.class,
+            () -> TrajectoryFile.read(path)
+        );
+    }
+
+    @Test
+    public void testOverwriteAfterRead() throws IOException {
+        // nothing is left mapped, so the file can be replaced and deleted
+        // right away (a mapped file can't be on Windows)
+        TrajectoryFile.write(bake(), path);
+        TrajectoryFile.read(path);
+        TrajectoryFile.write(bake(), path);
+        TrajectoryFile.read(path);
+        Files.delete(path);
+    }
+}
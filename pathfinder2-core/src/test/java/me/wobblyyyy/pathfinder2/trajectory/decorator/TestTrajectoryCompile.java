@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.decorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTrajectoryCompile {
+
+    private static LinearTrajectory line() {
+        return new LinearTrajectory(
+            new PointXYZ(10, 5, 45),
+            0.5,
+            1,
+            Angle.fromDeg(5)
+        );
+    }
+
+    private static void assertSame(
+        Trajectory expected,
+        Trajectory actual,
+        PointXYZ current
+    ) {
+        PointXYZ expectedMarker = expected.nextMarker(current);
+        PointXYZ actualMarker = actual.nextMarker(current);
+
+        Assertions.assertEquals(expectedMarker.x(), actualMarker.x(), 1e-9);
+        Assertions.assertEquals(expectedMarker.y(), actualMarker.y(), 1e-9);
+        Assertions.assertEquals(
+            expectedMarker.z().deg(),
+            actualMarker.z().deg(),
+            1e-9
+        );
+        Assertions.assertEquals(
+            expected.isDone(current),
+            actual.isDone(current)
+        );
+        Assertions.assertEquals(
+            expected.speed(current),
+            actual.speed(current)
+        );
+    }
+
+    @Test
+    public void testTransformsMatchPointMath() {
+        Trajectory trajectory = line().reflectX(0);
+        PointXYZ current = new PointXYZ(3, 4, 30);
+
+        // reflecting the current position, getting the marker, and then
+        // reflecting the marker back
+        Assertions.assertEquals(
+            new PointXYZ(10, 5, 45).reflectOverX(0),
+            trajectory.nextMarker(current)
+        );
+
+        PointXY center = new PointXY(1, 1);
+        trajectory = line().rotateAround(center, Angle.fromDeg(90));
+
+        Assertions.assertEquals(
+            new PointXYZ(10, 5, 45).rotate(center, Angle.fromDeg(90)),
+            trajectory.nextMarker(current)
+        );
+
+        trajectory = line().offset(new PointXYZ(2, 3, 350));
+
+        Assertions.assertEquals(
+            new PointXYZ(10, 5, 45).add(new PointXYZ(2, 3, 350)),
+            trajectory.nextMarker(current)
+        );
+    }
+
+    @Test
+    public void testCompiledTransformsMatch() {
+        LinearTrajectory base = line();
+        Trajectory trajectory = base
+            .reflectX(2)
+            .offset(new PointXYZ(3, -1, 200))
+            .rotateAround(new PointXY(4, 4), Angle.fromDeg(30))
+            .reflectY(-3)
+            .add(1, 2, 270)
+            .multiply(2, 0.5, 90)
+            .shift(new PointXY(5, 5), new PointXY(1, 2));
+        Trajectory compiled = trajectory.compile();
+
+        Assertions.assertTrue(compiled instanceof TransformedTrajectory);
+        Assertions.assertSame(
+            base,
+            ((TransformedTrajectory) compiled).getWrapped()
+        );
+
+        assertSame(trajectory, compiled, PointXYZ.ZERO);
+        assertSame(trajectory, compiled, new PointXYZ(10, 5, 45));
+        assertSame(trajectory, compiled, new PointXYZ(-7, 12, 300));
+        assertSame(trajectory, compiled, new PointXYZ(100, 3, 179));
+    }
+
+    @Test
+    public void testLayersOfDifferentKindsAreKept() {
+        LinearTrajectory base = line();
+        Trajectory compiled = base
+            .reflectX(0)
+            .reflectY(0)
+            .onFinish(point -> {})
+            .onStart(point -> {})
+            .offset(new PointXYZ(1, 1, 0))
+            .compile();
+
+        Assertions.assertTrue(compiled instanceof TransformedTrajectory);
+
+        Trajectory listeners = ((DecoratedTrajectory) compiled).getWrapped();
+        Assertions.assertTrue(listeners instanceof ListenerTrajectory);
+
+        Trajectory transform = ((DecoratedTrajectory) listeners).getWrapped();
+        Assertions.assertTrue(transform instanceof TransformedTrajectory);
+        Assertions.assertSame(
+            base,
+            ((DecoratedTrajectory) transform).getWrapped()
+        );
+    }
+
+    @Test
+    public void testCompiledListenersFireInOrderOnce() {
+        List<String> events = new ArrayList<>();
+        Trajectory trajectory = line()
+            .addListeners(
+                point -> events.add("start 1"),
+                point -> events.add("finish 1")
+            )
+            .addListeners(
+                point -> events.add("start 2"),
+                point -> events.add("finish 2")
+            );
+        Trajectory compiled = trajectory.compile();
+
+        Assertions.assertTrue(compiled instanceof ListenerTrajectory);
+        Assertions.assertTrue(
+            ((ListenerTrajectory) compiled).getWrapped() instanceof
+            LinearTrajectory
+        );
+
+        PointXYZ target = new PointXYZ(10, 5, 45);
+
+        for (int i = 0; i < 3; i++) {
+            trajectory.nextMarker(PointXYZ.ZERO);
+            trajectory.isDone(target);
+        }
+
+        List<String> expected = new ArrayList<>(events);
+        events.clear();
+
+        for (int i = 0; i < 3; i++) {
+            compiled.nextMarker(PointXYZ.ZERO);
+            compiled.isDone(target);
+        }
+
+        Assertions.assertEquals(expected, events);
+        Assertions.assertEquals(4, events.size());
+
+        events.clear();
+        compiled.reset();
+        compiled.nextMarker(PointXYZ.ZERO);
+        compiled.isDone(target);
+
+        Assertions.assertEquals(expected, events);
+    }
+
+    @Test
+    public void testCompiledConditions() {
+        AtomicBoolean finished = new AtomicBoolean(false);
+        AtomicBoolean active = new AtomicBoolean(true);
+        Trajectory compiled = line()
+            .addEndCondition(finished::get)
+            .addRequirement(active::get)
+            .addEndCondition(() -> false)
+            .compile();
+
+        Assertions.assertFalse(compiled.isDone(PointXYZ.ZERO));
+        finished.set(true);
+        Assertions.assertTrue(compiled.isDone(PointXYZ.ZERO));
+        finished.set(false);
+        active.set(false);
+        Assertions.assertTrue(compiled.isDone(PointXYZ.ZERO));
+        active.set(true);
+        Assertions.assertTrue(compiled.isDone(new PointXYZ(10, 5, 45)));
+    }
+
+    @Test
+    public void testPrimitiveConditionsAndModifiers() {
+        AtomicBoolean finished = new AtomicBoolean(false);
+        BooleanSupplier[] conditions = { finished::get };
+        Trajectory trajectory = new ModifiedTrajectory(
+            new ConditionalTrajectory(line(), conditions, true),
+            marker -> marker,
+            isDone -> !isDone,
+            speed -> speed / 2
+        )
+            .compile();
+
+        // the array is copied, so replacing the condition doesn't matter
+        conditions[0] = () -> true;
+
+        Assertions.assertTrue(trajectory.isDone(PointXYZ.ZERO));
+        Assertions.assertEquals(0.25, trajectory.speed(PointXYZ.ZERO));
+        finished.set(true);
+        Assertions.assertFalse(trajectory.isDone(PointXYZ.ZERO));
+    }
+
+    @Test
+    public void testRequirementKeepsTrajectoryActive() {
+        AtomicBoolean active = new AtomicBoolean(true);
+        Trajectory trajectory = line().addRequirement(active::get);
+
+        // this used to be added as an end condition, meaning the trajectory
+        // would finish as soon as the requirement was met
+        Assertions.assertFalse(trajectory.isDone(PointXYZ.ZERO));
+        active.set(false);
+        Assertions.assertTrue(trajectory.isDone(PointXYZ.ZERO));
+    }
+
+    @Test
+    public void testCompileMultiSegmentTrajectory() {
+        LinearTrajectory first = line();
+        Trajectory second = line().reflectX(0).reflectY(0);
+        MultiSegmentTrajectory compiled = new MultiSegmentTrajectory(
+            first,
+            second
+        )
+            .compile();
+
+        Trajectory compiledSecond = compiled.getTrajectories().get(1);
+
+        Assertions.assertSame(first, compiled.getTrajectories().get(0));
+        Assertions.assertTrue(compiledSecond instanceof TransformedTrajectory);
+        Assertions.assertTrue(
+            ((DecoratedTrajectory) compiledSecond).getWrapped() instanceof
+            LinearTrajectory
+        );
+    }
+
+    @Test
+    public void testUndecoratedTrajectoryCompilesToItself() {
+        LinearTrajectory trajectory = line();
+
+        Assertions.assertSame(trajectory, trajectory.compile());
+    }
+}
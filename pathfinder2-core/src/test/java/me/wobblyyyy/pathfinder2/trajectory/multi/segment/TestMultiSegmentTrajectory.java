@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.multi.segment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.geometry.Translation;
+import me.wobblyyyy.pathfinder2.time.ManualClock;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.TaskTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.TimedTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.Trajectory;
+import me.wobblyyyy.pathfinder2.trajectory.TranslationalTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.multi.target.MultiTargetBuilder;
+import me.wobblyyyy.pathfinder2.trajectory.multi.target.MultiTargetTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.multi.target.TargetPrecision;
+import me.wobblyyyy.pathfinder2.trajectory.spline.AdvancedSplineTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.spline.AdvancedSplineTrajectoryBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestMultiSegmentTrajectory {
+
+    private static LinearTrajectory line(double x, double y) {
+        return new LinearTrajectory(
+            new PointXYZ(x, y, 0),
+            0.5,
+            1,
+            Angle.fromDeg(5)
+        );
+    }
+
+    @Test
+    public void testAdvancesThroughArraySegments() {
+        // created with varargs, which used to be backed by Arrays.asList
+        MultiSegmentTrajectory trajectory = new MultiSegmentTrajectory(
+            line(10, 0),
+            line(10, 10)
+        );
+
+        Assertions.assertFalse(trajectory.isDone(new PointXYZ(0, 0, 0)));
+        Assertions.assertEquals(
+            new PointXYZ(10, 0, 0),
+            trajectory.nextMarker(PointXYZ.ZERO)
+        );
+        Assertions.assertFalse(trajectory.isDone(new PointXYZ(10, 0, 0)));
+        Assertions.assertEquals(1, trajectory.getSegmentIndex());
+        Assertions.assertEquals(
+            new PointXYZ(10, 10, 0),
+            trajectory.nextMarker(PointXYZ.ZERO)
+        );
+        Assertions.assertTrue(trajectory.isDone(new PointXYZ(10, 10, 0)));
+        Assertions.assertEquals(0, trajectory.speed(PointXYZ.ZERO));
+    }
+
+    @Test
+    public void testDoesNotModifyList() {
+        List<Trajectory> segments = new ArrayList<>(
+            Arrays.asList(line(10, 0), line(10, 10))
+        );
+        MultiSegmentTrajectory trajectory = new MultiSegmentTrajectory(
+            segments
+        );
+
+        trajectory.isDone(new PointXYZ(10, 0, 0));
+        trajectory.skip();
+
+        Assertions.assertEquals(2, segments.size());
+        Assertions.assertEquals(0, trajectory.getTrajectories().size());
+        Assertions.assertTrue(trajectory.isDone(PointXYZ.ZERO));
+    }
+
+    @Test
+    public void testResetReplaysSegments() {
+        MultiTargetTrajectory targets = new MultiTargetTrajectory(
+            new MultiTargetBuilder()
+                .setPrecision(TargetPrecision.FAST)
+                .setSpeed(0.5)
+                .setTolerance(1)
+                .setAngleTolerance(Angle.fromDeg(5))
+                .addTargetPoint(new PointXYZ(0, 10, 0))
+                .build()
+        );
+        MultiSegmentTrajectory trajectory = new MultiSegmentTrajectory(
+            line(10, 0),
+            targets
+        );
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(2, trajectory.getTrajectories().size());
+
+            trajectory.isDone(new PointXYZ(10, 0, 0));
+            trajectory.nextMarker(new PointXYZ(10, 0, 0));
+            trajectory.nextMarker(new PointXYZ(0, 10, 0));
+
+            Assertions.assertTrue(trajectory.isDone(new PointXYZ(0, 10, 0)));
+
+            trajectory.reset();
+
+            Assertions.assertEquals(0, trajectory.getSegmentIndex());
+            Assertions.assertFalse(targets.isDone(PointXYZ.ZERO));
+        }
+    }
+
+    @Test
+    public void testResetReplaysSplineAndTimedSegments() {
+        ManualClock clock = new ManualClock();
+        PointXYZ end = new PointXYZ(10, 10, 0);
+        AdvancedSplineTrajectory spline = new AdvancedSplineTrajectoryBuilder()
+            .setStep(0.5)
+            .setSpeed(0.5)
+            .setTolerance(1)
+            .setAngleTolerance(Angle.fromDeg(5))
+            .add(new PointXYZ(0, 0, 0))
+            .add(new PointXYZ(5, 3, 0))
+            .add(end)
+            .build();
+        TimedTrajectory timed = new TimedTrajectory(
+            new Translation(0, 1, 0),
+            100,
+            0.5,
+            1,
+            clock
+        );
+        MultiSegmentTrajectory trajectory = new MultiSegmentTrajectory(
+            spline,
+            timed
+        );
+
+        for (int i = 0; i < 3; i++) {
+            // the spline is done, and the timed segment starts its timer
+            Assertions.assertFalse(trajectory.isDone(end));
+            Assertions.assertFalse(trajectory.isDone(end));
+            Assertions.assertEquals(1, trajectory.getSegmentIndex());
+
+            clock.advanceMs(150);
+            Assertions.assertTrue(trajectory.isDone(end));
+
+            trajectory.reset();
+
+            Assertions.assertEquals(0, trajectory.getSegmentIndex());
+            Assertions.assertFalse(spline.isDone(PointXYZ.ZERO));
+            Assertions.assertFalse(timed.isDone(PointXYZ.ZERO));
+        }
+    }
+
+    @Test
+    public void testResetTaskAndTranslationalTrajectories() {
+        AtomicInteger finished = new AtomicInteger(0);
+        TaskTrajectory task = new TaskTrajectory(
+            () -> {},
+            () -> {},
+            finished::incrementAndGet,
+            () -> true,
+            // the minimum time is exclusive, so use -1 to make the task
+            // finish right away, even if no time has passed
+            -1,
+            Double.MAX_VALUE
+        );
+
+        Assertions.assertTrue(task.isDone(PointXYZ.ZERO));
+        Assertions.assertTrue(task.isDone(PointXYZ.ZERO));
+        Assertions.assertEquals(1, finished.get());
+
+        task.reset();
+        Assertions.assertTrue(task.isDone(PointXYZ.ZERO));
+        Assertions.assertEquals(2, finished.get());
+
+        AtomicBoolean shouldBeDone = new AtomicBoolean(true);
+        TranslationalTrajectory translational = new TranslationalTrajectory()
+            .setShouldBeDone(shouldBeDone::get);
+
+        Assertions.assertTrue(translational.isDone(PointXYZ.ZERO));
+        shouldBeDone.set(false);
+        Assertions.assertTrue(translational.isDone(PointXYZ.ZERO));
+
+        translational.reset();
+        Assertions.assertFalse(translational.isDone(PointXYZ.ZERO));
+    }
+}
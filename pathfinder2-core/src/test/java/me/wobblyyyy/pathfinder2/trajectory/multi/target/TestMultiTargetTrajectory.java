@@ -46,4 +46,50 @@ public void testMultiTargetTrajectory() {
         PointXYZ h = trajectory.nextMarker(new PointXYZ(-10, -10, 0));
         Assertions.assertTrue(trajectory.isDone(new PointXYZ(-10, -10, 0)));
     }
+
+    @Test
+    public void testReset() {
+        TrajectoryTarget[] targets = new MultiTargetBuilder()
+            .setPrecision(TargetPrecision.PRECISE)
+            .setSpeed(0.5)
+            .setTolerance(2.0)
+            .setAngleTolerance(Angle.fromDeg(5))
+            .addTargetPoint(new PointXYZ(10, 0, 0))
+            .addTargetPoint(new PointXYZ(10, 10, 0))
+            .build();
+
+        MultiTargetTrajectory trajectory = new MultiTargetTrajectory(targets);
+
+        for (int i = 0; i < 3; i++) {
+            trajectory.nextMarker(new PointXYZ(0, 0, 0));
+            trajectory.nextMarker(new PointXYZ(10, 0, 0));
+            Assertions.assertEquals(1, trajectory.getTargetIndex());
+            trajectory.nextMarker(new PointXYZ(10, 10, 0));
+            Assertions.assertTrue(trajectory.isDone(new PointXYZ(10, 10, 0)));
+
+            trajectory.reset();
+
+            Assertions.assertFalse(trajectory.isDone(PointXYZ.ZERO));
+            Assertions.assertEquals(0, trajectory.getTargetIndex());
+        }
+    }
+
+    @Test
+    public void testPreciseTargetAcceptsNegativeAngleDelta() {
+        TrajectoryTarget[] targets = new MultiTargetBuilder()
+            .setPrecision(TargetPrecision.PRECISE)
+            .setSpeed(0.5)
+            .setTolerance(2.0)
+            .setAngleTolerance(Angle.fromDeg(5))
+            .addTargetPoint(new PointXYZ(10, 0, 10))
+            .build();
+
+        MultiTargetTrajectory trajectory = new MultiTargetTrajectory(targets);
+
+        trajectory.nextMarker(new PointXYZ(0, 0, 0));
+        trajectory.nextMarker(new PointXYZ(10.5, 0, 12));
+
+        // 2 degrees past the target is still within tolerance
+        Assertions.assertTrue(trajectory.isDone(new PointXYZ(10.5, 0, 12)));
+    }
 }
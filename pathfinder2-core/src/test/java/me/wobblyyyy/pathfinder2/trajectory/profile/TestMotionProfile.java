@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.profile;
+
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.trajectory.LinearTrajectory;
+import me.wobblyyyy.pathfinder2.trajectory.baked.TrajectoryTable;
+import me.wobblyyyy.pathfinder2.trajectory.multi.segment.MultiSegmentTrajectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestMotionProfile {
+
+    private static void assertRespectsConstraints(MotionProfile profile) {
+        MotionConstraints c = profile.getConstraints();
+        double duration = profile.getDuration();
+        double dt = duration / 2_000;
+        double lastPosition = 0;
+        double lastVelocity = 0;
+        double lastAcceleration = 0;
+
+        for (int i = 1; i <= 2_000; i++) {
+            double t = i * dt;
+            double position = profile.positionAt(t);
+            double velocity = profile.velocityAt(t);
+            double acceleration = profile.accelerationAt(t);
+
+            Assertions.assertTrue(position >= lastPosition - 1e-9);
+            Assertions.assertTrue(velocity <= c.getMaxVelocity() + 1e-9);
+            Assertions.assertTrue(
+                Math.abs(acceleration) <= c.getMaxAcceleration() + 1e-9
+            );
+
+            // velocity is the derivative of position, and acceleration is
+            // the derivative of velocity
+            Assertions.assertEquals(
+                (lastVelocity + velocity) / 2,
+                (position - lastPosition) / dt,
+                c.getMaxAcceleration() * dt + 1e-6
+            );
+
+            if (c.isJerkLimited()) Assertions.assertTrue(
+                Math.abs(acceleration - lastAcceleration) <=
+                (c.getMaxJerk() * dt) + 1e-6
+            );
+
+            lastPosition = position;
+            lastVelocity = velocity;
+            lastAcceleration = acceleration;
+        }
+
+        Assertions.assertEquals(
+            profile.getDistance(),
+            profile.positionAt(duration),
+            1e-6
+        );
+        Assertions.assertEquals(0, profile.velocityAt(duration));
+    }
+
+    @Test
+    public void testTrapezoidalProfile() {
+        MotionProfile profile = new MotionProfile(
+            100,
+            MotionConstraints.trapezoidal(20, 10)
+        );
+
+        // 2 seconds to accelerate, 2 to decelerate, and 40 units at
+        // 20 units per second in between
+        Assertions.assertEquals(20, profile.getPeakVelocity(), 1e-9);
+        Assertions.assertEquals(7, profile.getDuration(), 1e-9);
+        Assertions.assertEquals(10, profile.accelerationAt(1), 1e-9);
+        Assertions.assertEquals(20, profile.velocityAt(3.5), 1e-9);
+        Assertions.assertEquals(50, profile.positionAt(3.5), 1e-9);
+        assertRespectsConstraints(profile);
+    }
+
+    @Test
+    public void testTriangularProfile() {
+        MotionProfile profile = new MotionProfile(
+            10,
+            MotionConstraints.trapezoidal(20, 10)
+        );
+
+        Assertions.assertEquals(10, profile.getPeakVelocity(), 1e-9);
+        Assertions.assertEquals(2, profile.getDuration(), 1e-9);
+        assertRespectsConstraints(profile);
+    }
+
+    @Test
+    public void testSCurveProfiles() {
+        double[] distances = { 0.01, 1, 5, 30, 100, 1_000 };
+
+        for (double distance : distances) {
+            assertRespectsConstraints(
+                new MotionProfile(
+                    distance,
+                    MotionConstraints.sCurve(20, 10, 40)
+                )
+            );
+            assertRespectsConstraints(
+                new MotionProfile(
+                    distance,
+                    MotionConstraints.sCurve(20, 10, 2)
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testSCurveIsSlowerThanTrapezoid() {
+        double trapezoid = new MotionProfile(
+            100,
+            MotionConstraints.trapezoidal(20, 10)
+        )
+            .getDuration();
+        double sCurve = new MotionProfile(
+            100,
+            MotionConstraints.sCurve(20, 10, 40)
+        )
+            .getDuration();
+
+        Assertions.assertTrue(sCurve > trapezoid);
+        // if the robot reaches its maximum velocity, limiting jerk adds
+        // (max acceleration / max jerk) seconds to the profile
+        Assertions.assertEquals(trapezoid + 0.25, sCurve, 1e-9);
+    }
+
+    @Test
+    public void testZeroDistance() {
+        MotionProfile profile = new MotionProfile(
+            0,
+            MotionConstraints.trapezoidal(20, 10)
+        );
+
+        Assertions.assertEquals(0, profile.getDuration());
+        Assertions.assertEquals(0, profile.positionAt(1));
+        Assertions.assertEquals(0, profile.velocityAt(1));
+    }
+
+    @Test
+    public void testInvalidConstraints() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> MotionConstraints.trapezoidal(0, 10)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> MotionConstraints.sCurve(10, 10, -1)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new MotionProfile(-1, MotionConstraints.trapezoidal(1, 1))
+        );
+    }
+
+    @Test
+    public void testProfileTable() {
+        MotionProfile profile = new MotionProfile(
+            100,
+            MotionConstraints.sCurve(20, 10, 40)
+        );
+        ProfileTable table = profile.sample(0.01);
+
+        Assertions.assertEquals(profile.getDuration(), table.getDuration());
+        Assertions.assertEquals(0, table.position(0));
+        Assertions.assertEquals(
+            100,
+            table.position(table.size() - 1),
+            1e-6
+        );
+
+        for (double t = 0; t < profile.getDuration(); t += 0.0137) {
+            Assertions.assertEquals(
+                profile.positionAt(t),
+                table.positionAt(t),
+                0.01
+            );
+            Assertions.assertEquals(
+                profile.velocityAt(t),
+                table.velocityAt(t),
+                0.01
+            );
+        }
+    }
+
+    private static LinearTrajectory line(PointXYZ target) {
+        return new LinearTrajectory(target, 0.5, 1, Angle.fromDeg(5));
+    }
+
+    @Test
+    public void testMultiSegmentPath() {
+        MultiSegmentTrajectory trajectory = new MultiSegmentTrajectory(
+            line(new PointXYZ(10, 0, 0)),
+            line(new PointXYZ(10, 10, 90))
+        );
+        MotionProfileGenerator generator = new MotionProfileGenerator(
+            MotionConstraints.trapezoidal(20, 10)
+        )
+            .setSpacing(1);
+
+        TrajectoryTable path = generator.toPath(PointXYZ.ZERO, trajectory);
+
+        Assertions.assertEquals(20, path.length(), 1e-9);
+        Assertions.assertEquals(21, path.size());
+        Assertions.assertEquals(10, path.x(path.size() - 1), 1e-9);
+        Assertions.assertEquals(10, path.y(path.size() - 1), 1e-9);
+        Assertions.assertEquals(90, path.heading(path.size() - 1), 1e-9);
+
+        // one profile over both segments: the robot doesn't stop at the
+        // corner, so it's faster than two separate profiles
+        double single = generator.profile(path).getDuration();
+        double separate =
+            2 * new MotionProfile(10, generator.getConstraints()).getDuration();
+
+        Assertions.assertTrue(single < separate);
+    }
+}
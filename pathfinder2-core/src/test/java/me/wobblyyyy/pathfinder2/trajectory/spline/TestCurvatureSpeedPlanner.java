@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.trajectory.spline;
+
+import java.util.List;
+import me.wobblyyyy.pathfinder2.geometry.Angle;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
+import me.wobblyyyy.pathfinder2.math.MonotoneCubicSpline;
+import me.wobblyyyy.pathfinder2.math.Spline;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCurvatureSpeedPlanner {
+    private static final double MAX_VELOCITY = 50;
+    private static final double MAX_ACCELERATION = 40;
+
+    private static CurvatureSpeedPlanner planner() {
+        return new CurvatureSpeedPlanner(MAX_VELOCITY, 30, MAX_ACCELERATION);
+    }
+
+    private static Spline curve() {
+        return new MonotoneCubicSpline(
+            new double[] { 0, 20, 25, 30, 50 },
+            new double[] { 0, 1, 10, 19, 20 }
+        );
+    }
+
+    private static void assertRespectsAcceleration(Spline path) {
+        assertRespectsAcceleration(planner(), path);
+    }
+
+    private static void assertRespectsAcceleration(
+        CurvatureSpeedPlanner planner,
+        Spline path
+    ) {
+        List<PointXY> points = planner.planPoints(path);
+
+        for (int i = 1; i < points.size(); i++) {
+            PointXY a = points.get(i - 1);
+            PointXY b = points.get(i);
+            double ds = Math.hypot(
+                b.x() - a.x(),
+                path.interpolateY(b.x()) - path.interpolateY(a.x())
+            );
+            double va = a.y() * MAX_VELOCITY;
+            double vb = b.y() * MAX_VELOCITY;
+
+            Assertions.assertTrue(
+                Math.abs((vb * vb) - (va * va)) <=
+                (2 * MAX_ACCELERATION * ds) + 1e-6
+            );
+        }
+    }
+
+    @Test
+    public void testStraightPath() {
+        // a monotone cubic spline with two control points is a straight
+        // line
+        Spline speeds = planner()
+            .plan(
+                new MonotoneCubicSpline(
+                    new double[] { 0, 100 },
+                    new double[] { 0, 50 }
+                )
+            );
+
+        // starts and ends slowly, and reaches full speed in the middle
+        Assertions.assertEquals(0.1, speeds.interpolateY(0), 1e-9);
+        Assertions.assertEquals(0.1, speeds.interpolateY(100), 1e-9);
+        Assertions.assertEquals(1, speeds.interpolateY(50), 1e-9);
+    }
+
+    @Test
+    public void testSlowsDownForCurves() {
+        Spline speeds = planner().plan(curve());
+
+        double straight = speeds.interpolateY(10);
+        double curved = speeds.interpolateY(27);
+
+        Assertions.assertTrue(curved < straight);
+        Assertions.assertTrue(curved < 0.5);
+    }
+
+    @Test
+    public void testRespectsAccelerationLimits() {
+        assertRespectsAcceleration(curve());
+        assertRespectsAcceleration(
+            new MonotoneCubicSpline(
+                new double[] { 0, -10, -20 },
+                new double[] { 0, 5, 30 }
+            )
+        );
+    }
+
+    @Test
+    public void testEndpointsBelowMinSpeed() {
+        CurvatureSpeedPlanner planner = planner()
+            .setMinSpeed(0.5)
+            .setStartSpeed(0.05)
+            .setEndSpeed(0.1);
+        Spline path = new MonotoneCubicSpline(
+            new double[] { 0, 100 },
+            new double[] { 0, 50 }
+        );
+        Spline speeds = planner.plan(path);
+
+        Assertions.assertEquals(0.05, speeds.interpolateY(0), 1e-9);
+        Assertions.assertEquals(0.1, speeds.interpolateY(100), 1e-9);
+        Assertions.assertEquals(1, speeds.interpolateY(50), 1e-9);
+        assertRespectsAcceleration(planner, path);
+    }
+
+    @Test
+    public void testSpeedSplineBuilder() {
+        Spline path = curve();
+        Spline planned = new SpeedSplineBuilder(0, 50)
+            .addPlanned(path, planner())
+            .build();
+        Spline expected = planner().plan(path);
+
+        for (double x = 0; x <= 50; x += 0.7) Assertions.assertEquals(
+            expected.interpolateY(x),
+            planned.interpolateY(x),
+            1e-9
+        );
+    }
+
+    @Test
+    public void testAdvancedSplineTrajectoryBuilder() {
+        AdvancedSplineTrajectory trajectory =
+            new AdvancedSplineTrajectoryBuilder()
+            .setStep(0.5)
+            .setTolerance(0.5)
+            .setAngleTolerance(Angle.fromDeg(5))
+            .setSpeedPlanner(planner())
+            .add(new PointXYZ(0, 0, 0))
+            .add(new PointXYZ(20, 1, 0))
+            .add(new PointXYZ(25, 10, 0))
+            .add(new PointXYZ(30, 19, 0))
+            .add(new PointXYZ(50, 20, 0))
+            .build();
+
+        double straight = trajectory.speed(new PointXYZ(10, 0.5, 0));
+        double curved = trajectory.speed(new PointXYZ(27, 14, 0));
+
+        Assertions.assertTrue(curved < straight);
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new CurvatureSpeedPlanner(0, 1, 1)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> planner().setMinSpeed(0)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> planner().setMaxSpeed(1.5)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.zones;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import me.wobblyyyy.pathfinder2.Pathfinder;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.geometry.Rectangle;
+import me.wobblyyyy.pathfinder2.pathgen.GridScaling;
+import me.wobblyyyy.pathfinder2.pathgen.OccupancyGrid;
+import me.wobblyyyy.pathfinder2.robot.simulated.SimulatedRobot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestZoneProcessor {
+
+    private static Zone recordingZone(
+        Rectangle shape,
+        String name,
+        List<String> events
+    ) {
+        return new Zone(shape) {
+            @Override
+            public void onEnter(Pathfinder pathfinder) {
+                events.add("enter " + name);
+            }
+
+            @Override
+            public void onExit(Pathfinder pathfinder) {
+                events.add("exit " + name);
+            }
+        };
+    }
+
+    @Test
+    public void testReplacedZoneIsExitedAndEntered() {
+        Pathfinder pathfinder = Pathfinder.newSimulatedPathfinder(0.01);
+        SimulatedRobot robot = (SimulatedRobot) pathfinder.getOdometry();
+        ZoneProcessor processor = new ZoneProcessor();
+        List<String> events = new ArrayList<>();
+
+        robot.setPosition(5, 5, 0);
+        processor.addZone(
+            "zone",
+            recordingZone(new Rectangle(0, 0, 10, 10), "a", events)
+        );
+        processor.update(pathfinder);
+
+        // the robot is inside of both the old and the new zone
+        processor.replaceZone(
+            "zone",
+            recordingZone(new Rectangle(2, 2, 12, 12), "b", events)
+        );
+        processor.update(pathfinder);
+
+        robot.setPosition(20, 20, 0);
+        processor.update(pathfinder);
+
+        Assertions.assertEquals(
+            Arrays.asList("enter a", "enter b", "exit a", "exit b"),
+            events
+        );
+    }
+
+    @Test
+    public void testRemovingTheLastZoneExitsIt() {
+        Pathfinder pathfinder = Pathfinder.newSimulatedPathfinder(0.01);
+        SimulatedRobot robot = (SimulatedRobot) pathfinder.getOdometry();
+        ZoneProcessor processor = new ZoneProcessor();
+        List<String> events = new ArrayList<>();
+
+        robot.setPosition(5, 5, 0);
+        processor.addZone(
+            "zone",
+            recordingZone(new Rectangle(0, 0, 10, 10), "a", events)
+        );
+        processor.update(pathfinder);
+        processor.removeZone("zone");
+        processor.update(pathfinder);
+
+        Assertions.assertEquals(Arrays.asList("enter a", "exit a"), events);
+    }
+
+    @Test
+    public void testSharedZoneStaysInGrid() {
+        OccupancyGrid grid = new OccupancyGrid(
+            new Rectangle(0, 0, 30, 20),
+            new GridScaling(0.5)
+        );
+        ZoneProcessor processor = new ZoneProcessor();
+        Zone shared = new Zone(new Rectangle(10, 10, 14, 14));
+        PointXY inside = new PointXY(12, 12);
+
+        processor.setOccupancyGrid(grid);
+        processor.addZone("first", shared);
+        processor.addZone("second", shared);
+
+        processor.removeZone("first");
+        Assertions.assertTrue(grid.isBlocked(inside));
+
+        processor.replaceZone("second", new Zone(new Rectangle(0, 0, 2, 2)));
+        Assertions.assertFalse(grid.isBlocked(inside));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.math;
+
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link MonotoneCubicSpline#interpolateY(double)} to the linear
+ * segment search it used to use, with splines of different sizes.
+ *
+ * <ul>
+ *     <li>{@code sweep}: x values that slowly increase, like they would
+ *     while a robot is following a spline. This is the case the segment
+ *     cache is for.</li>
+ *     <li>{@code random}: x values in a random order, so the segment cache
+ *     (almost) always misses and a binary search is used.</li>
+ *     <li>{@code legacy}: the old {@code interpolateY}, with its linear
+ *     search and Hermite evaluation, and the same x values as
+ *     {@code sweep}.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class BenchmarkMonotoneCubicSpline {
+    private static final int QUERIES = 1_024;
+
+    @Param({ "4", "16", "64", "500" })
+    public int points;
+
+    private MonotoneCubicSpline spline;
+    private double[] x;
+    private double[] y;
+    private double[] m;
+    private double[] sweep;
+    private double[] random;
+
+    @Setup
+    public void setup() {
+        x = new double[points];
+        y = new double[points];
+
+        for (int i = 0; i < points; i++) {
+            x[i] = i;
+            y[i] = i + Math.sqrt(i);
+        }
+
+        // the tangents don't have to be the exact (monotonicity-adjusted)
+        // ones the spline uses: they don't change how long evaluating the
+        // spline takes, only the result
+        m = new double[points];
+        for (int i = 0; i < points; i++) {
+            int before = Math.max(0, i - 1);
+            int after = Math.min(points - 1, i + 1);
+            m[i] = (y[after] - y[before]) / (x[after] - x[before]);
+        }
+
+        spline = new MonotoneCubicSpline(x, y);
+        sweep = new double[QUERIES];
+        random = new double[QUERIES];
+
+        Random rng = new Random(0);
+        for (int i = 0; i < QUERIES; i++) {
+            sweep[i] = (points - 1) * (double) i / QUERIES;
+            random[i] = rng.nextDouble() * (points - 1);
+        }
+    }
+
+    /**
+     * What {@code interpolateY} used to do: start at the first segment,
+     * walk forwards until the right one is found, and then evaluate the
+     * Hermite polynomial for that segment.
+     */
+    private double legacyInterpolateY(double value) {
+        final int n = x.length;
+
+        if (Double.isNaN(value)) {
+            return value;
+        } else if (value <= x[0]) {
+            return y[0];
+        } else if (value >= x[n - 1]) {
+            return y[n - 1];
+        }
+
+        int i = 0;
+        while (value >= x[i + 1]) {
+            i += 1;
+
+            if (value == x[i]) return y[i];
+        }
+
+        double h = x[i + 1] - x[i];
+        double t = (value - x[i]) / h;
+
+        return (
+            (y[i] * (1 + 2 * t) + h * m[i] * t) *
+            (1 - t) *
+            (1 - t) +
+            (y[i + 1] * (3 - 2 * t) + h * m[i + 1] * (t - 1)) *
+            t *
+            t
+        );
+    }
+
+    @Benchmark
+    public void sweep(Blackhole bh) {
+        for (double value : sweep) bh.consume(spline.interpolateY(value));
+    }
+
+    @Benchmark
+    public void random(Blackhole bh) {
+        for (double value : random) bh.consume(spline.interpolateY(value));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        for (double value : sweep) bh.consume(legacyInterpolateY(value));
+    }
+}
@@ -11,6 +11,7 @@
 package me.wobblyyyy.pathfinder2.geometry;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
 import me.wobblyyyy.pathfinder2.exceptions.InvalidToleranceException;
 import me.wobblyyyy.pathfinder2.exceptions.NullAngleException;
 import me.wobblyyyy.pathfinder2.logging.Logger;
@@ -147,6 +148,13 @@ public class Angle implements Comparable<Angle>, Serializable {
      */
     public static final double MAX_DEG_10X = MAX_DEG * 10;
 
+    /**
+     * A count of how many instances of the ANGLE class have been created.
+     * Angles can be created on several threads at once, so this is a
+     * {@link LongAdder}: use {@link LongAdder#sum()} to read it.
+     */
+    public static final LongAdder COUNT = new LongAdder();
+
     /**
      * {@link #fromDeg(double)} with an angle of 0
      */
@@ -237,11 +245,6 @@ public class Angle implements Comparable<Angle>, Serializable {
      */
     public static final Angle TWO_PI = Angle.fromDeg(360);
 
-    /**
-     * A count of how many instances of the ANGLE class have been created.
-     */
-    public static long COUNT = 0;
-
     /**
      * Angle stored in radians.
      */
@@ -280,7 +283,7 @@ protected Angle(double rad, double deg) {
         ValidationUtils.validate(rad, "rad");
         ValidationUtils.validate(deg, "deg");
 
-        COUNT++;
+        COUNT.increment();
 
         this.rad = rad;
         this.deg = deg;
@@ -766,16 +769,29 @@ public static double minimumDelta(Angle a, Angle b) {
             b
         );
 
-        double aDeg = a.fix().deg;
-        double bDeg = b.fix().deg;
+        return minimumDelta(a.deg, b.deg);
+    }
+
+    /**
+     * Get the minimum delta between two angles, both in degrees. This does
+     * the exact same thing as {@link #minimumDelta(Angle, Angle)}, but it
+     * doesn't create any {@code Angle}s while doing so.
+     *
+     * @param aDeg the first of the two angles, in degrees.
+     * @param bDeg the second of the two angles, in degrees.
+     * @return the minimum delta between the two angles, in degrees.
+     */
+    public static double minimumDelta(double aDeg, double bDeg) {
+        double fixedA = fixDeg(aDeg);
+        double fixedB = fixDeg(bDeg);
 
-        double delta = bDeg - aDeg;
+        double delta = fixedB - fixedA;
 
         if (Math.abs(delta) > 180) {
-            aDeg = a.flip().fix().deg;
-            bDeg = b.flip().fix().deg;
+            fixedA = fixDeg(aDeg + 180);
+            fixedB = fixDeg(bDeg + 180);
 
-            delta = bDeg - aDeg;
+            delta = fixedB - fixedA;
         }
 
         return delta;
@@ -33,6 +33,72 @@ public Circle(PointXY center, double radius) {
         this.radius = radius;
     }
 
+    /**
+     * Find where a line segment leaves a circle. The segment goes from
+     * point A to point B, and the returned value is how far along the
+     * segment the intersection is: 0 is point A, and 1 is point B.
+     *
+     * <p>
+     * A segment can cross a circle's edge twice. This returns the
+     * intersection that's closest to point B, which is the one you want
+     * if you're looking for the point on a path that's a certain distance
+     * ahead of the robot (the path enters the circle behind the robot and
+     * leaves it in front of the robot).
+     * </p>
+     *
+     * <p>
+     * This works with plain numbers instead of objects, so it doesn't
+     * allocate anything, and it can be called for lots of segments every
+     * tick without creating any garbage.
+     * </p>
+     *
+     * @param cx     the X value of the circle's center.
+     * @param cy     the Y value of the circle's center.
+     * @param radius the circle's radius.
+     * @param ax     the X value of the segment's start point.
+     * @param ay     the Y value of the segment's start point.
+     * @param bx     the X value of the segment's end point.
+     * @param by     the Y value of the segment's end point.
+     * @return how far along the segment the furthest intersection is, from
+     * 0 to 1. If the segment doesn't cross the circle's edge, this is -1.
+     */
+    public static double segmentIntersection(
+        double cx,
+        double cy,
+        double radius,
+        double ax,
+        double ay,
+        double bx,
+        double by
+    ) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double fx = ax - cx;
+        double fy = ay - cy;
+
+        // solve |A + t(B - A) - C|^2 = r^2 for t
+        double a = (dx * dx) + (dy * dy);
+        double b = 2 * ((fx * dx) + (fy * dy));
+        double c = (fx * fx) + (fy * fy) - (radius * radius);
+
+        if (a == 0) return -1;
+
+        double discriminant = (b * b) - (4 * a * c);
+
+        if (discriminant < 0) return -1;
+
+        double root = Math.sqrt(discriminant);
+        double far = (-b + root) / (2 * a);
+
+        if (far >= 0 && far <= 1) return far;
+
+        double near = (-b - root) / (2 * a);
+
+        if (near >= 0 && near <= 1) return near;
+
+        return -1;
+    }
+
     @Override
     public PointXY getClosestPoint(PointXY reference) {
         if (isPointInShape(reference)) {
@@ -88,4 +154,13 @@ public Circle scale(double scale) {
     public Circle growBy(double growth) {
         return new Circle(center, radius + growth);
     }
+
+    /**
+     * Get the circle's radius.
+     *
+     * @return the circle's radius.
+     */
+    public double getRadius() {
+        return radius;
+    }
 }
@@ -240,6 +240,44 @@ public static PointXY midpoint(Line line) {
         return line.start.midpoint(line.end);
     }
 
+    /**
+     * Find the closest point on a line segment to a reference point, as a
+     * fraction of the way from the segment's start point to its end point.
+     * This does the same thing as {@link #getClosestPoint(PointXY, Line)},
+     * but it works with plain numbers instead of objects, so it doesn't
+     * allocate anything. That makes it useful for code that has to check
+     * lots of segments every tick, like a follower looking for the closest
+     * point on a path.
+     *
+     * @param ax the X value of the segment's start point.
+     * @param ay the Y value of the segment's start point.
+     * @param bx the X value of the segment's end point.
+     * @param by the Y value of the segment's end point.
+     * @param px the X value of the reference point.
+     * @param py the Y value of the reference point.
+     * @return how far along the segment the closest point is, from 0 (the
+     * start point) to 1 (the end point). If the segment's start and end
+     * points are the same, this is 0.
+     */
+    public static double closestFraction(
+        double ax,
+        double ay,
+        double bx,
+        double by,
+        double px,
+        double py
+    ) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = (dx * dx) + (dy * dy);
+
+        if (lengthSquared == 0) return 0;
+
+        double t = (((px - ax) * dx) + ((py - ay) * dy)) / lengthSquared;
+
+        return Math.max(0, Math.min(1, t));
+    }
+
     /**
      * Get the line's minimum X value.
      *
@@ -15,6 +15,7 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import me.wobblyyyy.pathfinder2.exceptions.InvalidToleranceException;
 import me.wobblyyyy.pathfinder2.math.Equals;
 import me.wobblyyyy.pathfinder2.utils.ArrayUtils;
@@ -62,13 +63,19 @@
  */
 @SuppressWarnings("DuplicatedCode")
 public class PointXY implements Comparable<PointXY>, Serializable {
+    /**
+     * A count of how many instances of the {@code PointXY} class (including
+     * its subclasses) have been created. Points can be created on several
+     * threads at once, so this is a {@link LongAdder}: use
+     * {@link LongAdder#sum()} to read it.
+     */
+    public static final LongAdder COUNT = new LongAdder();
+
     /**
      * A point with X and Y values of 0.
      */
     public static final PointXY ZERO = zero();
 
-    public static long COUNT = 0;
-
     /**
      * The point's X value.
      */
@@ -105,7 +112,7 @@ public PointXY(double x, double y) {
         ValidationUtils.validate(x, "x");
         ValidationUtils.validate(y, "y");
 
-        COUNT++;
+        COUNT.increment();
 
         this.x = x;
         this.y = y;
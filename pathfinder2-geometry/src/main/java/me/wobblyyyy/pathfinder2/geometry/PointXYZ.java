@@ -14,6 +14,7 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import me.wobblyyyy.pathfinder2.logging.Logger;
 import me.wobblyyyy.pathfinder2.math.Equals;
 import me.wobblyyyy.pathfinder2.utils.ArrayUtils;
@@ -36,6 +37,13 @@
  * @since 0.0.0
  */
 public class PointXYZ extends PointXY {
+    /**
+     * A count of how many instances of the {@code PointXYZ} class have been
+     * created. Points can be created on several threads at once, so this
+     * is a {@link LongAdder}: use {@link LongAdder#sum()} to read it.
+     */
+    public static final LongAdder COUNT = new LongAdder();
+
     /**
      * A point with...
      *
@@ -46,7 +54,7 @@ public class PointXYZ extends PointXY {
      * </ul>
      */
     public static final PointXYZ ZERO = new PointXYZ(0, 0, 0);
-    public static long COUNT = 0;
+
     /**
      * The point's angle, or heading, or whatever you want to call it.
      */
@@ -79,7 +87,7 @@ public PointXYZ(PointXY point, Angle z) {
      */
     public PointXYZ(double x, double y, Angle z) {
         super(x, y);
-        COUNT++;
+        COUNT.increment();
 
         if (z == null) throw new NullPointerException(
             "Cannot have a null Z value!"
@@ -349,7 +349,7 @@ public static Translation absoluteToRelative(
             absoluteTranslation.vz()
         );
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             Translation.class,
             "Converted absolute %s to relative %s (heading: %s)",
             absoluteTranslation,
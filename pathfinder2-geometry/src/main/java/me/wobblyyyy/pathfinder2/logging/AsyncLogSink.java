@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import me.wobblyyyy.pathfinder2.utils.ValidationUtils;
+
+/**
+ * An asynchronous sink for Pathfinder's logs. Normally, every log is
+ * formatted and written to the log output on whatever thread created the
+ * log - usually the thread that's ticking Pathfinder. If the output is
+ * slow (printing to a console, for example), that slows down the entire
+ * control loop.
+ *
+ * <p>
+ * Instead of formatting and writing logs right away, this sink stores the
+ * raw log (level, tag, template and arguments) in a bounded, preallocated,
+ * lock-free ring buffer. A background (daemon) thread takes logs out of
+ * the buffer, formats them, and writes them to the output. Submitting a
+ * log never takes a lock and never allocates anything.
+ * </p>
+ *
+ * <p>
+ * If logs are being submitted faster than they can be written, the buffer
+ * will eventually fill up. What happens then is determined by the sink's
+ * {@link LogDropPolicy}. Every log that gets thrown away is counted - see
+ * {@link #getDroppedCount()}.
+ * </p>
+ *
+ * <p>
+ * Because logs are formatted on the background thread, the arguments
+ * passed to a log are formatted after the log was submitted. Pathfinder's
+ * geometry classes are immutable, so this doesn't matter for them, but if
+ * you log a mutable object, the log will show whatever state the object
+ * was in when the log was formatted.
+ * </p>
+ *
+ * <p>
+ * You usually won't need to create one of these yourself - use
+ * {@link Logger#enableAsyncLogging(int, LogDropPolicy)} instead.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class AsyncLogSink {
+    /**
+     * The default capacity of the sink's buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final long IDLE_PARK_NS = 1_000_000;
+    private static final long BLOCKED_PARK_NS = 50_000;
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final int capacity;
+    private final int mask;
+    private final LogDropPolicy dropPolicy;
+    private final Consumer<String> target;
+
+    /*
+     * Bounded multi-producer multi-consumer queue (Dmitry Vyukov's design).
+     * Each slot has a sequence number: if a slot's sequence is equal to the
+     * tail position, it's free to write; if it's equal to the head position
+     * plus one, it's ready to be read. The only consumer, other than the
+     * drain thread, is a producer using DROP_OLDEST to make room.
+     */
+    private final AtomicLongArray sequences;
+    private final LogLevel[] levels;
+    private final String[] tags;
+    private final String[] templates;
+    private final Object[][] args;
+    private final AtomicLong head = new AtomicLong(0);
+    private final AtomicLong tail = new AtomicLong(0);
+
+    private final AtomicLong droppedNewest = new AtomicLong(0);
+    private final AtomicLong droppedOldest = new AtomicLong(0);
+    private volatile long writtenCount = 0;
+    private volatile long failedCount = 0;
+
+    private volatile boolean isRunning = false;
+    private Thread thread;
+
+    /**
+     * Create a new {@code AsyncLogSink} with the default capacity and the
+     * {@link LogDropPolicy#DROP_NEWEST} drop policy.
+     *
+     * @param target where formatted logs should be written.
+     */
+    public AsyncLogSink(Consumer<String> target) {
+        this(DEFAULT_CAPACITY, LogDropPolicy.DROP_NEWEST, target);
+    }
+
+    /**
+     * Create a new {@code AsyncLogSink}. This won't start the sink's
+     * background thread - use {@link #start()} for that.
+     *
+     * @param capacity   how many logs the sink can hold before it has to
+     *                   start dropping logs. This is rounded up to the
+     *                   next power of two.
+     * @param dropPolicy what to do when the buffer is full.
+     * @param target     where formatted logs should be written.
+     */
+    public AsyncLogSink(
+        int capacity,
+        LogDropPolicy dropPolicy,
+        Consumer<String> target
+    ) {
+        if (capacity < 2) throw new IllegalArgumentException(
+            "Capacity must be at least 2, but it was " + capacity
+        );
+        if (capacity > 1 << 30) throw new IllegalArgumentException(
+            "Capacity must be at most 2^30, but it was " + capacity
+        );
+
+        ValidationUtils.validate(dropPolicy, "dropPolicy");
+        ValidationUtils.validate(target, "target");
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+
+        this.capacity = size;
+        this.mask = size - 1;
+        this.dropPolicy = dropPolicy;
+        this.target = target;
+
+        this.sequences = new AtomicLongArray(size);
+        this.levels = new LogLevel[size];
+        this.tags = new String[size];
+        this.templates = new String[size];
+        this.args = new Object[size][];
+
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+    }
+
+    /**
+     * Start the sink's background thread. If the thread is already running,
+     * this does nothing.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public synchronized AsyncLogSink start() {
+        if (isRunning) return this;
+
+        isRunning = true;
+        thread = new Thread(this::drainLoop, "pathfinder2-async-log");
+        thread.setDaemon(true);
+        thread.start();
+
+        return this;
+    }
+
+    /**
+     * Stop the sink's background thread. Any logs that are still in the
+     * buffer will be written before the thread stops. This will wait (for
+     * up to {@code timeoutMs} milliseconds) for the thread to finish.
+     *
+     * @param timeoutMs the maximum amount of time to wait for the thread
+     *                  to finish writing logs, in milliseconds.
+     */
+    public synchronized void close(long timeoutMs) {
+        if (!isRunning) return;
+
+        isRunning = false;
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join(Math.max(1, timeoutMs));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        thread = null;
+    }
+
+    /**
+     * Stop the sink's background thread, waiting up to one second for any
+     * remaining logs to be written.
+     */
+    public void close() {
+        close(1_000);
+    }
+
+    /**
+     * Submit a log. The log will be formatted and written by the sink's
+     * background thread.
+     *
+     * @param level    the log's level.
+     * @param tag      the log's tag.
+     * @param template the log's message, or the format of the message if
+     *                 there are any arguments.
+     * @param args     arguments for the message's format. This array is
+     *                 stored (not copied), so it shouldn't be modified
+     *                 after being submitted.
+     * @return true if the log was added to the buffer, false if it was
+     * dropped because the buffer was full.
+     */
+    public boolean submit(
+        LogLevel level,
+        String tag,
+        String template,
+        Object[] args
+    ) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    levels[index] = level;
+                    tags[index] = tag;
+                    templates[index] = template;
+                    this.args[index] = args == null ? NO_ARGS : args;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // the buffer is full
+                switch (dropPolicy) {
+                    case DROP_NEWEST:
+                        droppedNewest.incrementAndGet();
+                        return false;
+                    case DROP_OLDEST:
+                        if (take(false)) droppedOldest.incrementAndGet();
+                        break;
+                    case BLOCK:
+                        if (!isRunning) {
+                            // nobody's going to make room
+                            droppedNewest.incrementAndGet();
+                            return false;
+                        }
+                        LockSupport.unpark(thread);
+                        LockSupport.parkNanos(this, BLOCKED_PARK_NS);
+                        break;
+                }
+            }
+            // otherwise, another thread claimed this slot first - try again
+        }
+    }
+
+    /**
+     * Take a single log out of the buffer.
+     *
+     * @param write if true, the log will be formatted and written. If
+     *              false, the log is thrown away.
+     * @return true if a log was taken, false if the buffer was empty.
+     */
+    private boolean take(boolean write) {
+        while (true) {
+            long position = head.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    LogLevel level = levels[index];
+                    String tag = tags[index];
+                    String template = templates[index];
+                    Object[] arguments = args[index];
+
+                    // don't keep the log's arguments alive any longer than
+                    // they need to be
+                    levels[index] = null;
+                    tags[index] = null;
+                    templates[index] = null;
+                    args[index] = null;
+                    sequences.lazySet(index, position + capacity);
+
+                    if (write) write(level, tag, template, arguments);
+
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    private void write(
+        LogLevel level,
+        String tag,
+        String template,
+        Object[] arguments
+    ) {
+        try {
+            target.accept(Logger.formatLog(level, tag, template, arguments));
+            writtenCount++;
+        } catch (RuntimeException e) {
+            // the background thread has to keep running even if the output
+            // throws an exception
+            failedCount++;
+        }
+    }
+
+    private void drainLoop() {
+        while (true) {
+            if (take(true)) continue;
+
+            if (!isRunning) {
+                // write anything submitted between the last take and
+                // the sink being stopped
+                while (take(true)) {}
+                return;
+            }
+
+            LockSupport.parkNanos(this, IDLE_PARK_NS);
+        }
+    }
+
+    /**
+     * Wait until every log that's been submitted so far has been written
+     * (or dropped).
+     *
+     * @param timeoutMs the maximum amount of time to wait, in milliseconds.
+     * @return true if every log was written, false if the timeout elapsed
+     * first.
+     */
+    public boolean flush(long timeoutMs) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + timeoutMs * 1_000_000;
+
+        while (getCompletedCount() < target) {
+            if (System.nanoTime() - deadline >= 0) return false;
+
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(this, BLOCKED_PARK_NS);
+        }
+
+        return true;
+    }
+
+    private long getCompletedCount() {
+        return writtenCount + failedCount + droppedOldest.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public LogDropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Get how many logs are currently waiting in the buffer.
+     *
+     * @return how many logs are waiting to be written.
+     */
+    public int getPendingCount() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * Get how many logs were added to the buffer.
+     *
+     * @return how many logs were submitted successfully.
+     */
+    public long getSubmittedCount() {
+        return tail.get();
+    }
+
+    /**
+     * Get how many logs were formatted and written to the output.
+     *
+     * @return how many logs were written.
+     */
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * Get how many logs couldn't be written because the output threw an
+     * exception.
+     *
+     * @return how many logs failed to be written.
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Get how many logs were thrown away because the buffer was full when
+     * they were submitted.
+     *
+     * @return how many new logs were dropped.
+     */
+    public long getDroppedNewestCount() {
+        return droppedNewest.get();
+    }
+
+    /**
+     * Get how many logs were thrown away to make room for newer logs.
+     *
+     * @return how many old logs were dropped.
+     */
+    public long getDroppedOldestCount() {
+        return droppedOldest.get();
+    }
+
+    /**
+     * Get how many logs were thrown away in total.
+     *
+     * @return how many logs were dropped.
+     */
+    public long getDroppedCount() {
+        return droppedNewest.get() + droppedOldest.get();
+    }
+}
@@ -10,8 +10,8 @@
 
 package me.wobblyyyy.pathfinder2.logging;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
 
@@ -22,9 +22,11 @@
  * @since 2.0.0
  */
 public class InternalPathfinderLogger {
-    protected static Consumer<String> output = null;
-    protected static boolean shouldFilter = true;
-    protected static Map<String, LogFilter> filters = new HashMap<>();
+    protected static volatile Consumer<String> output = null;
+    protected static volatile boolean shouldFilter = true;
+    protected static final Map<String, LogFilter> filters =
+        new ConcurrentHashMap<>();
+    protected static volatile AsyncLogSink asyncSink = null;
 
     public static void setOutput(Consumer<String> output) {
         InternalPathfinderLogger.output = output;
@@ -34,7 +36,57 @@ public static Consumer<String> getOutput() {
         return output;
     }
 
+    /**
+     * Start writing logs asynchronously. Logs will be stored in an
+     * {@link AsyncLogSink} and formatted and written by a background
+     * thread. If async logging was already enabled, the old sink is closed
+     * (after writing any logs it still had) and replaced.
+     *
+     * @param capacity   how many logs can be waiting to be written before
+     *                   logs start getting dropped.
+     * @param dropPolicy what to do when there are too many logs waiting.
+     * @return the new sink, which can be used to check how many logs have
+     * been dropped.
+     */
+    public static synchronized AsyncLogSink enableAsync(
+        int capacity,
+        LogDropPolicy dropPolicy
+    ) {
+        disableAsync();
+
+        AsyncLogSink sink = new AsyncLogSink(
+            capacity,
+            dropPolicy,
+            InternalPathfinderLogger::log
+        );
+        asyncSink = sink.start();
+
+        return sink;
+    }
+
+    /**
+     * Stop writing logs asynchronously. Any logs that haven't been written
+     * yet will be written before this method returns. If async logging
+     * isn't enabled, this does nothing.
+     */
+    public static synchronized void disableAsync() {
+        AsyncLogSink sink = asyncSink;
+
+        if (sink == null) return;
+
+        asyncSink = null;
+        sink.close();
+    }
+
+    public static AsyncLogSink getAsyncSink() {
+        return asyncSink;
+    }
+
     public static void log(String message) {
+        // read the output once: another thread could set it to null
+        // between checking it and using it
+        Consumer<String> output = InternalPathfinderLogger.output;
+
         // don't do anything if output is null for performance reasons
         if (output == null) return;
 
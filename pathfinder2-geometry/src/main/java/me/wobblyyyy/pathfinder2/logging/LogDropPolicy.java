@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.logging;
+
+/**
+ * What an {@link AsyncLogSink} should do when a log is submitted and its
+ * buffer is already full.
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public enum LogDropPolicy {
+    /**
+     * Throw away the log that was just submitted. The thread that's logging
+     * never waits, and logs that are already in the buffer are kept. This
+     * is the default policy.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Throw away the oldest log in the buffer to make room for the log
+     * that was just submitted. The thread that's logging never waits, and
+     * the buffer always contains the most recent logs.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Wait until the background thread has made room in the buffer. No
+     * logs are ever thrown away, but the thread that's logging can be
+     * blocked by slow output - which is exactly what the async sink is
+     * supposed to prevent. Only use this if you absolutely need every log.
+     */
+    BLOCK
+}
@@ -10,9 +10,10 @@
 
 package me.wobblyyyy.pathfinder2.logging;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
 
 /**
@@ -46,13 +47,50 @@
  * know about it.
  * </p>
  *
+ * <p>
+ * Logging shouldn't cost anything if the log isn't going to be outputted.
+ * The varargs methods (such as {@link #trace(Class, String, Object...)})
+ * have to create an array (and box any primitives) before they're even
+ * called, so, in code that runs every tick, you should either guard the
+ * log with {@link #isTraceEnabled()}, {@link #isDebugEnabled()}, or
+ * {@link #isInfoEnabled()}:
+ * <code><pre>
+ * if (Logger.isTraceEnabled()) {
+ *     Logger.trace(MyClass.class, "x: %s y: %s", x, y);
+ * }
+ * </pre></code>
+ * ... or use one of the overloads that defer creating the message, like
+ * {@link #trace(Class, Supplier)}. If you'd like logging to be removed
+ * entirely, start the JVM with {@code -Dpathfinder2.logging.disabled=true}.
+ * Because {@link #IS_LOGGING_AVAILABLE} is a {@code static final}
+ * constant, the JIT compiler will then remove every guarded log.
+ * </p>
+ *
+ * <p>
+ * If the log output itself is slow, logs can be written asynchronously
+ * with {@link #enableAsyncLogging(int, LogDropPolicy)}. Logs will then be
+ * formatted and outputted by a background thread.
+ * </p>
+ *
  * @author Colin Robertson
  * @since 2.0.0
  */
 public class Logger {
-    private static LogLevel loggingLevel = LogLevel.WARN;
-    private static final Map<Object, String> map = new HashMap<>();
-    private static boolean arePathfinderLogsEnabled = true;
+    /**
+     * Is logging available at all? This is false if the system property
+     * {@code pathfinder2.logging.disabled} is set to {@code true}. Because
+     * this is a {@code static final} value, the JIT compiler treats it as a
+     * constant: if it's false, every {@link #isTraceEnabled()} (and so on)
+     * check is folded to false, and any code guarded by one of those checks
+     * is removed.
+     */
+    public static final boolean IS_LOGGING_AVAILABLE = !Boolean.getBoolean(
+        "pathfinder2.logging.disabled"
+    );
+
+    private static volatile LogLevel loggingLevel = LogLevel.WARN;
+    private static final Map<Object, String> map = new ConcurrentHashMap<>();
+    private static volatile boolean arePathfinderLogsEnabled = true;
 
     /**
      * Get the current logging level.
@@ -72,14 +110,55 @@ public static void setLoggingLevel(LogLevel loggingLevel) {
         Logger.loggingLevel = loggingLevel;
     }
 
+    /**
+     * Would a log with a certain level actually be outputted? This is true
+     * if there's a log output and the current logging level allows for
+     * the provided level.
+     */
+    private static boolean isEnabled(LogLevel level) {
+        return (
+            IS_LOGGING_AVAILABLE &&
+            InternalPathfinderLogger.output != null &&
+            loggingLevel.shouldLog(level)
+        );
+    }
+
+    /**
+     * Would a {@link LogLevel#TRACE} log be outputted?
+     *
+     * @return true if a {@code TRACE} log would be outputted.
+     */
+    public static boolean isTraceEnabled() {
+        return isEnabled(LogLevel.TRACE);
+    }
+
+    /**
+     * Would a {@link LogLevel#DEBUG} log be outputted?
+     *
+     * @return true if a {@code DEBUG} log would be outputted.
+     */
+    public static boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    /**
+     * Would a {@link LogLevel#INFO} log be outputted?
+     *
+     * @return true if an {@code INFO} log would be outputted.
+     */
+    public static boolean isInfoEnabled() {
+        return isEnabled(LogLevel.INFO);
+    }
+
     public static void addFilter(Object key, String filter, LogFilter mode) {
         map.put(key, filter);
         InternalPathfinderLogger.filters.put(filter, mode);
     }
 
     public static void removeFilter(Object key) {
-        InternalPathfinderLogger.filters.remove(map.get(key));
-        map.remove(key);
+        String filter = map.remove(key);
+
+        if (filter != null) InternalPathfinderLogger.filters.remove(filter);
     }
 
     public static void setOutput(Consumer<String> output) {
@@ -117,28 +196,80 @@ public static void disablePathfinderLogging() {
         setArePathfinderLogsEnabled(false);
     }
 
-    private static void internalLog(
+    /**
+     * Format a log into the message that's actually outputted.
+     *
+     * @param level            the log's level.
+     * @param tag              the log's tag.
+     * @param messageFormat    the log's message format.
+     * @param formatSpecifiers arguments for the message format.
+     * @return the formatted log.
+     */
+    static String formatLog(
         LogLevel level,
         String tag,
-        String message
+        String messageFormat,
+        Object[] formatSpecifiers
     ) {
-        // don't log if the logging level is too low
-        if (!loggingLevel.shouldLog(level)) return;
+        String message = formatSpecifiers.length == 0
+            ? messageFormat
+            : StringUtils.format(messageFormat, formatSpecifiers);
 
         // (hopefully) over-allocate the StringBuilder used inside of
         // sizedFormat so that there's no need to re-allocate the builder's
         // buffer during formatting
-        InternalPathfinderLogger.log(
-            StringUtils.sizedFormat(
-                "[%s] [%s]: %s%n",
-                10 + tag.length() + (message.length() * 2),
-                level,
-                tag,
-                message
-            )
+        return StringUtils.sizedFormat(
+            "[%s] [%s]: %s%n",
+            10 + tag.length() + (message.length() * 2),
+            level,
+            tag,
+            message
         );
     }
 
+    /**
+     * Start writing logs asynchronously: instead of being formatted and
+     * outputted on the thread that created them, logs are stored in a
+     * buffer and formatted and outputted by a background thread. This
+     * means slow log output (like printing to a console) won't slow down
+     * whatever thread is ticking Pathfinder.
+     *
+     * @param capacity   how many logs can be waiting to be outputted
+     *                   before logs start getting dropped.
+     * @param dropPolicy what to do when there are too many logs waiting.
+     * @return the {@link AsyncLogSink} logs will be sent to.
+     * @see AsyncLogSink
+     */
+    public static AsyncLogSink enableAsyncLogging(
+        int capacity,
+        LogDropPolicy dropPolicy
+    ) {
+        return InternalPathfinderLogger.enableAsync(capacity, dropPolicy);
+    }
+
+    /**
+     * Start writing logs asynchronously, using a buffer with a capacity of
+     * {@link AsyncLogSink#DEFAULT_CAPACITY} that drops new logs when it's
+     * full.
+     *
+     * @return the {@link AsyncLogSink} logs will be sent to.
+     * @see #enableAsyncLogging(int, LogDropPolicy)
+     */
+    public static AsyncLogSink enableAsyncLogging() {
+        return enableAsyncLogging(
+            AsyncLogSink.DEFAULT_CAPACITY,
+            LogDropPolicy.DROP_NEWEST
+        );
+    }
+
+    /**
+     * Stop writing logs asynchronously. Any logs that are still waiting
+     * will be outputted before this method returns.
+     */
+    public static void disableAsyncLogging() {
+        InternalPathfinderLogger.disableAsync();
+    }
+
     /**
      * Log a message to Pathfinder's logger system. If the logger is disabled
      * (if the logger as set by
@@ -176,15 +307,18 @@ public static void log(
         String messageFormat,
         Object... formatSpecifiers
     ) {
-        if (InternalPathfinderLogger.output == null) return;
+        // check the level before formatting anything - otherwise, every
+        // log would be formatted, even if it was going to be ignored
+        if (!isEnabled(level)) return;
+
+        AsyncLogSink sink = InternalPathfinderLogger.asyncSink;
 
-        if (formatSpecifiers.length == 0) {
-            internalLog(level, tag, messageFormat);
+        if (sink != null) {
+            // formatting happens on the sink's thread
+            sink.submit(level, tag, messageFormat, formatSpecifiers);
         } else {
-            internalLog(
-                level,
-                tag,
-                StringUtils.format(messageFormat, formatSpecifiers)
+            InternalPathfinderLogger.log(
+                formatLog(level, tag, messageFormat, formatSpecifiers)
             );
         }
     }
@@ -650,6 +784,211 @@ public static void trace(
         log(LogLevel.TRACE, tag, messageFormat, formatSpecifiers);
     }
 
+    /**
+     * Log a message, but only create the message if it's actually going to
+     * be outputted. The supplier will not be called if the log is ignored.
+     *
+     * @param level   the log's level.
+     * @param tag     the tag to use for the log message.
+     * @param message a supplier that creates the log's message.
+     */
+    public static void log(
+        LogLevel level,
+        Class<?> tag,
+        Supplier<String> message
+    ) {
+        if (isEnabled(level)) log(level, tag, message.get());
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message, but only create the message if
+     * it's actually going to be outputted.
+     *
+     * @param tag     the tag to use for the log message.
+     * @param message a supplier that creates the log's message.
+     */
+    public static void trace(Class<?> tag, Supplier<String> message) {
+        log(LogLevel.TRACE, tag, message);
+    }
+
+    /**
+     * Log a {@link LogLevel#DEBUG} message, but only create the message if
+     * it's actually going to be outputted.
+     *
+     * @param tag     the tag to use for the log message.
+     * @param message a supplier that creates the log's message.
+     */
+    public static void debug(Class<?> tag, Supplier<String> message) {
+        log(LogLevel.DEBUG, tag, message);
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message with a single format argument.
+     * Unlike {@link #trace(Class, String, Object...)}, this doesn't need
+     * an array, and the level is checked before anything else happens.
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the first format argument.
+     */
+    public static void trace(Class<?> tag, String messageFormat, Object a) {
+        if (isTraceEnabled()) log(LogLevel.TRACE, tag, messageFormat, a);
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message with two format arguments.
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the first format argument.
+     * @param b             the second format argument.
+     */
+    public static void trace(
+        Class<?> tag,
+        String messageFormat,
+        Object a,
+        Object b
+    ) {
+        if (isTraceEnabled()) log(LogLevel.TRACE, tag, messageFormat, a, b);
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message with three format arguments.
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the first format argument.
+     * @param b             the second format argument.
+     * @param c             the third format argument.
+     */
+    public static void trace(
+        Class<?> tag,
+        String messageFormat,
+        Object a,
+        Object b,
+        Object c
+    ) {
+        if (isTraceEnabled()) log(
+            LogLevel.TRACE,
+            tag,
+            messageFormat,
+            a,
+            b,
+            c
+        );
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message with a single {@code double}
+     * format argument. The argument is only boxed if the log is actually
+     * going to be outputted.
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the format argument.
+     */
+    public static void trace(Class<?> tag, String messageFormat, double a) {
+        if (isTraceEnabled()) log(LogLevel.TRACE, tag, messageFormat, a);
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message with a single {@code int}
+     * format argument. The argument is only boxed if the log is actually
+     * going to be outputted.
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the format argument.
+     */
+    public static void trace(Class<?> tag, String messageFormat, int a) {
+        if (isTraceEnabled()) log(LogLevel.TRACE, tag, messageFormat, a);
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message with a single {@code long}
+     * format argument. The argument is only boxed if the log is actually
+     * going to be outputted.
+     *
+     * <p>
+     * Without this overload, a {@code long} would widen to {@code double}
+     * and be logged as {@code 5.0} instead of {@code 5}.
+     * </p>
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the format argument.
+     */
+    public static void trace(Class<?> tag, String messageFormat, long a) {
+        if (isTraceEnabled()) log(LogLevel.TRACE, tag, messageFormat, a);
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message with a single {@code float}
+     * format argument. The argument is only boxed if the log is actually
+     * going to be outputted.
+     *
+     * <p>
+     * Without this overload, a {@code float} would widen to {@code double}
+     * and be logged with a {@code double}'s precision, ex.
+     * {@code 0.10000000149011612} instead of {@code 0.1}.
+     * </p>
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the format argument.
+     */
+    public static void trace(Class<?> tag, String messageFormat, float a) {
+        if (isTraceEnabled()) log(LogLevel.TRACE, tag, messageFormat, a);
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message with a single {@code char}
+     * format argument. The argument is only boxed if the log is actually
+     * going to be outputted.
+     *
+     * <p>
+     * Without this overload, a {@code char} would widen to {@code int}
+     * and be logged as its code point.
+     * </p>
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the format argument.
+     */
+    public static void trace(Class<?> tag, String messageFormat, char a) {
+        if (isTraceEnabled()) log(LogLevel.TRACE, tag, messageFormat, a);
+    }
+
+    /**
+     * Log a {@link LogLevel#DEBUG} message with a single format argument.
+     * Unlike {@link #debug(Class, String, Object...)}, this doesn't need
+     * an array, and the level is checked before anything else happens.
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the first format argument.
+     */
+    public static void debug(Class<?> tag, String messageFormat, Object a) {
+        if (isDebugEnabled()) log(LogLevel.DEBUG, tag, messageFormat, a);
+    }
+
+    /**
+     * Log a {@link LogLevel#DEBUG} message with two format arguments.
+     *
+     * @param tag           the tag to use for the log message.
+     * @param messageFormat the format of the message.
+     * @param a             the first format argument.
+     * @param b             the second format argument.
+     */
+    public static void debug(
+        Class<?> tag,
+        String messageFormat,
+        Object a,
+        Object b
+    ) {
+        if (isDebugEnabled()) log(LogLevel.DEBUG, tag, messageFormat, a, b);
+    }
+
     public static void run(LogLevel level, Runnable runnable) {
         LogLevel previousLevel = getLoggingLevel();
         Consumer<String> previousOutput = InternalPathfinderLogger.getOutput();
@@ -16,6 +16,7 @@
 import me.wobblyyyy.pathfinder2.utils.StringUtils;
 import org.apache.commons.math3.analysis.interpolation.AkimaSplineInterpolator;
 import org.apache.commons.math3.analysis.interpolation.SplineInterpolator;
+import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
 import org.apache.commons.math3.analysis.polynomials.PolynomialSplineFunction;
 
 /**
@@ -37,6 +38,15 @@ public class ApacheSpline implements Spline {
     private final double minX;
     private final double maxX;
 
+    /*
+     * the function's knots and each of its polynomials' coefficients,
+     * copied out of the function once, so batches of values can be
+     * interpolated without asking the function for them (it copies them
+     * every time they're requested)
+     */
+    private final double[] knots;
+    private final double[][] coefficients;
+
     /**
      * Create a new {@code ApacheSpline}.
      *
@@ -111,6 +121,13 @@ public ApacheSpline(Interpolator interpolator, double[] x, double[] y) {
 
         minX = Min.of(x);
         maxX = Max.of(x);
+
+        PolynomialFunction[] polynomials = function.getPolynomials();
+        knots = function.getKnots();
+        coefficients = new double[polynomials.length][];
+
+        for (int i = 0; i < polynomials.length; i++) coefficients[i] =
+            polynomials[i].getCoefficients();
     }
 
     @Override
@@ -124,6 +141,49 @@ public double interpolateY(double x) {
         return function.value(x);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This evaluates the spline's polynomials directly. If the X values are
+     * sorted, each X value's polynomial is found by walking forwards from
+     * the last X value's polynomial, instead of searching all of them.
+     * </p>
+     */
+    @Override
+    public void interpolateY(double[] xs, double[] out) {
+        SplineBatch.validate(xs, out);
+
+        final double[] knots = this.knots;
+        final int lastPolynomial = coefficients.length - 1;
+        final double startX = startPoint.x();
+        int segment = 0;
+
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+
+            if (isInverted) x = startX - (x - startX);
+
+            if (x < minX) x = minX; else if (x > maxX) x = maxX;
+
+            if (x < knots[segment]) segment = 0;
+            while (segment < lastPolynomial && x >= knots[segment + 1]) {
+                segment++;
+            }
+
+            out[i] = horner(coefficients[segment], x - knots[segment]);
+        }
+    }
+
+    private static double horner(double[] coefficients, double x) {
+        double result = 0;
+
+        for (int i = coefficients.length - 1; i >= 0; i--) result =
+            (result * x) + coefficients[i];
+
+        return result;
+    }
+
     @Override
     public PointXY getStartPoint() {
         return startPoint;
@@ -37,6 +37,28 @@ public PointXY interpolate(double x) {
         return new PointXY(x, this.equation.getY(x));
     }
 
+    @Override
+    public void interpolateY(double[] xs, double[] out) {
+        SplineBatch.validate(xs, out);
+
+        // the equation is linear, so there's no need to call it for every
+        // single value: get its slope and intercept once. calling the
+        // equation would've validated each X value, though, so that still
+        // has to happen here
+        double slope = equation.getSlope();
+        double intercept = equation.getY(0);
+
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+
+            if (!Double.isFinite(x)) throw new IllegalArgumentException(
+                "Illegal X value! Must be a finite real number."
+            );
+
+            out[i] = (slope * x) + intercept;
+        }
+    }
+
     @Override
     public PointXY getStartPoint() {
         return interpolate(0);
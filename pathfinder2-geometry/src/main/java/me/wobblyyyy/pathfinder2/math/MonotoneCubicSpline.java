@@ -10,9 +10,10 @@
 
 package me.wobblyyyy.pathfinder2.math;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import me.wobblyyyy.pathfinder2.exceptions.SplineException;
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
 import me.wobblyyyy.pathfinder2.geometry.PointXYZ;
@@ -68,6 +69,26 @@ public class MonotoneCubicSpline implements Spline {
     private boolean isInverted;
     private boolean isXY = false;
 
+    /*
+     * inputted x values are transformed with x * queryScale + queryOffset
+     * before being interpolated. if the spline is inverted, this reflects
+     * the x value over the first x value, otherwise, it does nothing. this
+     * is set up once, in the constructor, so interpolating doesn't need to
+     * check whether the spline is inverted.
+     */
+    private final double queryScale;
+    private final double queryOffset;
+
+    /*
+     * the index of the segment the last interpolated x value was in. when
+     * a robot is following a spline, each x value is usually in the same
+     * segment as the last one (or the segment right after it), so checking
+     * those first avoids searching for the segment at all. this is only a
+     * hint: it's always checked before it's used, so it doesn't matter if
+     * another thread changes it.
+     */
+    private transient int lastSegment = 0;
+
     /**
      * Create a new {@code MonotoneCubicSpline}. Both of the arrays provided
      * as parameters should be the same length. Additionally, both arrays
@@ -129,13 +150,11 @@ public MonotoneCubicSpline(double[] xInitial, double[] yInitial)
 
         // check to see if there are any duplicate x values. if there are
         // duplicate x values, switch the x and y values
-        List<Double> xValues = new ArrayList<>();
+        Set<Double> xValues = new HashSet<>(x.length * 2);
 
-        for (double d : x) if (xValues.contains(d)) {
+        for (double d : x) if (!xValues.add(d)) {
             isXY = true;
             break;
-        } else {
-            xValues.add(d);
         }
 
         if (isXY) {
@@ -224,6 +243,9 @@ public MonotoneCubicSpline(double[] xInitial, double[] yInitial)
         this.my = y;
         this.mm = m;
 
+        this.queryScale = isInverted ? -1 : 1;
+        this.queryOffset = isInverted ? x[0] * 2 : 0;
+
         this.start = new PointXY(mx[0], my[0]);
         int last = mx.length - 1;
         this.end = new PointXY(mx[last], my[last]);
@@ -279,20 +301,17 @@ private double reflectX(double x) {
         return reflectX(x, mx[0]);
     }
 
-    @SuppressWarnings("SuspiciousNameCombination")
     @Override
     public double interpolateY(double x) {
-        final int n = mx.length;
+        if (isXY) return interpolateSwappedY(x);
 
-        // if x and y values are swapped, swap them locally here
-        final double[] mx = isXY ? this.my : this.mx;
-        final double[] my = isXY ? this.mx : this.my;
+        // reflect the x value over the first x value if the spline is
+        // inverted (this does nothing if it isn't)
+        x = (x * queryScale) + queryOffset;
 
-        if (isInverted) {
-            // if the spline is inverted, the x value should be reflected
-            // over the first x value
-            x = reflectX(x);
-        }
+        final double[] mx = this.mx;
+        final double[] my = this.my;
+        final int last = mx.length - 1;
 
         if (Double.isNaN(x)) {
             // NaN -> return NaN
@@ -301,23 +320,134 @@ public double interpolateY(double x) {
             // if it's less than the minimum, return the y value associated
             // with the minimum point
             return my[0];
-        } else if (x >= mx[n - 1]) {
+        } else if (x >= mx[last]) {
             // if it's greater than the maximum, return the y value associated
             // with the maximum point
-            return my[n - 1];
+            return my[last];
         }
 
-        // iterate over all of the values in the secant slope array, if the
-        // inputted x value matches with any of them, just return that value
-        // (so if the x value is a control point, return that control point's
-        // associated y value instead of interpolating it)
-        int i = 0;
-        while (x >= mx[i + 1]) {
-            i += 1;
+        return hermite(mx, my, findSegment(x), x);
+    }
 
-            if (x == mx[i]) return my[i];
+    /**
+     * Find the segment an x value is in, and remember it for next time.
+     * The x value has to be greater than the first x value and less than
+     * the last x value.
+     *
+     * @param x the (already reflected, if needed) x value.
+     * @return the index of the control point at the start of the segment.
+     */
+    private int findSegment(double x) {
+        int i = locate(x, lastSegment);
+
+        lastSegment = i;
+
+        return i;
+    }
+
+    /**
+     * Find the segment an x value is in, starting from a hint. The x value
+     * has to be greater than the first x value and less than the last x
+     * value.
+     *
+     * @param x    the (already reflected, if needed) x value.
+     * @param hint the segment to start searching from.
+     * @return the index of the control point at the start of the segment.
+     */
+    private int locate(double x, int hint) {
+        final double[] mx = this.mx;
+        final int last = mx.length - 1;
+
+        if (hint >= 0 && hint < last) {
+            if (x >= mx[hint]) {
+                // walk forwards for a couple of segments: when x values
+                // are increasing, the segment is almost always one of these
+                int end = Math.min(last, hint + 4);
+
+                for (int i = hint; i < end; i++) if (x < mx[i + 1]) return i;
+
+                return searchSegment(x, end, last);
+            } else if (hint > 0 && x >= mx[hint - 1]) {
+                return hint - 1;
+            }
         }
 
+        return searchSegment(x, 0, last);
+    }
+
+    /**
+     * Binary search for the segment an x value is in.
+     *
+     * @param x    the x value.
+     * @param from the first control point to search (inclusive).
+     * @param to   the last control point to search (exclusive).
+     * @return the index of the control point at the start of the segment.
+     */
+    private int searchSegment(double x, int from, int to) {
+        // binarySearch returns the index of the x value if it's a control
+        // point, otherwise, it returns (-(insertion point) - 1), and the
+        // segment starts one before the insertion point
+        int index = Arrays.binarySearch(mx, from, to, x);
+
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This only searches for each x value's segment starting from the
+     * segment the last x value was in, so if the x values are sorted
+     * (in the same direction as the spline), all of them are interpolated
+     * in a single sweep over the spline's segments.
+     * </p>
+     */
+    @Override
+    public void interpolateY(double[] xs, double[] out) {
+        SplineBatch.validate(xs, out);
+
+        if (isXY) {
+            for (int i = 0; i < xs.length; i++) out[i] =
+                interpolateSwappedY(xs[i]);
+
+            return;
+        }
+
+        final double[] mx = this.mx;
+        final double[] my = this.my;
+        final int last = mx.length - 1;
+        final double min = mx[0];
+        final double max = mx[last];
+        int segment = lastSegment;
+
+        for (int i = 0; i < xs.length; i++) {
+            double x = (xs[i] * queryScale) + queryOffset;
+
+            if (Double.isNaN(x)) {
+                out[i] = x;
+            } else if (x <= min) {
+                out[i] = my[0];
+            } else if (x >= max) {
+                out[i] = my[last];
+            } else {
+                segment = locate(x, segment);
+                out[i] = hermite(mx, my, segment, x);
+            }
+        }
+
+        lastSegment = segment;
+    }
+
+    /**
+     * Interpolate a value inside of a segment.
+     *
+     * @param mx the x values.
+     * @param my the y values.
+     * @param i  the index of the segment.
+     * @param x  the x value, inside of the segment.
+     * @return the interpolated y value.
+     */
+    private double hermite(double[] mx, double[] my, int i, double x) {
         double h = mx[i + 1] - mx[i];
         double t = (x - mx[i]) / h;
 
@@ -335,6 +465,44 @@ public double interpolateY(double x) {
         );
     }
 
+    /**
+     * Interpolate a y value for a spline with swapped x and y values. The
+     * swapped x values aren't guaranteed to be strictly increasing (that's
+     * why they were swapped), so this uses a linear search instead of the
+     * segment cache.
+     */
+    @SuppressWarnings("SuspiciousNameCombination")
+    private double interpolateSwappedY(double x) {
+        final int n = mx.length;
+
+        // if x and y values are swapped, swap them locally here
+        final double[] mx = this.my;
+        final double[] my = this.mx;
+
+        x = (x * queryScale) + queryOffset;
+
+        if (Double.isNaN(x)) {
+            return x;
+        } else if (x <= mx[0]) {
+            return my[0];
+        } else if (x >= mx[n - 1]) {
+            return my[n - 1];
+        }
+
+        // iterate over all of the values in the secant slope array, if the
+        // inputted x value matches with any of them, just return that value
+        // (so if the x value is a control point, return that control point's
+        // associated y value instead of interpolating it)
+        int i = 0;
+        while (x >= mx[i + 1]) {
+            i += 1;
+
+            if (x == mx[i]) return my[i];
+        }
+
+        return hermite(mx, my, i, x);
+    }
+
     @Override
     public PointXY interpolate(double x) {
         return new PointXY(x, interpolateY(x));
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.math;
+
+import java.util.Arrays;
+import me.wobblyyyy.pathfinder2.exceptions.SplineException;
+import me.wobblyyyy.pathfinder2.geometry.PointXY;
+import me.wobblyyyy.pathfinder2.utils.DoubleUtils;
+import me.wobblyyyy.pathfinder2.utils.StringUtils;
+
+/**
+ * A spline made of straight lines between each of its control points.
+ *
+ * <p>
+ * Unlike {@link MonotoneCubicSpline}, the Y values of a
+ * {@code PiecewiseLinearSpline} don't have to be monotonic: they can go
+ * up and down as much as they'd like. That makes this spline a good fit for
+ * values that are generated from lots of samples (like a speed profile),
+ * where there are enough control points that the straight lines between
+ * them don't matter. The X values still have to be strictly increasing or
+ * strictly decreasing. X values outside the spline's range are clipped to
+ * the first or last control point.
+ * </p>
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+public class PiecewiseLinearSpline implements Spline {
+    /*
+     * control points, sorted so the X values are increasing, even if the
+     * spline was created with decreasing X values
+     */
+    private final double[] x;
+    private final double[] y;
+    private final PointXY startPoint;
+    private final PointXY endPoint;
+
+    private transient int lastSegment = 0;
+
+    /**
+     * Create a new {@code PiecewiseLinearSpline}.
+     *
+     * @param x the control points' X values. These must be strictly
+     *          increasing or strictly decreasing.
+     * @param y the control points' Y values.
+     */
+    public PiecewiseLinearSpline(double[] x, double[] y) {
+        if (x == null || y == null) throw new SplineException(
+            "Splines must be created with non-null arrays"
+        );
+
+        if (x.length < 2) throw new SplineException(
+            "Splines must be created with at least 2 control points"
+        );
+
+        if (x.length != y.length) throw new SplineException(
+            "Splines must be created with arrays of equal lengths!"
+        );
+
+        DoubleUtils.validate(x);
+        DoubleUtils.validate(y);
+
+        int size = x.length;
+        boolean isDecreasing = Spline.areDecreasing(x);
+
+        if (
+            !isDecreasing && !Spline.areIncreasing(x)
+        ) throw new SplineException(
+            "X values must be strictly increasing or strictly decreasing! " +
+            "X values: " +
+            Arrays.toString(x)
+        );
+
+        this.x = new double[size];
+        this.y = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            int from = isDecreasing ? size - 1 - i : i;
+
+            this.x[i] = x[from];
+            this.y[i] = y[from];
+        }
+
+        this.startPoint = new PointXY(x[0], y[0]);
+        this.endPoint = new PointXY(x[size - 1], y[size - 1]);
+    }
+
+    private int locate(double value, int hint) {
+        final double[] x = this.x;
+        final int last = x.length - 2;
+
+        if (hint >= 0 && hint <= last && value >= x[hint]) {
+            // walk forwards a couple of segments before searching
+            for (int i = hint, end = Math.min(last, hint + 4); i <= end; i++) {
+                if (value < x[i + 1]) return i;
+            }
+        }
+
+        int index = Arrays.binarySearch(x, value);
+        index = index >= 0 ? index : -index - 2;
+
+        return Math.max(0, Math.min(last, index));
+    }
+
+    private double interpolate(double value, int segment) {
+        double t = (value - x[segment]) / (x[segment + 1] - x[segment]);
+
+        return y[segment] + ((y[segment + 1] - y[segment]) * t);
+    }
+
+    @Override
+    public double interpolateY(double value) {
+        if (Double.isNaN(value)) return value;
+        if (value <= x[0]) return y[0];
+        if (value >= x[x.length - 1]) return y[y.length - 1];
+
+        int segment = locate(value, lastSegment);
+        lastSegment = segment;
+
+        return interpolate(value, segment);
+    }
+
+    @Override
+    public void interpolateY(double[] xs, double[] out) {
+        SplineBatch.validate(xs, out);
+
+        final double min = x[0];
+        final double max = x[x.length - 1];
+        int segment = lastSegment;
+
+        for (int i = 0; i < xs.length; i++) {
+            double value = xs[i];
+
+            if (Double.isNaN(value)) {
+                out[i] = value;
+            } else if (value <= min) {
+                out[i] = y[0];
+            } else if (value >= max) {
+                out[i] = y[y.length - 1];
+            } else {
+                segment = locate(value, segment);
+                out[i] = interpolate(value, segment);
+            }
+        }
+
+        lastSegment = segment;
+    }
+
+    @Override
+    public PointXY getStartPoint() {
+        return startPoint;
+    }
+
+    @Override
+    public PointXY getEndPoint() {
+        return endPoint;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "PiecewiseLinearSpline (control points: <%s> start: <%s> " +
+            "end: <%s>)",
+            x.length,
+            startPoint,
+            endPoint
+        );
+    }
+}
@@ -185,6 +185,43 @@ default PointXY interpolate(double x) {
         return new PointXY(x, interpolateY(x));
     }
 
+    /**
+     * Interpolate a whole batch of Y values at once. This does the exact
+     * same thing as calling {@link #interpolateY(double)} for each X
+     * value, but it doesn't create any objects, and most implementations
+     * are a lot faster at it: if the X values are sorted, they can find
+     * all of the Y values in a single sweep over the spline's segments.
+     *
+     * @param xs  the X values to interpolate.
+     * @param out the array the interpolated Y values will be written to.
+     *            {@code out[i]} will be set to the Y value for
+     *            {@code xs[i]}. This array must be at least as long as
+     *            {@code xs}, and it can be the same array as {@code xs}.
+     */
+    default void interpolateY(double[] xs, double[] out) {
+        SplineBatch.validate(xs, out);
+
+        for (int i = 0; i < xs.length; i++) out[i] = interpolateY(xs[i]);
+    }
+
+    /**
+     * Interpolate a whole batch of points at once, without creating any
+     * {@link PointXY}s.
+     *
+     * @param xs   the X values to interpolate.
+     * @param outX the array the points' X values will be written to (these
+     *             are just copied from {@code xs}).
+     * @param outY the array the points' Y values will be written to.
+     * @see #interpolateY(double[], double[])
+     */
+    default void interpolate(double[] xs, double[] outX, double[] outY) {
+        SplineBatch.validate(xs, outX);
+
+        if (outX != xs) System.arraycopy(xs, 0, outX, 0, xs.length);
+
+        interpolateY(xs, outY);
+    }
+
     /**
      * Get the spline's start point.
      *
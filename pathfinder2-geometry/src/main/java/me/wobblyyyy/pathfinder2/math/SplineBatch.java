@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.math;
+
+import me.wobblyyyy.pathfinder2.exceptions.SplineException;
+
+/**
+ * Utilities shared by the batch methods of {@link Spline}.
+ *
+ * @author Colin Robertson
+ * @since 3.0.0
+ */
+final class SplineBatch {
+
+    private SplineBatch() {}
+
+    /**
+     * Make sure the input and output arrays for a batch of interpolations
+     * aren't null, and the output array is long enough.
+     *
+     * @param xs  the x values to interpolate.
+     * @param out the array the results will be written to.
+     */
+    static void validate(double[] xs, double[] out) {
+        if (xs == null) throw new SplineException("X value array was null!");
+        if (out == null) throw new SplineException("Output array was null!");
+
+        if (out.length < xs.length) throw new SplineException(
+            "Output array is too short! It has a length of " +
+            out.length +
+            ", but there are " +
+            xs.length +
+            " X values."
+        );
+    }
+}
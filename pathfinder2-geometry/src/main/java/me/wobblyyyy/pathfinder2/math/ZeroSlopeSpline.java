@@ -10,6 +10,7 @@
 
 package me.wobblyyyy.pathfinder2.math;
 
+import java.util.Arrays;
 import me.wobblyyyy.pathfinder2.geometry.PointXY;
 
 /**
@@ -35,6 +36,13 @@ public PointXY interpolate(double x) {
         return new PointXY(x, this.returnValue);
     }
 
+    @Override
+    public void interpolateY(double[] xs, double[] out) {
+        SplineBatch.validate(xs, out);
+
+        Arrays.fill(out, 0, xs.length, returnValue);
+    }
+
     @Override
     public PointXY getStartPoint() {
         return new PointXY(0, returnValue);
@@ -295,7 +295,9 @@ public static <T> T validate(
         String parameterName,
         String customMessage
     ) {
-        return validateAndFormat(t, parameterName, customMessage);
+        // don't go through validateAndFormat here - the varargs call would
+        // allocate an empty array every single time something is validated
+        return validateNotNull(t, parameterName, customMessage);
     }
 
     /**
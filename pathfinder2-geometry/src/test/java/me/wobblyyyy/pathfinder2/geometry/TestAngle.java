@@ -130,6 +130,18 @@ public void testAngleDelta() {
         Assertions.assertEquals(0, Angle.minimumDelta(a, c));
     }
 
+    @Test
+    public void testPrimitiveAngleDelta() {
+        Assertions.assertEquals(90, Angle.minimumDelta(0d, 90d));
+        Assertions.assertEquals(-90, Angle.minimumDelta(0d, 270d));
+        Assertions.assertEquals(20, Angle.minimumDelta(350d, 10d));
+        Assertions.assertEquals(-20, Angle.minimumDelta(-350d, -10d));
+        Assertions.assertEquals(
+            Angle.minimumDelta(Angle.fromDeg(123), Angle.fromDeg(-77)),
+            Angle.minimumDelta(123d, -77d)
+        );
+    }
+
     @Test
     public void testFixedAdd() {
         Angle a = Angle.fromDeg(45);
@@ -29,4 +29,40 @@ public void testIsPointInShape() {
         Assertions.assertFalse(test2.isInside(circle));
         Assertions.assertTrue(test3.isInside(circle));
     }
+
+    @Test
+    public void testSegmentIntersection() {
+        // the segment goes through the center, so it leaves the circle at
+        // x = 10, which is 3/4 of the way from -10 to 30 (not x = -10,
+        // which is where it enters)
+        Assertions.assertEquals(
+            0.75,
+            Circle.segmentIntersection(0, 0, 10, -20, 0, 20, 0),
+            1e-9
+        );
+
+        // starts inside the circle
+        Assertions.assertEquals(
+            0.5,
+            Circle.segmentIntersection(0, 0, 5, 0, 0, 10, 0),
+            1e-9
+        );
+
+        // ends inside the circle, so only the entry point counts
+        Assertions.assertEquals(
+            0.5,
+            Circle.segmentIntersection(0, 0, 5, -10, 0, 0, 0),
+            1e-9
+        );
+
+        // misses the circle, or stays inside it
+        Assertions.assertEquals(
+            -1,
+            Circle.segmentIntersection(0, 0, 5, -10, 10, 10, 10)
+        );
+        Assertions.assertEquals(
+            -1,
+            Circle.segmentIntersection(0, 0, 5, -1, 0, 1, 0)
+        );
+    }
 }
@@ -163,4 +163,16 @@ public void testGetClosestEndPoint() {
         Assertions.assertTrue(Equals.soft(10d, cc.x(), 0.01));
         Assertions.assertTrue(Equals.soft(10d, cc.y(), 0.01));
     }
+
+    @Test
+    public void testClosestFraction() {
+        Assertions.assertEquals(
+            0.25,
+            Line.closestFraction(0, 0, 20, 0, 5, 10),
+            1e-9
+        );
+        Assertions.assertEquals(0, Line.closestFraction(0, 0, 20, 0, -5, 3));
+        Assertions.assertEquals(1, Line.closestFraction(0, 0, 20, 0, 25, 3));
+        Assertions.assertEquals(0, Line.closestFraction(1, 1, 1, 1, 5, 5));
+    }
 }
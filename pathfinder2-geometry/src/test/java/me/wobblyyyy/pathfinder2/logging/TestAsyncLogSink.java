@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncLogSink {
+    private final List<String> logs = Collections.synchronizedList(
+        new ArrayList<>()
+    );
+
+    @AfterEach
+    public void afterEach() {
+        Logger.disableAsyncLogging();
+        Logger.setLoggingLevel(LogLevel.WARN);
+        Logger.setOutput(null);
+    }
+
+    private static Object[] args(Object... args) {
+        return args;
+    }
+
+    @Test
+    public void testCapacityIsRoundedUp() {
+        Assertions.assertEquals(
+            16,
+            new AsyncLogSink(10, LogDropPolicy.BLOCK, s -> {}).getCapacity()
+        );
+        Assertions.assertEquals(
+            8,
+            new AsyncLogSink(8, LogDropPolicy.BLOCK, s -> {}).getCapacity()
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new AsyncLogSink(1, LogDropPolicy.BLOCK, s -> {})
+        );
+    }
+
+    @Test
+    public void testWritesLogsInOrder() {
+        AsyncLogSink sink = new AsyncLogSink(
+            64,
+            LogDropPolicy.BLOCK,
+            logs::add
+        )
+            .start();
+
+        for (int i = 0; i < 500; i++) sink.submit(
+            LogLevel.INFO,
+            "tag",
+            "log %s",
+            args(i)
+        );
+
+        Assertions.assertTrue(sink.flush(5_000));
+        sink.close();
+
+        Assertions.assertEquals(500, logs.size());
+        Assertions.assertEquals(0, sink.getDroppedCount());
+        for (int i = 0; i < 500; i++) Assertions.assertTrue(
+            logs.get(i).contains("log " + i)
+        );
+    }
+
+    @Test
+    public void testDropNewest() {
+        // the sink isn't started, so nothing is ever taken out of it
+        AsyncLogSink sink = new AsyncLogSink(
+            4,
+            LogDropPolicy.DROP_NEWEST,
+            logs::add
+        );
+
+        for (int i = 0; i < 10; i++) sink.submit(
+            LogLevel.INFO,
+            "tag",
+            "log %s",
+            args(i)
+        );
+
+        Assertions.assertEquals(4, sink.getPendingCount());
+        Assertions.assertEquals(6, sink.getDroppedNewestCount());
+
+        sink.start();
+        Assertions.assertTrue(sink.flush(5_000));
+        sink.close();
+
+        Assertions.assertEquals(4, logs.size());
+        Assertions.assertTrue(logs.get(0).contains("log 0"));
+        Assertions.assertTrue(logs.get(3).contains("log 3"));
+    }
+
+    @Test
+    public void testDropOldest() {
+        AsyncLogSink sink = new AsyncLogSink(
+            4,
+            LogDropPolicy.DROP_OLDEST,
+            logs::add
+        );
+
+        for (int i = 0; i < 10; i++) sink.submit(
+            LogLevel.INFO,
+            "tag",
+            "log %s",
+            args(i)
+        );
+
+        Assertions.assertEquals(4, sink.getPendingCount());
+        Assertions.assertEquals(6, sink.getDroppedOldestCount());
+
+        sink.start();
+        Assertions.assertTrue(sink.flush(5_000));
+        sink.close();
+
+        Assertions.assertEquals(4, logs.size());
+        Assertions.assertTrue(logs.get(0).contains("log 6"));
+        Assertions.assertTrue(logs.get(3).contains("log 9"));
+    }
+
+    @Test
+    public void testOutputExceptionsDoNotStopSink() {
+        AsyncLogSink sink = new AsyncLogSink(
+            16,
+            LogDropPolicy.BLOCK,
+            s -> {
+                if (s.contains("bad")) throw new RuntimeException();
+                logs.add(s);
+            }
+        )
+            .start();
+
+        sink.submit(LogLevel.INFO, "tag", "bad", args());
+        sink.submit(LogLevel.INFO, "tag", "good", args());
+
+        Assertions.assertTrue(sink.flush(5_000));
+        sink.close();
+
+        Assertions.assertEquals(1, sink.getFailedCount());
+        Assertions.assertEquals(1, logs.size());
+    }
+
+    @Test
+    public void testLoggerUsesAsyncSink() {
+        Logger.setOutput(logs::add);
+        Logger.setLoggingLevel(LogLevel.TRACE);
+        AsyncLogSink sink = Logger.enableAsyncLogging(
+            64,
+            LogDropPolicy.BLOCK
+        );
+
+        Logger.trace(TestAsyncLogSink.class, "x: <%s>", 2.5);
+        Logger.info(TestAsyncLogSink.class, "hello");
+
+        Assertions.assertTrue(sink.flush(5_000));
+        Logger.disableAsyncLogging();
+
+        Assertions.assertFalse(sink.isRunning());
+        Assertions.assertEquals(2, sink.getWrittenCount());
+        Assertions.assertEquals(2, logs.size());
+        Assertions.assertTrue(logs.get(0).contains("x: <2.5>"));
+        Assertions.assertTrue(logs.get(1).contains("[INFO]"));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestLogger {
+    private final List<String> logs = new ArrayList<>();
+
+    @AfterEach
+    public void afterEach() {
+        Logger.setLoggingLevel(LogLevel.WARN);
+        Logger.setOutput(null);
+    }
+
+    @Test
+    public void testIsEnabled() {
+        Assertions.assertFalse(Logger.isTraceEnabled());
+
+        Logger.setOutput(logs::add);
+        Assertions.assertFalse(Logger.isTraceEnabled());
+        Assertions.assertFalse(Logger.isInfoEnabled());
+
+        Logger.setLoggingLevel(LogLevel.INFO);
+        Assertions.assertTrue(Logger.isInfoEnabled());
+        Assertions.assertFalse(Logger.isDebugEnabled());
+
+        Logger.setLoggingLevel(LogLevel.TRACE);
+        Assertions.assertTrue(Logger.isTraceEnabled());
+        Assertions.assertTrue(Logger.isDebugEnabled());
+    }
+
+    @Test
+    public void testSupplierIsNotCalledWhenDisabled() {
+        Logger.setOutput(logs::add);
+
+        Logger.trace(
+            TestLogger.class,
+            () -> {
+                throw new RuntimeException("this shouldn't be called!");
+            }
+        );
+
+        Assertions.assertEquals(0, logs.size());
+    }
+
+    @Test
+    public void testLazyAndFixedArityLogs() {
+        Logger.setOutput(logs::add);
+        Logger.setLoggingLevel(LogLevel.TRACE);
+
+        Logger.trace(TestLogger.class, () -> "hello");
+        Logger.trace(TestLogger.class, "a: <%s>", 1.5);
+        Logger.trace(TestLogger.class, "b: <%s>", 2);
+        Logger.debug(TestLogger.class, "c: <%s> <%s>", "x", "y");
+
+        Assertions.assertEquals(4, logs.size());
+        Assertions.assertTrue(logs.get(0).contains("hello"));
+        Assertions.assertTrue(logs.get(1).contains("a: <1.5>"));
+        Assertions.assertTrue(logs.get(2).contains("b: <2>"));
+        Assertions.assertTrue(logs.get(3).contains("c: <x> <y>"));
+    }
+
+    @Test
+    public void testPrimitivesKeepTheirFormatting() {
+        Logger.setOutput(logs::add);
+        Logger.setLoggingLevel(LogLevel.TRACE);
+
+        Logger.trace(TestLogger.class, "long: <%s>", 5L);
+        Logger.trace(TestLogger.class, "float: <%s>", 0.1f);
+        Logger.trace(TestLogger.class, "char: <%s>", 'c');
+        Logger.trace(TestLogger.class, "short: <%s>", (short) 3);
+
+        Assertions.assertEquals(4, logs.size());
+        Assertions.assertTrue(logs.get(0).contains("long: <5>"));
+        Assertions.assertTrue(logs.get(1).contains("float: <0.1>"));
+        Assertions.assertTrue(logs.get(2).contains("char: <c>"));
+        Assertions.assertTrue(logs.get(3).contains("short: <3>"));
+    }
+}
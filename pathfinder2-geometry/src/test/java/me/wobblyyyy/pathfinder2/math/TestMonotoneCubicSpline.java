@@ -10,6 +10,7 @@
 
 package me.wobblyyyy.pathfinder2.math;
 
+import java.util.Random;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +41,62 @@ public void testReflectedSpline() {
         Assertions.assertEquals(15, spline.interpolateY(-10));
         Assertions.assertEquals(25, spline.interpolateY(-15));
     }
+
+    private static MonotoneCubicSpline manyPoints(int count, boolean invert) {
+        double[] x = new double[count];
+        double[] y = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            x[i] = invert ? -i : i;
+            y[i] = i + Math.sqrt(i);
+        }
+
+        return new MonotoneCubicSpline(x, y);
+    }
+
+    @Test
+    public void testSegmentCacheMatchesFreshSpline() {
+        Random random = new Random(0);
+
+        for (boolean invert : new boolean[] { false, true }) {
+            MonotoneCubicSpline cached = manyPoints(200, invert);
+            double sign = invert ? -1 : 1;
+
+            // forwards, backwards, and in a random order
+            for (double x = -5; x < 205; x += 0.37) Assertions.assertEquals(
+                manyPoints(200, invert).interpolateY(x * sign),
+                cached.interpolateY(x * sign)
+            );
+
+            for (double x = 205; x > -5; x -= 0.37) Assertions.assertEquals(
+                manyPoints(200, invert).interpolateY(x * sign),
+                cached.interpolateY(x * sign)
+            );
+
+            for (int i = 0; i < 500; i++) {
+                double x = random.nextDouble() * 210 - 5;
+
+                Assertions.assertEquals(
+                    manyPoints(200, invert).interpolateY(x * sign),
+                    cached.interpolateY(x * sign)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testInterpolatesBetweenControlPoints() {
+        Spline spline = manyPoints(10, false);
+        Spline inverted = manyPoints(10, true);
+
+        for (int i = 0; i < 9; i++) {
+            double y = spline.interpolateY(i + 0.5);
+
+            Assertions.assertTrue(y > spline.interpolateY(i));
+            Assertions.assertTrue(y < spline.interpolateY(i + 1));
+            Assertions.assertEquals(y, inverted.interpolateY(-i - 0.5));
+        }
+
+        Assertions.assertTrue(Double.isNaN(spline.interpolateY(Double.NaN)));
+    }
 }
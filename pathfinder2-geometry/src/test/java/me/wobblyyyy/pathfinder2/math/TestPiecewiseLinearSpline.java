@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.math;
+
+import me.wobblyyyy.pathfinder2.exceptions.SplineException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPiecewiseLinearSpline {
+
+    @Test
+    public void testNonMonotonicY() {
+        Spline spline = new PiecewiseLinearSpline(
+            new double[] { 0, 10, 20, 30 },
+            new double[] { 0, 1, 0.5, 1 }
+        );
+
+        Assertions.assertEquals(0, spline.interpolateY(-5));
+        Assertions.assertEquals(0.5, spline.interpolateY(5));
+        Assertions.assertEquals(0.75, spline.interpolateY(15));
+        Assertions.assertEquals(0.5, spline.interpolateY(20));
+        Assertions.assertEquals(1, spline.interpolateY(35));
+    }
+
+    @Test
+    public void testDecreasingX() {
+        Spline spline = new PiecewiseLinearSpline(
+            new double[] { 0, -10, -20 },
+            new double[] { 1, 2, 0 }
+        );
+
+        Assertions.assertEquals(0, spline.getStartPoint().x());
+        Assertions.assertEquals(-20, spline.getEndPoint().x());
+        Assertions.assertEquals(1.5, spline.interpolateY(-5));
+        Assertions.assertEquals(1, spline.interpolateY(-15));
+    }
+
+    @Test
+    public void testBatchMatchesSingle() {
+        double[] x = new double[100];
+        double[] y = new double[100];
+
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 4d);
+        }
+
+        Spline spline = new PiecewiseLinearSpline(x, y);
+        double[] xs = new double[500];
+        double[] out = new double[500];
+
+        for (int i = 0; i < xs.length; i++) xs[i] = (i * 0.23) - 5;
+
+        spline.interpolateY(xs, out);
+
+        for (int i = 0; i < xs.length; i++) Assertions.assertEquals(
+            spline.interpolateY(xs[i]),
+            out[i]
+        );
+    }
+
+    @Test
+    public void testInvalidX() {
+        Assertions.assertThrows(
+            SplineException.class,
+            () ->
+                new PiecewiseLinearSpline(
+                    new double[] { 0, 1, 1 },
+                    new double[] { 0, 1, 2 }
+                )
+        );
+    }
+}
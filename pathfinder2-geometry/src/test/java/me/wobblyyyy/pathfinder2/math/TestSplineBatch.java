@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022.
+ *
+ * This file is part of the "Pathfinder2" project, available here:
+ * <a href="https://github.com/Wobblyyyy/Pathfinder2">GitHub</a>
+ *
+ * This project is licensed under the GNU GPL V3 license.
+ * <a href="https://www.gnu.org/licenses/gpl-3.0.en.html">GNU GPL V3</a>
+ */
+
+package me.wobblyyyy.pathfinder2.math;
+
+import java.util.Random;
+import me.wobblyyyy.pathfinder2.exceptions.SplineException;
+import me.wobblyyyy.pathfinder2.geometry.SlopeIntercept;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSplineBatch {
+
+    private static double[] sweep(double from, double to, int count) {
+        double[] xs = new double[count];
+
+        for (int i = 0; i < count; i++) xs[i] =
+            from + ((to - from) * i / (count - 1));
+
+        return xs;
+    }
+
+    private static double[] random(double from, double to, int count) {
+        Random random = new Random(0);
+        double[] xs = new double[count];
+
+        for (int i = 0; i < count; i++) xs[i] =
+            from + ((to - from) * random.nextDouble());
+
+        return xs;
+    }
+
+    private static void assertBatchMatches(Spline spline, double[] xs) {
+        double[] out = new double[xs.length];
+
+        spline.interpolateY(xs, out);
+
+        for (int i = 0; i < xs.length; i++) Assertions.assertEquals(
+            spline.interpolateY(xs[i]),
+            out[i]
+        );
+    }
+
+    private static MonotoneCubicSpline spline(boolean invert) {
+        double[] x = new double[50];
+        double[] y = new double[50];
+
+        for (int i = 0; i < x.length; i++) {
+            x[i] = invert ? -i * 2 : i * 2;
+            y[i] = i + Math.sqrt(i) + Math.sin(i / 5d);
+        }
+
+        return new MonotoneCubicSpline(x, y);
+    }
+
+    @Test
+    public void testMonotoneCubicSplineBatch() {
+        for (boolean invert : new boolean[] { false, true }) {
+            double sign = invert ? -1 : 1;
+            Spline spline = spline(invert);
+
+            assertBatchMatches(spline, sweep(-5 * sign, 105 * sign, 1_000));
+            assertBatchMatches(spline, sweep(105 * sign, -5 * sign, 1_000));
+            assertBatchMatches(spline, random(-5 * sign, 105 * sign, 1_000));
+        }
+    }
+
+    @Test
+    public void testMonotoneCubicSplineBatchHandlesNaN() {
+        double[] out = new double[3];
+
+        spline(false).interpolateY(new double[] { 1, Double.NaN, 3 }, out);
+
+        Assertions.assertTrue(Double.isNaN(out[1]));
+        Assertions.assertEquals(spline(false).interpolateY(3), out[2]);
+    }
+
+    @Test
+    public void testLinearAndZeroSlopeSplineBatch() {
+        double[] xs = random(-100, 100, 100);
+
+        assertBatchMatches(new LinearSpline(new SlopeIntercept(2, 3)), xs);
+        assertBatchMatches(new ZeroSlopeSpline(7), xs);
+    }
+
+    @Test
+    public void testLinearSplineBatchRejectsNonFiniteValues() {
+        Spline spline = new LinearSpline(new SlopeIntercept(2, 3));
+        double[] out = new double[3];
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> spline.interpolateY(new double[] { 0, Double.NaN, 1 }, out)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                spline.interpolateY(
+                    new double[] { 0, 1, Double.POSITIVE_INFINITY },
+                    out
+                )
+        );
+    }
+
+    @Test
+    public void testInterpolateFillsBothArrays() {
+        Spline spline = spline(false);
+        double[] xs = sweep(0, 98, 50);
+        double[] outX = new double[50];
+        double[] outY = new double[50];
+
+        spline.interpolate(xs, outX, outY);
+
+        Assertions.assertArrayEquals(xs, outX);
+        for (int i = 0; i < xs.length; i++) Assertions.assertEquals(
+            spline.interpolateY(xs[i]),
+            outY[i]
+        );
+    }
+
+    @Test
+    public void testInvalidArraysThrow() {
+        Spline spline = new ZeroSlopeSpline(0);
+
+        Assertions.assertThrows(
+            SplineException.class,
+            () -> spline.interpolateY(null, new double[1])
+        );
+        Assertions.assertThrows(
+            SplineException.class,
+            () -> spline.interpolateY(new double[2], new double[1])
+        );
+    }
+}
@@ -104,7 +104,12 @@ public TankState calculate(Translation translation) {
         double right = translation.vy() + turn;
         double left = translation.vy() - turn;
 
-        Logger.trace(TankKinematics.class, "r: <%s> l: <%s>", right, left);
+        if (Logger.isTraceEnabled()) Logger.trace(
+            TankKinematics.class,
+            "r: <%s> l: <%s>",
+            right,
+            left
+        );
 
         return new TankState(right, left);
     }
@@ -117,7 +122,7 @@ public Translation toTranslation(TankState state) {
         double vy = Average.of(right, left);
         double vz = (right - left) / trackWidth;
 
-        Logger.trace(
+        if (Logger.isTraceEnabled()) Logger.trace(
             TankKinematics.class,
             "r: <%s> l: <%s> vy: <%s> vz: <%s>",
             right,